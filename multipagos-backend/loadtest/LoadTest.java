@@ -0,0 +1,616 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-loop load generator for the MultiPagos API (JDK 21, no dependencies)
+ *
+ * Registers and logs in synthetic users through /auth, then drives POST /topup,
+ * GET /topup/history, GET /suppliers and optionally POST /auth/login at fixed
+ * arrival rates. Every request has
+ * an intended start time on the schedule; latency is measured from that time, so
+ * a stalled server or a saturated generator shows up in the percentiles instead of
+ * silently lowering the offered load (coordinated omission correction). Latency covers
+ * every request, error responses and timeouts included (a timeout counts as the time
+ * it took to give up), so failing fast or slow cannot make the percentiles look
+ * better; errors alone are also kept in their own histogram
+ *
+ * Usage:
+ *   java loadtest/LoadTest.java run [--base-url URL] [--users N] [--duration 60s] [--warmup 10s]
+ *       [--topup-rps R] [--history-rps R] [--suppliers-rps R] [--login-rps R] [--max-in-flight N]
+ *       [--label NAME] [--out DIR]
+ *   java loadtest/LoadTest.java compare BASELINE.json CURRENT.json [--threshold 10]
+ */
+public class LoadTest {
+
+  private static final String PASSWORD = "LoadTest@2024a";
+  private static final String[] SUPPLIERS = {"8753", "9773", "3398", "4689"};
+  /** Default prefix ranges of each supplier above; a mismatched number is rejected with 400 */
+  private static final int[][] SUPPLIER_PREFIXES = {{300, 305}, {310, 315}, {320, 323}, {330, 331}};
+  private static final double[] PERCENTILES = {50, 75, 90, 95, 99, 99.9};
+  private static final double ERROR_RATE_TOLERANCE = 0.01;
+  private static final Pattern TOKEN_PATTERN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+  public static void main(String[] args) throws Exception {
+    if (args.length == 0 || args[0].equals("run")) {
+      run(Options.parse(args, 1));
+    } else if (args[0].equals("compare") && args.length >= 3) {
+      Options options = Options.parse(args, 3);
+      System.exit(compare(Path.of(args[1]), Path.of(args[2]), options.threshold) ? 0 : 1);
+    } else {
+      System.err.println("Usage: run [options] | compare BASELINE.json CURRENT.json [--threshold PCT]");
+      System.exit(2);
+    }
+  }
+
+  // ---------------------------------------------------------------- run
+
+  private static void run(Options options) throws Exception {
+    HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(10))
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    System.out.printf("Preparing %d synthetic users against %s%n", options.users, options.baseUrl);
+    List<String> emails = java.util.Collections.synchronizedList(new ArrayList<>());
+    List<String> tokens = prepareUsers(client, options, emails);
+    if (tokens.isEmpty()) {
+      throw new IllegalStateException("No user could log in; is the API running and rate limiting disabled?");
+    }
+    System.out.printf("%d users ready%n", tokens.size());
+
+    List<Scenario> scenarios = new ArrayList<>();
+    if (options.topupRps > 0) {
+      scenarios.add(new Scenario("topup", options.topupRps, token -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int supplier = random.nextInt(SUPPLIERS.length);
+        int[] prefixes = SUPPLIER_PREFIXES[supplier];
+        String body = String.format(Locale.ROOT, "{\"cellPhone\":\"%d%07d\",\"value\":%d,\"supplierId\":\"%s\"}",
+            random.nextInt(prefixes[0], prefixes[1] + 1), random.nextInt(10_000_000),
+            1000 * random.nextInt(1, 51), SUPPLIERS[supplier]);
+        return request(options, "/topup", token).header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body)).build();
+      }));
+    }
+    if (options.historyRps > 0) {
+      scenarios.add(new Scenario("history", options.historyRps,
+          token -> request(options, "/topup/history?page=0&size=20", token).GET().build()));
+    }
+    if (options.suppliersRps > 0) {
+      scenarios.add(new Scenario("suppliers", options.suppliersRps,
+          token -> request(options, "/suppliers", token).GET().build()));
+    }
+
+    if (options.loginRps > 0) {
+      // BCrypt-bound; run with and without it to see how logins affect top-up latency
+      List<String> loginEmails = List.copyOf(emails);
+      scenarios.add(new Scenario("login", options.loginRps, token -> {
+        String email = loginEmails.get(ThreadLocalRandom.current().nextInt(loginEmails.size()));
+        return HttpRequest.newBuilder(URI.create(options.baseUrl + "/auth/login"))
+            .timeout(options.requestTimeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                "{\"email\":\"%s\",\"password\":\"%s\"}", email, PASSWORD)))
+            .build();
+      }));
+    }
+
+    long startNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+    long measureFromNanos = startNanos + options.warmup.toNanos();
+    long endNanos = measureFromNanos + options.duration.toNanos();
+    Semaphore inFlight = new Semaphore(options.maxInFlight);
+
+    System.out.printf("Running %s warmup + %s measured%n", options.warmup, options.duration);
+    List<Future<Void>> schedules = new ArrayList<>();
+    // Closed in reverse order: dispatchers finish the schedule, then in-flight requests drain
+    try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor();
+         ExecutorService dispatchers = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (Scenario scenario : scenarios) {
+        schedules.add(dispatchers.submit(() -> scenario.dispatch(client, tokens, requests, inFlight,
+            startNanos, measureFromNanos, endNanos)));
+      }
+    }
+    for (Future<Void> schedule : schedules) {
+      schedule.get();
+    }
+
+    double measuredSeconds = options.duration.toNanos() / 1e9;
+    String report = toJson(options, scenarios, measuredSeconds);
+    scenarios.forEach(scenario -> scenario.print(measuredSeconds));
+
+    Files.createDirectories(options.out);
+    Path file = options.out.resolve(options.label + "-"
+        + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+    Files.writeString(file, report);
+    System.out.println("Results written to " + file);
+  }
+
+  private static List<String> prepareUsers(HttpClient client, Options options, List<String> emails)
+      throws InterruptedException {
+    List<String> tokens = java.util.Collections.synchronizedList(new ArrayList<>());
+    String runId = Long.toString(System.currentTimeMillis(), 36);
+    Semaphore concurrency = new Semaphore(8);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < options.users; i++) {
+        String email = "loadtest-" + runId + "-" + i + "@multipagos.test";
+        concurrency.acquire();
+        executor.submit(() -> {
+          try {
+            post(client, options, "/auth/register", String.format(
+                "{\"name\":\"Load Test\",\"email\":\"%s\",\"password\":\"%s\"}", email, PASSWORD));
+            HttpResponse<String> login = post(client, options, "/auth/login", String.format(
+                "{\"email\":\"%s\",\"password\":\"%s\"}", email, PASSWORD));
+            Matcher matcher = TOKEN_PATTERN.matcher(login.body());
+            if (login.statusCode() == 200 && matcher.find()) {
+              tokens.add(matcher.group(1));
+              emails.add(email);
+            } else {
+              System.err.printf("Login failed for %s: %d%n", email, login.statusCode());
+            }
+          } catch (IOException | InterruptedException e) {
+            System.err.printf("User setup failed for %s: %s%n", email, e.getMessage());
+          } finally {
+            concurrency.release();
+          }
+          return null;
+        });
+      }
+    }
+    return List.copyOf(tokens);
+  }
+
+  private static HttpResponse<String> post(HttpClient client, Options options, String path, String body)
+      throws IOException, InterruptedException {
+    return client.send(HttpRequest.newBuilder(URI.create(options.baseUrl + path))
+        .timeout(Duration.ofSeconds(30))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build(), HttpResponse.BodyHandlers.ofString());
+  }
+
+  private static HttpRequest.Builder request(Options options, String path, String token) {
+    return HttpRequest.newBuilder(URI.create(options.baseUrl + path))
+        .timeout(options.requestTimeout)
+        .header("Authorization", "Bearer " + token);
+  }
+
+  private interface RequestFactory {
+    HttpRequest create(String token);
+  }
+
+  /**
+   * One endpoint driven at a constant arrival rate
+   */
+  private static final class Scenario {
+    final String name;
+    final double rps;
+    final RequestFactory factory;
+    final Histogram latency = new Histogram();
+    final Histogram serviceTime = new Histogram();
+    final Histogram errorLatency = new Histogram();
+    final AtomicLong successes = new AtomicLong();
+    final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+    final AtomicLong lateStarts = new AtomicLong();
+
+    Scenario(String name, double rps, RequestFactory factory) {
+      this.name = name;
+      this.rps = rps;
+      this.factory = factory;
+    }
+
+    Void dispatch(HttpClient client, List<String> tokens, ExecutorService requests, Semaphore inFlight,
+        long startNanos, long measureFromNanos, long endNanos) throws InterruptedException {
+      double intervalNanos = 1e9 / rps;
+      for (long i = 0; ; i++) {
+        long intended = startNanos + (long) (i * intervalNanos);
+        if (intended >= endNanos) {
+          return null;
+        }
+        long wait = intended - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+
+        inFlight.acquire();
+        boolean measured = intended >= measureFromNanos;
+        if (measured && System.nanoTime() - intended > TimeUnit.MILLISECONDS.toNanos(10)) {
+          lateStarts.incrementAndGet();
+        }
+        String token = tokens.get(ThreadLocalRandom.current().nextInt(tokens.size()));
+        requests.submit(() -> {
+          long sent = System.nanoTime();
+          try {
+            HttpResponse<Void> response = client.send(factory.create(token), HttpResponse.BodyHandlers.discarding());
+            long done = System.nanoTime();
+            if (measured) {
+              int status = response.statusCode();
+              record(intended, sent, done, status < 400 ? null : Integer.toString(status));
+            }
+          } catch (Exception e) {
+            if (measured) {
+              record(intended, sent, System.nanoTime(), e.getClass().getSimpleName());
+            }
+          } finally {
+            inFlight.release();
+          }
+        });
+      }
+    }
+
+    private void record(long intended, long sent, long done, String error) {
+      latency.record(done - intended);
+      serviceTime.record(done - sent);
+      if (error == null) {
+        successes.incrementAndGet();
+      } else {
+        errors.computeIfAbsent(error, key -> new AtomicLong()).incrementAndGet();
+        errorLatency.record(done - intended);
+      }
+    }
+
+    long errorCount() {
+      return errors.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    void print(double seconds) {
+      System.out.printf(Locale.ROOT, "%n%-10s offered %.1f rps | ok %.1f rps | errors %d %s | late starts %d%n",
+          name, rps, successes.get() / seconds, errorCount(), errors, lateStarts.get());
+      System.out.printf(Locale.ROOT, "  %-8s %12s %12s %12s%n", "pct", "latency ms", "service ms", "errors ms");
+      for (double p : PERCENTILES) {
+        System.out.printf(Locale.ROOT, "  p%-7s %12.2f %12.2f %12.2f%n", formatPercentile(p),
+            latency.percentile(p) / 1e6, serviceTime.percentile(p) / 1e6, errorLatency.percentile(p) / 1e6);
+      }
+      System.out.printf(Locale.ROOT, "  %-8s %12.2f %12.2f %12.2f%n", "max",
+          latency.max() / 1e6, serviceTime.max() / 1e6, errorLatency.max() / 1e6);
+    }
+  }
+
+  /**
+   * Log-linear histogram with HdrHistogram-style bucketing (about 1.6% relative error)
+   * Values are nanoseconds stored at microsecond resolution; lock-free recording
+   */
+  static final class Histogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int BUCKETS = LINEAR_LIMIT + SUB_BUCKETS * 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    void record(long nanos) {
+      long micros = Math.max(0, nanos / 1000);
+      counts.incrementAndGet(indexOf(micros));
+      total.incrementAndGet();
+      maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    long count() {
+      return total.get();
+    }
+
+    long max() {
+      return maxMicros.get() * 1000;
+    }
+
+    long percentile(double percentile) {
+      long count = total.get();
+      if (count == 0) {
+        return 0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        seen += counts.get(i);
+        if (seen >= rank) {
+          return Math.min(highestEquivalent(i), maxMicros.get()) * 1000;
+        }
+      }
+      return max();
+    }
+
+    private static int indexOf(long micros) {
+      if (micros < LINEAR_LIMIT) {
+        return (int) micros;
+      }
+      int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+      int index = LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (int) ((micros >>> shift) - SUB_BUCKETS);
+      return Math.min(index, BUCKETS - 1);
+    }
+
+    private static long highestEquivalent(int index) {
+      if (index < LINEAR_LIMIT) {
+        return index;
+      }
+      int shift = (index - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+      long mantissa = (index - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+      return ((mantissa + 1) << shift) - 1;
+    }
+  }
+
+  // ---------------------------------------------------------------- results
+
+  private static String toJson(Options options, List<Scenario> scenarios, double seconds) {
+    StringBuilder json = new StringBuilder();
+    json.append("{\n");
+    json.append("  \"label\": \"").append(options.label).append("\",\n");
+    json.append("  \"timestamp\": \"").append(LocalDateTime.now()).append("\",\n");
+    json.append("  \"baseUrl\": \"").append(options.baseUrl).append("\",\n");
+    json.append("  \"users\": ").append(options.users).append(",\n");
+    json.append("  \"durationSeconds\": ").append(options.duration.toSeconds()).append(",\n");
+    json.append("  \"endpoints\": {\n");
+    for (int i = 0; i < scenarios.size(); i++) {
+      Scenario scenario = scenarios.get(i);
+      long requests = scenario.successes.get() + scenario.errorCount();
+      json.append("    \"").append(scenario.name).append("\": {");
+      json.append(String.format(Locale.ROOT, "\"offeredRps\": %.3f, \"throughputRps\": %.3f, \"requests\": %d, "
+              + "\"errors\": %d, \"errorRate\": %.5f, \"lateStarts\": %d",
+          scenario.rps, scenario.successes.get() / seconds, requests, scenario.errorCount(),
+          requests == 0 ? 0.0 : (double) scenario.errorCount() / requests, scenario.lateStarts.get()));
+      appendPercentiles(json, "latencyMs", scenario.latency);
+      appendPercentiles(json, "serviceTimeMs", scenario.serviceTime);
+      appendPercentiles(json, "errorLatencyMs", scenario.errorLatency);
+      json.append('}').append(i < scenarios.size() - 1 ? ",\n" : "\n");
+    }
+    json.append("  }\n}\n");
+    return json.toString();
+  }
+
+  private static void appendPercentiles(StringBuilder json, String name, Histogram histogram) {
+    json.append(", \"").append(name).append("\": {");
+    for (double p : PERCENTILES) {
+      json.append(String.format(Locale.ROOT, "\"p%s\": %.3f, ", formatPercentile(p), histogram.percentile(p) / 1e6));
+    }
+    json.append(String.format(Locale.ROOT, "\"max\": %.3f}", histogram.max() / 1e6));
+  }
+
+  private static String formatPercentile(double percentile) {
+    return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+  }
+
+  /**
+   * Flags an endpoint when p99 latency grew or delivered throughput (relative to the
+   * offered rate) dropped by more than the threshold percentage, or when the error
+   * rate rose by more than one percentage point
+   */
+  @SuppressWarnings("unchecked")
+  private static boolean compare(Path baselineFile, Path currentFile, double threshold) throws IOException {
+    Map<String, Object> baseline = (Map<String, Object>) new JsonReader(Files.readString(baselineFile)).read();
+    Map<String, Object> current = (Map<String, Object>) new JsonReader(Files.readString(currentFile)).read();
+    Map<String, Object> baselineEndpoints = (Map<String, Object>) baseline.get("endpoints");
+    Map<String, Object> currentEndpoints = (Map<String, Object>) current.get("endpoints");
+
+    boolean ok = true;
+    System.out.printf("Comparing %s (baseline) with %s, threshold %.1f%%%n", baselineFile, currentFile, threshold);
+    for (Map.Entry<String, Object> entry : baselineEndpoints.entrySet()) {
+      Map<String, Object> before = (Map<String, Object>) entry.getValue();
+      Map<String, Object> after = (Map<String, Object>) currentEndpoints.get(entry.getKey());
+      if (after == null) {
+        System.out.printf("  %-10s missing in current run%n", entry.getKey());
+        continue;
+      }
+
+      double p99Before = number(((Map<String, Object>) before.get("latencyMs")).get("p99"));
+      double p99After = number(((Map<String, Object>) after.get("latencyMs")).get("p99"));
+      double rpsBefore = number(before.get("throughputRps"));
+      double rpsAfter = number(after.get("throughputRps"));
+      double errorsBefore = number(before.get("errorRate"));
+      double errorsAfter = number(after.get("errorRate"));
+
+      double offeredBefore = number(before.get("offeredRps"));
+      double offeredAfter = number(after.get("offeredRps"));
+      if (offeredBefore != offeredAfter) {
+        System.out.printf(Locale.ROOT, "  %-10s offered load differs (%.1f vs %.1f rps); throughput compared as delivered ratio%n",
+            entry.getKey(), offeredBefore, offeredAfter);
+      }
+
+      boolean regressed = change(p99Before, p99After) > threshold
+          || change(ratio(rpsBefore, offeredBefore), ratio(rpsAfter, offeredAfter)) < -threshold
+          || errorsAfter - errorsBefore > ERROR_RATE_TOLERANCE;
+      ok &= !regressed;
+      System.out.printf(Locale.ROOT, "  %-10s p99 %.1f -> %.1f ms (%+.1f%%) | rps %.1f -> %.1f (%+.1f%%) | errors %.2f%% -> %.2f%%  %s%n",
+          entry.getKey(), p99Before, p99After, change(p99Before, p99After), rpsBefore, rpsAfter,
+          change(rpsBefore, rpsAfter), errorsBefore * 100, errorsAfter * 100, regressed ? "REGRESSION" : "ok");
+    }
+    return ok;
+  }
+
+  private static double change(double before, double after) {
+    return before == 0 ? 0 : (after - before) / before * 100.0;
+  }
+
+  private static double ratio(double value, double total) {
+    return total == 0 ? 0 : value / total;
+  }
+
+  private static double number(Object value) {
+    return value instanceof Number number ? number.doubleValue() : 0.0;
+  }
+
+  /**
+   * Minimal JSON reader for result files (objects, arrays, strings, numbers, literals)
+   */
+  private static final class JsonReader {
+    private final String text;
+    private int position;
+
+    JsonReader(String text) {
+      this.text = text;
+    }
+
+    Object read() {
+      skipWhitespace();
+      char c = text.charAt(position);
+      if (c == '{') {
+        Map<String, Object> object = new LinkedHashMap<>();
+        position++;
+        skipWhitespace();
+        if (text.charAt(position) == '}') {
+          position++;
+          return object;
+        }
+        while (true) {
+          skipWhitespace();
+          String key = readString();
+          skipWhitespace();
+          expect(':');
+          object.put(key, read());
+          skipWhitespace();
+          if (text.charAt(position++) == '}') {
+            return object;
+          }
+        }
+      }
+      if (c == '[') {
+        List<Object> array = new ArrayList<>();
+        position++;
+        skipWhitespace();
+        if (text.charAt(position) == ']') {
+          position++;
+          return array;
+        }
+        while (true) {
+          array.add(read());
+          skipWhitespace();
+          if (text.charAt(position++) == ']') {
+            return array;
+          }
+        }
+      }
+      if (c == '"') {
+        return readString();
+      }
+      int start = position;
+      while (position < text.length() && ",}] \n\r\t".indexOf(text.charAt(position)) < 0) {
+        position++;
+      }
+      String literal = text.substring(start, position);
+      return switch (literal) {
+        case "true" -> Boolean.TRUE;
+        case "false" -> Boolean.FALSE;
+        case "null" -> null;
+        default -> Double.parseDouble(literal);
+      };
+    }
+
+    private String readString() {
+      expect('"');
+      StringBuilder value = new StringBuilder();
+      while (text.charAt(position) != '"') {
+        char c = text.charAt(position++);
+        if (c == '\\') {
+          char escaped = text.charAt(position++);
+          value.append(switch (escaped) {
+            case 'n' -> '\n';
+            case 't' -> '\t';
+            case 'u' -> {
+              char decoded = (char) Integer.parseInt(text.substring(position, position + 4), 16);
+              position += 4;
+              yield decoded;
+            }
+            default -> escaped;
+          });
+        } else {
+          value.append(c);
+        }
+      }
+      position++;
+      return value.toString();
+    }
+
+    private void expect(char expected) {
+      if (text.charAt(position++) != expected) {
+        throw new IllegalArgumentException("Expected '" + expected + "' at " + (position - 1));
+      }
+    }
+
+    private void skipWhitespace() {
+      while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+        position++;
+      }
+    }
+  }
+
+  // ---------------------------------------------------------------- options
+
+  private static final class Options {
+    String baseUrl = "http://localhost:8080/api/v1";
+    int users = 20;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(10);
+    Duration requestTimeout = Duration.ofSeconds(60);
+    double topupRps = 10;
+    double historyRps = 20;
+    double suppliersRps = 50;
+    double loginRps = 0;
+    int maxInFlight = 10_000;
+    String label = "run";
+    Path out = Path.of("loadtest", "results");
+    double threshold = 10;
+
+    static Options parse(String[] args, int from) {
+      Options options = new Options();
+      for (int i = from; i < args.length - 1; i += 2) {
+        String value = args[i + 1];
+        switch (args[i]) {
+          case "--base-url" -> options.baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+          case "--users" -> options.users = Integer.parseInt(value);
+          case "--duration" -> options.duration = parseDuration(value);
+          case "--warmup" -> options.warmup = parseDuration(value);
+          case "--request-timeout" -> options.requestTimeout = parseDuration(value);
+          case "--topup-rps" -> options.topupRps = Double.parseDouble(value);
+          case "--history-rps" -> options.historyRps = Double.parseDouble(value);
+          case "--suppliers-rps" -> options.suppliersRps = Double.parseDouble(value);
+          case "--login-rps" -> options.loginRps = Double.parseDouble(value);
+          case "--max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+          case "--label" -> options.label = value.replaceAll("[^A-Za-z0-9_.-]", "_");
+          case "--out" -> options.out = Path.of(value);
+          case "--threshold" -> options.threshold = Double.parseDouble(value);
+          default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+        }
+      }
+      return options;
+    }
+
+    private static Duration parseDuration(String value) {
+      if (value.endsWith("ms")) {
+        return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+      }
+      if (value.endsWith("m")) {
+        return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+      }
+      if (value.endsWith("s")) {
+        return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+      }
+      return Duration.ofSeconds(Long.parseLong(value));
+    }
+  }
+}
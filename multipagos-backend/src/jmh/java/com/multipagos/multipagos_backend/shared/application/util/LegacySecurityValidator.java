@@ -0,0 +1,64 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import com.multipagos.multipagos_backend.shared.application.util.SecurityValidator.SecurityValidationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.owasp.encoder.Encode;
+
+import java.util.regex.Pattern;
+
+/**
+ * validateSecurityThreats as it was before the linear scanner: three backtracking
+ * (?i).*(a|b|...).* regexes and Encode.forHtml on every call. Kept unchanged as the
+ * baseline of SecurityValidatorBenchmark
+ */
+@Slf4j
+class LegacySecurityValidator {
+
+  private static final Pattern SQL_INJECTION_PATTERN = Pattern.compile(
+      "(?i).*(union|select|insert|delete|update|drop|create|alter|exec|execute|script|javascript|vbscript|onload|onerror).*");
+
+  private static final Pattern XSS_PATTERN = Pattern.compile(
+      "(?i).*(<script|</script|javascript:|vbscript:|onload=|onerror=|onclick=|onmouseover=).*");
+
+  private static final Pattern PATH_TRAVERSAL_PATTERN = Pattern.compile(
+      ".*(\\.\\.[\\\\/]|[\\\\/]\\.\\.[\\\\/]|\\.\\.\\\\|\\.\\./).*");
+
+  public String sanitizeForXSS(String input) {
+    if (input == null || input.trim().isEmpty()) {
+      return input;
+    }
+
+    String sanitized = Encode.forHtml(input.trim());
+    log.debug("[SECURITY] Input sanitized for XSS protection");
+    return sanitized;
+  }
+
+  public SecurityValidationResult validateSecurityThreats(String input, String fieldName) {
+    if (input == null) {
+      return SecurityValidationResult.valid(input);
+    }
+
+    String trimmed = input.trim();
+
+    if (SQL_INJECTION_PATTERN.matcher(trimmed).matches()) {
+      String message = String.format("Campo '%s' contiene caracteres no permitidos", fieldName);
+      log.warn("[SECURITY] SQL injection attempt detected in field '{}': {}", fieldName, trimmed);
+      return SecurityValidationResult.invalid(message);
+    }
+
+    if (XSS_PATTERN.matcher(trimmed).matches()) {
+      String message = String.format("Campo '%s' contiene código potencialmente peligroso", fieldName);
+      log.warn("[SECURITY] XSS attempt detected in field '{}': {}", fieldName, trimmed);
+      return SecurityValidationResult.invalid(message);
+    }
+
+    if (PATH_TRAVERSAL_PATTERN.matcher(trimmed).matches()) {
+      String message = String.format("Campo '%s' contiene una ruta no válida", fieldName);
+      log.warn("[SECURITY] Path traversal attempt detected in field '{}': {}", fieldName, trimmed);
+      return SecurityValidationResult.invalid(message);
+    }
+
+    String sanitized = sanitizeForXSS(trimmed);
+    return SecurityValidationResult.valid(sanitized);
+  }
+}
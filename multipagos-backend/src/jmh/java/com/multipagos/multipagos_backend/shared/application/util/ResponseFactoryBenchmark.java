@@ -0,0 +1,90 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multipagos.multipagos_backend.shared.domain.response.ApiResponse;
+import com.multipagos.multipagos_backend.shared.domain.value.PagedResult;
+import com.multipagos.multipagos_backend.shared.infrastructure.response.PagedResponse;
+import com.multipagos.multipagos_backend.topup.presentation.dto.TopUpTransactionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wrapping a top-up result and a 20-row history page in the API envelope, and the
+ * same page serialized with a Boot-configured ObjectMapper, which is where most of
+ * the response cost is
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseFactoryBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private TopUpTransactionResponse transaction;
+  private PagedResult<TopUpTransactionResponse> page;
+
+  @Setup
+  public void setUp() {
+    LocalDateTime now = LocalDateTime.now();
+    List<TopUpTransactionResponse> rows = new ArrayList<>(PAGE_SIZE);
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      rows.add(TopUpTransactionResponse.builder()
+          .id(Long.toString(1_000L + i))
+          .cellPhone("300" + (1_000_000 + i))
+          .valueCents(500_000L + i * 10_000L)
+          .supplierName("Claro")
+          .status("COMPLETED")
+          .transactionalID("PR-" + i)
+          .createdAt(now.minusMinutes(i))
+          .updatedAt(now.minusMinutes(i))
+          .message("Top-up completed successfully")
+          .build());
+    }
+    transaction = rows.get(0);
+    page = PagedResult.<TopUpTransactionResponse>builder()
+        .content(rows)
+        .page(0)
+        .size(PAGE_SIZE)
+        .totalElements(250)
+        .totalPages(13)
+        .first(true)
+        .hasNext(true)
+        .build();
+  }
+
+  @Benchmark
+  public ResponseEntity<ApiResponse<TopUpTransactionResponse>> wrapTopUp() {
+    return ResponseFactory.success(transaction, "Recarga procesada exitosamente");
+  }
+
+  @Benchmark
+  public ResponseEntity<ApiResponse<PagedResponse<TopUpTransactionResponse>>> wrapHistoryPage() {
+    return ResponseFactory.success(page, "Historial de transacciones obtenido exitosamente");
+  }
+
+  @Benchmark
+  public byte[] wrapAndSerializeHistoryPage() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(
+        ResponseFactory.success(page, "Historial de transacciones obtenido exitosamente").getBody());
+  }
+}
@@ -0,0 +1,63 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.multipagos.multipagos_backend.shared.application.util.SecurityValidator.SecurityValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * validateSecurityThreats with the linear scanner against the regexes it replaced,
+ * on login and registration fields and on long adversarial inputs: near-miss
+ * keywords, dot runs for the path traversal pattern and a keyword after a long prefix
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SecurityValidatorBenchmark {
+
+  @Param({"email", "name", "benign-10k", "near-miss-10k", "dots-10k", "late-keyword-10k"})
+  private String input;
+
+  private final SecurityValidator current = new SecurityValidator();
+  private final LegacySecurityValidator legacy = new LegacySecurityValidator();
+  private String value;
+
+  @Setup
+  public void setUp() {
+    ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.OFF);
+    value = switch (input) {
+      case "email" -> "juan.perez.gomez@empresa.com.co";
+      case "name" -> "María José Pérez";
+      case "benign-10k" -> "lorem ipsum dolor sit amet ".repeat(370);
+      case "near-miss-10k" -> "unio selec inser delet scrip onloa <scrip ".repeat(244);
+      case "dots-10k" -> ".".repeat(10_000);
+      default -> "a".repeat(10_000) + " union";
+    };
+  }
+
+  @Benchmark
+  public SecurityValidationResult legacyRegex() {
+    return legacy.validateSecurityThreats(value, "campo");
+  }
+
+  @Benchmark
+  public SecurityValidationResult linearScanner() {
+    return current.validateSecurityThreats(value, "campo");
+  }
+}
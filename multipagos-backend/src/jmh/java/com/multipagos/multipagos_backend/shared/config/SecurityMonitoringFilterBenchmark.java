@@ -0,0 +1,77 @@
+package com.multipagos.multipagos_backend.shared.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of SecurityMonitoringFilter before and after the single-pass scanner
+ * Logging is switched off so only scanning and request id generation are measured
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SecurityMonitoringFilterBenchmark {
+
+  @Param({"topup", "history", "attack"})
+  private String request;
+
+  private final SecurityMonitoringFilter current = new SecurityMonitoringFilter();
+  private final LegacySecurityMonitoringFilter legacy = new LegacySecurityMonitoringFilter();
+  private MockHttpServletRequest servletRequest;
+  private final MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+  private final FilterChain chain = (request, response) -> {
+  };
+
+  @Setup
+  public void setUp() {
+    ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.OFF);
+    servletRequest = switch (request) {
+      case "topup" -> request("POST", "/api/topup", null);
+      case "history" -> request("GET", "/api/topup/history", "page=0&size=20&sort=createdAt,desc");
+      default -> request("GET", "/api/admin/config", "id=1%27%20UNION%20SELECT%20password--&q=<script>alert(1)</script>");
+    };
+  }
+
+  @Benchmark
+  public MockHttpServletResponse legacy() throws ServletException, IOException {
+    legacy.doFilterInternal(servletRequest, servletResponse, chain);
+    return servletResponse;
+  }
+
+  @Benchmark
+  public MockHttpServletResponse singlePass() throws ServletException, IOException {
+    current.doFilterInternal(servletRequest, servletResponse, chain);
+    return servletResponse;
+  }
+
+  private static MockHttpServletRequest request(String method, String uri, String query) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+    request.setQueryString(query);
+    request.addHeader("User-Agent", "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36");
+    request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1");
+    request.setServerName("api.multipagos.example");
+    return request;
+  }
+}
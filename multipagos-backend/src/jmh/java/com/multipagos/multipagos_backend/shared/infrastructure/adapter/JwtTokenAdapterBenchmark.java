@@ -0,0 +1,93 @@
+package com.multipagos.multipagos_backend.shared.infrastructure.adapter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.multipagos.multipagos_backend.shared.domain.port.TokenRevocationPort;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and the per-request checks, with the signing key and parser built
+ * once against the adapter that rebuilt both on every call. extractUserId is what
+ * every authenticated controller call runs; validateToken parsed twice before.
+ * The current adapter also pays for the jti revocation lookup
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtTokenAdapterBenchmark {
+
+  private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hmac-sha-512-signing!!";
+  private static final long EXPIRATION_MS = 900_000L;
+  private static final String EMAIL = "juan.perez@empresa.com.co";
+
+  private final JwtTokenAdapter current = new JwtTokenAdapter(new TokenRevocationPort() {
+    @Override
+    public boolean isRevoked(String tokenId) {
+      return false;
+    }
+
+    @Override
+    public void revoke(String tokenId, Long userId, Instant expiresAt) {
+    }
+  });
+  private final LegacyJwtTokenAdapter legacy = new LegacyJwtTokenAdapter(SECRET, EXPIRATION_MS);
+  private String currentToken;
+  private String legacyToken;
+
+  @Setup
+  public void setUp() {
+    ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.OFF);
+    ReflectionTestUtils.setField(current, "jwtSecret", SECRET);
+    ReflectionTestUtils.setField(current, "jwtExpirationMs", EXPIRATION_MS);
+    current.initSigning();
+    currentToken = current.generateToken(EMAIL, 42L, "Juan Pérez");
+    legacyToken = legacy.generateToken(EMAIL, 42L, "Juan Pérez");
+  }
+
+  @Benchmark
+  public String legacyGenerate() {
+    return legacy.generateToken(EMAIL, 42L, "Juan Pérez");
+  }
+
+  @Benchmark
+  public String cachedKeyGenerate() {
+    return current.generateToken(EMAIL, 42L, "Juan Pérez");
+  }
+
+  @Benchmark
+  public Long legacyExtractUserId() {
+    return legacy.extractUserId(legacyToken);
+  }
+
+  @Benchmark
+  public Long cachedParserExtractUserId() {
+    return current.extractUserId(currentToken);
+  }
+
+  @Benchmark
+  public boolean legacyValidate() {
+    return legacy.validateToken(legacyToken, EMAIL);
+  }
+
+  @Benchmark
+  public boolean cachedParserValidate() {
+    return current.validateToken(currentToken, EMAIL);
+  }
+}
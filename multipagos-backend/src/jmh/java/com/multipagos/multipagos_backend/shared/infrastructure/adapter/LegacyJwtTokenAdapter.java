@@ -0,0 +1,108 @@
+package com.multipagos.multipagos_backend.shared.infrastructure.adapter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * JwtTokenAdapter as it was before the cached key and parser: the HMAC key and a
+ * new JwtParser are built on every call, and validateToken parses the token twice.
+ * Kept unchanged, apart from taking its settings in the constructor, as the
+ * baseline of JwtTokenAdapterBenchmark
+ */
+@Slf4j
+class LegacyJwtTokenAdapter {
+
+    private final String jwtSecret;
+    private final Long jwtExpirationMs;
+
+    LegacyJwtTokenAdapter(String jwtSecret, Long jwtExpirationMs) {
+        this.jwtSecret = jwtSecret;
+        this.jwtExpirationMs = jwtExpirationMs;
+    }
+
+    public String generateToken(String email, Long userId, String name) {
+        log.info("[JWT ADAPTER] Generating token for user: {} | ID: {}", email, userId);
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", userId);
+        claims.put("name", name);
+        claims.put("email", email);
+
+        String token = createToken(claims, email);
+        log.info("[JWT ADAPTER] Token generated successfully for user: {}", email);
+
+        return token;
+    }
+
+    public boolean validateToken(String token, String email) {
+        try {
+            log.info("[JWT ADAPTER] Validating token for user: {}", email);
+            final String tokenEmail = extractEmail(token);
+            boolean isValid = tokenEmail.equals(email) && !isTokenExpired(token);
+            log.info("[JWT ADAPTER] Token validation result for user: {} | valid: {}", email, isValid);
+            return isValid;
+        } catch (Exception e) {
+            log.error("[JWT ADAPTER] Error validating token for user: {} | error: {}", email, e.getMessage());
+            return false;
+        }
+    }
+
+    public String extractEmail(String token) {
+        return extractClaim(token, Claims::getSubject);
+    }
+
+    public Long extractUserId(String token) {
+        return extractClaim(token, claims -> claims.get("userId", Long.class));
+    }
+
+    public String extractName(String token) {
+        return extractClaim(token, claims -> claims.get("name", String.class));
+    }
+
+    public Date extractExpiration(String token) {
+        return extractClaim(token, Claims::getExpiration);
+    }
+
+    public boolean isTokenExpired(String token) {
+        return extractExpiration(token).before(new Date());
+    }
+
+    // Private helper methods
+
+    private String createToken(Map<String, Object> claims, String subject) {
+        return Jwts.builder()
+                .claims(claims)
+                .subject(subject)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
+                .signWith(getSigningKey())
+                .compact();
+    }
+
+    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+        final Claims claims = extractAllClaims(token);
+        return claimsResolver.apply(claims);
+    }
+
+    private Claims extractAllClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(getSigningKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private SecretKey getSigningKey() {
+        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+}
@@ -0,0 +1,152 @@
+package com.multipagos.multipagos_backend.shared.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request-thread latency of the log lines a top-up writes: logging off, ECS JSON written
+ * synchronously on the request thread, and the production pipeline (async appender,
+ * optionally with 1/10 sampling of the chatter loggers). SampleTime mode reports
+ * p50/p99/p99.9 per simulated request. Output goes to a discarding stream, so the
+ * numbers exclude the terminal or CloudWatch agent on the other side
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingPipelineBenchmark {
+
+  private static final String CHATTY_LOGGER =
+      "com.multipagos.multipagos_backend.topup.infrastructure.adapter.PuntoredTopUpAdapter";
+
+  @Param({"off", "sync", "async", "async-sampled"})
+  private String pipeline;
+
+  private final AtomicLong requests = new AtomicLong();
+  private LoggerContext context;
+  private org.slf4j.Logger filter;
+  private org.slf4j.Logger controller;
+  private org.slf4j.Logger service;
+  private org.slf4j.Logger adapter;
+
+  @Setup
+  public void setUp() {
+    context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    context.reset();
+    // StructuredLogEncoder reads service details from the Environment Spring Boot normally registers
+    context.putObject(Environment.class.getName(), new StandardEnvironment());
+    Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+
+    if ("off".equals(pipeline)) {
+      root.setLevel(Level.OFF);
+    } else {
+      root.setLevel(Level.INFO);
+      Appender<ILoggingEvent> appender = jsonAppender();
+      if (pipeline.startsWith("async")) {
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(16384);
+        async.setDiscardingThreshold(3276);
+        async.setNeverBlock(false);
+        async.setIncludeCallerData(false);
+        async.addAppender(appender);
+        async.start();
+        appender = async;
+      }
+      root.addAppender(appender);
+    }
+
+    if ("async-sampled".equals(pipeline)) {
+      RequestLogSamplingFilter sampling = new RequestLogSamplingFilter();
+      sampling.setSampleRate(10);
+      sampling.setLoggers("com.multipagos.multipagos_backend.shared.config.SecurityMonitoringFilter," + CHATTY_LOGGER);
+      sampling.setContext(context);
+      sampling.start();
+      context.addTurboFilter(sampling);
+    }
+
+    filter = LoggerFactory.getLogger("com.multipagos.multipagos_backend.shared.config.SecurityMonitoringFilter");
+    controller = LoggerFactory.getLogger("com.multipagos.multipagos_backend.topup.presentation.controller.TopUpController");
+    service = LoggerFactory.getLogger("com.multipagos.multipagos_backend.topup.application.service.TopUpService");
+    adapter = LoggerFactory.getLogger(CHATTY_LOGGER);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.stop();
+  }
+
+  /**
+   * The INFO lines of one successful top-up, roughly as the filter, controller,
+   * service and Puntored adapter write them
+   */
+  @Benchmark
+  public void topUpRequest() {
+    long request = requests.incrementAndGet();
+    String requestId = Long.toHexString(request);
+    MDC.put(RequestLogSamplingFilter.REQUEST_ID_MDC_KEY, requestId);
+    try {
+      filter.info("[SECURITY REQUEST] ID: {} | IP: {} | Method: {} | URI: {} | UserAgent: {}",
+          requestId, "203.0.113.7", "POST", "/api/topup", "Mozilla/5.0");
+      controller.info("[{}] Top-up request started | cellPhone: {} | value: {} | supplier: {}",
+          requestId, "3101234567", 5000, "8753");
+      controller.info("[{}] User authenticated | userId: {}", requestId, request % 1000);
+      service.info("[TOPUP SERVICE] Processing top-up | userId: {} | cellPhone: {} | value: {}",
+          request % 1000, "3101234567", 5000);
+      service.info("[TOPUP SERVICE] Transaction created | id: {} | status: {}", request, "PENDING");
+      adapter.info("[PUNTORED BUY] Making API call | url: {}", "https://puntored.example/api/buy");
+      adapter.info("[PUNTORED BUY] API call successful | transactionId: {} | message: {}", request, "Recarga exitosa");
+      service.info("[TOPUP SERVICE] Transaction updated | id: {} | status: {}", request, "COMPLETED");
+      controller.info("[{}] Top-up completed successfully | cellPhone: {} | transactionId: {} | status: {}",
+          requestId, "3101234567", request, "COMPLETED");
+      filter.info("[SECURITY RESPONSE] ID: {} | URI: {} | Status: {} | Time: {}ms", requestId, "/api/topup", 200, 42);
+    } finally {
+      MDC.remove(RequestLogSamplingFilter.REQUEST_ID_MDC_KEY);
+    }
+  }
+
+  private Appender<ILoggingEvent> jsonAppender() {
+    StructuredLogEncoder encoder = new StructuredLogEncoder();
+    encoder.setContext(context);
+    encoder.setFormat("ecs");
+    encoder.start();
+
+    OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+    appender.setContext(context);
+    appender.setName("DISCARD");
+    appender.setEncoder(encoder);
+    appender.setOutputStream(OutputStream.nullOutputStream());
+    appender.start();
+    return appender;
+  }
+}
@@ -0,0 +1,82 @@
+package com.multipagos.multipagos_backend.topup.domain.model.valueobject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Amount on its hot paths: parsing the request value, rebuilding it from stored
+ * cents for each history row, formatting it for logs, and rejecting an out-of-range
+ * value. Integer cents with a cached formatter against the BigDecimal version
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AmountBenchmark {
+
+  private final BigDecimal requestValue = new BigDecimal("15000");
+  private final BigDecimal tooSmall = new BigDecimal("500");
+  private final long storedCents = 1_500_000L;
+  private final Amount current = Amount.of(storedCents);
+  private final LegacyAmount legacy = LegacyAmount.of(requestValue);
+
+  @Benchmark
+  public LegacyAmount legacyParse() {
+    return LegacyAmount.of(requestValue);
+  }
+
+  @Benchmark
+  public Amount centsParse() {
+    return Amount.of(requestValue);
+  }
+
+  @Benchmark
+  public LegacyAmount legacyFromStored() {
+    return LegacyAmount.of(storedCents);
+  }
+
+  @Benchmark
+  public Amount centsFromStored() {
+    return Amount.of(storedCents);
+  }
+
+  @Benchmark
+  public String legacyFormat() {
+    return legacy.toString();
+  }
+
+  @Benchmark
+  public String centsFormat() {
+    return current.toString();
+  }
+
+  @Benchmark
+  public String legacyRejected() {
+    try {
+      return LegacyAmount.of(tooSmall).toPlainString();
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+
+  @Benchmark
+  public String centsRejected() {
+    try {
+      return Amount.of(tooSmall).toPlainString();
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+}
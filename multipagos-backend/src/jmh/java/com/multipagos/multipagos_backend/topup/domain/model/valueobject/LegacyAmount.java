@@ -0,0 +1,141 @@
+package com.multipagos.multipagos_backend.topup.domain.model.valueobject;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Amount as it was before integer cents: a scaled BigDecimal, and a new COP
+ * NumberFormat for every error message and toString. Kept unchanged as the
+ * baseline of AmountBenchmark
+ */
+@Value
+class LegacyAmount {
+
+  private static final BigDecimal MIN_AMOUNT = new BigDecimal("1000");
+  private static final BigDecimal MAX_AMOUNT = new BigDecimal("100000");
+  private static final Currency CURRENCY = Currency.getInstance("COP");
+  private static final int SCALE = 2;
+
+  BigDecimal value;
+
+  /**
+   * Create an Amount with validation
+   * 
+   * @param value the monetary amount
+   * @throws IllegalArgumentException if amount is invalid
+   */
+  LegacyAmount(BigDecimal value) {
+    if (value == null) {
+      throw new IllegalArgumentException("El valor es requerido");
+    }
+
+    BigDecimal scaledValue = value.setScale(SCALE, RoundingMode.HALF_UP);
+
+    if (scaledValue.compareTo(MIN_AMOUNT) < 0) {
+      throw new IllegalArgumentException(
+          String.format("El valor debe ser mayor o igual a %s", formatCurrency(MIN_AMOUNT)));
+    }
+
+    if (scaledValue.compareTo(MAX_AMOUNT) > 0) {
+      throw new IllegalArgumentException(
+          String.format("El valor debe ser menor o igual a %s", formatCurrency(MAX_AMOUNT)));
+    }
+
+    if (scaledValue.compareTo(BigDecimal.ZERO) <= 0) {
+      throw new IllegalArgumentException("El valor debe ser positivo");
+    }
+
+    this.value = scaledValue;
+  }
+
+  /**
+   * Create Amount from long value (treating as cents)
+   */
+  LegacyAmount(long cents) {
+    this(new BigDecimal(cents).divide(new BigDecimal("100")));
+  }
+
+  /**
+   * Create Amount from string
+   */
+  LegacyAmount(String value) {
+    this(new BigDecimal(value));
+  }
+
+  /**
+   * Static factory methods
+   */
+  static LegacyAmount of(BigDecimal value) {
+    return new LegacyAmount(value);
+  }
+
+  static LegacyAmount of(long cents) {
+    return new LegacyAmount(cents);
+  }
+
+  static LegacyAmount of(String value) {
+    return new LegacyAmount(value);
+  }
+
+  static LegacyAmount minimum() {
+    return new LegacyAmount(MIN_AMOUNT);
+  }
+
+  static LegacyAmount maximum() {
+    return new LegacyAmount(MAX_AMOUNT);
+  }
+
+  /**
+   * Business rules
+   */
+  public boolean isValidForTopUp() {
+    return value.compareTo(MIN_AMOUNT) >= 0 && value.compareTo(MAX_AMOUNT) <= 0;
+  }
+
+  public boolean isMaximumAmount() {
+    return value.compareTo(MAX_AMOUNT) == 0;
+  }
+
+  /**
+   * Formatting
+   */
+  public String toCurrencyString() {
+    return formatCurrency(value);
+  }
+
+  public String toPlainString() {
+    return value.toPlainString();
+  }
+
+  private static String formatCurrency(BigDecimal amount) {
+    NumberFormat formatter = NumberFormat.getCurrencyInstance(Locale.of("es", "CO"));
+    formatter.setCurrency(CURRENCY);
+    return formatter.format(amount);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (!(o instanceof LegacyAmount))
+      return false;
+    LegacyAmount amount = (LegacyAmount) o;
+    return Objects.equals(value, amount.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(value);
+  }
+
+  @Override
+  public String toString() {
+    return toCurrencyString();
+  }
+}
@@ -0,0 +1,116 @@
+package com.multipagos.multipagos_backend.topup.domain.model.valueobject;
+
+/**
+ * SupplierType as it was before the id map: fromId and isValidId scan values(),
+ * and the valid-id message is rebuilt on every miss. Kept unchanged, apart from
+ * taking LegacyPhoneNumber, as the baseline of SupplierTypeBenchmark
+ */
+enum LegacySupplierType {
+
+  CLARO("8753", "Claro"),
+  MOVISTAR("9773", "Movistar"),
+  TIGO("3398", "Tigo"),
+  WOM("4689", "WOM");
+
+  private final String id;
+  private final String name;
+
+  LegacySupplierType(String id, String name) {
+    this.id = id;
+    this.name = name;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Get supplier type by ID
+   * 
+   * @param id supplier ID
+   * @return LegacySupplierType
+   * @throws IllegalArgumentException if supplier not found
+   */
+  static LegacySupplierType fromId(String id) {
+    if (id == null) {
+      throw new IllegalArgumentException("Supplier ID cannot be null");
+    }
+
+    for (LegacySupplierType type : values()) {
+      if (type.id.equals(id)) {
+        return type;
+      }
+    }
+
+    throw new IllegalArgumentException(
+        String.format("Invalid supplier ID: %s. Valid IDs are: %s",
+            id, getValidIdsString()));
+  }
+
+  /**
+   * Check if supplier ID is valid
+   */
+  static boolean isValidId(String id) {
+    if (id == null)
+      return false;
+
+    for (LegacySupplierType type : values()) {
+      if (type.id.equals(id)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Get all valid supplier IDs as array
+   */
+  static String[] getValidIds() {
+    return java.util.Arrays.stream(values())
+        .map(LegacySupplierType::getId)
+        .toArray(String[]::new);
+  }
+
+  /**
+   * Get all valid supplier IDs as formatted string
+   */
+  static String getValidIdsString() {
+    return java.util.Arrays.stream(values())
+        .map(type -> type.getId() + " (" + type.getName() + ")")
+        .collect(java.util.stream.Collectors.joining(", "));
+  }
+
+  /**
+   * Business rule: Check if supplier supports specific phone number ranges
+   */
+  public boolean supportsPhoneNumber(LegacyPhoneNumber phoneNumber) {
+    return switch (this) {
+      case CLARO -> phoneNumber.isClaroNumber();
+      case MOVISTAR -> phoneNumber.isMovistarNumber();
+      case TIGO -> phoneNumber.isTigoNumber();
+      case WOM -> phoneNumber.isWomNumber();
+    };
+  }
+
+  /**
+   * Business rule: Get recommended supplier for phone number
+   */
+  static LegacySupplierType getRecommendedForPhone(LegacyPhoneNumber phoneNumber) {
+    for (LegacySupplierType type : values()) {
+      if (type.supportsPhoneNumber(phoneNumber)) {
+        return type;
+      }
+    }
+    // Default to first supplier if no specific match
+    return CLARO;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s (%s)", name, id);
+  }
+}
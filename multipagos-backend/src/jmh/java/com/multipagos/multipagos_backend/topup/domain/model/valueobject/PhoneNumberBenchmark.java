@@ -0,0 +1,43 @@
+package com.multipagos.multipagos_backend.topup.domain.model.valueobject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a phone number and detecting its carrier, as every top-up and history
+ * row does: packed digits and the prefix table against the regex and startsWith
+ * chains they replaced. The unassigned prefix walks every legacy range
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PhoneNumberBenchmark {
+
+  @Param({"3001234567", "3231234567", "3501234567"})
+  private String phone;
+
+  private final CarrierPrefixTable carriers = CarrierPrefixTable.defaults();
+
+  @Benchmark
+  public LegacySupplierType legacy() {
+    return LegacySupplierType.getRecommendedForPhone(LegacyPhoneNumber.of(phone));
+  }
+
+  @Benchmark
+  public SupplierType packed() {
+    return carriers.detect(PhoneNumber.of(phone)).orElse(SupplierType.CLARO);
+  }
+}
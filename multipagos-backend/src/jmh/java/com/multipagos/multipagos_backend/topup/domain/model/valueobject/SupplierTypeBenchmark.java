@@ -0,0 +1,68 @@
+package com.multipagos.multipagos_backend.topup.domain.model.valueobject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Supplier id lookups: the id map against the values() scan, for the first and last
+ * supplier and for an unknown id, whose rejection message the legacy enum rebuilt
+ * every time. SupplierId.of is what request and history mapping actually call
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SupplierTypeBenchmark {
+
+  @Param({"8753", "4689", "9999"})
+  private String id;
+
+  @Benchmark
+  public boolean legacyIsValidId() {
+    return LegacySupplierType.isValidId(id);
+  }
+
+  @Benchmark
+  public boolean mapIsValidId() {
+    return SupplierType.isValidId(id);
+  }
+
+  @Benchmark
+  public Object legacyFromId() {
+    try {
+      return LegacySupplierType.fromId(id);
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+
+  @Benchmark
+  public Object mapFromId() {
+    try {
+      return SupplierType.fromId(id);
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+
+  @Benchmark
+  public Object supplierId() {
+    try {
+      return SupplierId.of(id);
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.mapper;
+
+import com.multipagos.multipagos_backend.auth.infrastructure.entity.UserEntity;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierType;
+import com.multipagos.multipagos_backend.topup.infrastructure.entity.TransactionEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping one default history page (20 rows) from entities to domain objects,
+ * which rebuilds and revalidates the phone, amount and supplier of every row.
+ * toEntity is left out: it needs a live EntityManager for the user reference
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TransactionMapperBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+
+  private final TransactionMapper mapper = new TransactionMapper(null);
+  private final List<TransactionEntity> page = new ArrayList<>(PAGE_SIZE);
+
+  @Setup
+  public void setUp() {
+    UserEntity user = new UserEntity();
+    user.setId(42L);
+    SupplierType[] suppliers = SupplierType.values();
+    LocalDateTime now = LocalDateTime.now();
+
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      TransactionEntity entity = new TransactionEntity();
+      entity.setId(1_000L + i);
+      entity.setUser(user);
+      entity.setPhoneNumber("30" + (1_000_0000 + i * 7919));
+      entity.setAmount(500_000L + i * 10_000L);
+      entity.setSupplierId(suppliers[i % suppliers.length].getId());
+      entity.setSupplierName(suppliers[i % suppliers.length].getName());
+      entity.setStatus(TransactionStatus.COMPLETED);
+      entity.setExternalTransactionId("PR-" + i);
+      entity.setResponseMessage("Top-up completed successfully");
+      entity.setCreatedAt(now.minusMinutes(i));
+      entity.setUpdatedAt(now.minusMinutes(i));
+      entity.setActive(true);
+      page.add(entity);
+    }
+  }
+
+  @Benchmark
+  public List<TransactionDomain> historyPageToDomain() {
+    List<TransactionDomain> mapped = new ArrayList<>(PAGE_SIZE);
+    for (TransactionEntity entity : page) {
+      mapped.add(mapper.toDomain(entity));
+    }
+    return mapped;
+  }
+}
@@ -1,18 +1,22 @@
 package com.multipagos.multipagos_backend.auth.application.service;
 
+import com.multipagos.multipagos_backend.auth.domain.model.IssuedTokens;
 import com.multipagos.multipagos_backend.auth.domain.model.UserDomain;
 import com.multipagos.multipagos_backend.auth.domain.port.in.AuthServicePort;
+import com.multipagos.multipagos_backend.auth.domain.port.in.TokenServicePort;
 import com.multipagos.multipagos_backend.auth.presentation.dto.LoginRequest;
 import com.multipagos.multipagos_backend.auth.presentation.dto.LoginResponse;
+import com.multipagos.multipagos_backend.auth.presentation.dto.RefreshTokenRequest;
 import com.multipagos.multipagos_backend.auth.presentation.dto.RegisterRequest;
 import com.multipagos.multipagos_backend.shared.application.util.SecurityValidator;
 import com.multipagos.multipagos_backend.shared.domain.exception.AuthenticationException;
 import com.multipagos.multipagos_backend.shared.domain.exception.BusinessException;
-import com.multipagos.multipagos_backend.shared.domain.port.TokenGeneratorPort;
+import com.multipagos.multipagos_backend.shared.domain.exception.ServiceUnavailableException;
 import com.multipagos.multipagos_backend.shared.domain.valueobject.ValidationResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -27,16 +31,18 @@ public class AuthApplicationService {
 
   private final AuthServicePort authService;
   private final SecurityValidator securityValidator;
-  private final TokenGeneratorPort tokenGenerator;
+  private final TokenServicePort tokenService;
 
   /**
-   * Authenticates user and returns JWT token with user information.
+   * Authenticates user and returns access and refresh tokens with user information.
    *
    * @param loginRequest user credentials
-   * @return complete login response with JWT token
+   * @return complete login response with access and refresh tokens
    * @throws AuthenticationException  if credentials are invalid
    * @throws IllegalArgumentException if input validation fails
+   * @throws ServiceUnavailableException if password hashing is saturated
    */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public LoginResponse authenticateUser(LoginRequest loginRequest) {
     log.info("[AUTH APP] Authentication attempt for email: {}", loginRequest.getEmail());
 
@@ -46,23 +52,16 @@ public class AuthApplicationService {
           sanitizedRequest.getEmail(),
           sanitizedRequest.getPassword());
 
-      String token = tokenGenerator.generateToken(
-          authenticatedUser.getEmail(),
-          authenticatedUser.getId(),
-          authenticatedUser.getName());
-
-      LoginResponse.UserInfo userInfo = new LoginResponse.UserInfo(
-          authenticatedUser.getId(),
-          authenticatedUser.getName(),
-          authenticatedUser.getEmail());
-
-      LoginResponse response = new LoginResponse(token, userInfo);
+      LoginResponse response = toLoginResponse(tokenService.issue(authenticatedUser));
 
       log.info("[AUTH APP] Authentication successful for user: {} | ID: {}",
           authenticatedUser.getEmail(), authenticatedUser.getId());
 
       return response;
 
+    } catch (ServiceUnavailableException e) {
+      log.warn("[AUTH APP] Authentication shed for email: {} | reason: {}", loginRequest.getEmail(), e.getMessage());
+      throw e;
     } catch (AuthenticationException | IllegalArgumentException e) {
       log.warn("[AUTH APP] Authentication failed for email: {} | reason: {}",
           loginRequest.getEmail(), e.getMessage());
@@ -81,7 +80,9 @@ public class AuthApplicationService {
    * @return newly registered user
    * @throws BusinessException        if registration business rules fail
    * @throws IllegalArgumentException if input validation fails
+   * @throws ServiceUnavailableException if password hashing is saturated
    */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public UserDomain registerUser(RegisterRequest registerRequest) {
     log.info("[AUTH APP] Registration attempt for email: {}", registerRequest.getEmail());
 
@@ -97,6 +98,9 @@ public class AuthApplicationService {
 
       return registeredUser;
 
+    } catch (ServiceUnavailableException e) {
+      log.warn("[AUTH APP] Registration shed for email: {} | reason: {}", registerRequest.getEmail(), e.getMessage());
+      throw e;
     } catch (BusinessException | IllegalArgumentException e) {
       log.warn("[AUTH APP] Registration failed for email: {} | reason: {}",
           registerRequest.getEmail(), e.getMessage());
@@ -108,12 +112,55 @@ public class AuthApplicationService {
     }
   }
 
+  /**
+   * Exchanges a refresh token for a new access and refresh token pair.
+   *
+   * @param refreshRequest refresh token issued by login or a previous refresh
+   * @return login response with the rotated tokens
+   * @throws AuthenticationException if the refresh token is invalid, expired or reused
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public LoginResponse refreshTokens(RefreshTokenRequest refreshRequest) {
+    log.debug("[AUTH APP] Token refresh attempt");
+    LoginResponse response = toLoginResponse(tokenService.refresh(refreshRequest.getRefreshToken()));
+    log.info("[AUTH APP] Token refresh successful for user ID: {}", response.getUser().getId());
+    return response;
+  }
+
+  /**
+   * Revokes the caller's access token and refresh token family.
+   *
+   * @param accessToken    bearer token from the Authorization header, may be null
+   * @param refreshRequest body with the refresh token, may be null
+   * @throws IllegalArgumentException if neither token is present
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void logout(String accessToken, RefreshTokenRequest refreshRequest) {
+    String refreshToken = refreshRequest != null ? refreshRequest.getRefreshToken() : null;
+    tokenService.logout(accessToken, refreshToken);
+  }
+
   @Transactional(readOnly = true)
   public UserDomain getUserById(Long userId) {
     log.debug("[AUTH APP] Retrieving user with ID: {}", userId);
     return authService.getUserById(userId);
   }
 
+  private LoginResponse toLoginResponse(IssuedTokens tokens) {
+    UserDomain user = tokens.getUser();
+    LoginResponse.UserInfo userInfo = new LoginResponse.UserInfo(
+        user.getId(),
+        user.getName(),
+        user.getEmail());
+
+    return new LoginResponse(
+        tokens.getAccessToken(),
+        tokens.getAccessTokenExpiresInSeconds(),
+        tokens.getRefreshToken(),
+        tokens.getRefreshTokenExpiresInSeconds(),
+        userInfo);
+  }
+
   private LoginRequest validateAndSanitizeLoginRequest(LoginRequest originalRequest) {
     ValidationResult emailResult = securityValidator.validateEmail(originalRequest.getEmail());
     if (!emailResult.isValid()) {
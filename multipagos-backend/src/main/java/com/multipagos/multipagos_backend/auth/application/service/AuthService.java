@@ -6,9 +6,11 @@ import com.multipagos.multipagos_backend.auth.domain.port.out.UserRepositoryPort
 import com.multipagos.multipagos_backend.auth.domain.port.out.PasswordEncoderPort;
 import com.multipagos.multipagos_backend.shared.domain.exception.AuthenticationException;
 import com.multipagos.multipagos_backend.shared.domain.exception.BusinessException;
+import com.multipagos.multipagos_backend.shared.domain.exception.ServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -26,7 +28,11 @@ public class AuthService implements AuthServicePort {
   private final UserRepositoryPort userRepository;
   private final PasswordEncoderPort passwordEncoder;
 
+  /**
+   * Runs without a surrounding transaction so no pooled connection is held while BCrypt works
+   */
   @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public UserDomain authenticate(String email, String password) {
     log.info("Authenticating user with email: {}", email);
 
@@ -45,10 +51,12 @@ public class AuthService implements AuthServicePort {
         throw new AuthenticationException("Email o contraseña incorrectos");
       }
 
+      rehashIfCostChanged(user, password);
+
       log.info("Authentication successful for user: {}", email);
       return user;
 
-    } catch (AuthenticationException e) {
+    } catch (AuthenticationException | ServiceUnavailableException e) {
       throw e;
     } catch (Exception e) {
       log.error("Unexpected error during authentication for user: {}", email, e);
@@ -57,6 +65,7 @@ public class AuthService implements AuthServicePort {
   }
 
   @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public UserDomain register(String name, String email, String password) {
     log.info("Registering new user with email: {}", email);
 
@@ -80,7 +89,7 @@ public class AuthService implements AuthServicePort {
       log.info("User registered successfully with ID: {}", savedUser.getId());
       return savedUser;
 
-    } catch (BusinessException e) {
+    } catch (BusinessException | ServiceUnavailableException e) {
       throw e;
     } catch (Exception e) {
       log.error("Unexpected error during registration for user: {}", email, e);
@@ -88,6 +97,25 @@ public class AuthService implements AuthServicePort {
     }
   }
 
+  /**
+   * Re-hashes with the configured BCrypt cost while the raw password is at hand
+   * Best effort: a saturated hashing executor or a failed write never fails the login
+   */
+  private void rehashIfCostChanged(UserDomain user, String password) {
+    if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+      return;
+    }
+
+    try {
+      String rehashed = passwordEncoder.encode(password);
+      userRepository.updatePassword(user.getId(), rehashed);
+      user.setPassword(rehashed);
+      log.info("Password re-hashed with the current cost for user ID: {}", user.getId());
+    } catch (Exception e) {
+      log.warn("Password re-hash skipped for user ID: {} | reason: {}", user.getId(), e.getMessage());
+    }
+  }
+
   @Override
   @Transactional(readOnly = true)
   public UserDomain getUserById(Long userId) {
@@ -0,0 +1,206 @@
+package com.multipagos.multipagos_backend.auth.application.service;
+
+import com.multipagos.multipagos_backend.auth.domain.model.IssuedTokens;
+import com.multipagos.multipagos_backend.auth.domain.model.RefreshTokenDomain;
+import com.multipagos.multipagos_backend.auth.domain.model.UserDomain;
+import com.multipagos.multipagos_backend.auth.domain.port.in.TokenServicePort;
+import com.multipagos.multipagos_backend.auth.domain.port.out.RefreshTokenRepositoryPort;
+import com.multipagos.multipagos_backend.auth.domain.port.out.UserRepositoryPort;
+import com.multipagos.multipagos_backend.shared.domain.exception.AuthenticationException;
+import com.multipagos.multipagos_backend.shared.domain.port.TokenGeneratorPort;
+import com.multipagos.multipagos_backend.shared.domain.port.TokenRevocationPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues short-lived access tokens paired with rotating refresh tokens.
+ * Refresh tokens are opaque random values stored only as SHA-256 hashes; each use
+ * consumes the token and issues the next one in the same family. Presenting a
+ * consumed token means it leaked, so the whole family and its live access tokens
+ * are revoked. The exception is a token consumed less than the reuse grace ago
+ * while its session is still active: that is a concurrent refresh (two browser
+ * tabs), and it gets a new pair in the same family instead. Only hashes are
+ * stored, so the successor the first refresh received cannot be handed out again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenService implements TokenServicePort {
+
+  private static final int REFRESH_TOKEN_BYTES = 32;
+  private static final String INVALID_REFRESH_MESSAGE = "Refresh token inválido o expirado";
+  private static final String REUSED_REFRESH_MESSAGE = "Refresh token ya utilizado, la sesión fue revocada";
+
+  private final TokenGeneratorPort tokenGenerator;
+  private final TokenRevocationPort tokenRevocation;
+  private final RefreshTokenRepositoryPort refreshTokenRepository;
+  private final UserRepositoryPort userRepository;
+  private final SecureRandom secureRandom = new SecureRandom();
+
+  @Value("${jwt.refresh-expiration}")
+  private long refreshExpirationMs;
+
+  @Value("${jwt.refresh-reuse-grace-ms:10000}")
+  private long refreshReuseGraceMs;
+
+  @Override
+  @Transactional
+  public IssuedTokens issue(UserDomain user) {
+    return issueInFamily(user, UUID.randomUUID().toString());
+  }
+
+  @Override
+  @Transactional(noRollbackFor = AuthenticationException.class)
+  public IssuedTokens refresh(String refreshToken) {
+    LocalDateTime now = LocalDateTime.now();
+    RefreshTokenDomain presented = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+        .orElseThrow(() -> new AuthenticationException(INVALID_REFRESH_MESSAGE));
+
+    boolean consumed = presented.isRevoked() || !refreshTokenRepository.revokeIfActive(presented.getId(), now);
+    if (consumed && isConcurrentRefresh(presented, now)) {
+      log.info("[TOKEN SERVICE] Refresh token reused within the grace period | userId: {} | family: {}",
+          presented.getUserId(), presented.getFamilyId());
+    } else if (consumed) {
+      log.warn("[TOKEN SERVICE] Refresh token reuse detected | userId: {} | family: {}",
+          presented.getUserId(), presented.getFamilyId());
+      revokeFamily(presented.getFamilyId(), presented.getUserId(), now);
+      throw new AuthenticationException(REUSED_REFRESH_MESSAGE);
+    }
+    if (presented.isExpired(now)) {
+      throw new AuthenticationException(INVALID_REFRESH_MESSAGE);
+    }
+
+    UserDomain user = userRepository.findById(presented.getUserId())
+        .filter(UserDomain::isActive)
+        .orElse(null);
+    if (user == null) {
+      revokeFamily(presented.getFamilyId(), presented.getUserId(), now);
+      throw new AuthenticationException(INVALID_REFRESH_MESSAGE);
+    }
+
+    log.info("[TOKEN SERVICE] Rotating refresh token | userId: {} | family: {}",
+        user.getId(), presented.getFamilyId());
+    return issueInFamily(user, presented.getFamilyId());
+  }
+
+  @Override
+  @Transactional
+  public void logout(String accessToken, String refreshToken) {
+    if (isBlank(accessToken) && isBlank(refreshToken)) {
+      throw new IllegalArgumentException("Se requiere el token de acceso o el refresh token");
+    }
+
+    Long accessUserId = null;
+    if (!isBlank(accessToken)) {
+      try {
+        accessUserId = tokenGenerator.extractUserId(accessToken);
+        tokenRevocation.revoke(tokenGenerator.extractTokenId(accessToken), accessUserId,
+            tokenGenerator.extractExpiration(accessToken).toInstant());
+      } catch (AuthenticationException e) {
+        log.debug("[TOKEN SERVICE] Access token already invalid on logout | reason: {}", e.getMessage());
+      }
+    }
+
+    if (!isBlank(refreshToken)) {
+      Long ownerId = accessUserId;
+      refreshTokenRepository.findByTokenHash(hash(refreshToken))
+          .filter(token -> ownerId == null || ownerId.equals(token.getUserId()))
+          .ifPresent(token -> revokeFamily(token.getFamilyId(), token.getUserId(), LocalDateTime.now()));
+    }
+
+    log.info("[TOKEN SERVICE] Logout completed | userId: {}", accessUserId);
+  }
+
+  /**
+   * Consumed within the grace period and the session was not revoked since. A token
+   * whose rotation raced this one has no revocation time in our read yet
+   */
+  private boolean isConcurrentRefresh(RefreshTokenDomain presented, LocalDateTime now) {
+    boolean recent = !presented.isRevoked()
+        || presented.getRevokedAt().plusNanos(refreshReuseGraceMs * 1_000_000L).isAfter(now);
+    return recent && refreshTokenRepository.hasActiveToken(presented.getFamilyId(), now);
+  }
+
+  /**
+   * Drops refresh tokens past their expiry; revoked ones are kept until then so
+   * reuse is still detected
+   */
+  @Scheduled(cron = "${jwt.refresh-purge-cron:0 0 * * * *}")
+  public void purgeExpired() {
+    int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    if (purged > 0) {
+      log.info("[TOKEN SERVICE] Purged {} expired refresh tokens", purged);
+    }
+  }
+
+  private IssuedTokens issueInFamily(UserDomain user, String familyId) {
+    String accessToken = tokenGenerator.generateToken(user.getEmail(), user.getId(), user.getName());
+    Instant accessExpiresAt = tokenGenerator.extractExpiration(accessToken).toInstant();
+    String refreshToken = newRefreshToken();
+    Instant now = Instant.now();
+
+    refreshTokenRepository.save(RefreshTokenDomain.builder()
+        .userId(user.getId())
+        .tokenHash(hash(refreshToken))
+        .familyId(familyId)
+        .accessTokenId(tokenGenerator.extractTokenId(accessToken))
+        .accessTokenExpiresAt(toLocal(accessExpiresAt))
+        .expiresAt(toLocal(now.plusMillis(refreshExpirationMs)))
+        .build());
+
+    return IssuedTokens.builder()
+        .accessToken(accessToken)
+        .accessTokenExpiresInSeconds(Math.max(0, Duration.between(now, accessExpiresAt).toSeconds()))
+        .refreshToken(refreshToken)
+        .refreshTokenExpiresInSeconds(refreshExpirationMs / 1000)
+        .user(user)
+        .build();
+  }
+
+  private void revokeFamily(String familyId, Long userId, LocalDateTime now) {
+    refreshTokenRepository.revokeFamily(familyId, now);
+    for (RefreshTokenDomain token : refreshTokenRepository.findWithLiveAccessToken(familyId, now)) {
+      tokenRevocation.revoke(token.getAccessTokenId(), userId,
+          token.getAccessTokenExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+    }
+  }
+
+  private String newRefreshToken() {
+    byte[] bytes = new byte[REFRESH_TOKEN_BYTES];
+    secureRandom.nextBytes(bytes);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+  private static String hash(String refreshToken) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private static LocalDateTime toLocal(Instant instant) {
+    return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+}
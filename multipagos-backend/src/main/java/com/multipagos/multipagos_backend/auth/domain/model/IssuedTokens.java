@@ -0,0 +1,22 @@
+package com.multipagos.multipagos_backend.auth.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Access and refresh token pair handed to the client after login or refresh.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssuedTokens {
+
+  private String accessToken;
+  private long accessTokenExpiresInSeconds;
+  private String refreshToken;
+  private long refreshTokenExpiresInSeconds;
+  private UserDomain user;
+}
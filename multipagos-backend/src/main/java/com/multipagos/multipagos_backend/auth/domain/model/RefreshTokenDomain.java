@@ -0,0 +1,37 @@
+package com.multipagos.multipagos_backend.auth.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain model for a persisted refresh token.
+ * Holds the token hash only; the raw value is returned to the client once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenDomain {
+
+  private Long id;
+  private Long userId;
+  private String tokenHash;
+  private String familyId;
+  private String accessTokenId;
+  private LocalDateTime accessTokenExpiresAt;
+  private LocalDateTime expiresAt;
+  private LocalDateTime revokedAt;
+  private LocalDateTime createdAt;
+
+  public boolean isRevoked() {
+    return revokedAt != null;
+  }
+
+  public boolean isExpired(LocalDateTime now) {
+    return expiresAt == null || !expiresAt.isAfter(now);
+  }
+}
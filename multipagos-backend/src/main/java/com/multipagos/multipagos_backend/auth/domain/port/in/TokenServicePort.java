@@ -0,0 +1,38 @@
+package com.multipagos.multipagos_backend.auth.domain.port.in;
+
+import com.multipagos.multipagos_backend.auth.domain.model.IssuedTokens;
+import com.multipagos.multipagos_backend.auth.domain.model.UserDomain;
+import com.multipagos.multipagos_backend.shared.domain.exception.AuthenticationException;
+
+/**
+ * Domain port defining the session token contract.
+ */
+public interface TokenServicePort {
+
+    /**
+     * Issues an access token and a new refresh token family for an authenticated user.
+     *
+     * @param user Authenticated user
+     * @return Token pair
+     */
+    IssuedTokens issue(UserDomain user);
+
+    /**
+     * Rotates a refresh token: the presented one is consumed and a new pair is issued.
+     * Presenting an already consumed token revokes every token of its family.
+     *
+     * @param refreshToken Raw refresh token
+     * @return New token pair
+     * @throws AuthenticationException if the token is unknown, expired or reused
+     */
+    IssuedTokens refresh(String refreshToken);
+
+    /**
+     * Revokes the access token and, when given, the refresh token family.
+     *
+     * @param accessToken  Raw access token, may be null
+     * @param refreshToken Raw refresh token, may be null
+     * @throws IllegalArgumentException if neither token is given
+     */
+    void logout(String accessToken, String refreshToken);
+}
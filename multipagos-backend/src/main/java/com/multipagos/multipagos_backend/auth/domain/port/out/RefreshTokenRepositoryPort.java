@@ -0,0 +1,36 @@
+package com.multipagos.multipagos_backend.auth.domain.port.out;
+
+import com.multipagos.multipagos_backend.auth.domain.model.RefreshTokenDomain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Domain port for refresh token persistence operations.
+ */
+public interface RefreshTokenRepositoryPort {
+
+  RefreshTokenDomain save(RefreshTokenDomain token);
+
+  Optional<RefreshTokenDomain> findByTokenHash(String tokenHash);
+
+  /**
+   * @return true if this call revoked the token, false if it was already revoked
+   */
+  boolean revokeIfActive(Long id, LocalDateTime revokedAt);
+
+  int revokeFamily(String familyId, LocalDateTime revokedAt);
+
+  /**
+   * @return true if the family still has an unrevoked, unexpired token, i.e. the session was not revoked
+   */
+  boolean hasActiveToken(String familyId, LocalDateTime now);
+
+  /**
+   * Tokens of the family whose paired access token has not expired yet
+   */
+  List<RefreshTokenDomain> findWithLiveAccessToken(String familyId, LocalDateTime now);
+
+  int deleteExpired(LocalDateTime before);
+}
@@ -21,5 +21,7 @@ public interface UserRepositoryPort {
 
   void deleteById(Long id);
 
+  void updatePassword(Long id, String encodedPassword);
+
   Long countActiveUsers();
 }
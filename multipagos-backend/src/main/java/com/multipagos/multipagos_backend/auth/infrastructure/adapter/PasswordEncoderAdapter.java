@@ -1,36 +1,139 @@
 package com.multipagos.multipagos_backend.auth.infrastructure.adapter;
 
 import com.multipagos.multipagos_backend.auth.domain.port.out.PasswordEncoderPort;
+import com.multipagos.multipagos_backend.auth.infrastructure.config.PasswordHashingProperties;
+import com.multipagos.multipagos_backend.shared.domain.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Infrastructure adapter implementing password encoding operations.
+ * BCrypt runs on a dedicated fixed-size executor with a bounded queue, so a login
+ * burst cannot take more than the configured cores from top-up and history requests.
+ * A full queue or a hash that does not finish in time is shed with a 503.
+ * The executor is owned here rather than exposed as a bean, which would replace
+ * Spring Boot's default task executor.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class PasswordEncoderAdapter implements PasswordEncoderPort {
 
+  private static final String EXECUTOR_NAME = "password-hashing";
+  private static final String BUSY_MESSAGE = "Servicio de autenticación ocupado, intente nuevamente";
+
   private final PasswordEncoder passwordEncoder;
+  private final PasswordHashingProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  private ThreadPoolExecutor executor;
+  private Counter rejected;
+
+  @PostConstruct
+  void init() {
+    int threads = properties.effectiveThreads();
+    executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+        Thread.ofPlatform().name(EXECUTOR_NAME + "-", 0).daemon(true).factory(),
+        new ThreadPoolExecutor.AbortPolicy());
+    executor.prestartAllCoreThreads();
+
+    new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    rejected = Counter.builder("auth.password.hashing.rejected")
+        .description("Password hashes shed because the hashing executor was saturated")
+        .register(meterRegistry);
+
+    log.info("[PASSWORD HASHING] BCrypt strength {} on {} threads, queue capacity {}",
+        properties.getBcryptStrength(), threads, properties.getQueueCapacity());
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
 
   @Override
   public String encode(String rawPassword) {
     log.debug("Encoding password");
-    return passwordEncoder.encode(rawPassword);
+    return run(() -> passwordEncoder.encode(rawPassword));
   }
 
   @Override
   public boolean matches(String rawPassword, String encodedPassword) {
     log.debug("Verifying password");
-    return passwordEncoder.matches(rawPassword, encodedPassword);
+    return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
   }
 
+  /**
+   * True when the stored hash was produced with a different cost than the configured one,
+   * in either direction, so lowering the strength also takes effect on next login
+   */
   @Override
   public boolean upgradeEncoding(String encodedPassword) {
     log.debug("Checking if password encoding should be upgraded");
-    return passwordEncoder.upgradeEncoding(encodedPassword);
+    int cost = bcryptCost(encodedPassword);
+    return cost < 0 || cost != properties.getBcryptStrength();
+  }
+
+  private <T> T run(Callable<T> hashing) {
+    Future<T> future;
+    try {
+      future = executor.submit(hashing);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      log.warn("[PASSWORD HASHING] Queue full ({} waiting), rejecting request", executor.getQueue().size());
+      throw new ServiceUnavailableException(BUSY_MESSAGE, properties.getRetryAfterSeconds(), e);
+    }
+
+    try {
+      return future.get(properties.getTimeoutMs(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      rejected.increment();
+      log.warn("[PASSWORD HASHING] Hash not completed within {}ms, rejecting request", properties.getTimeoutMs());
+      throw new ServiceUnavailableException(BUSY_MESSAGE, properties.getRetryAfterSeconds(), e);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ServiceUnavailableException(BUSY_MESSAGE, properties.getRetryAfterSeconds(), e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  /**
+   * Cost field of a "$2a$10$..." hash, or -1 when the hash is not BCrypt
+   */
+  private static int bcryptCost(String encodedPassword) {
+    if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$'
+        || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+      return -1;
+    }
+    char tens = encodedPassword.charAt(4);
+    char units = encodedPassword.charAt(5);
+    if (tens < '0' || tens > '9' || units < '0' || units > '9') {
+      return -1;
+    }
+    return (tens - '0') * 10 + (units - '0');
   }
 }
@@ -0,0 +1,65 @@
+package com.multipagos.multipagos_backend.auth.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.auth.domain.model.RefreshTokenDomain;
+import com.multipagos.multipagos_backend.auth.domain.port.out.RefreshTokenRepositoryPort;
+import com.multipagos.multipagos_backend.auth.infrastructure.mapper.RefreshTokenMapper;
+import com.multipagos.multipagos_backend.auth.infrastructure.repository.RefreshTokenEntityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Infrastructure adapter implementing refresh token repository port.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenRepositoryAdapter implements RefreshTokenRepositoryPort {
+
+  private final RefreshTokenEntityRepository jpaRepository;
+  private final RefreshTokenMapper mapper;
+
+  @Override
+  public RefreshTokenDomain save(RefreshTokenDomain token) {
+    log.debug("Saving refresh token for user ID: {}", token.getUserId());
+    return mapper.toDomain(jpaRepository.save(mapper.toEntity(token)));
+  }
+
+  @Override
+  public Optional<RefreshTokenDomain> findByTokenHash(String tokenHash) {
+    return jpaRepository.findByTokenHash(tokenHash)
+        .map(mapper::toDomain);
+  }
+
+  @Override
+  public boolean revokeIfActive(Long id, LocalDateTime revokedAt) {
+    return jpaRepository.revokeIfActive(id, revokedAt) == 1;
+  }
+
+  @Override
+  public int revokeFamily(String familyId, LocalDateTime revokedAt) {
+    log.debug("Revoking refresh token family: {}", familyId);
+    return jpaRepository.revokeFamily(familyId, revokedAt);
+  }
+
+  @Override
+  public boolean hasActiveToken(String familyId, LocalDateTime now) {
+    return jpaRepository.existsByFamilyIdAndRevokedAtIsNullAndExpiresAtAfter(familyId, now);
+  }
+
+  @Override
+  public List<RefreshTokenDomain> findWithLiveAccessToken(String familyId, LocalDateTime now) {
+    return jpaRepository.findWithLiveAccessToken(familyId, now).stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
+  @Override
+  public int deleteExpired(LocalDateTime before) {
+    return jpaRepository.deleteExpired(before);
+  }
+}
@@ -0,0 +1,217 @@
+package com.multipagos.multipagos_backend.auth.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.auth.infrastructure.config.TokenRevocationProperties;
+import com.multipagos.multipagos_backend.auth.infrastructure.entity.RevokedTokenEntity;
+import com.multipagos.multipagos_backend.auth.infrastructure.repository.RevokedTokenEntityRepository;
+import com.multipagos.multipagos_backend.shared.application.util.BloomFilter;
+import com.multipagos.multipagos_backend.shared.domain.port.TokenRevocationPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Infrastructure adapter implementing TokenRevocationPort.
+ * Revoked access token ids live in memory behind a Bloom filter: almost every
+ * request misses the filter and returns without touching the exact set, and no
+ * request ever queries the database. Each node pulls rows newer than the last id
+ * it has seen, minus an overlap window, every sync interval: ids are allocated at
+ * insert but become visible at commit, so a lower id can appear after a higher one
+ * has been read. Everything is reloaded periodically to drop expired entries,
+ * since Bloom filter bits cannot be cleared.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RevokedTokenRegistry implements TokenRevocationPort {
+
+  private final RevokedTokenEntityRepository repository;
+  private final TokenRevocationProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  /** Held across database reads; a ReentrantLock so a virtual thread is not pinned during JDBC */
+  private final ReentrantLock syncLock = new ReentrantLock();
+  private volatile Snapshot snapshot;
+  private long lastSeenId;
+  private Counter falsePositives;
+
+  /**
+   * Bloom filter and exact set swapped together on rebuild; both accept concurrent additions
+   */
+  private record Snapshot(BloomFilter bloom, ConcurrentHashMap<String, Long> expiries, int capacity) {
+  }
+
+  @PostConstruct
+  void init() {
+    snapshot = newSnapshot(properties.getExpectedRevocations());
+    Gauge.builder("auth.token.revocations", this, registry -> registry.snapshot.expiries().size())
+        .description("Revoked access tokens held in memory")
+        .register(meterRegistry);
+    falsePositives = Counter.builder("auth.token.revocation.false_positives")
+        .description("Revocation lookups that hit the Bloom filter but not the exact set")
+        .register(meterRegistry);
+
+    syncLock.lock();
+    try {
+      reload();
+    } catch (DataAccessException e) {
+      log.warn("[TOKEN REVOCATION] Initial load failed, retrying on next sync | error: {}", e.getMessage());
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isRevoked(String tokenId) {
+    Snapshot current = snapshot;
+    if (!current.bloom().mightContain(tokenId)) {
+      return false;
+    }
+    Long expiresAt = current.expiries().get(tokenId);
+    if (expiresAt == null) {
+      falsePositives.increment();
+      return false;
+    }
+    return expiresAt > System.currentTimeMillis();
+  }
+
+  /**
+   * Runs in its own transaction so a duplicate insert cannot roll back the caller
+   */
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void revoke(String tokenId, Long userId, Instant expiresAt) {
+    remember(snapshot, tokenId, expiresAt.toEpochMilli());
+    if (repository.existsByTokenId(tokenId)) {
+      return;
+    }
+    try {
+      repository.save(new RevokedTokenEntity(tokenId, userId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+      log.info("[TOKEN REVOCATION] Access token revoked | userId: {} | jti: {}", userId, tokenId);
+    } catch (DataIntegrityViolationException e) {
+      log.debug("[TOKEN REVOCATION] Token already revoked by a concurrent request | jti: {}", tokenId);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.security.token-revocation.sync-interval-ms:5000}",
+      initialDelayString = "${app.security.token-revocation.sync-interval-ms:5000}")
+  public void sync() {
+    syncLock.lock();
+    try {
+      Snapshot current = snapshot;
+      if (current.expiries().size() > current.capacity()) {
+        log.info("[TOKEN REVOCATION] {} entries exceed filter capacity {}, rebuilding",
+            current.expiries().size(), current.capacity());
+        reload();
+        return;
+      }
+      Map<String, Long> fresh = new HashMap<>();
+      long from = Math.max(0L, lastSeenId - properties.getSyncOverlapIds());
+      lastSeenId = Math.max(lastSeenId, loadAfter(from, fresh));
+      fresh.forEach((tokenId, expiresAt) -> {
+        if (!current.expiries().containsKey(tokenId)) {
+          remember(current, tokenId, expiresAt);
+        }
+      });
+    } catch (DataAccessException e) {
+      log.warn("[TOKEN REVOCATION] Sync failed, keeping current set | error: {}", e.getMessage());
+    } finally {
+      syncLock.unlock();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.security.token-revocation.rebuild-interval-ms:300000}",
+      initialDelayString = "${app.security.token-revocation.rebuild-interval-ms:300000}")
+  public void rebuild() {
+    try {
+      int purged = repository.deleteExpired(LocalDateTime.now());
+      syncLock.lock();
+      try {
+        reload();
+      } finally {
+        syncLock.unlock();
+      }
+      log.debug("[TOKEN REVOCATION] Rebuilt revocation set | entries: {} | purged rows: {}",
+          snapshot.expiries().size(), purged);
+    } catch (DataAccessException e) {
+      log.warn("[TOKEN REVOCATION] Rebuild failed, keeping current set | error: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Loads every live row into a fresh snapshot sized for the current count, carrying
+   * over live local entries so a revocation made during the reload is not lost
+   */
+  private void reload() {
+    Snapshot previous = snapshot;
+    long now = System.currentTimeMillis();
+    ConcurrentHashMap<String, Long> expiries = new ConcurrentHashMap<>();
+    long maxId = loadAfter(0L, expiries);
+    previous.expiries().forEach((tokenId, expiresAt) -> {
+      if (expiresAt > now) {
+        expiries.putIfAbsent(tokenId, expiresAt);
+      }
+    });
+
+    Snapshot rebuilt = newSnapshot(Math.max(properties.getExpectedRevocations(), expiries.size() * 2));
+    rebuilt.expiries().putAll(expiries);
+    expiries.keySet().forEach(rebuilt.bloom()::put);
+    snapshot = rebuilt;
+    lastSeenId = maxId;
+
+    previous.expiries().forEach((tokenId, expiresAt) -> {
+      if (expiresAt > now && !rebuilt.expiries().containsKey(tokenId)) {
+        remember(rebuilt, tokenId, expiresAt);
+      }
+    });
+  }
+
+  /**
+   * @return highest id read, or afterId when nothing new was found
+   */
+  private long loadAfter(long afterId, Map<String, Long> sink) {
+    long cursor = afterId;
+    while (true) {
+      List<RevokedTokenEntity> page = repository.findLiveAfter(cursor, LocalDateTime.now(),
+          Limit.of(properties.getSyncBatchSize()));
+      for (RevokedTokenEntity row : page) {
+        sink.put(row.getTokenId(), row.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        cursor = row.getId();
+      }
+      if (page.size() < properties.getSyncBatchSize()) {
+        return cursor;
+      }
+    }
+  }
+
+  private Snapshot newSnapshot(int capacity) {
+    return new Snapshot(BloomFilter.create(capacity, properties.getFalsePositiveRate()),
+        new ConcurrentHashMap<>(), capacity);
+  }
+
+  /**
+   * Exact set first, so a concurrent lookup never sees the filter bit without the entry
+   */
+  private static void remember(Snapshot target, String tokenId, long expiresAt) {
+    target.expiries().put(tokenId, expiresAt);
+    target.bloom().put(tokenId);
+  }
+}
@@ -68,6 +68,15 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     });
   }
 
+  @Override
+  public void updatePassword(Long id, String encodedPassword) {
+    log.debug("Updating password hash for user with ID: {}", id);
+    jpaRepository.findById(id).ifPresent(entity -> {
+      entity.setPassword(encodedPassword);
+      jpaRepository.save(entity);
+    });
+  }
+
   @Override
   public Long countActiveUsers() {
     log.debug("Counting active users");
@@ -0,0 +1,28 @@
+package com.multipagos.multipagos_backend.auth.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt cost and the bounded executor PasswordEncoderAdapter hashes on
+ * Changing the strength re-hashes each password on its next successful login
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.security.password")
+public class PasswordHashingProperties {
+  /** BCrypt log2 rounds (4-31); each step doubles the CPU cost */
+  private int bcryptStrength = 10;
+  /** Hashing threads; 0 uses half the available processors */
+  private int threads = 0;
+  /** Hashes waiting for a thread before new ones are rejected with 503 */
+  private int queueCapacity = 64;
+  /** Upper bound a request waits for its hash, queueing included */
+  private long timeoutMs = 5000;
+  private long retryAfterSeconds = 1;
+
+  public int effectiveThreads() {
+    return threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+  }
+}
@@ -0,0 +1,29 @@
+package com.multipagos.multipagos_backend.auth.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory access token revocation set and how often nodes sync it from revoked_tokens
+ * A token revoked on another node is honored here after at most one sync interval
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.security.token-revocation")
+public class TokenRevocationProperties {
+  /** Delay between incremental loads of newly revoked tokens */
+  private long syncIntervalMs = 5000;
+  /** Delay between full reloads, which drop expired entries and resize the Bloom filter */
+  private long rebuildIntervalMs = 300000;
+  /** Rows fetched per query while syncing */
+  private int syncBatchSize = 5000;
+  /**
+   * Ids below the last one seen that each sync reads again, so a row whose id was
+   * allocated earlier but committed after a higher id is still picked up
+   */
+  private int syncOverlapIds = 1000;
+  /** Live revocations the Bloom filter is sized for; exceeding it forces an early rebuild */
+  private int expectedRevocations = 100000;
+  private double falsePositiveRate = 0.001;
+}
@@ -0,0 +1,36 @@
+package com.multipagos.multipagos_backend.auth.infrastructure.entity;
+
+import com.multipagos.multipagos_backend.shared.infrastructure.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity for revoked access tokens.
+ * Nodes load rows incrementally by id into their in-memory revocation set;
+ * rows are purged once the access token would have expired anyway.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_token_id", columnList = "token_id", unique = true),
+        @Index(name = "idx_revoked_token_expires", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class RevokedTokenEntity extends BaseEntity {
+
+    @Column(name = "token_id", nullable = false, length = 36)
+    private String tokenId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
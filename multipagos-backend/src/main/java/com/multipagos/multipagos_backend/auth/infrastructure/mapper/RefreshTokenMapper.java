@@ -0,0 +1,40 @@
+package com.multipagos.multipagos_backend.auth.infrastructure.mapper;
+
+import com.multipagos.multipagos_backend.auth.domain.model.RefreshTokenDomain;
+import com.multipagos.multipagos_backend.auth.infrastructure.entity.RefreshTokenEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps between refresh token domain and entity models.
+ */
+@Component
+public class RefreshTokenMapper {
+
+  public RefreshTokenEntity toEntity(RefreshTokenDomain domain) {
+    RefreshTokenEntity entity = new RefreshTokenEntity();
+    entity.setId(domain.getId());
+    entity.setUserId(domain.getUserId());
+    entity.setTokenHash(domain.getTokenHash());
+    entity.setFamilyId(domain.getFamilyId());
+    entity.setAccessTokenId(domain.getAccessTokenId());
+    entity.setAccessTokenExpiresAt(domain.getAccessTokenExpiresAt());
+    entity.setExpiresAt(domain.getExpiresAt());
+    entity.setRevokedAt(domain.getRevokedAt());
+    entity.setCreatedAt(domain.getCreatedAt());
+    return entity;
+  }
+
+  public RefreshTokenDomain toDomain(RefreshTokenEntity entity) {
+    return RefreshTokenDomain.builder()
+        .id(entity.getId())
+        .userId(entity.getUserId())
+        .tokenHash(entity.getTokenHash())
+        .familyId(entity.getFamilyId())
+        .accessTokenId(entity.getAccessTokenId())
+        .accessTokenExpiresAt(entity.getAccessTokenExpiresAt())
+        .expiresAt(entity.getExpiresAt())
+        .revokedAt(entity.getRevokedAt())
+        .createdAt(entity.getCreatedAt())
+        .build();
+  }
+}
@@ -0,0 +1,45 @@
+package com.multipagos.multipagos_backend.auth.infrastructure.repository;
+
+import com.multipagos.multipagos_backend.auth.infrastructure.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA Repository for RefreshTokenEntity
+ * Rotation and revocation are conditional updates so concurrent refreshes of
+ * the same token cannot both succeed
+ */
+@Repository
+public interface RefreshTokenEntityRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity r SET r.revokedAt = :revokedAt WHERE r.id = :id AND r.revokedAt IS NULL")
+    int revokeIfActive(@Param("id") Long id, @Param("revokedAt") LocalDateTime revokedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity r SET r.revokedAt = :revokedAt WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("revokedAt") LocalDateTime revokedAt);
+
+    boolean existsByFamilyIdAndRevokedAtIsNullAndExpiresAtAfter(String familyId, LocalDateTime now);
+
+    @Query("SELECT r FROM RefreshTokenEntity r WHERE r.familyId = :familyId AND r.accessTokenExpiresAt > :now")
+    List<RefreshTokenEntity> findWithLiveAccessToken(@Param("familyId") String familyId,
+                                                     @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.expiresAt < :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,33 @@
+package com.multipagos.multipagos_backend.auth.infrastructure.repository;
+
+import com.multipagos.multipagos_backend.auth.infrastructure.entity.RevokedTokenEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPA Repository for RevokedTokenEntity
+ * Reads page by ascending id so each node only fetches rows past its sync cursor
+ */
+@Repository
+public interface RevokedTokenEntityRepository extends JpaRepository<RevokedTokenEntity, Long> {
+
+    boolean existsByTokenId(String tokenId);
+
+    @Query("SELECT r FROM RevokedTokenEntity r WHERE r.id > :afterId AND r.expiresAt > :now ORDER BY r.id ASC")
+    List<RevokedTokenEntity> findLiveAfter(@Param("afterId") Long afterId,
+                                           @Param("now") LocalDateTime now,
+                                           Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedTokenEntity r WHERE r.expiresAt < :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+}
@@ -4,12 +4,15 @@ import com.multipagos.multipagos_backend.auth.application.service.AuthApplicatio
 import com.multipagos.multipagos_backend.auth.domain.model.UserDomain;
 import com.multipagos.multipagos_backend.auth.presentation.dto.LoginRequest;
 import com.multipagos.multipagos_backend.auth.presentation.dto.LoginResponse;
+import com.multipagos.multipagos_backend.auth.presentation.dto.RefreshTokenRequest;
 import com.multipagos.multipagos_backend.auth.presentation.dto.RegisterRequest;
 import com.multipagos.multipagos_backend.shared.application.util.ResponseFactory;
 import com.multipagos.multipagos_backend.shared.domain.exception.AuthenticationException;
 import com.multipagos.multipagos_backend.shared.domain.exception.BusinessException;
+import com.multipagos.multipagos_backend.shared.domain.exception.ServiceUnavailableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -50,6 +53,8 @@ public class AuthController {
       log.warn("[AUTH CONTROLLER] Registration business rule failed for email: {} | error: {}",
           registerRequest.getEmail(), e.getMessage());
       return ResponseFactory.badRequest(e.getMessage(), request.getRequestURI());
+    } catch (ServiceUnavailableException e) {
+      return ResponseFactory.serviceUnavailable(e.getMessage(), request.getRequestURI(), e.getRetryAfterSeconds());
     } catch (Exception e) {
       log.error("[AUTH CONTROLLER] Registration error for email: {} | error: {}",
           registerRequest.getEmail(), e.getMessage(), e);
@@ -79,10 +84,57 @@ public class AuthController {
       log.warn("[AUTH CONTROLLER] Authentication failed for email: {} | error: {}",
           loginRequest.getEmail(), e.getMessage());
       return ResponseFactory.unauthorized(e.getMessage(), request.getRequestURI());
+    } catch (ServiceUnavailableException e) {
+      return ResponseFactory.serviceUnavailable(e.getMessage(), request.getRequestURI(), e.getRetryAfterSeconds());
     } catch (Exception e) {
       log.error("[AUTH CONTROLLER] Login error for email: {} | error: {}",
           loginRequest.getEmail(), e.getMessage(), e);
       return ResponseFactory.internalServerError(request.getRequestURI());
     }
   }
+
+  @PostMapping("/refresh")
+  public ResponseEntity<?> refresh(@Valid @RequestBody RefreshTokenRequest refreshRequest,
+      HttpServletRequest request) {
+
+    try {
+      LoginResponse response = authApplicationService.refreshTokens(refreshRequest);
+      return ResponseFactory.success(response, "Token renovado exitosamente");
+
+    } catch (AuthenticationException e) {
+      log.warn("[AUTH CONTROLLER] Token refresh rejected | error: {}", e.getMessage());
+      return ResponseFactory.unauthorized(e.getMessage(), request.getRequestURI());
+    } catch (Exception e) {
+      log.error("[AUTH CONTROLLER] Token refresh error | error: {}", e.getMessage(), e);
+      return ResponseFactory.internalServerError(request.getRequestURI());
+    }
+  }
+
+  /**
+   * Revokes the bearer access token and, when the body carries it, the refresh token family
+   */
+  @PostMapping("/logout")
+  public ResponseEntity<?> logout(@RequestBody(required = false) RefreshTokenRequest refreshRequest,
+      HttpServletRequest request) {
+
+    try {
+      authApplicationService.logout(extractBearerToken(request), refreshRequest);
+      return ResponseFactory.success("Sesión cerrada exitosamente", "Sesión cerrada exitosamente");
+
+    } catch (IllegalArgumentException e) {
+      log.warn("[AUTH CONTROLLER] Logout validation failed | error: {}", e.getMessage());
+      return ResponseFactory.badRequest(e.getMessage(), request.getRequestURI());
+    } catch (Exception e) {
+      log.error("[AUTH CONTROLLER] Logout error | error: {}", e.getMessage(), e);
+      return ResponseFactory.internalServerError(request.getRequestURI());
+    }
+  }
+
+  private String extractBearerToken(HttpServletRequest request) {
+    String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+      return null;
+    }
+    return authHeader.substring(7);
+  }
 }
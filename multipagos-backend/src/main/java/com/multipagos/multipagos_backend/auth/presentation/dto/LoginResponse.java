@@ -11,6 +11,11 @@ public class LoginResponse {
 
   private String token;
   private String type = "Bearer";
+  /** Seconds until the access token expires */
+  private long expiresIn;
+  private String refreshToken;
+  /** Seconds until the refresh token expires unless it is rotated first */
+  private long refreshExpiresIn;
   private UserInfo user;
 
   @Data
@@ -26,4 +31,12 @@ public class LoginResponse {
     this.token = token;
     this.user = user;
   }
+
+  public LoginResponse(String token, long expiresIn, String refreshToken, long refreshExpiresIn, UserInfo user) {
+    this.token = token;
+    this.expiresIn = expiresIn;
+    this.refreshToken = refreshToken;
+    this.refreshExpiresIn = refreshExpiresIn;
+    this.user = user;
+  }
 }
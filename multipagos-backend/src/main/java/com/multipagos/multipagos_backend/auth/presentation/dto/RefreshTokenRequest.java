@@ -0,0 +1,17 @@
+package com.multipagos.multipagos_backend.auth.presentation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+  @NotBlank(message = "El refresh token es obligatorio")
+  @Size(max = 128, message = "Refresh token inválido")
+  private String refreshToken;
+}
@@ -0,0 +1,357 @@
+package com.multipagos.multipagos_backend.benchmark.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multipagos.multipagos_backend.benchmark.config.RepositoryBenchmarkProperties;
+import com.multipagos.multipagos_backend.benchmark.infrastructure.dataset.BenchmarkDataset;
+import com.multipagos.multipagos_backend.benchmark.infrastructure.dataset.TransactionDatasetGenerator;
+import com.multipagos.multipagos_backend.shared.domain.value.PageRequest;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionRepositoryPort;
+import com.multipagos.multipagos_backend.topup.infrastructure.entity.TransactionEntity;
+import com.multipagos.multipagos_backend.topup.infrastructure.mapper.TransactionMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * Times every read method of TransactionRepositoryPort against the synthetic dataset
+ * Each scenario runs through the real adapter (JPA, mapping and metrics included) and
+ * records the MySQL plan of the SQL the derived query or JPQL resolves to, so index
+ * changes can be compared report against report
+ * Write methods (save, updateStatus, deleteById) are left out because they would
+ * change the dataset between runs; mapping and money summation are timed in memory
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "benchmark.repository", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class RepositoryBenchmarkRunner implements ApplicationRunner {
+
+  private static final String COLUMNS = "SELECT t.* FROM transactions t ";
+  private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+  private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+  private static final int MONEY_ROWS = 100_000;
+
+  private final TransactionRepositoryPort transactionRepository;
+  private final TransactionMapper transactionMapper;
+  private final TransactionDatasetGenerator datasetGenerator;
+  private final RepositoryBenchmarkProperties properties;
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+  private final ConfigurableApplicationContext context;
+
+  private final List<Result> skippedListScenarios = new ArrayList<>();
+
+  private record Explain(String sql, Object[] args) {
+  }
+
+  private record Scenario(String name, String method, int iterations, Callable<Integer> call, List<Explain> explains) {
+  }
+
+  public record Result(String name, String method, int iterations, int rows,
+      double meanMs, double p50Ms, double p95Ms, double p99Ms, double maxMs, long rowsPerSecond,
+      Map<String, String> plans, String skipped) {
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    if (!datasetGenerator.isLoaded()) {
+      if (!properties.getDataset().isGenerate()) {
+        throw new IllegalStateException("Benchmark dataset not found and generation is disabled");
+      }
+      datasetGenerator.generate();
+    }
+
+    long[] userIds = datasetGenerator.loadUserIds();
+    List<Result> results = new ArrayList<>();
+    for (Scenario scenario : buildScenarios(userIds)) {
+      results.add(execute(scenario));
+    }
+    results.addAll(skippedListScenarios);
+
+    Path report = writeReport(results);
+    log.info("[BENCHMARK] Report written to {}", report.toAbsolutePath());
+
+    if (properties.isExitWhenDone()) {
+      System.exit(SpringApplication.exit(context, () -> 0));
+    }
+  }
+
+  private List<Scenario> buildScenarios(long[] userIds) {
+    int iterations = properties.getIterations();
+    int size = properties.getPageSize();
+    List<Scenario> scenarios = new ArrayList<>();
+
+    for (int rank : properties.getUserRanks()) {
+      if (rank >= userIds.length || userIds[rank] == 0) {
+        log.warn("[BENCHMARK] No benchmark user with rank {}, skipping", rank);
+        continue;
+      }
+      Long userId = userIds[rank];
+      String user = "rank" + rank;
+      long userRows = transactionRepository.countByUserId(userId);
+      LocalDateTime latest = transactionRepository.findLatestByUserId(userId, 1).stream()
+          .findFirst()
+          .map(TransactionDomain::getCreatedAt)
+          .orElse(LocalDateTime.now());
+      log.info("[BENCHMARK] User {} (id {}) has {} active transactions", user, userId, userRows);
+
+      for (int page : properties.getPageDepths()) {
+        scenarios.add(new Scenario("history-page-" + page + "-" + user, "findByUserIdAndActiveTrue(page)", iterations,
+            () -> transactionRepository.findByUserIdAndActiveTrue(userId, PageRequest.of(page, size)).getNumberOfElements(),
+            List.of(
+                new Explain(COLUMNS + "WHERE t.user_id = ? AND t.active = 1 ORDER BY t.created_at DESC LIMIT ? OFFSET ?",
+                    new Object[]{userId, size, page * size}),
+                new Explain("SELECT COUNT(t.id) FROM transactions t WHERE t.user_id = ? AND t.active = 1",
+                    new Object[]{userId}))));
+      }
+
+      scenarios.add(new Scenario("latest-10-" + user, "findLatestByUserId", iterations,
+          () -> transactionRepository.findLatestByUserId(userId, 10).size(),
+          List.of(new Explain(COLUMNS + "WHERE t.user_id = ? AND t.active = 1 ORDER BY t.created_at DESC LIMIT 10",
+              new Object[]{userId}))));
+
+      scenarios.add(new Scenario("count-" + user, "countByUserId", iterations,
+          () -> transactionRepository.countByUserId(userId).intValue(),
+          List.of(new Explain("SELECT COUNT(t.id) FROM transactions t WHERE t.user_id = ? AND t.active = 1",
+              new Object[]{userId}))));
+
+      scenarios.add(new Scenario("total-amount-" + user, "getTotalAmountCentsByUser", iterations,
+          () -> (int) Long.signum(transactionRepository.getTotalAmountCentsByUser(userId)),
+          List.of(new Explain("SELECT CAST(COALESCE(SUM(t.amount), 0) * 100 AS SIGNED) FROM transactions t "
+              + "WHERE t.user_id = ? AND t.status = 'COMPLETED' AND t.active = 1", new Object[]{userId}))));
+
+      for (int days : new int[]{7, 30}) {
+        LocalDateTime start = latest.minusDays(days);
+        scenarios.add(new Scenario("date-range-" + days + "d-" + user, "findByUserAndDateRange", iterations,
+            () -> transactionRepository.findByUserAndDateRange(userId, start, latest).size(),
+            List.of(new Explain(COLUMNS + "WHERE t.active = 1 AND t.user_id = ? AND t.created_at BETWEEN ? AND ? "
+                + "ORDER BY t.created_at DESC", new Object[]{userId, start, latest}))));
+      }
+
+      addListScenarios(scenarios, user, userId, BenchmarkDataset.phoneOf(rank, 0), userRows, iterations);
+    }
+
+    addGlobalScenarios(scenarios, iterations);
+    addMoneyScenarios(scenarios, iterations);
+    return scenarios;
+  }
+
+  /**
+   * Unbounded lists (phone lookup included, each user tops up two lines) materialize
+   * every matching row; heavy users are reported as skipped instead of loading
+   * millions of entities per iteration
+   */
+  private void addListScenarios(List<Scenario> scenarios, String user, Long userId, String phone,
+      long userRows, int iterations) {
+    List<Scenario> lists = List.of(
+        new Scenario("phone-" + user, "findByPhoneNumberAndActiveTrue", iterations,
+            () -> transactionRepository.findByPhoneNumberAndActiveTrue(phone).size(),
+            List.of(new Explain(COLUMNS + "WHERE t.phone_number = ? AND t.active = 1 ORDER BY t.created_at DESC",
+                new Object[]{phone}))),
+        new Scenario("all-" + user, "findByUserId", iterations,
+            () -> transactionRepository.findByUserId(userId).size(),
+            List.of(new Explain(COLUMNS + "WHERE t.user_id = ? ORDER BY t.created_at DESC", new Object[]{userId}))),
+        new Scenario("active-" + user, "findByUserIdAndActiveTrue", iterations,
+            () -> transactionRepository.findByUserIdAndActiveTrue(userId).size(),
+            List.of(new Explain(COLUMNS + "WHERE t.user_id = ? AND t.active = 1 ORDER BY t.created_at DESC",
+                new Object[]{userId}))),
+        new Scenario("status-completed-" + user, "findByUserIdAndStatus", iterations,
+            () -> transactionRepository.findByUserIdAndStatus(userId, TransactionStatus.COMPLETED).size(),
+            List.of(new Explain(COLUMNS + "WHERE t.user_id = ? AND t.status = ? AND t.active = 1",
+                new Object[]{userId, TransactionStatus.COMPLETED.name()}))));
+
+    if (userRows <= properties.getMaxListRows()) {
+      scenarios.addAll(lists);
+      return;
+    }
+    String reason = userRows + " rows exceeds benchmark.repository.max-list-rows";
+    for (Scenario scenario : lists) {
+      skippedListScenarios.add(new Result(scenario.name(), scenario.method(), 0, 0, 0, 0, 0, 0, 0, 0,
+          explain(scenario.explains()), reason));
+    }
+  }
+
+  private void addGlobalScenarios(List<Scenario> scenarios, int iterations) {
+    long transactions = properties.getDataset().getTransactions();
+    SplittableRandom random = new SplittableRandom(properties.getDataset().getSeed());
+
+    String externalId = BenchmarkDataset.externalIdOf(random.nextLong(Math.max(1, transactions)));
+    scenarios.add(new Scenario("external-id", "findByExternalTransactionId", iterations,
+        () -> transactionRepository.findByExternalTransactionId(
+            BenchmarkDataset.externalIdOf(random.nextLong(Math.max(1, transactions)))).isPresent() ? 1 : 0,
+        List.of(new Explain(COLUMNS + "WHERE t.external_transaction_id = ? AND t.active = 1",
+            new Object[]{externalId}))));
+
+    Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM transactions", Long.class);
+    long upperId = maxId == null ? 1 : maxId;
+    scenarios.add(new Scenario("by-id", "findById", iterations,
+        () -> transactionRepository.findById(1 + random.nextLong(upperId)).isPresent() ? 1 : 0,
+        List.of(new Explain(COLUMNS + "WHERE t.id = ?", new Object[]{upperId}))));
+
+    for (TransactionStatus status : TransactionStatus.values()) {
+      scenarios.add(new Scenario("count-status-" + status.name().toLowerCase(), "countByStatus",
+          properties.getSlowIterations(),
+          () -> transactionRepository.countByStatus(status).intValue(),
+          List.of(new Explain("SELECT COUNT(t.id) FROM transactions t WHERE t.status = ? AND t.active = 1",
+              new Object[]{status.name()}))));
+    }
+  }
+
+  /**
+   * In-memory money paths with no database involved: entity/domain mapping as done for
+   * every history page, and summing amounts as integer cents versus BigDecimal
+   * (the representation Amount used before it switched to cents)
+   */
+  private void addMoneyScenarios(List<Scenario> scenarios, int iterations) {
+    SplittableRandom random = new SplittableRandom(properties.getDataset().getSeed());
+    List<TransactionEntity> entities = new ArrayList<>(MONEY_ROWS);
+    for (int i = 0; i < MONEY_ROWS; i++) {
+      int rank = 1 + random.nextInt(1000);
+      int operator = BenchmarkDataset.operatorOf(rank, 0);
+      TransactionEntity entity = new TransactionEntity();
+      entity.setId((long) i + 1);
+      entity.setPhoneNumber(BenchmarkDataset.phoneOf(rank, 0));
+      entity.setAmount(100_000L * (1 + random.nextInt(100)));
+      entity.setSupplierId(BenchmarkDataset.supplierIdOf(operator));
+      entity.setSupplierName(BenchmarkDataset.supplierNameOf(operator));
+      entity.setStatus(TransactionStatus.COMPLETED);
+      entity.setCreatedAt(LocalDateTime.now());
+      entity.setUpdatedAt(LocalDateTime.now());
+      entities.add(entity);
+    }
+    List<TransactionDomain> domains = entities.stream().map(transactionMapper::toDomain).toList();
+
+    scenarios.add(new Scenario("map-to-domain", "TransactionMapper.toDomain", iterations, () -> {
+      int mapped = 0;
+      for (TransactionEntity entity : entities) {
+        mapped += transactionMapper.toDomain(entity).getAmount() != null ? 1 : 0;
+      }
+      return mapped;
+    }, List.of()));
+
+    scenarios.add(new Scenario("map-to-entity", "TransactionMapper.toEntity", iterations, () -> {
+      int mapped = 0;
+      for (TransactionDomain domain : domains) {
+        mapped += transactionMapper.toEntity(domain).getAmount() != null ? 1 : 0;
+      }
+      return mapped;
+    }, List.of()));
+
+    scenarios.add(new Scenario("sum-cents", "Amount.getCents", iterations, () -> {
+      long total = 0L;
+      for (TransactionDomain domain : domains) {
+        total += domain.getAmount().getCents();
+      }
+      return total > 0 ? domains.size() : 0;
+    }, List.of()));
+
+    scenarios.add(new Scenario("sum-decimal", "Amount.getValue", iterations, () -> {
+      BigDecimal total = BigDecimal.ZERO;
+      for (TransactionDomain domain : domains) {
+        total = total.add(domain.getAmount().getValue());
+      }
+      return total.signum() > 0 ? domains.size() : 0;
+    }, List.of()));
+  }
+
+  private Result execute(Scenario scenario) throws Exception {
+    int iterations = Math.max(1, scenario.iterations());
+    int warmup = Math.min(properties.getWarmupIterations(), iterations);
+    for (int i = 0; i < warmup; i++) {
+      scenario.call().call();
+    }
+
+    long[] samples = new long[iterations];
+    int rows = 0;
+    for (int i = 0; i < iterations; i++) {
+      long start = System.nanoTime();
+      rows = scenario.call().call();
+      samples[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(samples);
+
+    double mean = Arrays.stream(samples).average().orElse(0);
+    Result result = new Result(scenario.name(), scenario.method(), iterations, rows,
+        toMillis((long) mean),
+        toMillis(percentile(samples, 0.50)),
+        toMillis(percentile(samples, 0.95)),
+        toMillis(percentile(samples, 0.99)),
+        toMillis(samples[samples.length - 1]),
+        mean > 0 ? Math.round(rows * NANOS_PER_SECOND / mean) : 0,
+        explain(scenario.explains()),
+        null);
+    log.info("[BENCHMARK] {} ({} rows): p50={}ms p95={}ms p99={}ms max={}ms",
+        result.name(), result.rows(), result.p50Ms(), result.p95Ms(), result.p99Ms(), result.maxMs());
+    return result;
+  }
+
+  private Map<String, String> explain(List<Explain> explains) {
+    Map<String, String> plans = new LinkedHashMap<>();
+    for (Explain explain : explains) {
+      plans.put(explain.sql(), plan("EXPLAIN FORMAT=TREE ", explain));
+      if (properties.isExplainAnalyze()) {
+        plans.put("ANALYZE " + explain.sql(), plan("EXPLAIN ANALYZE ", explain));
+      }
+    }
+    return plans;
+  }
+
+  private String plan(String prefix, Explain explain) {
+    try {
+      return jdbcTemplate.queryForList(prefix + explain.sql(), explain.args()).stream()
+          .flatMap(row -> row.values().stream())
+          .map(String::valueOf)
+          .collect(Collectors.joining("\n"));
+    } catch (Exception e) {
+      log.warn("[BENCHMARK] EXPLAIN failed for {}: {}", explain.sql(), e.getMessage());
+      return "EXPLAIN failed: " + e.getMessage();
+    }
+  }
+
+  private Path writeReport(List<Result> results) throws Exception {
+    Path directory = Path.of(properties.getReportDir());
+    Files.createDirectories(directory);
+    Path report = directory.resolve(properties.getLabel() + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".json");
+
+    Map<String, Object> document = new LinkedHashMap<>();
+    document.put("label", properties.getLabel());
+    document.put("generatedAt", LocalDateTime.now().toString());
+    document.put("dataset", properties.getDataset());
+    document.put("pageSize", properties.getPageSize());
+    document.put("results", results);
+    objectMapper.writerWithDefaultPrettyPrinter().writeValue(report.toFile(), document);
+    return report;
+  }
+
+  private static long percentile(long[] sorted, double quantile) {
+    int index = (int) Math.ceil(quantile * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+  }
+
+  private static double toMillis(long nanos) {
+    return Math.round(nanos / NANOS_PER_MILLI * 1000.0) / 1000.0;
+  }
+}
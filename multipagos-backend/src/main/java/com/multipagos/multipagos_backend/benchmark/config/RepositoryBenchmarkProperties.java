@@ -0,0 +1,56 @@
+package com.multipagos.multipagos_backend.benchmark.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Settings for the transaction repository benchmark (profile "benchmark")
+ * The dataset section sizes the synthetic load; the remaining fields control
+ * how many times each TransactionRepositoryPort method is timed
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "benchmark.repository")
+public class RepositoryBenchmarkProperties {
+  private boolean enabled = false;
+  /** Label used in the report file name, e.g. "baseline" or "composite-indexes" */
+  private String label = "repository";
+  private String reportDir = "loadtest/results";
+  /** Closes the application context once the report is written */
+  private boolean exitWhenDone = true;
+  private int warmupIterations = 20;
+  private int iterations = 200;
+  /** Iterations for table-wide queries (count by status) that scan millions of rows */
+  private int slowIterations = 5;
+  private int pageSize = 20;
+  /** Page numbers timed for the paginated history; deep pages expose OFFSET cost */
+  private List<Integer> pageDepths = List.of(0, 10, 100, 1000);
+  /** Zipf ranks of the users benchmarked: 1 is the heaviest user */
+  private List<Integer> userRanks = List.of(1, 100, 10000);
+  /** Unbounded list methods are skipped for users with more rows than this */
+  private long maxListRows = 50000;
+  /** Adds EXPLAIN ANALYZE (executes the query) next to the estimated plan */
+  private boolean explainAnalyze = false;
+  private Dataset dataset = new Dataset();
+
+  @Data
+  public static class Dataset {
+    /** Generates the dataset when no benchmark users exist yet */
+    private boolean generate = true;
+    private int users = 200000;
+    private long transactions = 50000000L;
+    /** Zipf exponent for transactions per user; 0 spreads them evenly */
+    private double skew = 0.8;
+    /** Transactions are spread over this many days ending now */
+    private int days = 730;
+    private int batchSize = 5000;
+    private long seed = 42L;
+    private double completedRate = 0.85;
+    private double failedRate = 0.10;
+    /** Share of rows soft-deleted (active = false) */
+    private double inactiveRate = 0.02;
+  }
+}
@@ -0,0 +1,57 @@
+package com.multipagos.multipagos_backend.benchmark.infrastructure.dataset;
+
+/**
+ * Deterministic identifiers shared by the dataset generator and the benchmark runner
+ * Users, phones and external ids derive from the Zipf rank or row sequence, so the
+ * runner can target a heavy or light user without scanning the table
+ */
+public final class BenchmarkDataset {
+
+  public static final String EMAIL_DOMAIN = "@bench.multipagos.local";
+  public static final String EXTERNAL_ID_PREFIX = "BENCH-";
+
+  private static final int[][] OPERATOR_PREFIXES = {
+      {300, 305}, {310, 315}, {320, 323}, {330, 331}
+  };
+  private static final String[] SUPPLIER_IDS = {"8753", "9773", "3398", "4689"};
+  private static final String[] SUPPLIER_NAMES = {"Claro", "Movistar", "Tigo", "WOM"};
+  private static final int PHONE_SUFFIX_RANGE = 10_000_000;
+
+  private BenchmarkDataset() {
+  }
+
+  public static String emailOf(int rank) {
+    return "bench-user-" + rank + EMAIL_DOMAIN;
+  }
+
+  public static int rankOf(String email) {
+    return Integer.parseInt(email.substring("bench-user-".length(), email.length() - EMAIL_DOMAIN.length()));
+  }
+
+  /**
+   * Each user tops up two lines; the operator is derived from the line so
+   * supplier and phone prefix always agree
+   */
+  public static int operatorOf(int rank, int line) {
+    return Math.floorMod(rank * 7 + line, OPERATOR_PREFIXES.length);
+  }
+
+  public static String phoneOf(int rank, int line) {
+    int[] range = OPERATOR_PREFIXES[operatorOf(rank, line)];
+    int prefix = range[0] + Math.floorMod(rank + line, range[1] - range[0] + 1);
+    int suffix = Math.floorMod(rank * 2 + line, PHONE_SUFFIX_RANGE);
+    return prefix + String.format("%07d", suffix);
+  }
+
+  public static String supplierIdOf(int operator) {
+    return SUPPLIER_IDS[operator];
+  }
+
+  public static String supplierNameOf(int operator) {
+    return SUPPLIER_NAMES[operator];
+  }
+
+  public static String externalIdOf(long sequence) {
+    return EXTERNAL_ID_PREFIX + sequence;
+  }
+}
@@ -0,0 +1,169 @@
+package com.multipagos.multipagos_backend.benchmark.infrastructure.dataset;
+
+import com.multipagos.multipagos_backend.benchmark.config.RepositoryBenchmarkProperties;
+import com.multipagos.multipagos_backend.benchmark.config.RepositoryBenchmarkProperties.Dataset;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads synthetic users and transactions for the repository benchmark
+ * Transactions per user follow a Zipf distribution (rank 1 is the heaviest user),
+ * created_at grows with the row sequence like production inserts do, and every
+ * TransactionStatus and soft-deleted rows are represented
+ * Rows go through plain JDBC batches; add rewriteBatchedStatements=true to the
+ * datasource URL or loading 50M rows takes hours instead of minutes
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "benchmark.repository", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TransactionDatasetGenerator {
+
+  /** BCrypt hash of "password", same as the seed user in database/init-multipagos.sql */
+  private static final String PASSWORD_HASH = "$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy";
+  private static final long PROGRESS_EVERY = 1_000_000L;
+
+  private static final String INSERT_USER =
+      "INSERT INTO users (name, email, password, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_TRANSACTION =
+      "INSERT INTO transactions (user_id, phone_number, amount, supplier_id, supplier_name, status, "
+          + "external_transaction_id, response_message, response_data, active, created_at, updated_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final RepositoryBenchmarkProperties properties;
+
+  public boolean isLoaded() {
+    Integer users = jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, BenchmarkDataset.emailOf(1));
+    return users != null && users > 0;
+  }
+
+  /**
+   * Maps Zipf rank to user id; index 0 is unused
+   */
+  public long[] loadUserIds() {
+    long[] ids = new long[properties.getDataset().getUsers() + 1];
+    jdbcTemplate.query("SELECT id, email FROM users WHERE email LIKE ?", rs -> {
+      int rank = BenchmarkDataset.rankOf(rs.getString(2));
+      if (rank < ids.length) {
+        ids[rank] = rs.getLong(1);
+      }
+    }, "bench-user-%" + BenchmarkDataset.EMAIL_DOMAIN);
+    return ids;
+  }
+
+  public void generate() {
+    Dataset dataset = properties.getDataset();
+    long started = System.nanoTime();
+    log.info("[BENCHMARK DATASET] Generating {} users and {} transactions (skew {}, {} days)",
+        dataset.getUsers(), dataset.getTransactions(), dataset.getSkew(), dataset.getDays());
+
+    insertUsers(dataset);
+    long[] userIds = loadUserIds();
+    insertTransactions(dataset, userIds);
+
+    log.info("[BENCHMARK DATASET] Done in {}s", Duration.ofNanos(System.nanoTime() - started).toSeconds());
+  }
+
+  private void insertUsers(Dataset dataset) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now().minusDays(dataset.getDays()));
+    List<Object[]> batch = new ArrayList<>(dataset.getBatchSize());
+    for (int rank = 1; rank <= dataset.getUsers(); rank++) {
+      batch.add(new Object[]{"Bench User " + rank, BenchmarkDataset.emailOf(rank), PASSWORD_HASH, true, now, now});
+      if (batch.size() == dataset.getBatchSize()) {
+        jdbcTemplate.batchUpdate(INSERT_USER, batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_USER, batch);
+    }
+    log.info("[BENCHMARK DATASET] Inserted {} users", dataset.getUsers());
+  }
+
+  private void insertTransactions(Dataset dataset, long[] userIds) {
+    SplittableRandom random = new SplittableRandom(dataset.getSeed());
+    double[] cumulative = zipfCumulative(dataset.getUsers(), dataset.getSkew());
+    long total = dataset.getTransactions();
+    long startMillis = System.currentTimeMillis() - Duration.ofDays(dataset.getDays()).toMillis();
+    double millisPerRow = (double) Duration.ofDays(dataset.getDays()).toMillis() / Math.max(1, total);
+
+    List<Object[]> batch = new ArrayList<>(dataset.getBatchSize());
+    for (long sequence = 0; sequence < total; sequence++) {
+      int rank = sampleRank(cumulative, random.nextDouble());
+      int line = random.nextInt(2);
+      int operator = BenchmarkDataset.operatorOf(rank, line);
+      TransactionStatus status = sampleStatus(dataset, random.nextDouble());
+      Timestamp createdAt = new Timestamp(startMillis + (long) (sequence * millisPerRow));
+      boolean completed = status == TransactionStatus.COMPLETED;
+
+      batch.add(new Object[]{
+          userIds[rank],
+          BenchmarkDataset.phoneOf(rank, line),
+          BigDecimal.valueOf(1000L * (1 + random.nextInt(100))),
+          BenchmarkDataset.supplierIdOf(operator),
+          BenchmarkDataset.supplierNameOf(operator),
+          status.name(),
+          completed ? BenchmarkDataset.externalIdOf(sequence) : null,
+          completed ? "Transaccion exitosa" : status == TransactionStatus.FAILED ? "Transaccion rechazada" : null,
+          null,
+          random.nextDouble() >= dataset.getInactiveRate(),
+          createdAt,
+          createdAt
+      });
+
+      if (batch.size() == dataset.getBatchSize()) {
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION, batch);
+        batch.clear();
+      }
+      if ((sequence + 1) % PROGRESS_EVERY == 0) {
+        log.info("[BENCHMARK DATASET] {} / {} transactions", sequence + 1, total);
+      }
+    }
+    if (!batch.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_TRANSACTION, batch);
+    }
+  }
+
+  private TransactionStatus sampleStatus(Dataset dataset, double draw) {
+    if (draw < dataset.getCompletedRate()) {
+      return TransactionStatus.COMPLETED;
+    }
+    if (draw < dataset.getCompletedRate() + dataset.getFailedRate()) {
+      return TransactionStatus.FAILED;
+    }
+    return TransactionStatus.PENDING;
+  }
+
+  private static double[] zipfCumulative(int users, double skew) {
+    double[] cumulative = new double[users];
+    double sum = 0.0;
+    for (int rank = 1; rank <= users; rank++) {
+      sum += 1.0 / Math.pow(rank, skew);
+      cumulative[rank - 1] = sum;
+    }
+    for (int i = 0; i < users; i++) {
+      cumulative[i] /= sum;
+    }
+    return cumulative;
+  }
+
+  private static int sampleRank(double[] cumulative, double draw) {
+    int index = Arrays.binarySearch(cumulative, draw);
+    return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1) + 1;
+  }
+}
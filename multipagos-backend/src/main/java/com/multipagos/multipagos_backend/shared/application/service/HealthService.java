@@ -2,18 +2,33 @@ package com.multipagos.multipagos_backend.shared.application.service;
 
 import com.multipagos.multipagos_backend.shared.application.service.health.DatabaseHealthChecker;
 import com.multipagos.multipagos_backend.shared.application.service.health.SystemHealthChecker;
+import com.multipagos.multipagos_backend.shared.domain.port.DependencyHealthPort;
 import com.multipagos.multipagos_backend.shared.domain.port.HealthServicePort;
 import com.multipagos.multipagos_backend.shared.domain.value.HealthCheckConstants;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Comprehensive Health Check Service
+ * Checks run on a dedicated background scheduler; requests are served from the
+ * latest immutable snapshot and never touch the database themselves
+ * External dependencies contribute passive, traffic-derived components
+ * A snapshot older than a few refresh intervals is reported DOWN, so a hung
+ * refresher cannot keep serving its last UP result
  */
 @Service
 @RequiredArgsConstructor
@@ -22,35 +37,97 @@ public class HealthService implements HealthServicePort {
 
   private final DatabaseHealthChecker databaseHealthChecker;
   private final SystemHealthChecker systemHealthChecker;
+  private final List<DependencyHealthPort> dependencyHealthPorts;
+
+  @Value("${app.health.refresh-interval-ms:" + HealthCheckConstants.DEFAULT_REFRESH_INTERVAL_MS + "}")
+  private long refreshIntervalMs;
+
+  @Value("${app.health.stale-after-intervals:" + HealthCheckConstants.DEFAULT_STALE_AFTER_INTERVALS + "}")
+  private int staleAfterIntervals;
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreadsEnabled;
+
+  private volatile Map<String, Object> snapshot = Map.of(
+      HealthCheckConstants.FIELD_STATUS, HealthCheckConstants.STATUS_UNKNOWN,
+      HealthCheckConstants.FIELD_TIMESTAMP, LocalDateTime.now(),
+      HealthCheckConstants.FIELD_COMPONENTS, Map.of());
+
+  private volatile long snapshotTakenAtNanos = System.nanoTime();
+
+  private ScheduledExecutorService scheduler;
+
+  @PostConstruct
+  void startRefresher() {
+    ThreadFactory threadFactory = virtualThreadsEnabled
+        ? Thread.ofVirtual().name("health-refresher").factory()
+        : Thread.ofPlatform().name("health-refresher").daemon(true).factory();
+    scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    scheduler.scheduleWithFixedDelay(this::refreshSnapshot, 0, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    log.info("[HEALTH SERVICE] Background refresher started | interval: {}ms | virtual: {}",
+        refreshIntervalMs, virtualThreadsEnabled);
+  }
+
+  @PreDestroy
+  void stopRefresher() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
 
   @Override
   public Map<String, Object> checkHealth() {
-    log.info("[HEALTH SERVICE] Starting comprehensive health check");
+    Map<String, Object> current = snapshot;
+    long ageMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - snapshotTakenAtNanos);
+    if (ageMs <= refreshIntervalMs * staleAfterIntervals) {
+      return current;
+    }
 
+    Map<String, Object> stale = new HashMap<>(current);
+    stale.put(HealthCheckConstants.FIELD_STATUS, HealthCheckConstants.STATUS_DOWN);
+    stale.put(HealthCheckConstants.FIELD_ERROR, "Health snapshot is stale");
+    stale.put(HealthCheckConstants.FIELD_SNAPSHOT_AGE, ageMs);
+    return Map.copyOf(stale);
+  }
+
+  void refreshSnapshot() {
     Map<String, Object> healthData = new HashMap<>();
     Map<String, Object> components = new HashMap<>();
 
     try {
       // Check database health
-      Map<String, Object> databaseHealth = databaseHealthChecker.checkDatabaseHealthWithTimeout();
+      Map<String, Object> databaseHealth = databaseHealthChecker.checkDatabaseHealth();
       components.put(HealthCheckConstants.COMPONENT_DATABASE, databaseHealth);
 
       // Check system resources
       Map<String, Object> systemHealth = systemHealthChecker.checkSystemResources();
       components.put(HealthCheckConstants.COMPONENT_SYSTEM, systemHealth);
 
+      // Collect passive dependency health
+      List<Object> statuses = new ArrayList<>();
+      statuses.add(databaseHealth.get(HealthCheckConstants.FIELD_STATUS));
+      statuses.add(systemHealth.get(HealthCheckConstants.FIELD_STATUS));
+      for (DependencyHealthPort dependency : dependencyHealthPorts) {
+        Map<String, Object> dependencyHealth = dependency.getHealth();
+        components.put(dependency.getComponentName(), dependencyHealth);
+        statuses.add(dependencyHealth.get(HealthCheckConstants.FIELD_STATUS));
+      }
+
       // Determine overall status
-      String overallStatus = determineOverallStatus(databaseHealth, systemHealth);
+      String overallStatus = determineOverallStatus(statuses);
 
       // Build response
       healthData.put(HealthCheckConstants.FIELD_STATUS, overallStatus);
       healthData.put(HealthCheckConstants.FIELD_TIMESTAMP, LocalDateTime.now());
-      healthData.put(HealthCheckConstants.FIELD_COMPONENTS, components);
+      healthData.put(HealthCheckConstants.FIELD_COMPONENTS, Map.copyOf(components));
       healthData.put(HealthCheckConstants.FIELD_VERSION, "1.0.0");
+      healthData.put(HealthCheckConstants.FIELD_REFRESH_INTERVAL, refreshIntervalMs);
 
-      log.info("[HEALTH SERVICE] Health check completed | overall: {} | database: {} | system: {}",
-          overallStatus, databaseHealth.get(HealthCheckConstants.FIELD_STATUS),
-          systemHealth.get(HealthCheckConstants.FIELD_STATUS));
+      if (!overallStatus.equals(snapshot.get(HealthCheckConstants.FIELD_STATUS))) {
+        log.info("[HEALTH SERVICE] Health status changed | overall: {} | database: {} | system: {}",
+            overallStatus, databaseHealth.get(HealthCheckConstants.FIELD_STATUS),
+            systemHealth.get(HealthCheckConstants.FIELD_STATUS));
+      }
 
     } catch (Exception e) {
       log.error("[HEALTH SERVICE] Health check failed with exception: {}", e.getMessage(), e);
@@ -58,33 +135,27 @@ public class HealthService implements HealthServicePort {
       healthData.put(HealthCheckConstants.FIELD_STATUS, HealthCheckConstants.STATUS_DOWN);
       healthData.put(HealthCheckConstants.FIELD_TIMESTAMP, LocalDateTime.now());
       healthData.put(HealthCheckConstants.FIELD_ERROR, "Health check execution failed");
-      healthData.put(HealthCheckConstants.FIELD_COMPONENTS, components);
+      healthData.put(HealthCheckConstants.FIELD_COMPONENTS, Map.copyOf(components));
     }
 
-    return healthData;
+    snapshot = Map.copyOf(healthData);
+    snapshotTakenAtNanos = System.nanoTime();
   }
 
-  private String determineOverallStatus(Map<String, Object> databaseHealth,
-      Map<String, Object> systemHealth) {
-    boolean isDatabaseHealthy = HealthCheckConstants.STATUS_UP.equals(
-        databaseHealth.get(HealthCheckConstants.FIELD_STATUS));
-    boolean isSystemHealthy = HealthCheckConstants.STATUS_UP.equals(
-        systemHealth.get(HealthCheckConstants.FIELD_STATUS));
-
-    if (isDatabaseHealthy && isSystemHealthy) {
-      return HealthCheckConstants.STATUS_UP;
-    }
-
-    // If any component is degraded but not down, overall is degraded
-    boolean isDatabaseDegraded = HealthCheckConstants.STATUS_DEGRADED.equals(
-        databaseHealth.get(HealthCheckConstants.FIELD_STATUS));
-    boolean isSystemDegraded = HealthCheckConstants.STATUS_DEGRADED.equals(
-        systemHealth.get(HealthCheckConstants.FIELD_STATUS));
-
-    if ((isDatabaseHealthy || isDatabaseDegraded) && (isSystemHealthy || isSystemDegraded)) {
-      return HealthCheckConstants.STATUS_DEGRADED;
+  private String determineOverallStatus(List<Object> componentStatuses) {
+    boolean allHealthy = true;
+
+    for (Object status : componentStatuses) {
+      if (HealthCheckConstants.STATUS_UP.equals(status)) {
+        continue;
+      }
+      // If any component is degraded but not down, overall is degraded
+      if (!HealthCheckConstants.STATUS_DEGRADED.equals(status)) {
+        return HealthCheckConstants.STATUS_DOWN;
+      }
+      allHealthy = false;
     }
 
-    return HealthCheckConstants.STATUS_DOWN;
+    return allHealthy ? HealthCheckConstants.STATUS_UP : HealthCheckConstants.STATUS_DEGRADED;
   }
 }
@@ -1,60 +1,61 @@
 package com.multipagos.multipagos_backend.shared.application.service.health;
 
-import com.multipagos.multipagos_backend.auth.domain.port.out.UserRepositoryPort;
 import com.multipagos.multipagos_backend.shared.domain.value.HealthCheckConstants;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Database health checker
+ * Borrows one pooled connection and validates it with {@link Connection#isValid(int)}
+ * (a driver-level ping), and reports Hikari pool saturation
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class DatabaseHealthChecker {
 
-  private final UserRepositoryPort userRepository;
+  private final DataSource dataSource;
 
-  public Map<String, Object> checkDatabaseHealthWithTimeout() {
-    try {
-      CompletableFuture<Map<String, Object>> dbCheckFuture = CompletableFuture.supplyAsync(
-          this::performDatabaseCheck);
-
-      return dbCheckFuture.get(HealthCheckConstants.HEALTH_CHECK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-
-    } catch (Exception e) {
-      log.error("[DATABASE HEALTH] Check timed out or failed: {}", e.getMessage());
+  public Map<String, Object> checkDatabaseHealth() {
+    long start = System.nanoTime();
 
-      return Map.of(
-          HealthCheckConstants.FIELD_STATUS, HealthCheckConstants.STATUS_DOWN,
-          HealthCheckConstants.FIELD_ERROR, "Database check timeout or failure",
-          HealthCheckConstants.FIELD_DETAILS, Map.of(
-              "timeout", HealthCheckConstants.HEALTH_CHECK_TIMEOUT_MS + "ms",
-              "errorType", e.getClass().getSimpleName()));
-    }
-  }
-
-  private Map<String, Object> performDatabaseCheck() {
-    try {
-      log.debug("[DATABASE HEALTH] Performing connectivity check");
+    try (Connection connection = dataSource.getConnection()) {
+      boolean valid = connection.isValid(HealthCheckConstants.CONNECTION_VALIDATION_TIMEOUT_SECONDS);
+      long responseTimeMs = (System.nanoTime() - start) / 1_000_000;
+      Map<String, Object> pool = poolStatistics();
 
-      Long userCount = userRepository.countActiveUsers();
+      if (!valid) {
+        log.error("[DATABASE HEALTH] Connection validation failed after {}ms", responseTimeMs);
+        return Map.of(
+            HealthCheckConstants.FIELD_STATUS, HealthCheckConstants.STATUS_DOWN,
+            HealthCheckConstants.FIELD_ERROR, "Database connection validation failed",
+            HealthCheckConstants.FIELD_DETAILS, Map.of(
+                "connection", "INVALID",
+                "responseTimeMs", responseTimeMs,
+                "pool", pool));
+      }
 
-      log.debug("[DATABASE HEALTH] Check successful | activeUsers: {}", userCount);
+      String status = isPoolSaturated(pool) ? HealthCheckConstants.STATUS_DEGRADED : HealthCheckConstants.STATUS_UP;
+      log.debug("[DATABASE HEALTH] Check successful | status: {} | responseTime: {}ms", status, responseTimeMs);
 
       return Map.of(
-          HealthCheckConstants.FIELD_STATUS, HealthCheckConstants.STATUS_UP,
+          HealthCheckConstants.FIELD_STATUS, status,
           HealthCheckConstants.FIELD_DETAILS, Map.of(
               "connection", "OK",
-              "responseTime", "< " + HealthCheckConstants.HEALTH_CHECK_TIMEOUT_MS + "ms",
-              "activeUsers", userCount));
+              "responseTimeMs", responseTimeMs,
+              "pool", pool));
 
-    } catch (Exception e) {
+    } catch (SQLException | RuntimeException e) {
       log.error("[DATABASE HEALTH] Check failed: {}", e.getMessage());
 
       return Map.of(
@@ -62,8 +63,39 @@ public class DatabaseHealthChecker {
           HealthCheckConstants.FIELD_ERROR, "Database connectivity failed",
           HealthCheckConstants.FIELD_DETAILS, Map.of(
               "connection", "FAILED",
-              "errorMessage", e.getMessage(),
               "errorType", e.getClass().getSimpleName()));
     }
   }
+
+  private Map<String, Object> poolStatistics() {
+    Map<String, Object> pool = new LinkedHashMap<>();
+
+    try {
+      if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+        return pool;
+      }
+
+      HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+      HikariPoolMXBean poolBean = hikari.getHikariPoolMXBean();
+      if (poolBean == null) {
+        return pool;
+      }
+
+      pool.put("name", hikari.getPoolName());
+      pool.put("active", poolBean.getActiveConnections());
+      pool.put("idle", poolBean.getIdleConnections());
+      pool.put("total", poolBean.getTotalConnections());
+      pool.put("max", hikari.getMaximumPoolSize());
+      pool.put("threadsAwaitingConnection", poolBean.getThreadsAwaitingConnection());
+    } catch (SQLException e) {
+      log.debug("[DATABASE HEALTH] Pool statistics unavailable: {}", e.getMessage());
+    }
+
+    return Collections.unmodifiableMap(pool);
+  }
+
+  private boolean isPoolSaturated(Map<String, Object> pool) {
+    Object waiting = pool.get("threadsAwaitingConnection");
+    return waiting instanceof Integer count && count > 0;
+  }
 }
@@ -5,12 +5,18 @@ import com.multipagos.multipagos_backend.shared.domain.value.HealthCheckConstant
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * System resources health checker
  * Follows Single Responsibility Principle - only checks system resources
+ * Reports heap usage, garbage collection totals and thread counts
  */
 @Component
 @Slf4j
@@ -26,15 +32,20 @@ public class SystemHealthChecker {
             long usedMemory = totalMemory - freeMemory;
             long maxMemory = runtime.maxMemory();
             
+            ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            long[] deadlockedThreads = threadBean.findDeadlockedThreads();
+            int deadlockedCount = deadlockedThreads != null ? deadlockedThreads.length : 0;
+            
             double memoryUsagePercentage = ByteFormatter.calculateMemoryUsagePercentage(usedMemory, maxMemory);
-            String systemStatus = determineSystemStatus(memoryUsagePercentage);
+            String systemStatus = determineSystemStatus(memoryUsagePercentage, deadlockedCount);
             
             systemHealth.put(HealthCheckConstants.FIELD_STATUS, systemStatus);
             systemHealth.put(HealthCheckConstants.FIELD_DETAILS, buildSystemDetails(
-                runtime, totalMemory, freeMemory, usedMemory, maxMemory, memoryUsagePercentage));
+                runtime, totalMemory, freeMemory, usedMemory, maxMemory, memoryUsagePercentage,
+                threadBean, deadlockedCount));
             
-            log.debug("[SYSTEM HEALTH] Check completed | status: {} | memory usage: {:.1f}%", 
-                     systemStatus, memoryUsagePercentage);
+            log.debug("[SYSTEM HEALTH] Check completed | status: {} | memory usage: {}%", 
+                     systemStatus, String.format("%.1f", memoryUsagePercentage));
             
         } catch (Exception e) {
             log.error("[SYSTEM HEALTH] Check failed: {}", e.getMessage());
@@ -42,16 +53,16 @@ public class SystemHealthChecker {
             systemHealth.put(HealthCheckConstants.FIELD_STATUS, HealthCheckConstants.STATUS_DOWN);
             systemHealth.put(HealthCheckConstants.FIELD_ERROR, "System resources check failed");
             systemHealth.put(HealthCheckConstants.FIELD_DETAILS, 
-                Map.of("errorMessage", e.getMessage()));
+                Map.of("errorType", e.getClass().getSimpleName()));
         }
         
-        return systemHealth;
+        return Map.copyOf(systemHealth);
     }
     
-    private String determineSystemStatus(double memoryUsagePercentage) {
+    private String determineSystemStatus(double memoryUsagePercentage, int deadlockedCount) {
         if (memoryUsagePercentage > HealthCheckConstants.MEMORY_USAGE_CRITICAL_THRESHOLD) {
             return HealthCheckConstants.STATUS_DOWN;
-        } else if (memoryUsagePercentage > HealthCheckConstants.MEMORY_USAGE_HIGH_THRESHOLD) {
+        } else if (memoryUsagePercentage > HealthCheckConstants.MEMORY_USAGE_HIGH_THRESHOLD || deadlockedCount > 0) {
             return HealthCheckConstants.STATUS_DEGRADED;
         }
         return HealthCheckConstants.STATUS_UP;
@@ -59,7 +70,8 @@ public class SystemHealthChecker {
     
     private Map<String, Object> buildSystemDetails(Runtime runtime, long totalMemory, 
                                                   long freeMemory, long usedMemory, 
-                                                  long maxMemory, double memoryUsagePercentage) {
+                                                  long maxMemory, double memoryUsagePercentage,
+                                                  ThreadMXBean threadBean, int deadlockedCount) {
         return Map.of(
             "memory", Map.of(
                 "total", ByteFormatter.formatBytes(totalMemory),
@@ -68,8 +80,26 @@ public class SystemHealthChecker {
                 "max", ByteFormatter.formatBytes(maxMemory),
                 "usagePercentage", String.format("%.1f%%", memoryUsagePercentage)
             ),
+            "gc", buildGcDetails(),
+            "threads", Map.of(
+                "live", threadBean.getThreadCount(),
+                "daemon", threadBean.getDaemonThreadCount(),
+                "peak", threadBean.getPeakThreadCount(),
+                "deadlocked", deadlockedCount
+            ),
             "processors", runtime.availableProcessors(),
-            "uptime", System.currentTimeMillis()
+            "uptimeMs", ManagementFactory.getRuntimeMXBean().getUptime()
         );
     }
+    
+    private Map<String, Object> buildGcDetails() {
+        Map<String, Object> collectors = new LinkedHashMap<>();
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collectors.put(gcBean.getName(), Map.of(
+                "collections", gcBean.getCollectionCount(),
+                "timeMs", gcBean.getCollectionTime()
+            ));
+        }
+        return Collections.unmodifiableMap(collectors);
+    }
 }
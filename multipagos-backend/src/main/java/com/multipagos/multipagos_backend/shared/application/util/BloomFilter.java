@@ -0,0 +1,96 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over strings, safe for concurrent put and mightContain
+ * A negative answer is exact; a positive one is wrong with roughly the configured
+ * false positive rate while no more than expectedInsertions keys are added
+ * Bits cannot be cleared, so callers rebuild a new filter to drop keys
+ */
+public final class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+
+  private BloomFilter(long bitCount, int hashCount) {
+    this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+    this.bitCount = bitCount;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * @throws IllegalArgumentException if expectedInsertions is not positive or the
+   *                                  rate is not within (0, 1)
+   */
+  public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    if (expectedInsertions <= 0) {
+      throw new IllegalArgumentException("expectedInsertions must be positive");
+    }
+    if (falsePositiveRate <= 0.0 || falsePositiveRate >= 1.0) {
+      throw new IllegalArgumentException("falsePositiveRate must be within (0, 1)");
+    }
+    double ln2 = Math.log(2);
+    long bits = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+    bits = Math.min(bits, (long) Integer.MAX_VALUE * 64);
+    int hashes = Math.max(1, (int) Math.round((double) bits / expectedInsertions * ln2));
+    return new BloomFilter(bits, hashes);
+  }
+
+  public void put(String key) {
+    long hash = StringHashing.hash64(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      setBit(index(h1 + i * h2));
+    }
+  }
+
+  public boolean mightContain(String key) {
+    long hash = StringHashing.hash64(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      if (!getBit(index(h1 + i * h2))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public long bitSize() {
+    return bitCount;
+  }
+
+  public int hashFunctions() {
+    return hashCount;
+  }
+
+  /**
+   * Heap held by the bit array
+   */
+  public long byteSize() {
+    return (long) words.length() * Long.BYTES;
+  }
+
+  private long index(int combined) {
+    return (combined & Integer.MAX_VALUE) % bitCount;
+  }
+
+  private void setBit(long bit) {
+    int word = (int) (bit >>> 6);
+    long mask = 1L << bit;
+    long current;
+    do {
+      current = words.get(word);
+      if ((current & mask) != 0) {
+        return;
+      }
+    } while (!words.compareAndSet(word, current, current | mask));
+  }
+
+  private boolean getBit(long bit) {
+    return (words.get((int) (bit >>> 6)) & (1L << bit)) != 0;
+  }
+}
@@ -0,0 +1,89 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size count-min sketch over strings, safe for concurrent add and estimate
+ * Estimates never undercount; they overcount by at most about e/width of the total
+ * added, with probability 1 - e^-depth, and usually far less thanks to conservative update
+ */
+public final class CountMinSketch {
+
+  private static final int LOCK_STRIPES = 64;
+
+  private final AtomicLongArray counters;
+  private final Object[] locks = new Object[LOCK_STRIPES];
+  private final int width;
+  private final int depth;
+  private final int mask;
+
+  private CountMinSketch(int width, int depth) {
+    this.counters = new AtomicLongArray(width * depth);
+    this.width = width;
+    this.depth = depth;
+    this.mask = width - 1;
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      locks[i] = new Object();
+    }
+  }
+
+  /**
+   * @param width counters per row, rounded up to a power of two
+   * @param depth rows, each with its own hash
+   * @throws IllegalArgumentException if width or depth is not positive or the table is too large
+   */
+  public static CountMinSketch create(int width, int depth) {
+    if (width <= 0 || depth <= 0) {
+      throw new IllegalArgumentException("width and depth must be positive");
+    }
+    int rounded = Integer.highestOneBit(width) == width ? width : Integer.highestOneBit(width) << 1;
+    if (rounded <= 0 || (long) rounded * depth > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Sketch too large: " + width + "x" + depth);
+    }
+    return new CountMinSketch(rounded, depth);
+  }
+
+  /**
+   * Conservative update: only counters below the new estimate are raised, which
+   * keeps collisions from inflating other keys as much as a plain add would.
+   * Adds for the same key are serialized so concurrent ones are not lost; raises
+   * are atomic maxima, so adds for different keys never undo each other
+   */
+  public void add(String key, long count) {
+    long hash = StringHashing.hash64(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    synchronized (locks[h1 & (LOCK_STRIPES - 1)]) {
+      long min = Long.MAX_VALUE;
+      for (int row = 0; row < depth; row++) {
+        min = Math.min(min, counters.get(slot(row, h1, h2)));
+      }
+      long target = min + count;
+      for (int row = 0; row < depth; row++) {
+        counters.accumulateAndGet(slot(row, h1, h2), target, Math::max);
+      }
+    }
+  }
+
+  public long estimate(String key) {
+    long hash = StringHashing.hash64(key);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    long min = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      min = Math.min(min, counters.get(slot(row, h1, h2)));
+    }
+    return min;
+  }
+
+  /**
+   * Heap held by the counter table
+   */
+  public long byteSize() {
+    return (long) counters.length() * Long.BYTES;
+  }
+
+  private int slot(int row, int h1, int h2) {
+    return row * width + ((h1 + (row + 1) * h2) & mask);
+  }
+}
@@ -0,0 +1,74 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Helpers for strong ETags and conditional GET handling
+ * Tags are derived from version strings, never from the response body,
+ * so a matching {@code If-None-Match} can be answered before any work is done
+ */
+public final class EntityTags {
+
+  private static final int TAG_BYTES = 16;
+
+  private EntityTags() {
+  }
+
+  /**
+   * Builds a quoted strong ETag from the given version components
+   */
+  public static String strong(Object... parts) {
+    StringBuilder source = new StringBuilder();
+    for (Object part : parts) {
+      source.append(part).append('\u001F');
+    }
+
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(source.toString().getBytes(StandardCharsets.UTF_8));
+      return '"' + HexFormat.of().formatHex(digest, 0, TAG_BYTES) + '"';
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /**
+   * RFC 9110 If-None-Match evaluation (weak comparison, list and wildcard aware)
+   */
+  public static boolean matches(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+      return false;
+    }
+    if (ifNoneMatch.trim().equals("*")) {
+      return true;
+    }
+
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.startsWith("W/")) {
+        tag = tag.substring(2);
+      }
+      if (tag.equals(etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public static <T> ResponseEntity<T> notModified(String etag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+  }
+
+  public static <T> ResponseEntity<T> withETag(ResponseEntity<T> response, String etag) {
+    return ResponseEntity.status(response.getStatusCode())
+        .headers(response.getHeaders())
+        .eTag(etag)
+        .body(response.getBody());
+  }
+}
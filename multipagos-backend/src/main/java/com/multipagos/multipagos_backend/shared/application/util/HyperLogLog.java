@@ -0,0 +1,74 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Distinct count estimator over strings with 2^precision registers, safe for
+ * concurrent add and estimate. Standard error is about 1.04 / sqrt(2^precision);
+ * small cardinalities fall back to linear counting
+ */
+public final class HyperLogLog {
+
+  private final AtomicIntegerArray registers;
+  private final int precision;
+
+  private HyperLogLog(int precision) {
+    this.registers = new AtomicIntegerArray(1 << precision);
+    this.precision = precision;
+  }
+
+  /**
+   * @throws IllegalArgumentException if precision is outside [4, 18]
+   */
+  public static HyperLogLog create(int precision) {
+    if (precision < 4 || precision > 18) {
+      throw new IllegalArgumentException("precision must be within [4, 18]");
+    }
+    return new HyperLogLog(precision);
+  }
+
+  public void add(String key) {
+    long hash = StringHashing.hash64(key);
+    int index = (int) (hash >>> (64 - precision));
+    // Sentinel bit caps the rank when the remaining bits are all zero
+    int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+    int current;
+    do {
+      current = registers.get(index);
+      if (current >= rank) {
+        return;
+      }
+    } while (!registers.compareAndSet(index, current, rank));
+  }
+
+  public long estimate() {
+    int m = registers.length();
+    double sum = 0.0;
+    int zeros = 0;
+    for (int i = 0; i < m; i++) {
+      int register = registers.get(i);
+      sum += Math.scalb(1.0, -register);
+      if (register == 0) {
+        zeros++;
+      }
+    }
+    double alpha = switch (m) {
+      case 16 -> 0.673;
+      case 32 -> 0.697;
+      case 64 -> 0.709;
+      default -> 0.7213 / (1.0 + 1.079 / m);
+    };
+    double raw = alpha * m * m / sum;
+    if (raw <= 2.5 * m && zeros > 0) {
+      return Math.round(m * Math.log((double) m / zeros));
+    }
+    return Math.round(raw);
+  }
+
+  /**
+   * Heap held by the registers
+   */
+  public long byteSize() {
+    return (long) registers.length() * Integer.BYTES;
+  }
+}
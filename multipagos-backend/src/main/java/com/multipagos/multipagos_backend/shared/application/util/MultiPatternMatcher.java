@@ -0,0 +1,179 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Precompiled Aho-Corasick automaton for ASCII keyword detection
+ * Scans an input once, case-insensitively and without allocating
+ * Immutable and thread-safe once built; supports up to 64 patterns
+ */
+public final class MultiPatternMatcher {
+
+  private static final int ALPHABET = 128;
+  private static final int ROOT = 0;
+
+  private final String[] patterns;
+  private final int[] transitions;
+  private final long[] outputs;
+
+  private MultiPatternMatcher(String[] patterns, int[] transitions, long[] outputs) {
+    this.patterns = patterns;
+    this.transitions = transitions;
+    this.outputs = outputs;
+  }
+
+  public static MultiPatternMatcher caseInsensitive(String... patterns) {
+    if (patterns.length == 0 || patterns.length > Long.SIZE) {
+      throw new IllegalArgumentException("Pattern count must be between 1 and 64");
+    }
+
+    int maxStates = 1;
+    for (String pattern : patterns) {
+      if (pattern == null || pattern.isEmpty()) {
+        throw new IllegalArgumentException("Patterns must not be empty");
+      }
+      maxStates += pattern.length();
+    }
+
+    int[] goTo = new int[maxStates * ALPHABET];
+    Arrays.fill(goTo, -1);
+    long[] outputs = new long[maxStates];
+    int stateCount = 1;
+
+    for (int index = 0; index < patterns.length; index++) {
+      String pattern = patterns[index].toLowerCase(Locale.ROOT);
+      int state = ROOT;
+      for (int i = 0; i < pattern.length(); i++) {
+        char c = pattern.charAt(i);
+        if (c >= ALPHABET) {
+          throw new IllegalArgumentException("Only ASCII patterns are supported: " + patterns[index]);
+        }
+        int slot = state * ALPHABET + c;
+        if (goTo[slot] < 0) {
+          goTo[slot] = stateCount++;
+        }
+        state = goTo[slot];
+      }
+      outputs[state] |= 1L << index;
+    }
+
+    int[] failure = new int[stateCount];
+    ArrayDeque<Integer> queue = new ArrayDeque<>();
+    for (int c = 0; c < ALPHABET; c++) {
+      int next = goTo[c];
+      if (next < 0) {
+        goTo[c] = ROOT;
+      } else {
+        failure[next] = ROOT;
+        queue.add(next);
+      }
+    }
+
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      outputs[state] |= outputs[failure[state]];
+      for (int c = 0; c < ALPHABET; c++) {
+        int slot = state * ALPHABET + c;
+        int next = goTo[slot];
+        if (next < 0) {
+          goTo[slot] = goTo[failure[state] * ALPHABET + c];
+        } else {
+          failure[next] = goTo[failure[state] * ALPHABET + c];
+          queue.add(next);
+        }
+      }
+    }
+
+    return new MultiPatternMatcher(
+        patterns.clone(),
+        Arrays.copyOf(goTo, stateCount * ALPHABET),
+        Arrays.copyOf(outputs, stateCount));
+  }
+
+  /**
+   * Returns a bitmask where bit {@code i} is set when pattern {@code i} occurs in the input
+   */
+  public long scan(CharSequence input) {
+    return scan(input, -1L);
+  }
+
+  /**
+   * Same as {@link #scan(CharSequence)} but stops as soon as every bit in {@code stopMask} was found
+   */
+  public long scan(CharSequence input, long stopMask) {
+    if (input == null) {
+      return 0L;
+    }
+
+    long found = 0L;
+    int state = ROOT;
+    for (int i = 0, length = input.length(); i < length; i++) {
+      char c = input.charAt(i);
+      if (c >= ALPHABET) {
+        state = ROOT;
+        continue;
+      }
+      if (c >= 'A' && c <= 'Z') {
+        c = (char) (c + ('a' - 'A'));
+      }
+      state = transitions[state * ALPHABET + c];
+      found |= outputs[state];
+      if ((found & stopMask) == stopMask) {
+        break;
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Stops at the first occurrence of any pattern
+   */
+  public boolean containsAny(CharSequence input) {
+    if (input == null) {
+      return false;
+    }
+
+    int state = ROOT;
+    for (int i = 0, length = input.length(); i < length; i++) {
+      char c = input.charAt(i);
+      if (c >= ALPHABET) {
+        state = ROOT;
+        continue;
+      }
+      if (c >= 'A' && c <= 'Z') {
+        c = (char) (c + ('a' - 'A'));
+      }
+      state = transitions[state * ALPHABET + c];
+      if (outputs[state] != 0L) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Lowest-index pattern present in the input, or -1 when none matches
+   */
+  public int firstMatch(CharSequence input) {
+    long found = scan(input);
+    return found == 0L ? -1 : Long.numberOfTrailingZeros(found);
+  }
+
+  public String pattern(int index) {
+    return patterns[index];
+  }
+
+  public long maskOf(String... selected) {
+    long mask = 0L;
+    for (String candidate : selected) {
+      int index = Arrays.asList(patterns).indexOf(candidate);
+      if (index < 0) {
+        throw new IllegalArgumentException("Unknown pattern: " + candidate);
+      }
+      mask |= 1L << index;
+    }
+    return mask;
+  }
+}
@@ -0,0 +1,80 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Fixed-size log of recent values numbered by a sequence that starts at 1
+ * Appending overwrites the oldest slot; entries older than the max age passed to
+ * a read are treated as already dropped. Lets a reconnecting reader ask for what
+ * it missed, or learn that it fell too far behind and must reload.
+ * Not thread-safe; callers lock the instance
+ */
+public final class ReplayLog<T> {
+
+  private final Object[] values;
+  private final long[] appendedAt;
+  private final int capacity;
+  private long nextSeq = 1L;
+
+  public record Entry<T>(long seq, T value) {
+  }
+
+  /**
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  public ReplayLog(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.capacity = capacity;
+    this.values = new Object[capacity];
+    this.appendedAt = new long[capacity];
+  }
+
+  /**
+   * @return the sequence assigned to value
+   */
+  public long append(T value, long nowMillis) {
+    int slot = slot(nextSeq);
+    values[slot] = value;
+    appendedAt[slot] = nowMillis;
+    return nextSeq++;
+  }
+
+  public long lastSeq() {
+    return nextSeq - 1;
+  }
+
+  /**
+   * Entries after afterSeq accepted by filter, oldest first
+   * @return null if some entry after afterSeq was already dropped, or afterSeq was never issued
+   */
+  public List<Entry<T>> since(long afterSeq, Predicate<? super T> filter, long nowMillis, long maxAgeMillis) {
+    if (afterSeq < 0 || afterSeq > lastSeq()) {
+      return null;
+    }
+    long oldest = Math.max(1L, nextSeq - capacity);
+    while (oldest < nextSeq && nowMillis - appendedAt[slot(oldest)] > maxAgeMillis) {
+      oldest++;
+    }
+    if (afterSeq + 1 < oldest) {
+      return null;
+    }
+
+    List<Entry<T>> entries = new ArrayList<>();
+    for (long seq = afterSeq + 1; seq < nextSeq; seq++) {
+      @SuppressWarnings("unchecked")
+      T value = (T) values[slot(seq)];
+      if (filter.test(value)) {
+        entries.add(new Entry<>(seq, value));
+      }
+    }
+    return entries;
+  }
+
+  private int slot(long seq) {
+    return (int) ((seq - 1) % capacity);
+  }
+}
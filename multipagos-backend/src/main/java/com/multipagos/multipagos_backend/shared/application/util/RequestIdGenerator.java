@@ -0,0 +1,44 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap, monotonic request id generator for log correlation
+ * Ids are a random per-process node prefix followed by a sequence seeded
+ * from the startup clock, so they sort by creation order within a node
+ * and do not collide across restarts or replicas in practice
+ */
+public final class RequestIdGenerator {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+  private static final int NODE_CHARS = 4;
+  private static final int SEQUENCE_CHARS = 12;
+
+  private static final char[] NODE_PREFIX = buildNodePrefix();
+  private static final AtomicLong SEQUENCE = new AtomicLong(System.currentTimeMillis() << 4);
+
+  private RequestIdGenerator() {
+  }
+
+  public static String next() {
+    long sequence = SEQUENCE.incrementAndGet();
+    char[] id = new char[NODE_CHARS + SEQUENCE_CHARS];
+    System.arraycopy(NODE_PREFIX, 0, id, 0, NODE_CHARS);
+    for (int i = id.length - 1; i >= NODE_CHARS; i--) {
+      id[i] = HEX[(int) (sequence & 0xF)];
+      sequence >>>= 4;
+    }
+    return new String(id);
+  }
+
+  private static char[] buildNodePrefix() {
+    int node = new SecureRandom().nextInt();
+    char[] prefix = new char[NODE_CHARS];
+    for (int i = NODE_CHARS - 1; i >= 0; i--) {
+      prefix[i] = HEX[node & 0xF];
+      node >>>= 4;
+    }
+    return prefix;
+  }
+}
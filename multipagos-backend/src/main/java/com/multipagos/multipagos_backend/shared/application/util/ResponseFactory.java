@@ -5,6 +5,7 @@ import com.multipagos.multipagos_backend.shared.domain.response.ApiResponse;
 import com.multipagos.multipagos_backend.shared.domain.value.PagedResult;
 import com.multipagos.multipagos_backend.shared.infrastructure.response.PagedResponse;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -127,4 +128,25 @@ public class ResponseFactory {
   public static ResponseEntity<ApiErrorResponse> forbidden(String message, String path) {
     return error(HttpStatus.FORBIDDEN, "Prohibido", message, path);
   }
+
+  public static ResponseEntity<ApiErrorResponse> conflict(String message, String path) {
+    return error(HttpStatus.CONFLICT, "Conflicto", message, path);
+  }
+
+  public static ResponseEntity<ApiErrorResponse> unprocessableEntity(String message, String path) {
+    return error(HttpStatus.UNPROCESSABLE_ENTITY, "Solicitud No Procesable", message, path);
+  }
+
+  public static ResponseEntity<ApiErrorResponse> serviceUnavailable(String message, String path, long retryAfterSeconds) {
+    ApiErrorResponse response = ApiErrorResponse.builder()
+        .error("Servicio No Disponible")
+        .message(message)
+        .path(path)
+        .apiVersion(API_VERSION)
+        .build();
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+        .body(response);
+  }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 64-bit string hash shared by the in-memory sketches
+ * FNV-1a over the UTF-8 bytes followed by a murmur3 finalizer, so both
+ * 32-bit halves are usable as independent hashes
+ */
+public final class StringHashing {
+
+  private StringHashing() {
+  }
+
+  public static long hash64(String key) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb53a185ec2b9L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,128 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Balance split across independent stripes so concurrent debits and credits do not
+ * contend on a single counter. A debit first tries the caller's home stripe, then
+ * the others; only when no single stripe covers it are all stripes drained into one
+ * pool under a lock and spread back evenly. Stripes sit on separate cache lines.
+ * The total is exact at rest; a sum taken during updates may be momentarily off by
+ * amounts in flight, never by lost value
+ */
+public final class StripedBalance {
+
+  /** Longs per cache line, so neighbouring stripes do not false-share */
+  private static final int PADDING = 8;
+
+  private final AtomicLongArray cells;
+  private final int stripes;
+  private final Object rebalanceLock = new Object();
+
+  /**
+   * @throws IllegalArgumentException if stripes is not positive
+   */
+  public StripedBalance(int stripes) {
+    if (stripes <= 0) {
+      throw new IllegalArgumentException("stripes must be positive");
+    }
+    this.stripes = stripes;
+    this.cells = new AtomicLongArray(stripes * PADDING);
+  }
+
+  /**
+   * Takes amount if the balance covers it
+   * @return false, leaving the balance untouched, when the total is short
+   */
+  public boolean tryDebit(long amount) {
+    if (amount <= 0) {
+      return true;
+    }
+    int home = home();
+    for (int i = 0; i < stripes; i++) {
+      if (tryTake(cell((home + i) % stripes), amount)) {
+        return true;
+      }
+    }
+    return debitFromPool(amount);
+  }
+
+  /**
+   * Takes amount unconditionally; the balance may go negative
+   */
+  public void debit(long amount) {
+    cells.addAndGet(cell(home()), -amount);
+  }
+
+  public void credit(long amount) {
+    cells.addAndGet(cell(home()), amount);
+  }
+
+  public long sum() {
+    long total = 0L;
+    for (int i = 0; i < stripes; i++) {
+      total += cells.get(cell(i));
+    }
+    return total;
+  }
+
+  public int stripes() {
+    return stripes;
+  }
+
+  /**
+   * Drains every stripe and spreads the combined balance evenly again
+   */
+  public void rebalance() {
+    synchronized (rebalanceLock) {
+      spread(drain());
+    }
+  }
+
+  private boolean debitFromPool(long amount) {
+    synchronized (rebalanceLock) {
+      long pool = drain();
+      boolean covered = pool >= amount;
+      spread(covered ? pool - amount : pool);
+      return covered;
+    }
+  }
+
+  private long drain() {
+    long pool = 0L;
+    for (int i = 0; i < stripes; i++) {
+      pool += cells.getAndSet(cell(i), 0L);
+    }
+    return pool;
+  }
+
+  /**
+   * Adds rather than sets, so credits that landed while the stripes were drained are kept
+   */
+  private void spread(long pool) {
+    long share = pool / stripes;
+    long remainder = pool - share * stripes;
+    for (int i = 0; i < stripes; i++) {
+      cells.addAndGet(cell(i), i == 0 ? share + remainder : share);
+    }
+  }
+
+  private boolean tryTake(int cell, long amount) {
+    long current;
+    do {
+      current = cells.get(cell);
+      if (current < amount) {
+        return false;
+      }
+    } while (!cells.compareAndSet(cell, current, current - amount));
+    return true;
+  }
+
+  private int home() {
+    return (int) (Thread.currentThread().threadId() % stripes);
+  }
+
+  private int cell(int stripe) {
+    return stripe * PADDING;
+  }
+}
@@ -0,0 +1,139 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: level 0 has wheelSize slots of one tick each, and every
+ * level above has slots wheelSize times wider. Scheduling and expiring cost O(1) per
+ * task; a task in an upper level is moved down once each time its slot comes into
+ * range of the level below. Levels are added on demand for far deadlines
+ * Tasks fire on the first advance at or after their deadline, at most one tick late.
+ * Not thread-safe; callers lock the instance
+ */
+public final class TimingWheel<T> {
+
+  private final long tickMillis;
+  private final int wheelSize;
+  private final List<ArrayDeque<Entry<T>>[]> levels = new ArrayList<>();
+  private final List<T> expired = new ArrayList<>();
+  private long currentTick;
+  private int size;
+
+  private record Entry<T>(T task, long tick) {
+  }
+
+  /**
+   * @throws IllegalArgumentException if tickMillis is not positive or wheelSize is below 2
+   */
+  public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException("tickMillis must be positive");
+    }
+    if (wheelSize < 2) {
+      throw new IllegalArgumentException("wheelSize must be at least 2");
+    }
+    this.tickMillis = tickMillis;
+    this.wheelSize = wheelSize;
+    this.currentTick = Math.floorDiv(startMillis, tickMillis);
+  }
+
+  /**
+   * A deadline already past is returned by the next advance
+   */
+  public void schedule(T task, long deadlineMillis) {
+    place(new Entry<>(task, Math.floorDiv(deadlineMillis, tickMillis)));
+    size++;
+  }
+
+  /**
+   * Moves the wheel to nowMillis and returns the tasks whose deadline has passed,
+   * earliest slot first
+   */
+  public List<T> advance(long nowMillis) {
+    long target = Math.floorDiv(nowMillis, tickMillis);
+    if (size == expired.size()) {
+      // Nothing in the slots; jump instead of walking every idle tick
+      currentTick = Math.max(currentTick, target);
+    }
+    while (currentTick < target) {
+      drainInto(0, currentTick);
+      currentTick++;
+      cascade();
+    }
+    List<T> due = new ArrayList<>(expired);
+    expired.clear();
+    size -= due.size();
+    return due;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int levels() {
+    return levels.size();
+  }
+
+  /**
+   * Level i holds tasks whose level-i slot is after the current one and less than a
+   * full turn ahead; tasks in the current slot belong to a lower level
+   */
+  private void place(Entry<T> entry) {
+    if (entry.tick() < currentTick) {
+      expired.add(entry.task());
+      return;
+    }
+    long span = 1;
+    for (int level = 0; ; level++) {
+      long slot = entry.tick() / span;
+      if (slot - currentTick / span < wheelSize) {
+        slots(level)[(int) (slot % wheelSize)].add(entry);
+        return;
+      }
+      if (span > Long.MAX_VALUE / wheelSize) {
+        slots(level)[(int) ((currentTick / span + wheelSize - 1) % wheelSize)].add(entry);
+        return;
+      }
+      span *= wheelSize;
+    }
+  }
+
+  /**
+   * After a tick, re-places the upper-level slots that just came into range below
+   */
+  private void cascade() {
+    long span = 1;
+    for (int level = 1; level < levels.size(); level++) {
+      span *= wheelSize;
+      if (currentTick % span != 0) {
+        return;
+      }
+      ArrayDeque<Entry<T>> slot = levels.get(level)[(int) ((currentTick / span) % wheelSize)];
+      List<Entry<T>> moving = new ArrayList<>(slot);
+      slot.clear();
+      moving.forEach(this::place);
+    }
+  }
+
+  private void drainInto(int level, long tick) {
+    ArrayDeque<Entry<T>> slot = slots(level)[(int) (tick % wheelSize)];
+    Entry<T> entry;
+    while ((entry = slot.poll()) != null) {
+      expired.add(entry.task());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private ArrayDeque<Entry<T>>[] slots(int level) {
+    while (levels.size() <= level) {
+      ArrayDeque<Entry<T>>[] slots = new ArrayDeque[wheelSize];
+      for (int i = 0; i < wheelSize; i++) {
+        slots[i] = new ArrayDeque<>();
+      }
+      levels.add(slots);
+    }
+    return levels.get(level);
+  }
+}
@@ -1,6 +1,7 @@
 package com.multipagos.multipagos_backend.shared.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,6 +15,9 @@ public class FilterConfig {
   private final RateLimitingFilter rateLimitingFilter;
   private final SecurityMonitoringFilter securityMonitoringFilter;
 
+  @Value("${app.rate-limit.enabled:true}")
+  private boolean rateLimitEnabled;
+
   @Bean
   public FilterRegistrationBean<SecurityHeadersConfig.SecurityHeadersFilter> securityHeadersFilterRegistration() {
     FilterRegistrationBean<SecurityHeadersConfig.SecurityHeadersFilter> registration = new FilterRegistrationBean<>();
@@ -46,6 +50,7 @@ public class FilterConfig {
     registration.addUrlPatterns("/api/*");
     registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
     registration.setName("RateLimitingFilter");
+    registration.setEnabled(rateLimitEnabled);
 
     return registration;
   }
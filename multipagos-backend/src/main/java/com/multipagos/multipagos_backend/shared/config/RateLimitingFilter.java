@@ -100,6 +100,10 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     if (endpoint.contains("/auth")) {
       return EndpointCategory.AUTH;
     }
+    // Stream reconnects must not use up the top-up budget
+    if (endpoint.contains("/topup/stream")) {
+      return EndpointCategory.READ_ONLY;
+    }
     if (endpoint.contains("/topup")) {
       return EndpointCategory.FINANCIAL;
     }
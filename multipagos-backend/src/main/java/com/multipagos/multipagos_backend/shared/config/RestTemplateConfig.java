@@ -1,14 +1,21 @@
 package com.multipagos.multipagos_backend.shared.config;
 
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Outbound HTTP client for Puntored
+ * Built from the auto-configured builder so spring.http.client.* (factory,
+ * connect and read timeouts) apply; the JDK HttpClient factory blocks without
+ * pinning when requests run on virtual threads
+ */
 @Configuration
 public class RestTemplateConfig {
 
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+    return restTemplateBuilder.build();
   }
 }
@@ -1,5 +1,6 @@
 package com.multipagos.multipagos_backend.shared.config;
 
+import com.multipagos.multipagos_backend.auth.infrastructure.config.PasswordHashingProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -9,7 +10,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class SecurityConfig {
 
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+    return new BCryptPasswordEncoder(properties.getBcryptStrength());
   }
 }
@@ -1,5 +1,6 @@
 package com.multipagos.multipagos_backend.shared.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -14,12 +15,21 @@ import java.io.IOException;
 public class SecurityHeadersConfig {
 
   @Bean
-  public SecurityHeadersFilter securityHeadersFilter() {
-    return new SecurityHeadersFilter();
+  public SecurityHeadersFilter securityHeadersFilter(
+      @Value("${app.http.etag.history-enabled:true}") boolean historyETagEnabled) {
+    return new SecurityHeadersFilter(historyETagEnabled);
   }
 
   public static class SecurityHeadersFilter extends OncePerRequestFilter {
 
+    private static final int SUPPLIERS_MAX_AGE_SECONDS = 60;
+
+    private final boolean historyETagEnabled;
+
+    public SecurityHeadersFilter(boolean historyETagEnabled) {
+      this.historyETagEnabled = historyETagEnabled;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                   HttpServletResponse response, 
@@ -51,16 +61,43 @@ public class SecurityHeadersConfig {
 
       response.setHeader("X-Permitted-Cross-Domain-Policies", "none");
 
-      if (request.getRequestURI().contains("/auth") || 
-          request.getRequestURI().contains("/topup")) {
-        response.setHeader("Cache-Control", "no-store, no-cache, must-revalidate, max-age=0");
-        response.setHeader("Pragma", "no-cache");
-        response.setHeader("Expires", "0");
-      }
+      applyCachePolicy(request.getRequestURI(), response);
 
       response.setHeader("Server", "");
 
       filterChain.doFilter(request, response);
     }
+
+    /**
+     * Per-endpoint caching rules
+     * Transaction history may be stored privately but must be revalidated (ETag),
+     * or is never stored when history ETags are off and there is nothing to revalidate with;
+     * the supplier catalog is public and briefly cacheable (carrier detection only
+     * privately, the URL carries a phone number); any other auth/topup
+     * response is never stored
+     */
+    private void applyCachePolicy(String uri, HttpServletResponse response) {
+      if (uri.contains("/topup/history") && historyETagEnabled) {
+        response.setHeader("Cache-Control", "private, no-cache");
+        response.setHeader("Vary", "Authorization");
+        return;
+      }
+
+      if (uri.contains("/suppliers/detect")) {
+        response.setHeader("Cache-Control", "private, max-age=" + SUPPLIERS_MAX_AGE_SECONDS);
+        return;
+      }
+
+      if (uri.contains("/suppliers")) {
+        response.setHeader("Cache-Control", "public, max-age=" + SUPPLIERS_MAX_AGE_SECONDS);
+        return;
+      }
+
+      if (uri.contains("/auth") || uri.contains("/topup")) {
+        response.setHeader("Cache-Control", "no-store, no-cache, must-revalidate, max-age=0");
+        response.setHeader("Pragma", "no-cache");
+        response.setHeader("Expires", "0");
+      }
+    }
   }
 }
@@ -1,6 +1,10 @@
 package com.multipagos.multipagos_backend.shared.config;
 
+import com.multipagos.multipagos_backend.shared.application.util.MultiPatternMatcher;
+import com.multipagos.multipagos_backend.shared.application.util.RequestIdGenerator;
+import com.multipagos.multipagos_backend.shared.infrastructure.logging.RequestLogSamplingFilter;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -10,32 +14,46 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 @Component
 public class SecurityMonitoringFilter extends OncePerRequestFilter {
 
-  private static final List<String> SENSITIVE_ENDPOINTS = Arrays.asList(
+  /** Matched case-sensitively, like the routes themselves */
+  private static final String[] SENSITIVE_ENDPOINTS = {
       "/auth", "/topup", "/transactions"
-  );
+  };
 
-  private static final List<String> SUSPICIOUS_PATTERNS = Arrays.asList(
+  private static final MultiPatternMatcher SUSPICIOUS_PATTERNS = MultiPatternMatcher.caseInsensitive(
       "admin", "root", "test", "debug", "config", "backup", 
       ".env", "wp-admin", "phpMyAdmin", "console"
   );
 
+  /**
+   * SQL injection and XSS keywords compiled into one automaton so the
+   * query string is scanned a single time for both groups
+   */
+  private static final MultiPatternMatcher QUERY_THREAT_PATTERNS = MultiPatternMatcher.caseInsensitive(
+      "union", "select", "insert", "delete", "update", "drop", "'", "--", ";",
+      "<script", "javascript:", "onload=", "onerror=", "onclick=", "eval("
+  );
+
+  private static final long SQL_INJECTION_MASK = QUERY_THREAT_PATTERNS.maskOf(
+      "union", "select", "insert", "delete", "update", "drop", "'", "--", ";");
+
+  private static final long XSS_MASK = QUERY_THREAT_PATTERNS.maskOf(
+      "<script", "javascript:", "onload=", "onerror=", "onclick=", "eval(");
+
   @Override
   protected void doFilterInternal(HttpServletRequest request, 
                                 HttpServletResponse response, 
                                 FilterChain filterChain) throws ServletException, IOException {
 
-    String requestId = UUID.randomUUID().toString().substring(0, 8);
+    String requestId = RequestIdGenerator.next();
     long startTime = System.currentTimeMillis();
 
     response.setHeader("X-Request-ID", requestId);
+    MDC.put(RequestLogSamplingFilter.REQUEST_ID_MDC_KEY, requestId);
 
     try {
       logIncomingRequest(request, requestId);
@@ -49,6 +67,7 @@ public class SecurityMonitoringFilter extends OncePerRequestFilter {
     } finally {
       long executionTime = System.currentTimeMillis() - startTime;
       logResponse(request, response, requestId, executionTime);
+      MDC.remove(RequestLogSamplingFilter.REQUEST_ID_MDC_KEY);
     }
   }
 
@@ -85,24 +104,24 @@ public class SecurityMonitoringFilter extends OncePerRequestFilter {
   }
 
   private void detectSuspiciousActivity(HttpServletRequest request, String requestId) {
-    String uri = request.getRequestURI().toLowerCase();
+    String uri = request.getRequestURI();
     String queryString = request.getQueryString();
     String clientIP = getClientIP(request);
 
-    for (String pattern : SUSPICIOUS_PATTERNS) {
-      if (uri.contains(pattern)) {
-        log.warn("[SUSPICIOUS ACTIVITY] ID: {} | IP: {} | URI: {} | Pattern: {} | UserAgent: {}", 
-                 requestId, clientIP, uri, pattern, request.getHeader("User-Agent"));
-        break;
-      }
+    int suspiciousPattern = SUSPICIOUS_PATTERNS.firstMatch(uri);
+    if (suspiciousPattern >= 0) {
+      log.warn("[SUSPICIOUS ACTIVITY] ID: {} | IP: {} | URI: {} | Pattern: {} | UserAgent: {}", 
+               requestId, clientIP, uri, SUSPICIOUS_PATTERNS.pattern(suspiciousPattern), request.getHeader("User-Agent"));
     }
 
-    if (queryString != null && containsSqlInjectionPattern(queryString)) {
+    long queryThreats = QUERY_THREAT_PATTERNS.scan(queryString);
+
+    if ((queryThreats & SQL_INJECTION_MASK) != 0) {
       log.error("[SQL INJECTION ATTEMPT] ID: {} | IP: {} | Query: {} | UserAgent: {}", 
                 requestId, clientIP, queryString, request.getHeader("User-Agent"));
     }
 
-    if (queryString != null && containsXSSPattern(queryString)) {
+    if ((queryThreats & XSS_MASK) != 0) {
       log.error("[XSS ATTEMPT] ID: {} | IP: {} | Query: {} | UserAgent: {}", 
                 requestId, clientIP, queryString, request.getHeader("User-Agent"));
     }
@@ -126,23 +145,12 @@ public class SecurityMonitoringFilter extends OncePerRequestFilter {
   }
 
   private boolean isSensitiveEndpoint(String uri) {
-    return SENSITIVE_ENDPOINTS.stream().anyMatch(uri::contains);
-  }
-
-  private boolean containsSqlInjectionPattern(String input) {
-    String lowerInput = input.toLowerCase();
-    return lowerInput.contains("union") || lowerInput.contains("select") || 
-           lowerInput.contains("insert") || lowerInput.contains("delete") || 
-           lowerInput.contains("update") || lowerInput.contains("drop") ||
-           lowerInput.contains("'") || lowerInput.contains("--") ||
-           lowerInput.contains(";");
-  }
-
-  private boolean containsXSSPattern(String input) {
-    String lowerInput = input.toLowerCase();
-    return lowerInput.contains("<script") || lowerInput.contains("javascript:") || 
-           lowerInput.contains("onload=") || lowerInput.contains("onerror=") ||
-           lowerInput.contains("onclick=") || lowerInput.contains("eval(");
+    for (String endpoint : SENSITIVE_ENDPOINTS) {
+      if (uri.contains(endpoint)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   private String getClientIP(HttpServletRequest request) {
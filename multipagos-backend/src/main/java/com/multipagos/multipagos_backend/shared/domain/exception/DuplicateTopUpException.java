@@ -0,0 +1,11 @@
+package com.multipagos.multipagos_backend.shared.domain.exception;
+
+/**
+ * An identical top-up from the same user was sent moments ago and this one was not executed
+ */
+public class DuplicateTopUpException extends BusinessException {
+
+    public DuplicateTopUpException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.multipagos.multipagos_backend.shared.domain.exception;
+
+/**
+ * The provider float cannot cover a top-up; nothing is sent to Puntored until it is credited
+ */
+public class InsufficientFloatException extends ServiceUnavailableException {
+
+    public InsufficientFloatException(String message, long retryAfterSeconds) {
+        super(message, retryAfterSeconds);
+    }
+}
@@ -0,0 +1,24 @@
+package com.multipagos.multipagos_backend.shared.domain.exception;
+
+/**
+ * Signals that a bounded resource is saturated and the request was shed;
+ * mapped to 503 with Retry-After so clients back off instead of piling up
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.multipagos.multipagos_backend.shared.domain.exception;
+
+/**
+ * A top-up would take a user or a phone over its daily or monthly spending cap
+ */
+public class SpendingLimitExceededException extends BusinessException {
+
+    public SpendingLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.multipagos.multipagos_backend.shared.domain.exception;
+
+/**
+ * A top-up was stopped by the risk stage, either blocked outright or held for manual review
+ */
+public class TopUpRiskException extends BusinessException {
+
+    public TopUpRiskException(String message) {
+        super(message);
+    }
+}
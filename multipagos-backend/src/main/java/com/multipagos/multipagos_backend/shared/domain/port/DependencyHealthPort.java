@@ -0,0 +1,14 @@
+package com.multipagos.multipagos_backend.shared.domain.port;
+
+import java.util.Map;
+
+/**
+ * Health of an external dependency, contributed to the health snapshot as its own component
+ * Implementations must be cheap: they are read on every health refresh
+ */
+public interface DependencyHealthPort {
+
+    String getComponentName();
+
+    Map<String, Object> getHealth();
+}
@@ -6,11 +6,12 @@ import java.util.Date;
  * Domain Port for Token Generation and Validation
  * Abstracts JWT or any other token mechanism from domain layer
  * Allows domain to work with authentication tokens without knowing implementation details
+ * Extract methods throw AuthenticationException for malformed, expired or revoked tokens
  */
 public interface TokenGeneratorPort {
 
     /**
-     * Generate authentication token for user
+     * Generate short-lived access token for user, carrying a unique token id
      * @param email User email (subject)
      * @param userId User ID
      * @param name User name
@@ -33,6 +34,13 @@ public interface TokenGeneratorPort {
      */
     String extractEmail(String token);
 
+    /**
+     * Extract token identifier (jti) from token
+     * @param token Token to extract from
+     * @return Unique token identifier
+     */
+    String extractTokenId(String token);
+
     /**
      * Extract user ID from token
      * @param token Token to extract from
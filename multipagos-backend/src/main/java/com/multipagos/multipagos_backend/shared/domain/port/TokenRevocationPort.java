@@ -0,0 +1,26 @@
+package com.multipagos.multipagos_backend.shared.domain.port;
+
+import java.time.Instant;
+
+/**
+ * Domain Port for access token revocation
+ * Lookups are answered from memory so they can run on every authenticated request
+ */
+public interface TokenRevocationPort {
+
+    /**
+     * Check whether an access token has been revoked
+     * @param tokenId Token identifier (jti claim)
+     * @return true if the token must be rejected
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * Revoke an access token until it expires on its own
+     * Takes effect immediately on this node and after the next sync on the others
+     * @param tokenId Token identifier (jti claim)
+     * @param userId Token owner
+     * @param expiresAt Token expiration, after which the entry can be forgotten
+     */
+    void revoke(String tokenId, Long userId, Instant expiresAt);
+}
@@ -6,6 +6,9 @@ public final class HealthCheckConstants {
   }
 
   public static final long HEALTH_CHECK_TIMEOUT_MS = 5000L;
+  public static final int CONNECTION_VALIDATION_TIMEOUT_SECONDS = 2;
+  public static final long DEFAULT_REFRESH_INTERVAL_MS = 10000L;
+  public static final int DEFAULT_STALE_AFTER_INTERVALS = 3;
 
   public static final double MEMORY_USAGE_HIGH_THRESHOLD = 80.0;
   public static final double MEMORY_USAGE_CRITICAL_THRESHOLD = 90.0;
@@ -13,6 +16,7 @@ public final class HealthCheckConstants {
   public static final String STATUS_UP = "UP";
   public static final String STATUS_DOWN = "DOWN";
   public static final String STATUS_DEGRADED = "DEGRADED";
+  public static final String STATUS_UNKNOWN = "UNKNOWN";
 
   public static final String COMPONENT_DATABASE = "database";
   public static final String COMPONENT_SYSTEM = "system";
@@ -23,4 +27,6 @@ public final class HealthCheckConstants {
   public static final String FIELD_VERSION = "version";
   public static final String FIELD_DETAILS = "details";
   public static final String FIELD_ERROR = "error";
+  public static final String FIELD_REFRESH_INTERVAL = "refreshIntervalMs";
+  public static final String FIELD_SNAPSHOT_AGE = "snapshotAgeMs";
 }
@@ -1,9 +1,15 @@
 package com.multipagos.multipagos_backend.shared.infrastructure.adapter;
 
+import com.multipagos.multipagos_backend.shared.domain.exception.AuthenticationException;
 import com.multipagos.multipagos_backend.shared.domain.port.TokenGeneratorPort;
+import com.multipagos.multipagos_backend.shared.domain.port.TokenRevocationPort;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -13,23 +19,44 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
  * Infrastructure Adapter implementing TokenGeneratorPort
  * Bridges between domain port and JWT implementation
  * Encapsulates JWT implementation details from domain layer
+ * The signing key and parser are built once; each check parses the token a single time
+ * Every access token carries a random jti that is checked against the in-memory
+ * revocation set, so logout takes effect without a database query per request
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenAdapter implements TokenGeneratorPort {
 
+    private static final String INVALID_TOKEN_MESSAGE = "Token de autorización inválido o expirado";
+    private static final String REVOKED_TOKEN_MESSAGE = "Token de autorización revocado";
+
+    private final TokenRevocationPort tokenRevocation;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private Long jwtExpirationMs;
 
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void initSigning() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     @Override
     public String generateToken(String email, Long userId, String name) {
         log.info("[JWT ADAPTER] Generating token for user: {} | ID: {}", email, userId);
@@ -48,10 +75,10 @@ public class JwtTokenAdapter implements TokenGeneratorPort {
     @Override
     public boolean validateToken(String token, String email) {
         try {
-            log.info("[JWT ADAPTER] Validating token for user: {}", email);
-            final String tokenEmail = extractEmail(token);
-            boolean isValid = tokenEmail.equals(email) && !isTokenExpired(token);
-            log.info("[JWT ADAPTER] Token validation result for user: {} | valid: {}", email, isValid);
+            log.debug("[JWT ADAPTER] Validating token for user: {}", email);
+            final Claims claims = extractAllClaims(token);
+            boolean isValid = claims.getSubject().equals(email) && !claims.getExpiration().before(new Date());
+            log.debug("[JWT ADAPTER] Token validation result for user: {} | valid: {}", email, isValid);
             return isValid;
         } catch (Exception e) {
             log.error("[JWT ADAPTER] Error validating token for user: {} | error: {}", email, e.getMessage());
@@ -64,6 +91,11 @@ public class JwtTokenAdapter implements TokenGeneratorPort {
         return extractClaim(token, Claims::getSubject);
     }
 
+    @Override
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
     @Override
     public Long extractUserId(String token) {
         return extractClaim(token, claims -> claims.get("userId", Long.class));
@@ -90,9 +122,10 @@ public class JwtTokenAdapter implements TokenGeneratorPort {
         return Jwts.builder()
                 .claims(claims)
                 .subject(subject)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -102,15 +135,19 @@ public class JwtTokenAdapter implements TokenGeneratorPort {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token)
+                    .getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthenticationException(INVALID_TOKEN_MESSAGE, e);
+        }
+        if (claims.getId() == null) {
+            throw new AuthenticationException(INVALID_TOKEN_MESSAGE);
+        }
+        if (tokenRevocation.isRevoked(claims.getId())) {
+            throw new AuthenticationException(REVOKED_TOKEN_MESSAGE);
+        }
+        return claims;
     }
 }
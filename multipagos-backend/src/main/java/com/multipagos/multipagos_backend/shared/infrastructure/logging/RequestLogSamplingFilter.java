@@ -0,0 +1,65 @@
+package com.multipagos.multipagos_backend.shared.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Logback turbo filter that samples high-volume INFO/DEBUG events from hot-path loggers
+ * Runs before the logging event is created, so dropped lines cost no formatting
+ * The decision is keyed on the request id in the MDC: a sampled request keeps all its lines
+ * Only per-request chatter is meant to be listed in loggers; WARN and ERROR events, and
+ * events logged outside a request (schedulers, reconciliation, reactor threads), are
+ * never sampled
+ */
+public class RequestLogSamplingFilter extends TurboFilter {
+
+  public static final String REQUEST_ID_MDC_KEY = "requestId";
+
+  private int sampleRate = 1;
+  private String[] loggerPrefixes = new String[0];
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    if (sampleRate <= 1 || level == null || level.toInt() >= Level.WARN_INT || !isHotPath(logger.getName())) {
+      return FilterReply.NEUTRAL;
+    }
+
+    return isSampled() ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+
+  public void setSampleRate(int sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  public void setLoggers(String loggers) {
+    this.loggerPrefixes = loggers == null || loggers.isBlank()
+        ? new String[0]
+        : loggers.trim().split("\\s*,\\s*");
+  }
+
+  private boolean isHotPath(String loggerName) {
+    for (String prefix : loggerPrefixes) {
+      if (loggerName.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isSampled() {
+    String requestId = MDC.get(REQUEST_ID_MDC_KEY);
+    if (requestId == null) {
+      return true;
+    }
+
+    int hash = requestId.hashCode();
+    hash ^= hash >>> 16;
+    hash *= 0x85ebca6b;
+    hash ^= hash >>> 13;
+    return Integer.remainderUnsigned(hash, sampleRate) == 0;
+  }
+}
@@ -31,14 +31,14 @@ public class HealthController {
   @GetMapping
   public ResponseEntity<?> checkHealth(HttpServletRequest request) {
     try {
-      log.info("[HEALTH CONTROLLER] Health check requested");
+      log.debug("[HEALTH CONTROLLER] Health check requested");
 
       Map<String, Object> healthData = healthService.checkHealth();
       boolean isHealthy = "UP".equals(healthData.get("status"));
 
       String message = isHealthy ? "Sistema saludable" : "Problemas detectados en el sistema";
 
-      log.info("[HEALTH CONTROLLER] Health check completed | status: {}", healthData.get("status"));
+      log.debug("[HEALTH CONTROLLER] Health check served | status: {}", healthData.get("status"));
       return ResponseFactory.success(healthData, message);
 
     } catch (Exception e) {
@@ -1,6 +1,8 @@
 package com.multipagos.multipagos_backend.shared.presentation.exception;
 
 import com.multipagos.multipagos_backend.shared.application.util.ResponseFactory;
+import com.multipagos.multipagos_backend.shared.domain.exception.AuthenticationException;
+import com.multipagos.multipagos_backend.shared.domain.exception.ServiceUnavailableException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
@@ -106,6 +108,29 @@ public class GlobalExceptionHandler {
     return ResponseFactory.forbidden("Acceso denegado", request.getRequestURI());
   }
 
+  /**
+   * Handles invalid, expired or revoked credentials
+   */
+  @ExceptionHandler(AuthenticationException.class)
+  public ResponseEntity<?> handleAuthentication(AuthenticationException ex,
+                                                HttpServletRequest request) {
+    log.warn("[SECURITY] Authentication rejected from IP: {} | URI: {} | Message: {}",
+             getClientIP(request), request.getRequestURI(), ex.getMessage());
+
+    return ResponseFactory.unauthorized(ex.getMessage(), request.getRequestURI());
+  }
+
+  /**
+   * Handles load shedding - a bounded resource is saturated, clients should retry later
+   */
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<?> handleServiceUnavailable(ServiceUnavailableException ex,
+                                                   HttpServletRequest request) {
+    log.warn("[LOAD SHEDDING] Request rejected | URI: {} | Message: {}", request.getRequestURI(), ex.getMessage());
+
+    return ResponseFactory.serviceUnavailable(ex.getMessage(), request.getRequestURI(), ex.getRetryAfterSeconds());
+  }
+
   /**
    * Handles method not allowed - potential scanning attempts
    */
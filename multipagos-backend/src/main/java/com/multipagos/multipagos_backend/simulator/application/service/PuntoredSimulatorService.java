@@ -0,0 +1,189 @@
+package com.multipagos.multipagos_backend.simulator.application.service;
+
+import com.multipagos.multipagos_backend.simulator.config.PuntoredSimulatorProperties;
+import com.multipagos.multipagos_backend.simulator.config.PuntoredSimulatorProperties.EndpointProfile;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierType;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredAuthRequest;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredAuthResponse;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredBuyRequest;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredBuyResponse;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.SupplierDto;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.Refill;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Puntored stand-in used for load and fault testing
+ * Decides per request which fault (if any) to inject and how long to wait,
+ * and implements the /auth, /getSuppliers and /buy payloads with the same DTOs
+ * the adapters deserialize
+ * Tokens are stateless ("sim.&lt;expiresAtMillis&gt;.&lt;sequence&gt;") so expiry needs no storage
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "puntored.simulator", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class PuntoredSimulatorService {
+
+  public static final String TOKEN_PREFIX = "sim.";
+
+  private static final double P99_Z_SCORE = 2.326;
+  private static final Pattern CELL_PHONE_PATTERN = Pattern.compile("^3\\d{9}$");
+  private static final BigDecimal MIN_VALUE = new BigDecimal("1000");
+  private static final BigDecimal MAX_VALUE = new BigDecimal("100000");
+  private static final List<SupplierDto> CATALOG = Arrays.stream(SupplierType.values())
+      .map(type -> new SupplierDto(type.getId(), type.getName()))
+      .toList();
+
+  private final PuntoredSimulatorProperties properties;
+
+  private final AtomicLong tokenSequence = new AtomicLong();
+  private final Map<Endpoint, Bucket> throttles = new ConcurrentHashMap<>();
+
+  public enum Endpoint {
+    AUTH, SUPPLIERS, BUY
+  }
+
+  public enum Fault {
+    NONE, THROTTLED, UNAUTHORIZED, ERROR, TIMEOUT
+  }
+
+  public record Decision(Fault fault, long delayMs) {
+  }
+
+  public Decision decide(Endpoint endpoint, String authorization) {
+    if (isThrottled(endpoint)) {
+      return new Decision(Fault.THROTTLED, 0);
+    }
+
+    EndpointProfile profile = profileOf(endpoint);
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    if (endpoint != Endpoint.AUTH
+        && (!isTokenValid(authorization) || random.nextDouble() < profile.getUnauthorizedRate())) {
+      return new Decision(Fault.UNAUTHORIZED, sampleLatency(profile, random));
+    }
+    if (random.nextDouble() < profile.getTimeoutRate()) {
+      return new Decision(Fault.TIMEOUT, properties.getTimeoutMs());
+    }
+    if (random.nextDouble() < profile.getErrorRate()) {
+      return new Decision(Fault.ERROR, sampleLatency(profile, random));
+    }
+    return new Decision(Fault.NONE, sampleLatency(profile, random));
+  }
+
+  public boolean isApiKeyAccepted(String apiKey) {
+    String expected = properties.getApiKey();
+    return expected == null || expected.isBlank() || expected.equals(apiKey);
+  }
+
+  public PuntoredAuthResponse issueToken(PuntoredAuthRequest request) {
+    long expiresAt = System.currentTimeMillis() + properties.getTokenTtlSeconds() * 1000;
+    log.debug("[PUNTORED SIMULATOR] Token issued | user: {}", request != null ? request.getUser() : null);
+    return new PuntoredAuthResponse(TOKEN_PREFIX + expiresAt + "." + tokenSequence.incrementAndGet());
+  }
+
+  public List<SupplierDto> getSuppliers() {
+    return CATALOG;
+  }
+
+  /**
+   * Validates like Puntored does and answers with a fresh transactional id
+   * @throws IllegalArgumentException with the rejection message for invalid purchases
+   */
+  public PuntoredBuyResponse buy(PuntoredBuyRequest request) {
+    if (request == null || request.getCellPhone() == null
+        || !CELL_PHONE_PATTERN.matcher(request.getCellPhone()).matches()) {
+      throw new IllegalArgumentException("Número de celular inválido");
+    }
+    if (request.getValue() == null
+        || request.getValue().compareTo(MIN_VALUE) < 0 || request.getValue().compareTo(MAX_VALUE) > 0) {
+      throw new IllegalArgumentException("El valor debe estar entre 1000 y 100000");
+    }
+    if (CATALOG.stream().noneMatch(supplier -> supplier.getId().equals(request.getSupplierId()))) {
+      throw new IllegalArgumentException("Proveedor no encontrado");
+    }
+
+    return PuntoredBuyResponse.builder()
+        .message("Recarga exitosa")
+        .transactionalID(UUID.randomUUID().toString())
+        .cellPhone(request.getCellPhone())
+        .value(request.getValue())
+        .build();
+  }
+
+  boolean isTokenValid(String authorization) {
+    if (authorization == null) {
+      return false;
+    }
+    String token = authorization.regionMatches(true, 0, "Bearer ", 0, 7)
+        ? authorization.substring(7).trim()
+        : authorization.trim();
+    if (!token.startsWith(TOKEN_PREFIX)) {
+      return false;
+    }
+
+    int separator = token.indexOf('.', TOKEN_PREFIX.length());
+    if (separator < 0) {
+      return false;
+    }
+    try {
+      long expiresAt = Long.parseLong(token, TOKEN_PREFIX.length(), separator, 10);
+      return System.currentTimeMillis() < expiresAt;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private long sampleLatency(EndpointProfile profile, ThreadLocalRandom random) {
+    long base = Math.max(0, profile.getLatencyMs());
+    long max = Math.max(base, profile.getLatencyMaxMs());
+
+    return switch (profile.getDistribution()) {
+      case FIXED -> base;
+      case UNIFORM -> random.nextLong(base, max + 1);
+      case LOG_NORMAL -> {
+        if (base == 0 || max == base) {
+          yield base;
+        }
+        double sigma = Math.log((double) max / base) / P99_Z_SCORE;
+        long sampled = Math.round(base * Math.exp(sigma * random.nextGaussian()));
+        yield Math.min(sampled, properties.getTimeoutMs());
+      }
+    };
+  }
+
+  private boolean isThrottled(Endpoint endpoint) {
+    long limit = properties.getRequestsPerSecond();
+    if (limit <= 0) {
+      return false;
+    }
+    Bucket bucket = throttles.computeIfAbsent(endpoint, key -> Bucket.builder()
+        .addLimit(Bandwidth.classic(limit, Refill.greedy(limit, Duration.ofSeconds(1))))
+        .build());
+    return !bucket.tryConsume(1);
+  }
+
+  private EndpointProfile profileOf(Endpoint endpoint) {
+    return switch (endpoint) {
+      case AUTH -> properties.getAuth();
+      case SUPPLIERS -> properties.getSuppliers();
+      case BUY -> properties.getBuy();
+    };
+  }
+}
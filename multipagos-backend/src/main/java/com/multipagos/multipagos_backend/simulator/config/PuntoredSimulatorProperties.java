@@ -0,0 +1,47 @@
+package com.multipagos.multipagos_backend.simulator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Behaviour of the embedded Puntored simulator (profile "simulator")
+ * Each endpoint has its own latency distribution and fault rates; rates are
+ * probabilities between 0 and 1 evaluated per request
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "puntored.simulator")
+public class PuntoredSimulatorProperties {
+  private boolean enabled = false;
+  /** Expected x-api-key on /auth; blank accepts any key */
+  private String apiKey;
+  private long tokenTtlSeconds = 3600;
+  /** Requests per second accepted per endpoint before answering 429; 0 disables throttling */
+  private long requestsPerSecond = 0;
+  private long retryAfterSeconds = 1;
+  /** How long a simulated timeout holds the request before answering 504 */
+  private long timeoutMs = 35000;
+  private int schedulerThreads = 2;
+  private EndpointProfile auth = new EndpointProfile();
+  private EndpointProfile suppliers = new EndpointProfile();
+  private EndpointProfile buy = new EndpointProfile();
+
+  public enum LatencyDistribution {
+    FIXED, UNIFORM, LOG_NORMAL
+  }
+
+  /**
+   * latencyMs is the fixed value, the uniform minimum or the log-normal median;
+   * latencyMaxMs is the uniform maximum or the log-normal p99
+   */
+  @Data
+  public static class EndpointProfile {
+    private LatencyDistribution distribution = LatencyDistribution.FIXED;
+    private long latencyMs = 50;
+    private long latencyMaxMs = 50;
+    private double errorRate = 0.0;
+    private double timeoutRate = 0.0;
+    private double unauthorizedRate = 0.0;
+  }
+}
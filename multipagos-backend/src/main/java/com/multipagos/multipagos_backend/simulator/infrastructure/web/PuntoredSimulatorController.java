@@ -0,0 +1,118 @@
+package com.multipagos.multipagos_backend.simulator.infrastructure.web;
+
+import com.multipagos.multipagos_backend.simulator.application.service.PuntoredSimulatorService;
+import com.multipagos.multipagos_backend.simulator.application.service.PuntoredSimulatorService.Decision;
+import com.multipagos.multipagos_backend.simulator.application.service.PuntoredSimulatorService.Endpoint;
+import com.multipagos.multipagos_backend.simulator.config.PuntoredSimulatorProperties;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredAuthRequest;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredBuyRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Puntored-compatible endpoints served by the simulator
+ * Lives outside presentation.controller so it is not prefixed with /api/v1;
+ * point puntored.api.base-url at http://host:port/simulator/puntored
+ * Latency is applied with a scheduler, so slow responses do not hold request threads
+ */
+@Slf4j
+@RestController
+@RequestMapping("/simulator/puntored")
+@ConditionalOnProperty(prefix = "puntored.simulator", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class PuntoredSimulatorController {
+
+  private static final long RESULT_TIMEOUT_MARGIN_MS = 5000;
+
+  private final PuntoredSimulatorService simulator;
+  private final PuntoredSimulatorProperties properties;
+
+  private ScheduledExecutorService scheduler;
+
+  @PostConstruct
+  void startScheduler() {
+    scheduler = Executors.newScheduledThreadPool(properties.getSchedulerThreads(),
+        Thread.ofPlatform().name("puntored-simulator-", 0).daemon(true).factory());
+    log.warn("[PUNTORED SIMULATOR] Simulator enabled | path: /simulator/puntored | throttle: {} rps | token ttl: {}s",
+        properties.getRequestsPerSecond(), properties.getTokenTtlSeconds());
+  }
+
+  @PreDestroy
+  void stopScheduler() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  @PostMapping("/auth")
+  public DeferredResult<ResponseEntity<?>> authenticate(
+      @RequestHeader(value = "x-api-key", required = false) String apiKey,
+      @RequestBody(required = false) PuntoredAuthRequest request) {
+    return respond(Endpoint.AUTH, null, () -> simulator.isApiKeyAccepted(apiKey)
+        ? ResponseEntity.ok(simulator.issueToken(request))
+        : error(HttpStatus.UNAUTHORIZED, "API key inválida"));
+  }
+
+  @GetMapping("/getSuppliers")
+  public DeferredResult<ResponseEntity<?>> getSuppliers(
+      @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+    return respond(Endpoint.SUPPLIERS, authorization, () -> ResponseEntity.ok(simulator.getSuppliers()));
+  }
+
+  @PostMapping("/buy")
+  public DeferredResult<ResponseEntity<?>> buy(
+      @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+      @RequestBody(required = false) PuntoredBuyRequest request) {
+    return respond(Endpoint.BUY, authorization, () -> {
+      try {
+        return ResponseEntity.ok(simulator.buy(request));
+      } catch (IllegalArgumentException e) {
+        return error(HttpStatus.BAD_REQUEST, e.getMessage());
+      }
+    });
+  }
+
+  private DeferredResult<ResponseEntity<?>> respond(Endpoint endpoint, String authorization,
+      Supplier<ResponseEntity<?>> handler) {
+    Decision decision = simulator.decide(endpoint, authorization);
+    DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(decision.delayMs() + RESULT_TIMEOUT_MARGIN_MS);
+
+    if (decision.delayMs() <= 0) {
+      result.setResult(toResponse(decision, handler));
+    } else {
+      scheduler.schedule(() -> result.setResult(toResponse(decision, handler)),
+          decision.delayMs(), TimeUnit.MILLISECONDS);
+    }
+    return result;
+  }
+
+  private ResponseEntity<?> toResponse(Decision decision, Supplier<ResponseEntity<?>> handler) {
+    return switch (decision.fault()) {
+      case NONE -> handler.get();
+      case THROTTLED -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+          .header(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()))
+          .body(Map.of("message", "Demasiadas solicitudes"));
+      case UNAUTHORIZED -> error(HttpStatus.UNAUTHORIZED, "Token inválido o expirado");
+      case ERROR -> error(HttpStatus.INTERNAL_SERVER_ERROR, "Error interno simulado");
+      case TIMEOUT -> error(HttpStatus.GATEWAY_TIMEOUT, "Tiempo de espera agotado");
+    };
+  }
+
+  private ResponseEntity<?> error(HttpStatus status, String message) {
+    return ResponseEntity.status(status).body(Map.of("message", message));
+  }
+}
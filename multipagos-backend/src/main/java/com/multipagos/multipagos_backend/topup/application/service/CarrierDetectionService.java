@@ -0,0 +1,49 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.CarrierPrefixTable;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierId;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierType;
+import com.multipagos.multipagos_backend.topup.domain.port.in.CarrierDetectionServicePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Resolves carriers from the configured prefix table with a single array lookup
+ * Unassigned prefixes are never rejected, since ported and new ranges exist
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CarrierDetectionService implements CarrierDetectionServicePort {
+
+  private final CarrierPrefixTable prefixTable;
+
+  @Value("${topup.carrier.reject-mismatch:true}")
+  private boolean rejectMismatch;
+
+  @Override
+  public Optional<SupplierType> detectCarrier(PhoneNumber phoneNumber) {
+    return prefixTable.detect(phoneNumber);
+  }
+
+  @Override
+  public void requireCompatible(SupplierId supplierId, PhoneNumber phoneNumber) {
+    if (!rejectMismatch || supplierId == null || phoneNumber == null) {
+      return;
+    }
+
+    if (prefixTable.conflicts(supplierId.getType(), phoneNumber)) {
+      SupplierType detected = prefixTable.lookup(phoneNumber.getPrefix());
+      log.warn("[CARRIER DETECTION] Supplier mismatch | prefix: {} | requested: {} | detected: {}",
+          phoneNumber.getPrefix(), supplierId.getSupplierName(), detected.getName());
+      throw new IllegalArgumentException(String.format(
+          "El número pertenece a %s y no puede recargarse con %s",
+          detected.getName(), supplierId.getSupplierName()));
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.DuplicateTopUpException;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpClaim;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.port.in.DuplicateSuppressionServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.ReactiveTopUpServicePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs duplicate suppression in front of ReactiveTopUpService
+ * A joined duplicate subscribes to the original's outcome without blocking a thread
+ * Claim and execution are detached from the subscriber like the delegate: a client
+ * that disconnects leaves the fingerprint claimed until the provider call settles,
+ * so a retry of the same top-up joins it instead of buying twice
+ */
+@Primary
+@Service
+@ConditionalOnProperty(prefix = "puntored.api", name = "client", havingValue = "webclient")
+@RequiredArgsConstructor
+public class DeduplicatingReactiveTopUpService implements ReactiveTopUpServicePort {
+
+  private final ReactiveTopUpService delegate;
+  private final DuplicateSuppressionServicePort duplicates;
+
+  @Override
+  public Mono<TransactionDomain> executeTopUp(TopUpRequest request, Long userId) {
+    return Mono.defer(() -> Mono.fromFuture(claimAndRun(request, userId).toFuture(), true));
+  }
+
+  private Mono<TransactionDomain> claimAndRun(TopUpRequest request, Long userId) {
+    // The optional database check may block
+    return Mono.fromCallable(() -> duplicates.claim(request, userId))
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMap(claim -> claim.isOwner() ? execute(claim, request, userId) : join(claim));
+  }
+
+  private Mono<TransactionDomain> execute(TopUpClaim claim, TopUpRequest request, Long userId) {
+    return delegate.executeTopUp(request, userId)
+        .doOnSuccess(transaction -> duplicates.complete(claim, transaction))
+        .doOnError(e -> duplicates.fail(claim, e));
+  }
+
+  /**
+   * Cancelling a joined duplicate must not cancel the original's outcome
+   */
+  private Mono<TransactionDomain> join(TopUpClaim claim) {
+    return Mono.fromFuture(claim.outcome(), true)
+        .timeout(Duration.ofMillis(duplicates.joinTimeoutMillis()))
+        .onErrorMap(TimeoutException.class,
+            e -> new DuplicateTopUpException("Ya hay una recarga idéntica en proceso; consulte el historial"));
+  }
+}
@@ -0,0 +1,45 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpClaim;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.port.in.DuplicateSuppressionServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.TopUpServicePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs duplicate suppression in front of TopUpService
+ * Kept outside the transactional service so a joined duplicate waits without
+ * holding a database connection
+ */
+@Primary
+@Service
+@RequiredArgsConstructor
+public class DeduplicatingTopUpService implements TopUpServicePort {
+
+  private final TopUpService delegate;
+  private final DuplicateSuppressionServicePort duplicates;
+
+  @Override
+  public TransactionDomain executeTopUp(TopUpRequest request, Long userId) {
+    TopUpClaim claim = duplicates.claim(request, userId);
+    if (!claim.isOwner()) {
+      return duplicates.join(claim);
+    }
+    try {
+      TransactionDomain transaction = delegate.executeTopUp(request, userId);
+      duplicates.complete(claim, transaction);
+      return transaction;
+    } catch (RuntimeException e) {
+      duplicates.fail(claim, e);
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean validateTopUpRequest(TopUpRequest request) {
+    return delegate.validateTopUpRequest(request);
+  }
+}
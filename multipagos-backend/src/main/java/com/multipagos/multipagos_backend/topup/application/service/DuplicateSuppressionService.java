@@ -0,0 +1,197 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.DuplicateTopUpException;
+import com.multipagos.multipagos_backend.topup.domain.model.DuplicateHandling;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpClaim;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpFingerprint;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.port.in.DuplicateSuppressionServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Suppresses near-duplicate top-ups with two time buckets of in-flight and recent
+ * fingerprints: the current window and the one before it. A bucket is dropped as a
+ * whole once it is two windows old, so there is no per-entry cleanup. Lookups cost
+ * one or two hash probes; the optional database check adds one indexed query and
+ * catches duplicates handled by other nodes, in flight included, since both top-up
+ * flows commit the PENDING row before calling /buy
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DuplicateSuppressionService implements DuplicateSuppressionServicePort {
+
+  private final TransactionRepositoryPort transactionRepositoryPort;
+  private final MeterRegistry meterRegistry;
+
+  private final Object rotationLock = new Object();
+  private volatile Buckets buckets;
+  private Counter rejected;
+  private Counter joined;
+
+  @Value("${topup.dedup.enabled:true}")
+  private boolean enabled;
+
+  @Value("${topup.dedup.window-ms:15000}")
+  private long windowMs;
+
+  @Value("${topup.dedup.mode:JOIN}")
+  private DuplicateHandling handling;
+
+  @Value("${topup.dedup.db-check:false}")
+  private boolean dbCheck;
+
+  @Value("${topup.dedup.join-timeout-ms:75000}")
+  private long joinTimeoutMs;
+
+  private record Buckets(long epoch, ConcurrentHashMap<TopUpFingerprint, TopUpClaim> current,
+      ConcurrentHashMap<TopUpFingerprint, TopUpClaim> previous) {
+  }
+
+  @PostConstruct
+  void init() {
+    buckets = new Buckets(System.currentTimeMillis() / windowMs, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    rejected = Counter.builder("topup.dedup.duplicates")
+        .tag("outcome", "rejected")
+        .description("Top-ups identical to one sent within the suppression window")
+        .register(meterRegistry);
+    joined = Counter.builder("topup.dedup.duplicates")
+        .tag("outcome", "joined")
+        .description("Top-ups identical to one sent within the suppression window")
+        .register(meterRegistry);
+    Gauge.builder("topup.dedup.tracked", this,
+            service -> service.buckets.current().size() + service.buckets.previous().size())
+        .description("Top-up fingerprints held for duplicate suppression")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public TopUpClaim claim(TopUpRequest request, Long userId) {
+    if (!enabled || userId == null || request == null || request.getPhoneNumberVO() == null
+        || request.getAmountVO() == null || request.getSupplierIdVO() == null) {
+      return TopUpClaim.untracked();
+    }
+
+    long now = System.currentTimeMillis();
+    TopUpFingerprint fingerprint = TopUpFingerprint.of(request, userId);
+    Buckets current = bucketsAt(now);
+
+    TopUpClaim existing = current.previous().get(fingerprint);
+    if (existing != null && now - existing.startedAtMillis() < windowMs) {
+      return duplicateOf(existing, now);
+    }
+    existing = current.current().get(fingerprint);
+    if (existing != null) {
+      return duplicateOf(existing, now);
+    }
+
+    if (dbCheck) {
+      Optional<TransactionDomain> stored = transactionRepositoryPort.findRecentIdentical(userId,
+          request.getCellPhone(), fingerprint.amountCents(), fingerprint.supplierId(),
+          LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(windowMs)));
+      if (stored.isPresent()) {
+        return duplicateOf(TopUpClaim.joining(fingerprint, stored.get(), now), now);
+      }
+    }
+
+    TopUpClaim mine = TopUpClaim.owner(fingerprint, now);
+    existing = current.current().putIfAbsent(fingerprint, mine);
+    return existing == null ? mine : duplicateOf(existing, now);
+  }
+
+  @Override
+  public TransactionDomain join(TopUpClaim claim) {
+    try {
+      return claim.outcome().get(joinTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new RuntimeException("Error procesando la recarga: " + e.getCause().getMessage());
+    } catch (TimeoutException e) {
+      throw new DuplicateTopUpException("Ya hay una recarga idéntica en proceso; consulte el historial");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DuplicateTopUpException("Ya hay una recarga idéntica en proceso; consulte el historial");
+    }
+  }
+
+  @Override
+  public void complete(TopUpClaim claim, TransactionDomain transaction) {
+    if (claim.isOwner()) {
+      claim.outcome().complete(transaction);
+    }
+  }
+
+  @Override
+  public void fail(TopUpClaim claim, Throwable error) {
+    if (!claim.isOwner()) {
+      return;
+    }
+    if (claim.isTracked()) {
+      Buckets current = buckets;
+      current.current().remove(claim.fingerprint(), claim);
+      current.previous().remove(claim.fingerprint(), claim);
+    }
+    claim.outcome().completeExceptionally(error);
+  }
+
+  @Override
+  public long joinTimeoutMillis() {
+    return joinTimeoutMs;
+  }
+
+  private TopUpClaim duplicateOf(TopUpClaim original, long now) {
+    long ageSeconds = Math.max(0L, (now - original.startedAtMillis()) / 1000);
+    if (handling == DuplicateHandling.REJECT) {
+      rejected.increment();
+      log.info("[DUPLICATE SUPPRESSION] Rejected duplicate | userId: {} | phone: {} | age: {}s",
+          original.fingerprint().userId(), original.fingerprint().phoneDigits(), ageSeconds);
+      throw new DuplicateTopUpException(String.format(
+          "Recarga duplicada: ya se envió una recarga idéntica hace %d s", ageSeconds));
+    }
+    joined.increment();
+    log.info("[DUPLICATE SUPPRESSION] Joining duplicate to original | userId: {} | phone: {} | age: {}s",
+        original.fingerprint().userId(), original.fingerprint().phoneDigits(), ageSeconds);
+    return original.isOwner() ? TopUpClaim.joining(original) : original;
+  }
+
+  /**
+   * Rotates lazily on the first call in a new window; a gap longer than a window
+   * leaves both buckets empty
+   */
+  private Buckets bucketsAt(long nowMillis) {
+    long epoch = nowMillis / windowMs;
+    Buckets current = buckets;
+    if (current.epoch() >= epoch) {
+      return current;
+    }
+    synchronized (rotationLock) {
+      current = buckets;
+      if (current.epoch() < epoch) {
+        ConcurrentHashMap<TopUpFingerprint, TopUpClaim> previous = current.epoch() == epoch - 1
+            ? current.current()
+            : new ConcurrentHashMap<>();
+        current = new Buckets(epoch, new ConcurrentHashMap<>(), previous);
+        buckets = current;
+      }
+      return current;
+    }
+  }
+}
@@ -0,0 +1,357 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.shared.application.util.StripedBalance;
+import com.multipagos.multipagos_backend.shared.domain.exception.InsufficientFloatException;
+import com.multipagos.multipagos_backend.topup.domain.model.FloatBalance;
+import com.multipagos.multipagos_backend.topup.domain.model.FloatReservation;
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerCheckpoint;
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerEntry;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.port.in.FloatLedgerServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.LedgerRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks the Puntored prepaid float without a shared balance row
+ * Every movement is an insert into the append-only ledger; the live balance is a
+ * striped in-memory counter, so concurrent top-ups reserve against different stripes
+ * instead of queueing on one lock. A top-up's value is reserved before /buy, written
+ * to the ledger as a debit once Puntored accepts it, and given back otherwise.
+ * Reconciliation folds the ledger up to a high-water id into the counter: entries
+ * this node wrote are already in it and are skipped by reference, so only other
+ * nodes' debits and credits, or ones recorded directly in the table, move it. The
+ * counter is never compared against a fresh sum, so a busy node still reconciles.
+ * With enforce on, every node checks against its own copy of the whole float, so N
+ * nodes can spend up to N times what is left before the next reconciliation
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FloatLedgerService implements FloatLedgerServicePort {
+
+  private static final String OPENING_REFERENCE = "opening-balance";
+  private static final String INSUFFICIENT_MESSAGE = "Saldo de la plataforma insuficiente, intente más tarde";
+
+  private final LedgerRepositoryPort ledgerRepository;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${topup.float.enabled:true}")
+  private boolean enabled;
+
+  @Value("${topup.float.enforce:false}")
+  private boolean enforce;
+
+  /** 0 = twice the available processors */
+  @Value("${topup.float.stripes:0}")
+  private int stripes;
+
+  @Value("${topup.float.opening-balance:0}")
+  private long openingBalancePesos;
+
+  @Value("${topup.float.low-balance:0}")
+  private long lowBalancePesos;
+
+  @Value("${topup.float.compaction-lag-ms:300000}")
+  private long compactionLagMs;
+
+  @Value("${topup.float.visibility-lag-ms:5000}")
+  private long visibilityLagMs;
+
+  @Value("${topup.float.retry-after-seconds:300}")
+  private long retryAfterSeconds;
+
+  private StripedBalance balance;
+  private final LongAdder reserved = new LongAdder();
+  /** Signed cents of entries this node already applied to the balance, by reference, until folded */
+  private final Map<String, Long> unfolded = new ConcurrentHashMap<>();
+  /** Held across the ledger reads; a ReentrantLock so a virtual thread is not pinned during JDBC */
+  private final ReentrantLock reconcileLock = new ReentrantLock();
+  /** Highest ledger id already reflected in the balance; guarded by reconcileLock */
+  private long highWaterId;
+
+  private volatile boolean hydrated;
+  private volatile boolean lowAlerted;
+  private volatile LocalDateTime lastReconciledAt;
+  private volatile long lastDriftCents;
+  private Counter rejected;
+  private Counter ledgerErrors;
+  private Counter lowAlerts;
+  private DistributionSummary drift;
+
+  @PostConstruct
+  void init() {
+    balance = new StripedBalance(stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors() * 2);
+    if (!enabled) {
+      log.info("[FLOAT LEDGER] Disabled");
+      return;
+    }
+    Gauge.builder("topup.float.balance", this, service -> service.balance.sum() / 100.0)
+        .baseUnit("pesos")
+        .description("Provider float available on this node")
+        .register(meterRegistry);
+    Gauge.builder("topup.float.reserved", reserved, adder -> adder.sum() / 100.0)
+        .baseUnit("pesos")
+        .description("Provider float held by top-ups waiting for Puntored")
+        .register(meterRegistry);
+    rejected = Counter.builder("topup.float.rejected")
+        .description("Top-ups rejected because the float could not cover them")
+        .register(meterRegistry);
+    ledgerErrors = Counter.builder("topup.float.ledger.errors")
+        .description("Debits that could not be written to the ledger")
+        .register(meterRegistry);
+    lowAlerts = Counter.builder("topup.float.low_balance.alerts")
+        .description("Times the float dropped below the low-balance threshold")
+        .register(meterRegistry);
+    drift = DistributionSummary.builder("topup.float.drift")
+        .baseUnit("cents")
+        .description("Absolute ledger movements from other writers folded in per reconciliation")
+        .register(meterRegistry);
+
+    try {
+      if (openingBalancePesos > 0 && ledgerRepository.append(
+          LedgerEntry.credit(openingBalancePesos * 100, OPENING_REFERENCE, "Saldo inicial"))) {
+        log.info("[FLOAT LEDGER] Opening balance recorded | ${}", openingBalancePesos);
+      }
+      reconcile();
+    } catch (DataAccessException e) {
+      log.warn("[FLOAT LEDGER] Initial load failed, not enforcing until the next reconciliation | error: {}",
+          e.getMessage());
+    }
+    log.info("[FLOAT LEDGER] Started | stripes: {} | enforce: {} | balance: ${}",
+        balance.stripes(), enforce, balance.sum() / 100);
+  }
+
+  @Override
+  public FloatReservation reserve(Amount amount) {
+    if (!enabled) {
+      return FloatReservation.none();
+    }
+    long cents = amount.getCents();
+    boolean covered = true;
+    if (enforce && hydrated) {
+      covered = balance.tryDebit(cents);
+    } else {
+      balance.debit(cents);
+    }
+    if (!covered) {
+      rejected.increment();
+      log.warn("[FLOAT LEDGER] Float cannot cover top-up | requested: {} | available: {}", cents, balance.sum());
+      throw new InsufficientFloatException(INSUFFICIENT_MESSAGE, retryAfterSeconds);
+    }
+    reserved.add(cents);
+    return new FloatReservation(cents);
+  }
+
+  @Override
+  public void commit(FloatReservation reservation, TransactionDomain transaction) {
+    if (reservation == null || !reservation.settle()) {
+      return;
+    }
+    LedgerEntry entry = LedgerEntry.debit(transaction);
+    // The reservation already took the value from the balance, so reconciliation must skip the entry
+    unfolded.put(entry.getReference(), entry.signedCents());
+    try {
+      if (!ledgerRepository.append(entry) && unfolded.remove(entry.getReference()) != null) {
+        // Recorded earlier by another writer; reconciliation folds that entry in instead
+        balance.credit(reservation.cents());
+      }
+    } catch (RuntimeException e) {
+      // Puntored already took the float; the balance keeps the debit until recordDebit writes the entry
+      ledgerErrors.increment();
+      log.error("[FLOAT LEDGER] Debit not recorded | transactionId: {} | cents: {} | error: {}",
+          transaction.getId(), reservation.cents(), e.getMessage());
+    } finally {
+      reserved.add(-reservation.cents());
+    }
+  }
+
+  @Override
+  public boolean recordDebit(TransactionDomain transaction) {
+    if (!enabled) {
+      return false;
+    }
+    LedgerEntry entry = LedgerEntry.debit(transaction);
+    boolean recorded = appendAndApply(entry);
+    if (recorded) {
+      log.info("[FLOAT LEDGER] Late debit recorded | transactionId: {} | cents: {}",
+          transaction.getId(), entry.getAmountCents());
+    }
+    return recorded;
+  }
+
+  @Override
+  public void release(FloatReservation reservation) {
+    if (reservation == null || !reservation.settle()) {
+      return;
+    }
+    balance.credit(reservation.cents());
+    reserved.add(-reservation.cents());
+  }
+
+  @Override
+  public boolean credit(long amountCents, String reference, String description) {
+    if (amountCents <= 0) {
+      throw new IllegalArgumentException("El valor del abono debe ser positivo");
+    }
+    boolean recorded = appendAndApply(LedgerEntry.credit(amountCents, reference, description));
+    if (recorded) {
+      log.info("[FLOAT LEDGER] Credit recorded | reference: {} | cents: {}", reference, amountCents);
+    }
+    return recorded;
+  }
+
+  @Override
+  public FloatBalance getBalance() {
+    return new FloatBalance(balance.sum(), reserved.sum(), lowBalancePesos * 100, lastReconciledAt, lastDriftCents);
+  }
+
+  /**
+   * Folds settled entries into a checkpoint, then applies the entries up to the new
+   * high-water id that this node has not applied yet
+   */
+  @Scheduled(fixedDelayString = "${topup.float.reconcile-interval-ms:60000}",
+      initialDelayString = "${topup.float.reconcile-interval-ms:60000}")
+  public void scheduledReconcile() {
+    if (!enabled) {
+      return;
+    }
+    try {
+      reconcile();
+    } catch (DataAccessException e) {
+      log.warn("[FLOAT LEDGER] Reconciliation failed, keeping current balance | error: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Entries newer than the visibility lag wait for the next pass, so an insert that
+   * got its id earlier but committed later is never skipped by the high-water id
+   */
+  private void reconcile() {
+    reconcileLock.lock();
+    try {
+      LedgerCheckpoint checkpoint = compact(ledgerRepository.findLatestCheckpoint());
+      long from = hydrated ? highWaterId : checkpoint.lastEntryId();
+      long upTo = Math.max(from,
+          ledgerRepository.maxEntryIdBefore(LocalDateTime.now().minusNanos(visibilityLagMs * 1_000_000)));
+
+      long folded = (hydrated ? 0L : checkpoint.balanceCents()) + ledgerRepository.sumBetween(from, upTo);
+      // Before the first load the checkpoint balance also covers this node's older entries
+      long ownFrom = hydrated ? from : 0L;
+      List<String> pending = List.copyOf(unfolded.keySet());
+      for (Map.Entry<String, Long> own : ledgerRepository.findIdsByReference(pending).entrySet()) {
+        if (own.getValue() > ownFrom && own.getValue() <= upTo) {
+          Long applied = unfolded.remove(own.getKey());
+          if (applied != null) {
+            folded -= applied;
+          }
+        }
+      }
+      apply(folded);
+      balance.rebalance();
+      if (hydrated && folded != 0) {
+        drift.record(Math.abs(folded));
+        log.info("[FLOAT LEDGER] Folded ledger movements from other writers | cents: {} | upToEntry: {}",
+            folded, upTo);
+      }
+      highWaterId = upTo;
+      hydrated = true;
+      lastDriftCents = folded;
+      lastReconciledAt = LocalDateTime.now();
+    } finally {
+      reconcileLock.unlock();
+    }
+    checkLowBalance();
+  }
+
+  /**
+   * Appends an entry and applies it to the balance exactly once. The reference is
+   * registered first, so a reconciliation that sees the entry leaves it to this call;
+   * a reference already registered is a debit whose commit could not be written and
+   * is already in the balance
+   */
+  private boolean appendAndApply(LedgerEntry entry) {
+    String reference = entry.getReference();
+    if (unfolded.putIfAbsent(reference, entry.signedCents()) != null) {
+      return ledgerRepository.append(entry);
+    }
+    boolean recorded;
+    try {
+      recorded = ledgerRepository.append(entry);
+    } catch (RuntimeException e) {
+      // The insert may still have committed; if reconciliation already claimed it, apply it here
+      if (unfolded.remove(reference) == null) {
+        apply(entry.signedCents());
+      }
+      throw e;
+    }
+    // Not recorded: an existing entry with this reference is folded by reconciliation,
+    // unless a pass already matched it against this registration
+    if (recorded || unfolded.remove(reference) == null) {
+      apply(entry.signedCents());
+    }
+    return recorded;
+  }
+
+  private void apply(long signedCents) {
+    if (signedCents > 0) {
+      balance.credit(signedCents);
+    } else if (signedCents < 0) {
+      balance.debit(-signedCents);
+    }
+  }
+
+  /**
+   * Entries are only folded once older than the compaction lag, so an insert that
+   * got its id earlier but committed later is never skipped
+   */
+  private LedgerCheckpoint compact(LedgerCheckpoint latest) {
+    long upTo = ledgerRepository.maxEntryIdBefore(LocalDateTime.now().minusNanos(compactionLagMs * 1_000_000));
+    if (upTo <= latest.lastEntryId()) {
+      return latest;
+    }
+    LedgerCheckpoint next = new LedgerCheckpoint(upTo,
+        latest.balanceCents() + ledgerRepository.sumBetween(latest.lastEntryId(), upTo), LocalDateTime.now());
+    if (ledgerRepository.saveCheckpoint(next)) {
+      log.debug("[FLOAT LEDGER] Compacted ledger | upToEntry: {} | balance: {}", upTo, next.balanceCents());
+    }
+    return next;
+  }
+
+  /**
+   * Alerts once per crossing; re-armed when the balance is back above the threshold
+   */
+  @Scheduled(fixedDelayString = "${topup.float.alert-check-interval-ms:5000}")
+  public void checkLowBalance() {
+    if (!enabled || lowBalancePesos <= 0) {
+      return;
+    }
+    FloatBalance snapshot = getBalance();
+    if (snapshot.isLow() && !lowAlerted) {
+      lowAlerted = true;
+      lowAlerts.increment();
+      log.warn("[FLOAT LEDGER] Low provider float | available: ${} | threshold: ${}",
+          snapshot.availableCents() / 100, lowBalancePesos);
+    } else if (!snapshot.isLow() && lowAlerted) {
+      lowAlerted = false;
+      log.info("[FLOAT LEDGER] Provider float back above threshold | available: ${}", snapshot.availableCents() / 100);
+    }
+  }
+}
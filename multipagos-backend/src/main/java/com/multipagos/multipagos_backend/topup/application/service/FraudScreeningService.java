@@ -0,0 +1,200 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.TopUpRiskException;
+import com.multipagos.multipagos_backend.topup.domain.model.RiskAssessment;
+import com.multipagos.multipagos_backend.topup.domain.model.RiskDecision;
+import com.multipagos.multipagos_backend.topup.domain.model.RiskPolicy;
+import com.multipagos.multipagos_backend.topup.domain.model.RiskSignal;
+import com.multipagos.multipagos_backend.topup.domain.model.RiskSubject;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatusChangedEvent;
+import com.multipagos.multipagos_backend.topup.domain.port.in.FraudScreeningServicePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Streaming risk stage run before a top-up is executed
+ * Counters live in two fixed-size windows: the current one and the one before it.
+ * A signal's value is the current count plus the previous count weighted by how
+ * much of the previous window still overlaps the sliding window, so counts fade
+ * out instead of dropping to zero at each boundary. Counters are fed from
+ * transaction status events, never from the database, and are per node
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FraudScreeningService implements FraudScreeningServicePort {
+
+  private static final String BLOCK_MESSAGE = "Recarga bloqueada por actividad inusual en la cuenta";
+  private static final String REVIEW_MESSAGE =
+      "La recarga requiere revisión manual por actividad inusual; comuníquese con soporte";
+
+  private final RiskPolicy policy;
+  private final MeterRegistry meterRegistry;
+
+  private final Object rotationLock = new Object();
+  private final Map<RiskDecision, Counter> decisions = new EnumMap<>(RiskDecision.class);
+  private volatile Windows windows;
+  private Timer screeningTimer;
+
+  @Value("${topup.risk.enabled:true}")
+  private boolean enabled;
+
+  /**
+   * Swapped as a pair so readers never see a half-rotated state
+   */
+  private record Windows(RiskWindow current, RiskWindow previous) {
+  }
+
+  @PostConstruct
+  void init() {
+    long epoch = System.currentTimeMillis() / policy.windowMillis();
+    windows = new Windows(new RiskWindow(epoch, policy.sizing()), new RiskWindow(epoch - 1, policy.sizing()));
+
+    for (RiskDecision decision : RiskDecision.values()) {
+      decisions.put(decision, Counter.builder("topup.risk.decisions")
+          .tag("decision", decision.name().toLowerCase())
+          .description("Top-ups scored by the risk stage")
+          .register(meterRegistry));
+    }
+    screeningTimer = Timer.builder("topup.risk.screening")
+        .description("Time spent scoring a top-up")
+        .register(meterRegistry);
+    Gauge.builder("topup.risk.sketch.bytes", this,
+            service -> service.windows.current().byteSize() + service.windows.previous().byteSize())
+        .baseUnit("bytes")
+        .description("Heap held by the risk sketches of both windows")
+        .register(meterRegistry);
+    registerDistinct("user", RiskWindow::distinctUsers);
+    registerDistinct("phone", RiskWindow::distinctPhones);
+    registerDistinct("ip", RiskWindow::distinctIps);
+
+    log.info("[FRAUD SCREENING] Enabled: {} | enforced: {} | window: {}s | sketch bytes: {}",
+        enabled, policy.isEnforced(), policy.windowMillis() / 1000,
+        windows.current().byteSize() + windows.previous().byteSize());
+  }
+
+  @Override
+  public RiskAssessment screen(TopUpRequest request, Long userId) {
+    if (!enabled) {
+      return RiskAssessment.allowed();
+    }
+
+    long started = System.nanoTime();
+    long now = System.currentTimeMillis();
+    Windows current = windowsAt(now);
+    double carry = previousWeight(now);
+    RiskSubject subject = new RiskSubject(userId, request.getPhoneNumberVO().getDigits(),
+        request.getClientIp(), request.getSupplierId());
+
+    double score = 0.0;
+    List<RiskSignal> reasons = new ArrayList<>(2);
+    for (RiskSignal signal : RiskSignal.values()) {
+      long limit = policy.limitOf(signal);
+      if (limit <= 0) {
+        continue;
+      }
+      double projected = current.current().estimate(signal, subject)
+          + current.previous().estimate(signal, subject) * carry
+          + pending(signal, subject, current);
+      double ratio = projected / limit;
+      if (ratio > 1.0) {
+        reasons.add(signal);
+      }
+      score = Math.max(score, ratio);
+    }
+
+    RiskAssessment assessment = new RiskAssessment(policy.decide(score), score, List.copyOf(reasons));
+    screeningTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    decisions.get(assessment.decision()).increment();
+
+    if (assessment.decision() != RiskDecision.ALLOW) {
+      log.warn("[FRAUD SCREENING] {} | userId: {} | phone: {} | ip: {} | score: {} | signals: {}",
+          assessment.decision(), userId, request.getCellPhone(), request.getClientIp(),
+          String.format("%.2f", score), reasons);
+    }
+    if (assessment.stopsTopUp() && policy.isEnforced()) {
+      throw new TopUpRiskException(assessment.decision() == RiskDecision.BLOCK ? BLOCK_MESSAGE : REVIEW_MESSAGE);
+    }
+    return assessment;
+  }
+
+  @Override
+  @EventListener
+  public void onStatusChanged(TransactionStatusChangedEvent event) {
+    if (!enabled || event.userId() == null) {
+      return;
+    }
+    if (event.status() == TransactionStatus.PENDING) {
+      windowsAt(System.currentTimeMillis()).current().recordAttempt(event.subject());
+    } else if (event.status() == TransactionStatus.FAILED) {
+      windowsAt(System.currentTimeMillis()).current().recordFailure(event.subject());
+    }
+  }
+
+  /**
+   * What the top-up being scored would add once stored: one attempt, and one
+   * counterpart for fan-out signals when the pair is new in both windows
+   */
+  private static long pending(RiskSignal signal, RiskSubject subject, Windows windows) {
+    if (signal == RiskSignal.USER_FAILURES || subject.key(signal) == null) {
+      return 0L;
+    }
+    if (!signal.isFanOut()) {
+      return 1L;
+    }
+    boolean seen = windows.current().hasSeenPair(signal, subject) || windows.previous().hasSeenPair(signal, subject);
+    return seen ? 0L : 1L;
+  }
+
+  /**
+   * Rotates lazily on the first call in a new window; an idle gap longer than a
+   * window leaves an empty previous window
+   */
+  private Windows windowsAt(long nowMillis) {
+    long epoch = nowMillis / policy.windowMillis();
+    Windows current = windows;
+    if (current.current().epoch() >= epoch) {
+      return current;
+    }
+    synchronized (rotationLock) {
+      current = windows;
+      if (current.current().epoch() < epoch) {
+        RiskWindow previous = current.current().epoch() == epoch - 1
+            ? current.current()
+            : new RiskWindow(epoch - 1, policy.sizing());
+        current = new Windows(new RiskWindow(epoch, policy.sizing()), previous);
+        windows = current;
+        log.debug("[FRAUD SCREENING] Rotated risk window | epoch: {}", epoch);
+      }
+      return current;
+    }
+  }
+
+  private double previousWeight(long nowMillis) {
+    return 1.0 - (double) (nowMillis % policy.windowMillis()) / policy.windowMillis();
+  }
+
+  private void registerDistinct(String dimension, ToLongFunction<RiskWindow> estimate) {
+    Gauge.builder("topup.risk.distinct", this, service -> estimate.applyAsLong(service.windows.current()))
+        .tag("dimension", dimension)
+        .description("Distinct values seen in the current risk window")
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,137 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.topup.domain.model.*;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.*;
+import com.multipagos.multipagos_backend.topup.domain.port.in.CarrierDetectionServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.FloatLedgerServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.ReactiveTopUpServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.SpendingLimitServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ReactiveAuthenticationPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ReactiveSupplierPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ReactiveTopUpPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionEventPublisherPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking top-up orchestration
+ * Token fetch and catalog lookup run concurrently, then the PENDING record is
+ * stored and /buy is called; timeouts and retries live in the WebClient adapters
+ * JPA writes stay blocking and are moved to the bounded elastic scheduler
+ * Once subscribed, the pipeline is detached from its subscriber: a client that
+ * disconnects mid-call cannot cancel /buy or release reservations that the
+ * still-PENDING transaction depends on; they settle when the provider answers
+ */
+@Service
+@ConditionalOnProperty(prefix = "puntored.api", name = "client", havingValue = "webclient")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveTopUpService implements ReactiveTopUpServicePort {
+
+  private final ReactiveAuthenticationPort authenticationPort;
+  private final ReactiveSupplierPort supplierPort;
+  private final ReactiveTopUpPort topUpPort;
+  private final TransactionRepositoryPort transactionRepositoryPort;
+  private final CarrierDetectionServicePort carrierDetection;
+  private final SpendingLimitServicePort spendingLimits;
+  private final TransactionEventPublisherPort transactionEvents;
+  private final FloatLedgerServicePort floatLedger;
+
+  @Override
+  public Mono<TransactionDomain> executeTopUp(TopUpRequest request, Long userId) {
+    return Mono.defer(() -> Mono.fromFuture(process(request, userId).toFuture(), true));
+  }
+
+  private Mono<TransactionDomain> process(TopUpRequest request, Long userId) {
+    return Mono.defer(() -> {
+      validate(request, userId);
+      log.info("[REACTIVE TOPUP] Processing top-up transaction for phone: {} | value: {} | supplier: {} | userId: {}",
+          request.getCellPhone(), request.getValue(), request.getSupplierId(), userId);
+
+      Mono<Supplier> supplierLookup = supplierPort.findByIdAsync(request.getSupplierId())
+          .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Invalid top-up request")));
+      Mono<AuthToken> tokenFetch = authenticationPort.authenticateAsync(null, null);
+
+      // First touch of a user or phone hydrates its window from the database
+      Mono<SpendingReservation> reservation = Mono.fromCallable(
+              () -> spendingLimits.reserve(userId, request.getPhoneNumberVO(), request.getAmountVO()))
+          .subscribeOn(Schedulers.boundedElastic());
+
+      return reservation.flatMap(held -> Mono.fromCallable(() -> floatLedger.reserve(request.getAmountVO()))
+          .doOnError(e -> spendingLimits.release(held))
+          .flatMap(floatHeld -> supplierLookup.zipWith(tokenFetch)
+              .flatMap(stages -> save(createPendingTransaction(request, userId, stages.getT1()), request)
+                  .flatMap(saved -> buy(saved, request, stages.getT2(), floatHeld)))
+              .doOnSuccess(completed -> spendingLimits.confirm(held))
+              .doOnError(e -> {
+                spendingLimits.release(held);
+                floatLedger.release(floatHeld);
+              })));
+    });
+  }
+
+  private Mono<TransactionDomain> buy(TransactionDomain saved, TopUpRequest request, AuthToken authToken,
+      FloatReservation floatHeld) {
+    log.info("[REACTIVE TOPUP] Transaction created with ID: {}", saved.getId());
+
+    return topUpPort.executeTopUpAsync(request, authToken)
+        // The ledger insert is blocking; a release after it finds the reservation settled
+        .flatMap(externalTransactionId -> Mono.fromRunnable(() -> floatLedger.commit(floatHeld, saved))
+            .subscribeOn(Schedulers.boundedElastic())
+            .thenReturn(externalTransactionId))
+        .onErrorResume(e -> {
+          log.error("[REACTIVE TOPUP] Error processing top-up | transaction ID: {} | error: {}",
+              saved.getId(), e.getMessage(), e);
+          saved.fail(e.getMessage());
+          return save(saved, request).then(Mono.error(new RuntimeException("Error procesando la recarga: " + e.getMessage())));
+        })
+        .flatMap(externalTransactionId -> {
+          saved.complete(externalTransactionId, "Top-up completed successfully");
+          return save(saved, request);
+        })
+        .doOnNext(completed -> log.info("[REACTIVE TOPUP] Transaction completed successfully | ID: {} | external ID: {}",
+            completed.getId(), completed.getExternalTransactionId()));
+  }
+
+  private Mono<TransactionDomain> save(TransactionDomain transaction, TopUpRequest request) {
+    return Mono.fromCallable(() -> transactionRepositoryPort.save(transaction))
+        .subscribeOn(Schedulers.boundedElastic())
+        .doOnNext(saved -> transactionEvents.publish(TransactionStatusChangedEvent.of(saved, request.getClientIp())));
+  }
+
+  private void validate(TopUpRequest request, Long userId) {
+    if (request == null) {
+      throw new IllegalArgumentException("Invalid top-up request");
+    }
+    if (userId == null || userId <= 0) {
+      throw new IllegalArgumentException("Valid user ID is required");
+    }
+    PhoneNumber.of(request.getCellPhone());
+    if (request.getAmountVO() == null) {
+      throw new IllegalArgumentException("El valor es requerido");
+    }
+    SupplierId.of(request.getSupplierId());
+    carrierDetection.requireCompatible(request.getSupplierIdVO(), request.getPhoneNumberVO());
+  }
+
+  private TransactionDomain createPendingTransaction(TopUpRequest request, Long userId, Supplier supplier) {
+    return TransactionDomain.builder()
+        .userId(userId)
+        .phoneNumber(PhoneNumber.of(request.getCellPhone()))
+        .amount(request.getAmountVO())
+        .supplierId(SupplierId.of(request.getSupplierId()))
+        .supplierName(supplier.getName())
+        .status(TransactionStatus.PENDING)
+        .active(true)
+        .createdAt(LocalDateTime.now())
+        .updatedAt(LocalDateTime.now())
+        .build();
+  }
+}
@@ -0,0 +1,100 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.shared.application.util.BloomFilter;
+import com.multipagos.multipagos_backend.shared.application.util.CountMinSketch;
+import com.multipagos.multipagos_backend.shared.application.util.HyperLogLog;
+import com.multipagos.multipagos_backend.topup.domain.model.RiskSignal;
+import com.multipagos.multipagos_backend.topup.domain.model.RiskSketchSizing;
+import com.multipagos.multipagos_backend.topup.domain.model.RiskSubject;
+
+/**
+ * Sketches for one time window; memory is fixed by the sizing, whatever the traffic
+ * Event counts per key go to a count-min sketch. Fan-out signals add one to their
+ * key only the first time a pair is seen, which a Bloom filter decides; a false
+ * positive there can only undercount. HyperLogLogs track distinct users, phones
+ * and IPs across the whole window. Safe for concurrent use
+ */
+final class RiskWindow {
+
+  private final long epoch;
+  private final CountMinSketch counts;
+  private final BloomFilter pairs;
+  private final HyperLogLog users;
+  private final HyperLogLog phones;
+  private final HyperLogLog ips;
+
+  RiskWindow(long epoch, RiskSketchSizing sizing) {
+    this.epoch = epoch;
+    this.counts = CountMinSketch.create(sizing.width(), sizing.depth());
+    this.pairs = BloomFilter.create(sizing.expectedPairs(), sizing.pairFalsePositiveRate());
+    this.users = HyperLogLog.create(sizing.hllPrecision());
+    this.phones = HyperLogLog.create(sizing.hllPrecision());
+    this.ips = HyperLogLog.create(sizing.hllPrecision());
+  }
+
+  public long epoch() {
+    return epoch;
+  }
+
+  /**
+   * Counts a created transaction under every attempt and fan-out signal
+   */
+  public void recordAttempt(RiskSubject subject) {
+    for (RiskSignal signal : RiskSignal.values()) {
+      if (signal == RiskSignal.USER_FAILURES) {
+        continue;
+      }
+      String key = subject.key(signal);
+      if (key == null) {
+        continue;
+      }
+      if (!signal.isFanOut()) {
+        counts.add(key, 1L);
+      } else if (!pairs.mightContain(subject.pairKey(signal))) {
+        pairs.put(subject.pairKey(signal));
+        counts.add(key, 1L);
+      }
+    }
+    users.add(String.valueOf(subject.userId()));
+    phones.add(Long.toString(subject.phoneDigits()));
+    if (subject.clientIp() != null) {
+      ips.add(subject.clientIp());
+    }
+  }
+
+  public void recordFailure(RiskSubject subject) {
+    counts.add(subject.key(RiskSignal.USER_FAILURES), 1L);
+  }
+
+  /**
+   * @return count for the subject under the signal, 0 when the subject lacks that dimension
+   */
+  public long estimate(RiskSignal signal, RiskSubject subject) {
+    String key = subject.key(signal);
+    return key != null ? counts.estimate(key) : 0L;
+  }
+
+  /**
+   * Whether a fan-out signal already counted this subject's pair
+   */
+  public boolean hasSeenPair(RiskSignal signal, RiskSubject subject) {
+    String pairKey = subject.pairKey(signal);
+    return pairKey != null && pairs.mightContain(pairKey);
+  }
+
+  public long distinctUsers() {
+    return users.estimate();
+  }
+
+  public long distinctPhones() {
+    return phones.estimate();
+  }
+
+  public long distinctIps() {
+    return ips.estimate();
+  }
+
+  public long byteSize() {
+    return counts.byteSize() + pairs.byteSize() + users.byteSize() + phones.byteSize() + ips.byteSize();
+  }
+}
@@ -0,0 +1,135 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduleRecurrence;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUp;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUpStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.port.in.CarrierDetectionServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.ScheduledTopUpServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ScheduledTopUpRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Creates and manages scheduled top-ups; running them is left to the dispatcher,
+ * which goes through TopUpServicePort like any other top-up
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledTopUpService implements ScheduledTopUpServicePort {
+
+  private static final String NOT_FOUND_MESSAGE = "Recarga programada no encontrada";
+
+  private final ScheduledTopUpRepositoryPort repository;
+  private final CarrierDetectionServicePort carrierDetection;
+
+  @Value("${topup.schedule.max-per-user:10}")
+  private int maxPerUser;
+
+  @Value("${topup.schedule.max-advance-days:366}")
+  private int maxAdvanceDays;
+
+  @Override
+  public ScheduledTopUp schedule(TopUpRequest request, Long userId, ScheduleRecurrence recurrence,
+      LocalDateTime firstRunAt, String label) {
+    if (request == null || !request.isValid()) {
+      throw new IllegalArgumentException("Solicitud de recarga inválida");
+    }
+    carrierDetection.requireCompatible(request.getSupplierIdVO(), request.getPhoneNumberVO());
+    if (recurrence == null) {
+      throw new IllegalArgumentException("La frecuencia es requerida");
+    }
+    LocalDateTime now = LocalDateTime.now();
+    if (firstRunAt == null || !firstRunAt.isAfter(now)) {
+      throw new IllegalArgumentException("La fecha de la primera recarga debe ser futura");
+    }
+    if (firstRunAt.isAfter(now.plusDays(maxAdvanceDays))) {
+      throw new IllegalArgumentException(
+          String.format("La primera recarga no puede programarse a más de %d días", maxAdvanceDays));
+    }
+    if (repository.countOpenByUserId(userId) >= maxPerUser) {
+      throw new IllegalArgumentException(
+          String.format("Alcanzó el máximo de %d recargas programadas", maxPerUser));
+    }
+
+    ScheduledTopUp saved = repository.save(ScheduledTopUp.builder()
+        .userId(userId)
+        .phoneNumber(request.getPhoneNumberVO())
+        .amount(request.getAmountVO())
+        .supplierId(request.getSupplierIdVO())
+        .label(label != null && !label.isBlank() ? label.trim() : null)
+        .recurrence(recurrence)
+        .anchorDay(firstRunAt.getDayOfMonth())
+        .nextRunAt(firstRunAt)
+        .status(ScheduledTopUpStatus.ACTIVE)
+        .build());
+    log.info("[SCHEDULED TOPUP] Scheduled | id: {} | userId: {} | recurrence: {} | firstRun: {}",
+        saved.getId(), userId, recurrence, firstRunAt);
+    return saved;
+  }
+
+  @Override
+  public List<ScheduledTopUp> getUserSchedules(Long userId) {
+    return repository.findByUserId(userId);
+  }
+
+  @Override
+  public ScheduledTopUp pause(Long scheduleId, Long userId) {
+    ScheduledTopUp schedule = find(scheduleId, userId);
+    return transition(schedule, ScheduledTopUpStatus.ACTIVE, ScheduledTopUpStatus.PAUSED, schedule.getNextRunAt(),
+        "Solo se puede pausar una recarga programada activa");
+  }
+
+  @Override
+  public ScheduledTopUp resume(Long scheduleId, Long userId) {
+    ScheduledTopUp schedule = find(scheduleId, userId);
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime nextRunAt = schedule.getNextRunAt();
+    if (!nextRunAt.isAfter(now)) {
+      // Occurrences missed while paused are skipped; a one-time schedule runs right away
+      LocalDateTime next = schedule.nextOccurrenceAfter(now);
+      nextRunAt = next != null ? next : now;
+    }
+    return transition(schedule, ScheduledTopUpStatus.PAUSED, ScheduledTopUpStatus.ACTIVE, nextRunAt,
+        "Solo se puede reanudar una recarga programada pausada");
+  }
+
+  @Override
+  public ScheduledTopUp cancel(Long scheduleId, Long userId) {
+    ScheduledTopUp schedule = find(scheduleId, userId);
+    if (schedule.isFinished()) {
+      throw new IllegalArgumentException("La recarga programada ya finalizó");
+    }
+    return transition(schedule, schedule.getStatus(), ScheduledTopUpStatus.CANCELLED, schedule.getNextRunAt(),
+        "La recarga programada cambió, intente nuevamente");
+  }
+
+  private ScheduledTopUp find(Long scheduleId, Long userId) {
+    return repository.findByIdAndUserId(scheduleId, userId)
+        .filter(schedule -> schedule.getStatus() != ScheduledTopUpStatus.CANCELLED)
+        .orElseThrow(() -> new IllegalArgumentException(NOT_FOUND_MESSAGE));
+  }
+
+  /**
+   * Conditional on the current status, so a change racing with the dispatcher or
+   * another request is reported instead of overwritten
+   */
+  private ScheduledTopUp transition(ScheduledTopUp schedule, ScheduledTopUpStatus expected,
+      ScheduledTopUpStatus status, LocalDateTime nextRunAt, String conflictMessage) {
+    if (schedule.getStatus() != expected
+        || !repository.updateStatus(schedule.getId(), schedule.getUserId(), expected, status, nextRunAt)) {
+      throw new IllegalArgumentException(conflictMessage);
+    }
+    log.info("[SCHEDULED TOPUP] Status changed | id: {} | userId: {} | {} -> {}",
+        schedule.getId(), schedule.getUserId(), expected, status);
+    schedule.setStatus(status);
+    schedule.setNextRunAt(nextRunAt);
+    return schedule;
+  }
+}
@@ -0,0 +1,356 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.shared.application.util.BloomFilter;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementMismatch;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementMismatchType;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementRecord;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementSummary;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatusChangedEvent;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.port.in.FloatLedgerServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.SettlementReconciliationServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionEventPublisherPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Reconciles a provider settlement file against our transactions with a chunked hash join
+ * Lines are read in chunks of chunk-size; each chunk becomes a map keyed by external id,
+ * probed with one IN query instead of a lookup per line. Lines without a match are tried
+ * against PENDING transactions to the same phone and value around the settlement time:
+ * a single candidate is completed, since the provider charged it. Every settled id also
+ * goes into a Bloom filter, and once the file is done COMPLETED transactions of the
+ * file's period that the filter has certainly not seen are reported as missing from it.
+ * Repeated ids are caught across the whole file with an exact map of the ids read so
+ * far, about 100 bytes per line; a false DUPLICATE would skip a real line, so the
+ * filter is not used for that. Memory is that map, the chunk and the filter
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementReconciliationService implements SettlementReconciliationServicePort {
+
+  private static final String FIX_MESSAGE = "Recarga confirmada por conciliación con el proveedor";
+
+  private final TransactionRepositoryPort transactionRepository;
+  private final TransactionEventPublisherPort transactionEvents;
+  private final FloatLedgerServicePort floatLedger;
+  private final MeterRegistry meterRegistry;
+
+  /** Lines per IN query */
+  @Value("${topup.settlement.chunk-size:1000}")
+  private int chunkSize;
+
+  @Value("${topup.settlement.auto-fix:true}")
+  private boolean autoFix;
+
+  /** How far a PENDING transaction's creation may be from the settlement time and still match */
+  @Value("${topup.settlement.match-window-ms:600000}")
+  private long matchWindowMs;
+
+  /** Younger PENDING transactions may still be in flight and are never auto-fixed */
+  @Value("${topup.settlement.pending-min-age-ms:600000}")
+  private long pendingMinAgeMs;
+
+  @Value("${topup.settlement.check-unsettled:true}")
+  private boolean checkUnsettled;
+
+  /** Sizes the Bloom filter of settled ids; a larger file only raises its false positive rate */
+  @Value("${topup.settlement.expected-lines:5000000}")
+  private long expectedLines;
+
+  @Value("${topup.settlement.false-positive-rate:0.001}")
+  private double falsePositiveRate;
+
+  /** Transactions this close to the end of the file's period may settle in the next file */
+  @Value("${topup.settlement.period-margin-ms:300000}")
+  private long periodMarginMs;
+
+  /**
+   * State of one file; the service itself is shared by concurrent runs
+   */
+  private final class Run {
+    private final Consumer<SettlementMismatch> report;
+    private final Map<SettlementMismatchType, Long> findings = new EnumMap<>(SettlementMismatchType.class);
+    private final BloomFilter settledIds;
+    /** First line of every external id read so far */
+    private final Map<String, Long> firstLines = new HashMap<>();
+    private final LocalDateTime fixableBefore = LocalDateTime.now().minusNanos(pendingMinAgeMs * 1_000_000);
+    private long lines;
+    private long matched;
+    private LocalDateTime firstSettledAt;
+    private LocalDateTime lastSettledAt;
+
+    private Run(Consumer<SettlementMismatch> report) {
+      this.report = report;
+      this.settledIds = checkUnsettled ? BloomFilter.create(expectedLines, falsePositiveRate) : null;
+    }
+
+    private void track(SettlementRecord record) {
+      if (settledIds != null && record.status() == SettlementStatus.SETTLED) {
+        settledIds.put(record.externalTransactionId());
+      }
+      LocalDateTime settledAt = record.settledAt();
+      if (settledAt != null) {
+        firstSettledAt = firstSettledAt == null || settledAt.isBefore(firstSettledAt) ? settledAt : firstSettledAt;
+        lastSettledAt = lastSettledAt == null || settledAt.isAfter(lastSettledAt) ? settledAt : lastSettledAt;
+      }
+    }
+
+    private void report(SettlementMismatchType type, SettlementRecord record, TransactionDomain transaction,
+        String detail) {
+      findings.merge(type, 1L, Long::sum);
+      report.accept(SettlementMismatch.of(type, record, transaction, detail));
+    }
+  }
+
+  @Override
+  public SettlementSummary reconcile(String source, Iterator<SettlementRecord> records,
+      Consumer<SettlementMismatch> report) {
+    LocalDateTime startedAt = LocalDateTime.now();
+    log.info("[SETTLEMENT] Reconciliation started | source: {}", source);
+    Run run = new Run(report);
+
+    List<SettlementRecord> chunk = new ArrayList<>(chunkSize);
+    while (records.hasNext()) {
+      SettlementRecord record = records.next();
+      run.lines++;
+      if (!record.isValid()) {
+        run.report(SettlementMismatchType.INVALID_LINE, record, null, record.invalidReason());
+        continue;
+      }
+      Long firstLine = run.firstLines.putIfAbsent(record.externalTransactionId(), record.lineNumber());
+      if (firstLine != null) {
+        run.report(SettlementMismatchType.DUPLICATE, record, null, "Repetida en el archivo (línea " + firstLine + ")");
+        continue;
+      }
+      run.track(record);
+      chunk.add(record);
+      if (chunk.size() >= chunkSize) {
+        join(run, chunk);
+        chunk.clear();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      join(run, chunk);
+    }
+    if (run.settledIds != null && run.firstSettledAt != null) {
+      findUnsettled(run);
+    }
+
+    SettlementSummary summary = new SettlementSummary(source, run.lines, run.matched,
+        Collections.unmodifiableMap(new EnumMap<>(run.findings)), startedAt, LocalDateTime.now());
+    meterRegistry.counter("topup.settlement.lines").increment(run.lines);
+    run.findings.forEach((type, count) ->
+        meterRegistry.counter("topup.settlement.findings", "type", type.name()).increment(count));
+    log.info("[SETTLEMENT] Reconciliation finished | source: {} | lines: {} | matched: {} | findings: {}",
+        source, run.lines, run.matched, run.findings);
+    return summary;
+  }
+
+  /**
+   * Build side is the chunk, probe side one IN query over its external ids; the chunk
+   * holds no repeated ids, those were reported as they were read
+   */
+  private void join(Run run, List<SettlementRecord> chunk) {
+    Map<String, SettlementRecord> byExternalId = new LinkedHashMap<>(chunk.size() * 2);
+    for (SettlementRecord record : chunk) {
+      byExternalId.put(record.externalTransactionId(), record);
+    }
+
+    Map<String, TransactionDomain> ours = new HashMap<>(byExternalId.size() * 2);
+    for (TransactionDomain transaction : transactionRepository.findByExternalTransactionIds(byExternalId.keySet())) {
+      ours.putIfAbsent(transaction.getExternalTransactionId(), transaction);
+    }
+
+    List<SettlementRecord> unmatched = new ArrayList<>();
+    for (SettlementRecord record : byExternalId.values()) {
+      TransactionDomain transaction = ours.get(record.externalTransactionId());
+      if (transaction == null) {
+        unmatched.add(record);
+      } else {
+        compare(run, record, transaction);
+      }
+    }
+    if (!unmatched.isEmpty()) {
+      matchPending(run, unmatched);
+    }
+  }
+
+  private void compare(Run run, SettlementRecord record, TransactionDomain transaction) {
+    long ourCents = transaction.getAmount() != null ? transaction.getAmount().getCents() : 0L;
+    if (ourCents != record.amountCents()) {
+      run.report(SettlementMismatchType.AMOUNT_MISMATCH, record, transaction, String.format(
+          "Liquidado $%s, registrado $%s", Amount.toDecimal(record.amountCents()), Amount.toDecimal(ourCents)));
+      return;
+    }
+
+    boolean settled = record.status() == SettlementStatus.SETTLED;
+    switch (transaction.getStatus()) {
+      case COMPLETED -> {
+        if (settled) {
+          run.matched++;
+        } else {
+          run.report(SettlementMismatchType.STATUS_MISMATCH, record, transaction,
+              "Completada aquí, rechazada por el proveedor");
+        }
+      }
+      case FAILED -> {
+        if (settled) {
+          run.report(SettlementMismatchType.STATUS_MISMATCH, record, transaction,
+              "Fallida aquí, cobrada por el proveedor");
+        } else {
+          run.matched++;
+        }
+      }
+      case PENDING -> {
+        if (!settled) {
+          run.report(SettlementMismatchType.STATUS_MISMATCH, record, transaction,
+              "Pendiente aquí, rechazada por el proveedor");
+        } else if (!fix(run, record, transaction)) {
+          run.report(SettlementMismatchType.STATUS_MISMATCH, record, transaction,
+              "Pendiente aquí, cobrada por el proveedor");
+        }
+      }
+    }
+  }
+
+  /**
+   * Settled lines with no transaction by external id are tried against PENDING
+   * transactions to the same phone and value, fetched for the whole batch in one query;
+   * only a single, unclaimed candidate is completed
+   */
+  private void matchPending(Run run, List<SettlementRecord> unmatched) {
+    List<SettlementRecord> searchable = new ArrayList<>();
+    for (SettlementRecord record : unmatched) {
+      if (autoFix && record.status() == SettlementStatus.SETTLED && record.settledAt() != null
+          && record.phoneNumber() != null) {
+        searchable.add(record);
+      } else if (record.status() == SettlementStatus.SETTLED) {
+        run.report(SettlementMismatchType.MISSING, record, null, "Sin transacción registrada");
+      }
+      // A rejected line with no transaction of ours needs no action
+    }
+    if (searchable.isEmpty()) {
+      return;
+    }
+
+    Set<String> phones = new HashSet<>();
+    LocalDateTime first = null;
+    LocalDateTime last = null;
+    for (SettlementRecord record : searchable) {
+      phones.add(record.phoneNumber());
+      first = first == null || record.settledAt().isBefore(first) ? record.settledAt() : first;
+      last = last == null || record.settledAt().isAfter(last) ? record.settledAt() : last;
+    }
+    long windowNanos = matchWindowMs * 1_000_000;
+    Map<String, List<TransactionDomain>> candidatesByKey = new HashMap<>();
+    for (TransactionDomain pending : transactionRepository.findPendingByPhoneNumbers(phones,
+        first.minusNanos(windowNanos), last.plusNanos(windowNanos))) {
+      if (pending.getPhoneNumber() != null && pending.getAmount() != null) {
+        candidatesByKey.computeIfAbsent(key(pending.getPhoneNumber().getValue(), pending.getAmount().getCents()),
+            k -> new ArrayList<>()).add(pending);
+      }
+    }
+
+    Set<Long> claimed = new HashSet<>();
+    for (SettlementRecord record : searchable) {
+      LocalDateTime from = record.settledAt().minusNanos(windowNanos);
+      LocalDateTime to = record.settledAt().plusNanos(windowNanos);
+      List<TransactionDomain> candidates = candidatesByKey.getOrDefault(key(record.phoneNumber(), record.amountCents()),
+              List.of()).stream()
+          .filter(pending -> !claimed.contains(pending.getId()))
+          .filter(pending -> pending.getCreatedAt() != null
+              && !pending.getCreatedAt().isBefore(from) && !pending.getCreatedAt().isAfter(to))
+          .toList();
+
+      if (candidates.isEmpty()) {
+        run.report(SettlementMismatchType.MISSING, record, null, "Sin transacción registrada");
+      } else if (candidates.size() > 1) {
+        run.report(SettlementMismatchType.MISSING, record, null,
+            candidates.size() + " transacciones pendientes coinciden; requiere revisión manual");
+      } else {
+        TransactionDomain candidate = candidates.get(0);
+        claimed.add(candidate.getId());
+        if (!fix(run, record, candidate)) {
+          run.report(SettlementMismatchType.MISSING, record, candidate,
+              "Transacción pendiente coincidente no confirmada automáticamente");
+        }
+      }
+    }
+  }
+
+  /**
+   * Completes a PENDING transaction the provider charged, unless it is young enough to
+   * still be in flight or changed since it was read
+   */
+  private boolean fix(Run run, SettlementRecord record, TransactionDomain transaction) {
+    if (!autoFix || transaction.getCreatedAt() == null || transaction.getCreatedAt().isAfter(run.fixableBefore)) {
+      return false;
+    }
+    if (!transactionRepository.completeIfPending(transaction.getId(), record.externalTransactionId(), FIX_MESSAGE)) {
+      return false;
+    }
+    transaction.complete(record.externalTransactionId(), FIX_MESSAGE);
+    try {
+      floatLedger.recordDebit(transaction);
+    } catch (RuntimeException e) {
+      log.error("[SETTLEMENT] Float debit not recorded | transactionId: {} | error: {}",
+          transaction.getId(), e.getMessage());
+    }
+    transactionEvents.publish(TransactionStatusChangedEvent.of(transaction, null));
+    run.report(SettlementMismatchType.AUTO_FIXED, record, transaction, "PENDING -> COMPLETED");
+    log.info("[SETTLEMENT] Pending transaction completed from settlement | transactionId: {} | external ID: {}",
+        transaction.getId(), record.externalTransactionId());
+    return true;
+  }
+
+  /**
+   * Pages through COMPLETED transactions of the file's period; a negative Bloom answer is
+   * exact, so every report is real, while a false positive can hide a missing one
+   */
+  private void findUnsettled(Run run) {
+    LocalDateTime to = run.lastSettledAt.minusNanos(periodMarginMs * 1_000_000);
+    LocalDateTime afterCreatedAt = run.firstSettledAt;
+    long afterId = 0L;
+    while (!to.isBefore(afterCreatedAt)) {
+      List<TransactionDomain> page = transactionRepository.findCompletedAfter(afterCreatedAt, afterId, to, chunkSize);
+      for (TransactionDomain transaction : page) {
+        String externalId = transaction.getExternalTransactionId();
+        if (externalId != null && !run.settledIds.mightContain(externalId)) {
+          run.report(SettlementMismatchType.NOT_IN_SETTLEMENT, null, transaction,
+              "Completada aquí, ausente en la liquidación");
+        }
+      }
+      if (page.size() < chunkSize) {
+        return;
+      }
+      TransactionDomain lastRow = page.get(page.size() - 1);
+      afterCreatedAt = lastRow.getCreatedAt();
+      afterId = lastRow.getId();
+    }
+  }
+
+  private static String key(String phoneNumber, long amountCents) {
+    return phoneNumber + ":" + amountCents;
+  }
+}
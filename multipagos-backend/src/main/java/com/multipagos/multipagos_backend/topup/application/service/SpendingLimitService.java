@@ -0,0 +1,250 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.SpendingLimitExceededException;
+import com.multipagos.multipagos_backend.topup.domain.model.HourlySpend;
+import com.multipagos.multipagos_backend.topup.domain.model.SpendingLimitPolicy;
+import com.multipagos.multipagos_backend.topup.domain.model.SpendingLimits;
+import com.multipagos.multipagos_backend.topup.domain.model.SpendingReservation;
+import com.multipagos.multipagos_backend.topup.domain.model.SpendingWindow;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
+import com.multipagos.multipagos_backend.topup.domain.port.in.SpendingLimitServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Enforces daily and monthly spending caps per user and per destination phone
+ * Counters live in memory as hour/day ring buffers; each user or phone is hydrated
+ * from the database the first time it is seen, so the top-up path never runs a SUM.
+ * The user window is always locked before the phone window, so reserving both
+ * cannot deadlock. Database reads never run under a window lock: the load happens
+ * first and is applied under the lock only if no reservation on that window was
+ * confirmed meanwhile. Counters touched since the last pass are reloaded on a schedule,
+ * which also picks up spend written by other nodes; between passes a node only
+ * sees its own top-ups for a given user or phone
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpendingLimitService implements SpendingLimitServicePort {
+
+  private static final int HYDRATION_DAYS = SpendingWindow.DAYS_PER_MONTH_WINDOW;
+
+  private final SpendingLimitPolicy policy;
+  private final TransactionRepositoryPort transactionRepositoryPort;
+  private final MeterRegistry meterRegistry;
+
+  private final Map<Long, SpendingWindow> userWindows = new ConcurrentHashMap<>();
+  private final Map<Long, SpendingWindow> phoneWindows = new ConcurrentHashMap<>();
+  private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+  @Value("${topup.limits.enabled:true}")
+  private boolean enabled;
+
+  @Value("${topup.limits.idle-eviction-ms:3600000}")
+  private long idleEvictionMs;
+
+  @PostConstruct
+  void registerMetrics() {
+    Gauge.builder("topup.limits.tracked", userWindows, Map::size)
+        .tag("scope", "user")
+        .description("Users with spending counters in memory")
+        .register(meterRegistry);
+    Gauge.builder("topup.limits.tracked", phoneWindows, Map::size)
+        .tag("scope", "phone")
+        .description("Phones with spending counters in memory")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public SpendingReservation reserve(Long userId, PhoneNumber phoneNumber, Amount amount) {
+    if (!enabled) {
+      return SpendingReservation.none();
+    }
+
+    long now = System.currentTimeMillis();
+    long cents = amount.getCents();
+    SpendingLimits limits = policy.limitsFor(userId);
+
+    while (true) {
+      SpendingWindow user = userWindows.computeIfAbsent(userId, id -> new SpendingWindow());
+      SpendingWindow phone = phoneWindows.computeIfAbsent(phoneNumber.getDigits(), digits -> new SpendingWindow());
+      hydrate(user, () -> transactionRepositoryPort.getHourlySpendByUser(userId, hydrationStart()));
+      hydrate(phone, () -> transactionRepositoryPort.getHourlySpendByPhone(phoneNumber.getValue(), hydrationStart()));
+
+      synchronized (user) {
+        synchronized (phone) {
+          // Evicted by reconcile between lookup and lock, or a racing load was discarded; retry
+          if (userWindows.get(userId) != user || phoneWindows.get(phoneNumber.getDigits()) != phone
+              || !user.isHydrated() || !phone.isHydrated()) {
+            continue;
+          }
+          user.touch(now);
+          phone.touch(now);
+
+          check(limits.userDailyCents(), user.lastDayCents(now), cents, "user", "day",
+              "Supera el límite diario de recargas del usuario");
+          check(limits.userMonthlyCents(), user.lastMonthCents(now), cents, "user", "month",
+              "Supera el límite mensual de recargas del usuario");
+          check(limits.phoneDailyCents(), phone.lastDayCents(now), cents, "phone", "day",
+              "Supera el límite diario de recargas para este número");
+          check(limits.phoneMonthlyCents(), phone.lastMonthCents(now), cents, "phone", "month",
+              "Supera el límite mensual de recargas para este número");
+
+          SpendingReservation reservation = new SpendingReservation(userId, phoneNumber.getDigits(), cents, now);
+          user.hold(reservation);
+          phone.hold(reservation);
+          return reservation;
+        }
+      }
+    }
+  }
+
+  @Override
+  public void confirm(SpendingReservation reservation) {
+    apply(reservation, false);
+  }
+
+  @Override
+  public void release(SpendingReservation reservation) {
+    apply(reservation, true);
+    if (!reservation.isNone()) {
+      log.debug("[SPENDING LIMITS] Released {} cents | userId: {}", reservation.cents(), reservation.userId());
+    }
+  }
+
+  /**
+   * Reloads counters that changed since the last pass and drops idle ones
+   * Windows with reservations in flight are never dropped; a reload that raced with
+   * a confirmation is discarded and the window stays dirty for the next pass
+   */
+  @Scheduled(fixedDelayString = "${topup.limits.reconcile-interval-ms:300000}",
+      initialDelayString = "${topup.limits.reconcile-interval-ms:300000}")
+  public void reconcile() {
+    if (!enabled) {
+      return;
+    }
+    long idleBefore = System.currentTimeMillis() - idleEvictionMs;
+    int reloaded = 0;
+    try {
+      reloaded += reconcile(userWindows, idleBefore,
+          userId -> transactionRepositoryPort.getHourlySpendByUser(userId, hydrationStart()));
+      reloaded += reconcile(phoneWindows, idleBefore,
+          digits -> transactionRepositoryPort.getHourlySpendByPhone(Long.toString(digits), hydrationStart()));
+    } catch (DataAccessException e) {
+      log.warn("[SPENDING LIMITS] Reconciliation interrupted, keeping current counters | error: {}", e.getMessage());
+    }
+    log.debug("[SPENDING LIMITS] Reconciled {} counters | users: {} | phones: {}",
+        reloaded, userWindows.size(), phoneWindows.size());
+  }
+
+  private int reconcile(Map<Long, SpendingWindow> windows, long idleBefore,
+      Function<Long, List<HourlySpend>> loader) {
+    int reloaded = 0;
+    for (Map.Entry<Long, SpendingWindow> entry : windows.entrySet()) {
+      SpendingWindow window = entry.getValue();
+      long generation;
+      synchronized (window) {
+        if (window.getLastTouchedMillis() < idleBefore && !window.hasInFlight()) {
+          windows.remove(entry.getKey(), window);
+          continue;
+        }
+        if (!window.isDirty()) {
+          continue;
+        }
+        generation = window.getSettledGeneration();
+      }
+      List<HourlySpend> persisted = loader.apply(entry.getKey());
+      synchronized (window) {
+        if (window.reloadIfUnchanged(persisted, ZoneId.systemDefault(), generation)) {
+          reloaded++;
+        }
+      }
+    }
+    return reloaded;
+  }
+
+  private void apply(SpendingReservation reservation, boolean release) {
+    if (reservation == null || reservation.isNone()) {
+      return;
+    }
+    SpendingWindow user = userWindows.get(reservation.userId());
+    SpendingWindow phone = phoneWindows.get(reservation.phoneDigits());
+    if (user != null) {
+      synchronized (user) {
+        if (release) {
+          user.release(reservation);
+        } else {
+          user.confirm(reservation);
+        }
+      }
+    }
+    if (phone != null) {
+      synchronized (phone) {
+        if (release) {
+          phone.release(reservation);
+        } else {
+          phone.confirm(reservation);
+        }
+      }
+    }
+  }
+
+  /**
+   * Loads without holding the window lock; concurrent first requests may both query,
+   * and the later one finds the window already hydrated
+   */
+  private void hydrate(SpendingWindow window,
+      Supplier<List<HourlySpend>> loader) {
+    long generation;
+    synchronized (window) {
+      if (window.isHydrated()) {
+        return;
+      }
+      generation = window.getSettledGeneration();
+    }
+    List<HourlySpend> persisted = loader.get();
+    synchronized (window) {
+      if (!window.isHydrated()) {
+        window.reloadIfUnchanged(persisted, ZoneId.systemDefault(), generation);
+      }
+    }
+  }
+
+  private void check(long limitCents, long spentCents, long requestedCents, String scope, String window,
+      String message) {
+    if (SpendingLimits.exceeds(limitCents, spentCents, requestedCents)) {
+      rejections.computeIfAbsent(scope + "." + window, key -> Counter.builder("topup.limits.rejected")
+          .tag("scope", scope)
+          .tag("window", window)
+          .description("Top-ups rejected by a spending cap")
+          .register(meterRegistry))
+          .increment();
+      log.info("[SPENDING LIMITS] Rejected | scope: {} | window: {} | spent: {} | requested: {} | limit: {}",
+          scope, window, spentCents, requestedCents, limitCents);
+      throw new SpendingLimitExceededException(String.format("%s (disponible: $%d)", message,
+          Math.max(0L, limitCents - spentCents) / 100));
+    }
+  }
+
+  private static LocalDateTime hydrationStart() {
+    return LocalDateTime.now().minusDays(HYDRATION_DAYS);
+  }
+}
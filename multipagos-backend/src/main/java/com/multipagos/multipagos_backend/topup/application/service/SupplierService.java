@@ -80,4 +80,9 @@ public class SupplierService implements SupplierServicePort {
       throw new RuntimeException("Error inesperado actualizando proveedores: " + e.getMessage(), e);
     }
   }
+
+  @Override
+  public Optional<String> getCatalogVersion() {
+    return supplierPort.getCatalogVersion();
+  }
 }
@@ -2,14 +2,17 @@ package com.multipagos.multipagos_backend.topup.application.service;
 
 import com.multipagos.multipagos_backend.topup.domain.model.*;
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.*;
+import com.multipagos.multipagos_backend.topup.domain.port.in.CarrierDetectionServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.FloatLedgerServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.SpendingLimitServicePort;
 import com.multipagos.multipagos_backend.topup.domain.port.in.TopUpServicePort;
 import com.multipagos.multipagos_backend.topup.domain.port.out.TopUpPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionEventPublisherPort;
 import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionRepositoryPort;
 import com.multipagos.multipagos_backend.topup.domain.port.out.SupplierPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
@@ -24,13 +27,25 @@ public class TopUpService implements TopUpServicePort {
   private final TopUpPort topUpPort;
   private final SupplierPort supplierPort;
   private final TransactionRepositoryPort transactionRepositoryPort;
-
+  private final CarrierDetectionServicePort carrierDetection;
+  private final SpendingLimitServicePort spendingLimits;
+  private final TransactionEventPublisherPort transactionEvents;
+  private final FloatLedgerServicePort floatLedger;
+
+  /**
+   * Runs outside any transaction, so every save commits on its own: the PENDING row
+   * is visible to other nodes while /buy is in flight, and a FAILED outcome is kept.
+   * Deliberately not annotated: even a NOT_SUPPORTED scope binds one EntityManager
+   * for the whole method, and its connection stays checked out during /buy
+   */
   @Override
-  @Transactional
   public TransactionDomain executeTopUp(TopUpRequest request, Long userId) {
     log.info("[TOPUP SERVICE] Processing top-up transaction for phone: {} | value: {} | supplier: {} | userId: {}",
         request.getCellPhone(), request.getValue(), request.getSupplierId(), userId);
 
+    // Prefix check is an array lookup; runs before the supplier catalog and the database are touched
+    carrierDetection.requireCompatible(request.getSupplierIdVO(), request.getPhoneNumberVO());
+
     if (!validateTopUpRequest(request)) {
       throw new IllegalArgumentException("Invalid top-up request");
     }
@@ -39,28 +54,52 @@ public class TopUpService implements TopUpServicePort {
       throw new IllegalArgumentException("Valid user ID is required");
     }
 
-    TransactionDomain transaction = createPendingTransaction(request, userId);
-    TransactionDomain savedTransaction = transactionRepositoryPort.save(transaction);
+    // Counted against the in-memory windows before the PENDING row exists, so concurrent requests see it
+    SpendingReservation reservation = spendingLimits.reserve(userId, request.getPhoneNumberVO(), request.getAmountVO());
+    FloatReservation floatReservation;
+    try {
+      floatReservation = floatLedger.reserve(request.getAmountVO());
+    } catch (RuntimeException e) {
+      spendingLimits.release(reservation);
+      throw e;
+    }
+
+    TransactionDomain savedTransaction;
+    try {
+      savedTransaction = transactionRepositoryPort.save(createPendingTransaction(request, userId));
+    } catch (RuntimeException e) {
+      spendingLimits.release(reservation);
+      floatLedger.release(floatReservation);
+      throw e;
+    }
     log.info("[TOPUP SERVICE] Transaction created with ID: {}", savedTransaction.getId());
+    transactionEvents.publish(TransactionStatusChangedEvent.of(savedTransaction, request.getClientIp()));
 
     try {
       log.info("[TOPUP SERVICE] Executing top-up with external provider");
       String externalTransactionId = topUpPort.executeTopUp(request);
+      // Recorded before the status update: the provider has spent the float even if that save fails
+      floatLedger.commit(floatReservation, savedTransaction);
 
       savedTransaction.complete(externalTransactionId, "Top-up completed successfully");
       savedTransaction = transactionRepositoryPort.save(savedTransaction);
+      transactionEvents.publish(TransactionStatusChangedEvent.of(savedTransaction, request.getClientIp()));
 
       log.info("[TOPUP SERVICE] Transaction completed successfully | ID: {} | external ID: {}",
           savedTransaction.getId(), savedTransaction.getExternalTransactionId());
 
+      spendingLimits.confirm(reservation);
       return savedTransaction;
 
     } catch (Exception e) {
       log.error("[TOPUP SERVICE] Error processing top-up | transaction ID: {} | error: {}",
           savedTransaction.getId(), e.getMessage(), e);
 
+      spendingLimits.release(reservation);
+      floatLedger.release(floatReservation);
       savedTransaction.fail(e.getMessage());
       transactionRepositoryPort.save(savedTransaction);
+      transactionEvents.publish(TransactionStatusChangedEvent.of(savedTransaction, request.getClientIp()));
 
       throw new RuntimeException("Error procesando la recarga: " + e.getMessage());
     }
@@ -76,7 +115,9 @@ public class TopUpService implements TopUpServicePort {
 
     try {
       PhoneNumber.of(request.getCellPhone());
-      Amount.of(request.getValue());
+      if (request.getAmountVO() == null) {
+        throw new IllegalArgumentException("El valor es requerido");
+      }
       SupplierId.of(request.getSupplierId());
 
       return supplierPort.existsById(request.getSupplierId());
@@ -95,7 +136,7 @@ public class TopUpService implements TopUpServicePort {
     return TransactionDomain.builder()
         .userId(userId)
         .phoneNumber(PhoneNumber.of(request.getCellPhone()))
-        .amount(Amount.of(request.getValue()))
+        .amount(request.getAmountVO())
         .supplierId(SupplierId.of(request.getSupplierId()))
         .supplierName(supplierName)
         .status(TransactionStatus.PENDING)
@@ -6,12 +6,14 @@ import com.multipagos.multipagos_backend.shared.domain.value.PagedResult;
 import com.multipagos.multipagos_backend.topup.domain.model.*;
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
 import com.multipagos.multipagos_backend.topup.domain.port.in.TransactionServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.HistoryVersionPort;
 import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +27,7 @@ public class TransactionService implements TransactionServicePort {
 
   private final TransactionRepositoryPort transactionRepository;
   private final UserRepositoryPort userRepository;
+  private final HistoryVersionPort historyVersionPort;
 
   @Override
   @Transactional(readOnly = true)
@@ -103,4 +106,20 @@ public class TransactionService implements TransactionServicePort {
 
     return transactionRepository.findByUserIdAndActiveTrue(userId, pageRequest);
   }
+
+  @Override
+  public String getHistoryVersion(Long userId) {
+    return historyVersionPort.getVersion(userId);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<TransactionDomain> getTransactionsUpdatedAfter(LocalDateTime afterUpdatedAt, long afterId, int limit) {
+    return transactionRepository.findUpdatedAfter(afterUpdatedAt, afterId, limit);
+  }
+
+  @Override
+  public void markHistoryChanged(TransactionDomain transaction) {
+    historyVersionPort.markChanged(transaction.getUserId(), transaction.getId(), transaction.getUpdatedAt());
+  }
 }
@@ -0,0 +1,11 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * What happens to a top-up identical to one sent within the suppression window
+ */
+public enum DuplicateHandling {
+  /** Rejected; the client is told a matching top-up was already sent */
+  REJECT,
+  /** Waits for the first top-up and answers with the same transaction */
+  JOIN
+}
@@ -0,0 +1,21 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Point-in-time view of the provider float on this node
+ * @param availableCents ledger balance minus top-ups in flight, including other nodes' spend
+ *                       only up to the last reconciliation
+ * @param reservedCents float held by top-ups waiting for Puntored
+ */
+public record FloatBalance(long availableCents, long reservedCents, long lowBalanceCents,
+                           LocalDateTime lastReconciledAt, long lastDriftCents) {
+
+  public boolean isLow() {
+    return lowBalanceCents > 0 && availableCents < lowBalanceCents;
+  }
+
+  public boolean isExhausted() {
+    return availableCents <= 0;
+  }
+}
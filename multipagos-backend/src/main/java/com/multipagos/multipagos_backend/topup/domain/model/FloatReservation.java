@@ -0,0 +1,41 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Float held for a top-up between the reservation and Puntored's answer
+ * Settles once: a release after the commit, or a second release, does nothing
+ */
+public final class FloatReservation {
+
+  private static final FloatReservation NONE = new FloatReservation(0L);
+
+  private final long cents;
+  private final AtomicBoolean settled = new AtomicBoolean();
+
+  public FloatReservation(long cents) {
+    this.cents = cents;
+  }
+
+  /**
+   * Placeholder returned when the ledger is disabled; settling it does nothing
+   */
+  public static FloatReservation none() {
+    return NONE;
+  }
+
+  public boolean isNone() {
+    return this == NONE;
+  }
+
+  public long cents() {
+    return cents;
+  }
+
+  /**
+   * @return true for the first caller only
+   */
+  public boolean settle() {
+    return !isNone() && settled.compareAndSet(false, true);
+  }
+}
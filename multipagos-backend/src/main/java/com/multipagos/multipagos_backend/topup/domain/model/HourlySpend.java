@@ -0,0 +1,9 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value of PENDING and COMPLETED top-ups within one hour, in integer cents
+ */
+public record HourlySpend(LocalDateTime hour, long cents) {
+}
@@ -0,0 +1,16 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Float balance after every ledger entry up to lastEntryId, so the current balance
+ * only needs the entries written since
+ */
+public record LedgerCheckpoint(long lastEntryId, long balanceCents, LocalDateTime createdAt) {
+
+  private static final LedgerCheckpoint EMPTY = new LedgerCheckpoint(0L, 0L, null);
+
+  public static LedgerCheckpoint empty() {
+    return EMPTY;
+  }
+}
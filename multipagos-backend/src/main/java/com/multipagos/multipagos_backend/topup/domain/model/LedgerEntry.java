@@ -0,0 +1,51 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One append-only movement of the provider float
+ * The reference is unique, so recording the same movement twice is a no-op
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerEntry {
+
+  private Long id;
+  private LedgerEntryType type;
+  private long amountCents;
+  /** Top-up that spent the float; null for credits */
+  private Long transactionId;
+  private String reference;
+  private String description;
+  private LocalDateTime createdAt;
+
+  public static LedgerEntry debit(TransactionDomain transaction) {
+    return LedgerEntry.builder()
+        .type(LedgerEntryType.DEBIT)
+        .amountCents(transaction.getAmount().getCents())
+        .transactionId(transaction.getId())
+        .reference("topup:" + transaction.getId())
+        .description(transaction.getSupplierName())
+        .build();
+  }
+
+  public static LedgerEntry credit(long amountCents, String reference, String description) {
+    return LedgerEntry.builder()
+        .type(LedgerEntryType.CREDIT)
+        .amountCents(amountCents)
+        .reference(reference)
+        .description(description)
+        .build();
+  }
+
+  public long signedCents() {
+    return type.signed(amountCents);
+  }
+}
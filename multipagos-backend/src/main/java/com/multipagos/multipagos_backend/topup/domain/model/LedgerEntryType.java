@@ -0,0 +1,15 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * Direction of a provider float movement
+ */
+public enum LedgerEntryType {
+  /** Float spent on a completed top-up */
+  DEBIT,
+  /** Float added, e.g. a deposit with the provider or the opening balance */
+  CREDIT;
+
+  public long signed(long cents) {
+    return this == DEBIT ? -cents : cents;
+  }
+}
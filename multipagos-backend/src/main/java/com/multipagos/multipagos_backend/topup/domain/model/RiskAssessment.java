@@ -0,0 +1,21 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.util.List;
+
+/**
+ * Risk stage result for one top-up
+ * score is the highest ratio of a projected signal to its limit; reasons lists
+ * the signals above their limit
+ */
+public record RiskAssessment(RiskDecision decision, double score, List<RiskSignal> reasons) {
+
+  private static final RiskAssessment ALLOWED = new RiskAssessment(RiskDecision.ALLOW, 0.0, List.of());
+
+  public static RiskAssessment allowed() {
+    return ALLOWED;
+  }
+
+  public boolean stopsTopUp() {
+    return decision == RiskDecision.REVIEW || decision == RiskDecision.BLOCK;
+  }
+}
@@ -0,0 +1,13 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * Outcome of the risk stage, ordered from least to most severe
+ */
+public enum RiskDecision {
+  ALLOW,
+  /** Proceeds; logged and counted for later analysis */
+  FLAG,
+  /** Stopped until someone reviews the account */
+  REVIEW,
+  BLOCK
+}
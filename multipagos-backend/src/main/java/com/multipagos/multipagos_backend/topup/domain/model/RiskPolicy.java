@@ -0,0 +1,66 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Limits per signal within one window and the ratios that escalate a top-up
+ * A signal above its limit flags the top-up, above limit * reviewRatio holds it
+ * for review and above limit * blockRatio blocks it. A limit of 0 disables the signal
+ * Immutable and thread-safe
+ */
+public final class RiskPolicy {
+
+  private final long windowMillis;
+  private final RiskSketchSizing sizing;
+  private final Map<RiskSignal, Long> limits;
+  private final double reviewRatio;
+  private final double blockRatio;
+  private final boolean enforce;
+
+  public RiskPolicy(long windowMillis, RiskSketchSizing sizing, Map<RiskSignal, Long> limits,
+      double reviewRatio, double blockRatio, boolean enforce) {
+    if (windowMillis <= 0) {
+      throw new IllegalArgumentException("Risk window must be positive");
+    }
+    if (reviewRatio < 1.0 || blockRatio < reviewRatio) {
+      throw new IllegalArgumentException("Risk ratios must satisfy 1 <= review <= block");
+    }
+    this.windowMillis = windowMillis;
+    this.sizing = sizing;
+    this.limits = new EnumMap<>(RiskSignal.class);
+    this.limits.putAll(limits);
+    this.reviewRatio = reviewRatio;
+    this.blockRatio = blockRatio;
+    this.enforce = enforce;
+  }
+
+  public long windowMillis() {
+    return windowMillis;
+  }
+
+  public RiskSketchSizing sizing() {
+    return sizing;
+  }
+
+  public long limitOf(RiskSignal signal) {
+    return limits.getOrDefault(signal, 0L);
+  }
+
+  public RiskDecision decide(double score) {
+    if (score > blockRatio) {
+      return RiskDecision.BLOCK;
+    }
+    if (score > reviewRatio) {
+      return RiskDecision.REVIEW;
+    }
+    return score > 1.0 ? RiskDecision.FLAG : RiskDecision.ALLOW;
+  }
+
+  /**
+   * When false the stage only logs and counts decisions (shadow mode)
+   */
+  public boolean isEnforced() {
+    return enforce;
+  }
+}
@@ -0,0 +1,21 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * Velocity signals tracked per time window
+ * Attempt and failure signals count events per key; fan-out signals count
+ * distinct counterparts per key, e.g. distinct phones topped up by one user
+ */
+public enum RiskSignal {
+  USER_ATTEMPTS,
+  PHONE_ATTEMPTS,
+  IP_ATTEMPTS,
+  SUPPLIER_ATTEMPTS,
+  PHONES_PER_USER,
+  USERS_PER_PHONE,
+  USERS_PER_IP,
+  USER_FAILURES;
+
+  public boolean isFanOut() {
+    return this == PHONES_PER_USER || this == USERS_PER_PHONE || this == USERS_PER_IP;
+  }
+}
@@ -0,0 +1,14 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * Memory budget for one risk window
+ *
+ * @param width                 count-min counters per row
+ * @param depth                 count-min rows
+ * @param expectedPairs         distinct fan-out pairs per window the Bloom filter is sized for
+ * @param pairFalsePositiveRate Bloom filter false positive rate at expectedPairs
+ * @param hllPrecision          log2 of the HyperLogLog register count
+ */
+public record RiskSketchSizing(int width, int depth, long expectedPairs, double pairFalsePositiveRate,
+    int hllPrecision) {
+}
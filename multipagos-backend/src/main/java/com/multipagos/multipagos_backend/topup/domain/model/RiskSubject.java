@@ -0,0 +1,35 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * Keys a top-up is scored and counted under; clientIp may be null when unknown
+ */
+public record RiskSubject(Long userId, long phoneDigits, String clientIp, String supplierId) {
+
+  /**
+   * Sketch key for the signal, or null when the subject lacks that dimension
+   */
+  public String key(RiskSignal signal) {
+    return switch (signal) {
+      case USER_ATTEMPTS -> "ua:" + userId;
+      case PHONE_ATTEMPTS -> "pa:" + phoneDigits;
+      case IP_ATTEMPTS -> clientIp != null ? "ia:" + clientIp : null;
+      case SUPPLIER_ATTEMPTS -> supplierId != null ? "sa:" + supplierId : null;
+      case PHONES_PER_USER -> "pu:" + userId;
+      case USERS_PER_PHONE -> "up:" + phoneDigits;
+      case USERS_PER_IP -> clientIp != null ? "ui:" + clientIp : null;
+      case USER_FAILURES -> "uf:" + userId;
+    };
+  }
+
+  /**
+   * Key plus counterpart, used to tell whether a fan-out signal has seen this pair already
+   */
+  public String pairKey(RiskSignal signal) {
+    return switch (signal) {
+      case PHONES_PER_USER -> "pu:" + userId + "|" + phoneDigits;
+      case USERS_PER_PHONE -> "up:" + phoneDigits + "|" + userId;
+      case USERS_PER_IP -> clientIp != null ? "ui:" + clientIp + "|" + userId : null;
+      default -> null;
+    };
+  }
+}
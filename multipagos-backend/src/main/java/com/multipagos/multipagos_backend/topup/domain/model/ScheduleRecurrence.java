@@ -0,0 +1,31 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * How often a scheduled top-up repeats
+ */
+public enum ScheduleRecurrence {
+  /** Runs once and completes */
+  ONCE,
+  WEEKLY,
+  /** Same day of month as the first run, clamped to the last day of shorter months */
+  MONTHLY;
+
+  /**
+   * Occurrence following the given one, or null for ONCE
+   */
+  public LocalDateTime next(LocalDateTime occurrence, int anchorDay) {
+    return switch (this) {
+      case ONCE -> null;
+      case WEEKLY -> occurrence.plusWeeks(1);
+      case MONTHLY -> {
+        YearMonth month = YearMonth.from(occurrence).plusMonths(1);
+        yield occurrence.withDayOfMonth(1)
+            .plusMonths(1)
+            .withDayOfMonth(Math.min(Math.max(anchorDay, 1), month.lengthOfMonth()));
+      }
+    };
+  }
+}
@@ -0,0 +1,71 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A top-up a user asked to run later, once or on a recurrence
+ * The lease fields tell which node has claimed the next run and until when
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledTopUp {
+
+  private Long id;
+  private Long userId;
+  private PhoneNumber phoneNumber;
+  private Amount amount;
+  private SupplierId supplierId;
+  private String label;
+  private ScheduleRecurrence recurrence;
+  /** Day of month of the first run, kept so MONTHLY returns to it after a short month */
+  private int anchorDay;
+  private LocalDateTime nextRunAt;
+  private ScheduledTopUpStatus status;
+  private String leaseOwner;
+  private LocalDateTime leaseUntil;
+  private LocalDateTime lastRunAt;
+  private Long lastTransactionId;
+  private TransactionStatus lastStatus;
+  private String lastMessage;
+  private int consecutiveFailures;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+
+  public TopUpRequest toTopUpRequest() {
+    return TopUpRequest.builder()
+        .phoneNumber(phoneNumber)
+        .amount(amount)
+        .supplierId(supplierId)
+        .build();
+  }
+
+  /**
+   * First occurrence after now, skipping any missed while no node was running,
+   * or null when the schedule does not repeat
+   */
+  public LocalDateTime nextOccurrenceAfter(LocalDateTime now) {
+    LocalDateTime next = recurrence.next(nextRunAt, anchorDay);
+    while (next != null && !next.isAfter(now)) {
+      next = recurrence.next(next, anchorDay);
+    }
+    return next;
+  }
+
+  public boolean isActive() {
+    return status == ScheduledTopUpStatus.ACTIVE;
+  }
+
+  public boolean isFinished() {
+    return status == ScheduledTopUpStatus.COMPLETED || status == ScheduledTopUpStatus.CANCELLED;
+  }
+}
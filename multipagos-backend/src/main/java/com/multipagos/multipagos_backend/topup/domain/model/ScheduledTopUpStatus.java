@@ -0,0 +1,12 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * Lifecycle of a scheduled top-up; only ACTIVE ones are picked up by the dispatcher
+ */
+public enum ScheduledTopUpStatus {
+  ACTIVE,
+  PAUSED,
+  /** A one-time schedule that already ran */
+  COMPLETED,
+  CANCELLED
+}
@@ -0,0 +1,34 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * One entry of a settlement reconciliation report; amounts in cents
+ * @param lineNumber line in the settlement file, 0 for transactions absent from it
+ */
+public record SettlementMismatch(
+    SettlementMismatchType type,
+    long lineNumber,
+    String externalTransactionId,
+    Long transactionId,
+    String phoneNumber,
+    Long settledAmountCents,
+    Long ourAmountCents,
+    SettlementStatus settledStatus,
+    TransactionStatus ourStatus,
+    String detail) {
+
+  public static SettlementMismatch of(SettlementMismatchType type, SettlementRecord record,
+      TransactionDomain transaction, String detail) {
+    return new SettlementMismatch(
+        type,
+        record != null ? record.lineNumber() : 0L,
+        record != null ? record.externalTransactionId() : transaction.getExternalTransactionId(),
+        transaction != null ? transaction.getId() : null,
+        record != null && record.phoneNumber() != null ? record.phoneNumber()
+            : transaction != null && transaction.getPhoneNumber() != null ? transaction.getPhoneNumber().getValue() : null,
+        record != null && record.isValid() ? record.amountCents() : null,
+        transaction != null && transaction.getAmount() != null ? transaction.getAmount().getCents() : null,
+        record != null ? record.status() : null,
+        transaction != null ? transaction.getStatus() : null,
+        detail);
+  }
+}
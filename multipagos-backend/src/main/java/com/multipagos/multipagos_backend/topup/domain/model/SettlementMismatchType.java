@@ -0,0 +1,18 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * Kinds of entries in a settlement reconciliation report
+ */
+public enum SettlementMismatchType {
+  /** Settled by the provider with no transaction of ours */
+  MISSING,
+  AMOUNT_MISMATCH,
+  STATUS_MISMATCH,
+  /** COMPLETED here but absent from the settlement file */
+  NOT_IN_SETTLEMENT,
+  /** External id already read on an earlier line of the file */
+  DUPLICATE,
+  INVALID_LINE,
+  /** PENDING transaction completed from the settlement; reported for audit */
+  AUTO_FIXED
+}
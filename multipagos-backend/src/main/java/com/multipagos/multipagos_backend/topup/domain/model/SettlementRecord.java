@@ -0,0 +1,27 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * One line of a provider settlement file
+ * A line that could not be parsed keeps its number, whatever external id could be
+ * read and the reason in invalidReason; its other fields are empty
+ * @param settledAt when the provider charged it; null if the file has no date column
+ */
+public record SettlementRecord(
+    long lineNumber,
+    String externalTransactionId,
+    String phoneNumber,
+    long amountCents,
+    SettlementStatus status,
+    LocalDateTime settledAt,
+    String invalidReason) {
+
+  public static SettlementRecord invalid(long lineNumber, String externalTransactionId, String reason) {
+    return new SettlementRecord(lineNumber, externalTransactionId, null, 0L, null, null, reason);
+  }
+
+  public boolean isValid() {
+    return invalidReason == null;
+  }
+}
@@ -0,0 +1,33 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Outcome of a top-up as reported in the provider's settlement file
+ */
+public enum SettlementStatus {
+  /** Charged by the provider */
+  SETTLED,
+  /** Rejected or reversed; nothing was charged */
+  REJECTED;
+
+  private static final Set<String> SETTLED_VALUES = Set.of("COMPLETED", "SUCCESS", "APPROVED", "OK",
+      "APROBADA", "EXITOSA", "LIQUIDADA");
+  private static final Set<String> REJECTED_VALUES = Set.of("FAILED", "REJECTED", "REVERSED", "CANCELLED",
+      "RECHAZADA", "FALLIDA", "REVERSADA", "ANULADA");
+
+  /**
+   * @throws IllegalArgumentException if the value is not a known settlement status
+   */
+  public static SettlementStatus parse(String value) {
+    String normalized = value == null ? "" : value.trim().toUpperCase(Locale.ROOT);
+    if (SETTLED_VALUES.contains(normalized)) {
+      return SETTLED;
+    }
+    if (REJECTED_VALUES.contains(normalized)) {
+      return REJECTED;
+    }
+    throw new IllegalArgumentException("Estado de liquidación desconocido: " + value);
+  }
+}
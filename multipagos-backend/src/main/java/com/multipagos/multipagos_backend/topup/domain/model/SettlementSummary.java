@@ -0,0 +1,22 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Totals of one settlement reconciliation run
+ * @param matched lines that agree with our transaction
+ * @param findings report entries by type, auto-fixes included
+ */
+public record SettlementSummary(
+    String source,
+    long lines,
+    long matched,
+    Map<SettlementMismatchType, Long> findings,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt) {
+
+  public long count(SettlementMismatchType type) {
+    return findings.getOrDefault(type, 0L);
+  }
+}
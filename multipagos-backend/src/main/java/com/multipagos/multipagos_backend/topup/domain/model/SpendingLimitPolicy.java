@@ -0,0 +1,33 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.util.Map;
+
+/**
+ * Spending limits per user tier and the tier each user belongs to
+ * Users without an explicit assignment, or assigned to an unknown tier, get the default tier
+ * Immutable and thread-safe
+ */
+public final class SpendingLimitPolicy {
+
+  private final Map<String, SpendingLimits> tiers;
+  private final Map<Long, String> userTiers;
+  private final String defaultTier;
+
+  public SpendingLimitPolicy(Map<String, SpendingLimits> tiers, Map<Long, String> userTiers, String defaultTier) {
+    if (!tiers.containsKey(defaultTier)) {
+      throw new IllegalArgumentException("Default spending tier not defined: " + defaultTier);
+    }
+    this.tiers = Map.copyOf(tiers);
+    this.userTiers = Map.copyOf(userTiers);
+    this.defaultTier = defaultTier;
+  }
+
+  public String tierOf(Long userId) {
+    String tier = userTiers.get(userId);
+    return tier != null && tiers.containsKey(tier) ? tier : defaultTier;
+  }
+
+  public SpendingLimits limitsFor(Long userId) {
+    return tiers.get(tierOf(userId));
+  }
+}
@@ -0,0 +1,21 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * Caps in integer cents for one user tier; 0 disables a cap
+ * Daily caps cover the last 24 hours, monthly caps the last 30 days
+ */
+public record SpendingLimits(long userDailyCents, long userMonthlyCents,
+                             long phoneDailyCents, long phoneMonthlyCents) {
+
+  public static final SpendingLimits UNLIMITED = new SpendingLimits(0, 0, 0, 0);
+
+  public SpendingLimits {
+    if (userDailyCents < 0 || userMonthlyCents < 0 || phoneDailyCents < 0 || phoneMonthlyCents < 0) {
+      throw new IllegalArgumentException("Spending limits cannot be negative");
+    }
+  }
+
+  public static boolean exceeds(long limitCents, long spentCents, long requestedCents) {
+    return limitCents > 0 && spentCents + requestedCents > limitCents;
+  }
+}
@@ -0,0 +1,21 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * Value held against a user's and a phone's spending windows while a top-up runs
+ * Confirmed when the transaction completes, released when it fails
+ */
+public record SpendingReservation(Long userId, long phoneDigits, long cents, long reservedAtMillis) {
+
+  private static final SpendingReservation NONE = new SpendingReservation(null, 0L, 0L, 0L);
+
+  /**
+   * Placeholder returned when limits are disabled; confirming or releasing it does nothing
+   */
+  public static SpendingReservation none() {
+    return NONE;
+  }
+
+  public boolean isNone() {
+    return this == NONE;
+  }
+}
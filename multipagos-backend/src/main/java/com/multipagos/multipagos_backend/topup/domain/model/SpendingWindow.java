@@ -0,0 +1,181 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sliding spend totals for one user or one phone, kept in fixed ring buffers:
+ * 24 hourly buckets for the daily window and 30 daily buckets for the monthly one
+ * Each bucket remembers which hour or day it holds, so stale buckets are skipped
+ * and reused without a cleanup pass. Not thread-safe; callers lock the instance
+ */
+public final class SpendingWindow {
+
+  public static final int HOURS_PER_DAY_WINDOW = 24;
+  public static final int DAYS_PER_MONTH_WINDOW = 30;
+
+  private static final long MILLIS_PER_HOUR = 3_600_000L;
+  private static final long MILLIS_PER_DAY = 86_400_000L;
+
+  private final long[] hourCents = new long[HOURS_PER_DAY_WINDOW];
+  private final long[] hourStamp = new long[HOURS_PER_DAY_WINDOW];
+  private final long[] dayCents = new long[DAYS_PER_MONTH_WINDOW];
+  private final long[] dayStamp = new long[DAYS_PER_MONTH_WINDOW];
+  private final Set<SpendingReservation> inFlight = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  private boolean hydrated;
+  private boolean dirty;
+  private long settledGeneration;
+  private volatile long lastTouchedMillis;
+
+  public SpendingWindow() {
+    Arrays.fill(hourStamp, -1L);
+    Arrays.fill(dayStamp, -1L);
+  }
+
+  public void add(long atMillis, long cents) {
+    long hour = Math.floorDiv(atMillis, MILLIS_PER_HOUR);
+    int h = (int) Math.floorMod(hour, HOURS_PER_DAY_WINDOW);
+    if (hourStamp[h] != hour) {
+      hourStamp[h] = hour;
+      hourCents[h] = 0L;
+    }
+    hourCents[h] += cents;
+
+    long day = Math.floorDiv(atMillis, MILLIS_PER_DAY);
+    int d = (int) Math.floorMod(day, DAYS_PER_MONTH_WINDOW);
+    if (dayStamp[d] != day) {
+      dayStamp[d] = day;
+      dayCents[d] = 0L;
+    }
+    dayCents[d] += cents;
+  }
+
+  /**
+   * Removes a previously added amount if its buckets have not rotated out yet
+   */
+  public void subtract(long atMillis, long cents) {
+    long hour = Math.floorDiv(atMillis, MILLIS_PER_HOUR);
+    int h = (int) Math.floorMod(hour, HOURS_PER_DAY_WINDOW);
+    if (hourStamp[h] == hour) {
+      hourCents[h] = Math.max(0L, hourCents[h] - cents);
+    }
+
+    long day = Math.floorDiv(atMillis, MILLIS_PER_DAY);
+    int d = (int) Math.floorMod(day, DAYS_PER_MONTH_WINDOW);
+    if (dayStamp[d] == day) {
+      dayCents[d] = Math.max(0L, dayCents[d] - cents);
+    }
+  }
+
+  /**
+   * Spend in the current hour and the 23 before it
+   */
+  public long lastDayCents(long nowMillis) {
+    long current = Math.floorDiv(nowMillis, MILLIS_PER_HOUR);
+    long total = 0L;
+    for (int i = 0; i < HOURS_PER_DAY_WINDOW; i++) {
+      if (hourStamp[i] > current - HOURS_PER_DAY_WINDOW && hourStamp[i] <= current) {
+        total += hourCents[i];
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Spend in the current day and the 29 before it
+   */
+  public long lastMonthCents(long nowMillis) {
+    long current = Math.floorDiv(nowMillis, MILLIS_PER_DAY);
+    long total = 0L;
+    for (int i = 0; i < DAYS_PER_MONTH_WINDOW; i++) {
+      if (dayStamp[i] > current - DAYS_PER_MONTH_WINDOW && dayStamp[i] <= current) {
+        total += dayCents[i];
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Replaces all buckets with persisted spend, then re-applies reservations still in
+   * flight since their rows may not be committed yet
+   */
+  public void reload(List<HourlySpend> persisted, ZoneId zone) {
+    Arrays.fill(hourCents, 0L);
+    Arrays.fill(hourStamp, -1L);
+    Arrays.fill(dayCents, 0L);
+    Arrays.fill(dayStamp, -1L);
+    for (HourlySpend spend : persisted) {
+      add(spend.hour().atZone(zone).toInstant().toEpochMilli(), spend.cents());
+    }
+    for (SpendingReservation reservation : inFlight) {
+      add(reservation.reservedAtMillis(), reservation.cents());
+    }
+    hydrated = true;
+    dirty = false;
+  }
+
+  /**
+   * Reloads only if no reservation was confirmed since the generation was read.
+   * A confirmation leaves in-flight while the load runs, and its row may have
+   * committed after the read, so applying the stale load would drop that spend
+   *
+   * @return false when the load raced with a confirmation and was discarded
+   */
+  public boolean reloadIfUnchanged(List<HourlySpend> persisted, ZoneId zone, long generation) {
+    if (settledGeneration != generation) {
+      return false;
+    }
+    reload(persisted, zone);
+    return true;
+  }
+
+  public void hold(SpendingReservation reservation) {
+    add(reservation.reservedAtMillis(), reservation.cents());
+    inFlight.add(reservation);
+    dirty = true;
+  }
+
+  public void confirm(SpendingReservation reservation) {
+    if (inFlight.remove(reservation)) {
+      settledGeneration++;
+    }
+  }
+
+  public void release(SpendingReservation reservation) {
+    if (inFlight.remove(reservation)) {
+      subtract(reservation.reservedAtMillis(), reservation.cents());
+    }
+  }
+
+  public boolean isHydrated() {
+    return hydrated;
+  }
+
+  public boolean isDirty() {
+    return dirty;
+  }
+
+  /**
+   * Read under the instance lock before starting a load for {@link #reloadIfUnchanged}
+   */
+  public long getSettledGeneration() {
+    return settledGeneration;
+  }
+
+  public boolean hasInFlight() {
+    return !inFlight.isEmpty();
+  }
+
+  public void touch(long nowMillis) {
+    lastTouchedMillis = nowMillis;
+  }
+
+  public long getLastTouchedMillis() {
+    return lastTouchedMillis;
+  }
+}
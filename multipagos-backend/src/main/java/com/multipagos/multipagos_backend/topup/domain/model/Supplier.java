@@ -1,6 +1,7 @@
 package com.multipagos.multipagos_backend.topup.domain.model;
 
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.CarrierPrefixTable;
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierId;
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierType;
@@ -78,17 +79,17 @@ public class Supplier {
   /**
    * Business rule: Check if supplier supports a specific phone number
    */
-  public boolean supportsPhoneNumber(PhoneNumber phoneNumber) {
+  public boolean supportsPhoneNumber(PhoneNumber phoneNumber, CarrierPrefixTable carriers) {
     if (!isActive() || supplierId == null) {
       return false;
     }
-    return supplierId.supportsPhoneNumber(phoneNumber);
+    return supplierId.supportsPhoneNumber(phoneNumber, carriers);
   }
 
   /**
    * Business rule: Check if supplier can process a top-up request
    */
-  public boolean canProcessTopUp(TopUpRequest request) {
+  public boolean canProcessTopUp(TopUpRequest request, CarrierPrefixTable carriers) {
     if (!isActive()) {
       return false;
     }
@@ -103,7 +104,7 @@ public class Supplier {
     }
 
     // Check if supplier supports the phone number
-    return supportsPhoneNumber(request.getPhoneNumber());
+    return supportsPhoneNumber(request.getPhoneNumber(), carriers);
   }
 
   /**
@@ -0,0 +1,70 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A top-up's place in the duplicate suppression window
+ * The owner executes the top-up and publishes the outcome; a duplicate only
+ * waits on the owner's outcome. Untracked claims come from a disabled or
+ * bypassed window and behave as owners with nobody waiting
+ */
+public final class TopUpClaim {
+
+  private final TopUpFingerprint fingerprint;
+  private final boolean owner;
+  private final CompletableFuture<TransactionDomain> outcome;
+  private final long startedAtMillis;
+
+  private TopUpClaim(TopUpFingerprint fingerprint, boolean owner, CompletableFuture<TransactionDomain> outcome,
+      long startedAtMillis) {
+    this.fingerprint = fingerprint;
+    this.owner = owner;
+    this.outcome = outcome;
+    this.startedAtMillis = startedAtMillis;
+  }
+
+  public static TopUpClaim owner(TopUpFingerprint fingerprint, long startedAtMillis) {
+    return new TopUpClaim(fingerprint, true, new CompletableFuture<>(), startedAtMillis);
+  }
+
+  public static TopUpClaim untracked() {
+    return new TopUpClaim(null, true, new CompletableFuture<>(), 0L);
+  }
+
+  /**
+   * Duplicate of a top-up still running on this node or already completed
+   */
+  public static TopUpClaim joining(TopUpClaim original) {
+    return new TopUpClaim(original.fingerprint, false, original.outcome, original.startedAtMillis);
+  }
+
+  /**
+   * Duplicate of a transaction already stored, possibly by another node
+   */
+  public static TopUpClaim joining(TopUpFingerprint fingerprint, TransactionDomain stored, long startedAtMillis) {
+    return new TopUpClaim(fingerprint, false, CompletableFuture.completedFuture(stored), startedAtMillis);
+  }
+
+  public TopUpFingerprint fingerprint() {
+    return fingerprint;
+  }
+
+  public boolean isOwner() {
+    return owner;
+  }
+
+  public boolean isTracked() {
+    return fingerprint != null;
+  }
+
+  /**
+   * Completes with the owner's transaction, or exceptionally with the owner's error
+   */
+  public CompletableFuture<TransactionDomain> outcome() {
+    return outcome;
+  }
+
+  public long startedAtMillis() {
+    return startedAtMillis;
+  }
+}
@@ -0,0 +1,13 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * What makes two top-ups identical for duplicate suppression: same user, phone,
+ * value and supplier
+ */
+public record TopUpFingerprint(Long userId, long phoneDigits, long amountCents, String supplierId) {
+
+  public static TopUpFingerprint of(TopUpRequest request, Long userId) {
+    return new TopUpFingerprint(userId, request.getPhoneNumberVO().getDigits(),
+        request.getAmountVO().getCents(), request.getSupplierId());
+  }
+}
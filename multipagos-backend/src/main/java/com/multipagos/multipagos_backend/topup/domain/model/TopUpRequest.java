@@ -1,6 +1,7 @@
 package com.multipagos.multipagos_backend.topup.domain.model;
 
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.CarrierPrefixTable;
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierId;
 import lombok.AllArgsConstructor;
@@ -24,6 +25,8 @@ public class TopUpRequest {
   private PhoneNumber phoneNumber;
   private Amount amount;
   private SupplierId supplierId;
+  /** Caller address, used only by the risk stage; null when unknown */
+  private String clientIp;
 
   /**
    * Constructor for backward compatibility with primitive types
@@ -72,9 +75,9 @@ public class TopUpRequest {
   /**
    * Business rule: Check if supplier is compatible with phone number
    */
-  public boolean isSupplierCompatible() {
+  public boolean isSupplierCompatible(CarrierPrefixTable carriers) {
     return phoneNumber != null && supplierId != null &&
-        supplierId.supportsPhoneNumber(phoneNumber);
+        supplierId.supportsPhoneNumber(phoneNumber, carriers);
   }
 
   /**
@@ -1,6 +1,7 @@
 package com.multipagos.multipagos_backend.topup.domain.model;
 
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.CarrierPrefixTable;
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
 import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierId;
 import lombok.AllArgsConstructor;
@@ -173,9 +174,9 @@ public class TransactionDomain {
   /**
    * Business rule: Check if supplier is compatible with phone number
    */
-  public boolean isSupplierCompatible() {
+  public boolean isSupplierCompatible(CarrierPrefixTable carriers) {
     return phoneNumber != null && supplierId != null &&
-        supplierId.supportsPhoneNumber(phoneNumber);
+        supplierId.supportsPhoneNumber(phoneNumber, carriers);
   }
 
   /**
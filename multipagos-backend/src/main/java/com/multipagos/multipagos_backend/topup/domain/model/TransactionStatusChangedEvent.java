@@ -0,0 +1,36 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+/**
+ * Published after a transaction is stored with a new status: PENDING when it is
+ * created, then COMPLETED or FAILED. clientIp is the caller address when known.
+ * transaction is the stored instance; the caller may keep changing it, so
+ * listeners copy what they need before returning
+ */
+public record TransactionStatusChangedEvent(
+    Long transactionId,
+    Long userId,
+    long phoneDigits,
+    String supplierId,
+    long amountCents,
+    TransactionStatus status,
+    String clientIp,
+    long occurredAtMillis,
+    TransactionDomain transaction) {
+
+  public static TransactionStatusChangedEvent of(TransactionDomain transaction, String clientIp) {
+    return new TransactionStatusChangedEvent(
+        transaction.getId(),
+        transaction.getUserId(),
+        transaction.getPhoneNumber() != null ? transaction.getPhoneNumber().getDigits() : 0L,
+        transaction.getSupplierIdValue(),
+        transaction.getAmount() != null ? transaction.getAmount().getCents() : 0L,
+        transaction.getStatus(),
+        clientIp,
+        System.currentTimeMillis(),
+        transaction);
+  }
+
+  public RiskSubject subject() {
+    return new RiskSubject(userId, phoneDigits, clientIp, supplierId);
+  }
+}
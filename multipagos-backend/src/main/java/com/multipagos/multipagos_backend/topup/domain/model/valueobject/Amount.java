@@ -7,22 +7,35 @@ import java.math.RoundingMode;
 import java.text.NumberFormat;
 import java.util.Currency;
 import java.util.Locale;
-import java.util.Objects;
 
 /**
  * Amount Value Object
  * Encapsulates monetary amount validation and business rules for top-ups
  * Immutable and self-validating following DDD principles
+ * Held as integer cents; BigDecimal only appears when parsing or rendering at the API edge
  */
 @Value
 public class Amount {
 
-  private static final BigDecimal MIN_AMOUNT = new BigDecimal("1000");
-  private static final BigDecimal MAX_AMOUNT = new BigDecimal("100000");
-  private static final Currency CURRENCY = Currency.getInstance("COP");
   private static final int SCALE = 2;
+  private static final long CENTS_PER_UNIT = 100L;
+  private static final long MIN_CENTS = 1000L * CENTS_PER_UNIT;
+  private static final long MAX_CENTS = 100000L * CENTS_PER_UNIT;
+  /** Longer unscaled values could overflow a long and are far beyond MAX_CENTS anyway */
+  private static final int MAX_CENTS_DIGITS = 18;
+  private static final Currency CURRENCY = Currency.getInstance("COP");
+  private static final Locale LOCALE = Locale.of("es", "CO");
+  private static final ThreadLocal<NumberFormat> CURRENCY_FORMAT = ThreadLocal.withInitial(() -> {
+    NumberFormat formatter = NumberFormat.getCurrencyInstance(LOCALE);
+    formatter.setCurrency(CURRENCY);
+    return formatter;
+  });
+  private static final String MIN_AMOUNT_MESSAGE =
+      String.format("El valor debe ser mayor o igual a %s", formatCurrency(MIN_CENTS));
+  private static final String MAX_AMOUNT_MESSAGE =
+      String.format("El valor debe ser menor o igual a %s", formatCurrency(MAX_CENTS));
 
-  BigDecimal value;
+  long cents;
 
   /**
    * Create an Amount with validation
@@ -31,34 +44,22 @@ public class Amount {
    * @throws IllegalArgumentException if amount is invalid
    */
   public Amount(BigDecimal value) {
-    if (value == null) {
-      throw new IllegalArgumentException("El valor es requerido");
-    }
-
-    BigDecimal scaledValue = value.setScale(SCALE, RoundingMode.HALF_UP);
-
-    if (scaledValue.compareTo(MIN_AMOUNT) < 0) {
-      throw new IllegalArgumentException(
-          String.format("El valor debe ser mayor o igual a %s", formatCurrency(MIN_AMOUNT)));
-    }
-
-    if (scaledValue.compareTo(MAX_AMOUNT) > 0) {
-      throw new IllegalArgumentException(
-          String.format("El valor debe ser menor o igual a %s", formatCurrency(MAX_AMOUNT)));
-    }
-
-    if (scaledValue.compareTo(BigDecimal.ZERO) <= 0) {
-      throw new IllegalArgumentException("El valor debe ser positivo");
-    }
-
-    this.value = scaledValue;
+    this(toCents(value));
   }
 
   /**
    * Create Amount from long value (treating as cents)
    */
   public Amount(long cents) {
-    this(new BigDecimal(cents).divide(new BigDecimal("100")));
+    if (cents < MIN_CENTS) {
+      throw new IllegalArgumentException(MIN_AMOUNT_MESSAGE);
+    }
+
+    if (cents > MAX_CENTS) {
+      throw new IllegalArgumentException(MAX_AMOUNT_MESSAGE);
+    }
+
+    this.cents = cents;
   }
 
   /**
@@ -84,39 +85,59 @@ public class Amount {
   }
 
   public static Amount minimum() {
-    return new Amount(MIN_AMOUNT);
+    return new Amount(MIN_CENTS);
   }
 
   public static Amount maximum() {
-    return new Amount(MAX_AMOUNT);
+    return new Amount(MAX_CENTS);
+  }
+
+  /**
+   * Decimal view (scale 2) for DTOs and external APIs
+   */
+  public BigDecimal getValue() {
+    return toDecimal(cents);
+  }
+
+  public static BigDecimal toDecimal(long cents) {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+
+  private static long toCents(BigDecimal value) {
+    if (value == null) {
+      throw new IllegalArgumentException("El valor es requerido");
+    }
+    BigDecimal scaled = value.setScale(SCALE, RoundingMode.HALF_UP);
+    if (scaled.precision() > MAX_CENTS_DIGITS) {
+      throw new IllegalArgumentException(scaled.signum() < 0 ? MIN_AMOUNT_MESSAGE : MAX_AMOUNT_MESSAGE);
+    }
+    return scaled.unscaledValue().longValue();
   }
 
   /**
    * Business rules
    */
   public boolean isValidForTopUp() {
-    return value.compareTo(MIN_AMOUNT) >= 0 && value.compareTo(MAX_AMOUNT) <= 0;
+    return cents >= MIN_CENTS && cents <= MAX_CENTS;
   }
 
   public boolean isMaximumAmount() {
-    return value.compareTo(MAX_AMOUNT) == 0;
+    return cents == MAX_CENTS;
   }
 
   /**
    * Formatting
    */
   public String toCurrencyString() {
-    return formatCurrency(value);
+    return formatCurrency(cents);
   }
 
   public String toPlainString() {
-    return value.toPlainString();
+    return toDecimal(cents).toPlainString();
   }
 
-  private static String formatCurrency(BigDecimal amount) {
-    NumberFormat formatter = NumberFormat.getCurrencyInstance(Locale.of("es", "CO"));
-    formatter.setCurrency(CURRENCY);
-    return formatter.format(amount);
+  private static String formatCurrency(long cents) {
+    return CURRENCY_FORMAT.get().format(toDecimal(cents));
   }
 
   @Override
@@ -126,12 +147,12 @@ public class Amount {
     if (!(o instanceof Amount))
       return false;
     Amount amount = (Amount) o;
-    return Objects.equals(value, amount.value);
+    return cents == amount.cents;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(value);
+    return Long.hashCode(cents);
   }
 
   @Override
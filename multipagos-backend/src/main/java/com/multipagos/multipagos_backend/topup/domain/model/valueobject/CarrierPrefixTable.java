@@ -0,0 +1,107 @@
+package com.multipagos.multipagos_backend.topup.domain.model.valueobject;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Constant-time carrier lookup by the 3-digit mobile prefix (300-399)
+ * Built once from prefix ranges such as "300-305" or "350"; a prefix may belong
+ * to a single carrier only. Immutable and thread-safe
+ */
+public final class CarrierPrefixTable {
+
+  private static final int FIRST_PREFIX = 300;
+  private static final int LAST_PREFIX = 399;
+
+  private static final CarrierPrefixTable DEFAULTS = of(Map.of(
+      SupplierType.CLARO, List.of("300-305"),
+      SupplierType.MOVISTAR, List.of("310-315"),
+      SupplierType.TIGO, List.of("320-323"),
+      SupplierType.WOM, List.of("330-331")));
+
+  private final SupplierType[] byPrefix;
+
+  private CarrierPrefixTable(SupplierType[] byPrefix) {
+    this.byPrefix = byPrefix;
+  }
+
+  /**
+   * Colombian operator ranges used when no table is configured
+   */
+  public static CarrierPrefixTable defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * @throws IllegalArgumentException if a range is malformed, outside 300-399 or
+   *                                  assigned to more than one carrier
+   */
+  public static CarrierPrefixTable of(Map<SupplierType, List<String>> ranges) {
+    SupplierType[] byPrefix = new SupplierType[LAST_PREFIX - FIRST_PREFIX + 1];
+    Map<SupplierType, List<String>> ordered = new EnumMap<>(SupplierType.class);
+    ordered.putAll(ranges);
+
+    for (Map.Entry<SupplierType, List<String>> entry : ordered.entrySet()) {
+      for (String range : entry.getValue()) {
+        int[] bounds = parseRange(range);
+        for (int prefix = bounds[0]; prefix <= bounds[1]; prefix++) {
+          SupplierType current = byPrefix[prefix - FIRST_PREFIX];
+          if (current != null && current != entry.getKey()) {
+            throw new IllegalArgumentException(String.format(
+                "Prefix %d assigned to both %s and %s", prefix, current.getName(), entry.getKey().getName()));
+          }
+          byPrefix[prefix - FIRST_PREFIX] = entry.getKey();
+        }
+      }
+    }
+    return new CarrierPrefixTable(byPrefix);
+  }
+
+  public Optional<SupplierType> detect(PhoneNumber phoneNumber) {
+    return Optional.ofNullable(lookup(phoneNumber.getPrefix()));
+  }
+
+  /**
+   * @return carrier owning the prefix, or null when the prefix is not assigned
+   */
+  public SupplierType lookup(int prefix) {
+    if (prefix < FIRST_PREFIX || prefix > LAST_PREFIX) {
+      return null;
+    }
+    return byPrefix[prefix - FIRST_PREFIX];
+  }
+
+  public boolean supports(SupplierType type, PhoneNumber phoneNumber) {
+    return lookup(phoneNumber.getPrefix()) == type;
+  }
+
+  /**
+   * A known carrier that differs from the requested supplier; unassigned prefixes never conflict
+   */
+  public boolean conflicts(SupplierType type, PhoneNumber phoneNumber) {
+    SupplierType detected = lookup(phoneNumber.getPrefix());
+    return detected != null && detected != type;
+  }
+
+  private static int[] parseRange(String range) {
+    if (range == null || range.isBlank()) {
+      throw new IllegalArgumentException("Empty prefix range");
+    }
+    String[] parts = range.trim().split("-");
+    if (parts.length > 2) {
+      throw new IllegalArgumentException("Invalid prefix range: " + range);
+    }
+    try {
+      int first = Integer.parseInt(parts[0].trim());
+      int last = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : first;
+      if (first < FIRST_PREFIX || last > LAST_PREFIX || first > last) {
+        throw new IllegalArgumentException("Prefix range must be within 300-399: " + range);
+      }
+      return new int[]{first, last};
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid prefix range: " + range, e);
+    }
+  }
+}
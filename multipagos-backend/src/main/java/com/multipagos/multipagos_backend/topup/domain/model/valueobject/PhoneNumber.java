@@ -2,22 +2,21 @@ package com.multipagos.multipagos_backend.topup.domain.model.valueobject;
 
 import lombok.Value;
 
-import java.util.Objects;
-import java.util.regex.Pattern;
-
 /**
  * PhoneNumber Value Object
  * Encapsulates Colombian mobile phone number validation and business rules
  * Immutable and self-validating following DDD principles
+ * The ten digits are packed into a long; the carrier prefix is a single division
+ * Which carrier owns a prefix is configuration, answered by CarrierPrefixTable
  */
 @Value
 public class PhoneNumber {
 
-  private static final Pattern PHONE_PATTERN = Pattern.compile("^3\\d{9}$");
   private static final int REQUIRED_LENGTH = 10;
-  private static final String REQUIRED_PREFIX = "3";
+  private static final char REQUIRED_FIRST_DIGIT = '3';
+  private static final long PREFIX_DIVISOR = 10_000_000L;
 
-  String value;
+  long digits;
 
   /**
    * Create a PhoneNumber with validation
@@ -40,15 +39,20 @@ public class PhoneNumber {
       throw new IllegalArgumentException("El número de teléfono debe tener exactamente 10 dígitos");
     }
 
-    if (!cleanValue.startsWith(REQUIRED_PREFIX)) {
+    if (cleanValue.charAt(0) != REQUIRED_FIRST_DIGIT) {
       throw new IllegalArgumentException("El número de teléfono debe empezar con 3");
     }
 
-    if (!PHONE_PATTERN.matcher(cleanValue).matches()) {
-      throw new IllegalArgumentException("El número de teléfono debe contener solo dígitos");
+    long packed = 0L;
+    for (int i = 0; i < REQUIRED_LENGTH; i++) {
+      char c = cleanValue.charAt(i);
+      if (c < '0' || c > '9') {
+        throw new IllegalArgumentException("El número de teléfono debe contener solo dígitos");
+      }
+      packed = packed * 10 + (c - '0');
     }
 
-    this.value = cleanValue;
+    this.digits = packed;
   }
 
   /**
@@ -62,34 +66,24 @@ public class PhoneNumber {
   }
 
   /**
-   * Check if phone number belongs to a specific operator based on number range
-   * This is business logic specific to Colombian mobile operators
+   * Ten-digit string form; the first digit is always 3 so no padding is needed
    */
-  public boolean isClaroNumber() {
-    return value.startsWith("300") || value.startsWith("301") ||
-        value.startsWith("302") || value.startsWith("303") ||
-        value.startsWith("304") || value.startsWith("305");
-  }
-
-  public boolean isMovistarNumber() {
-    return value.startsWith("310") || value.startsWith("311") ||
-        value.startsWith("312") || value.startsWith("313") ||
-        value.startsWith("314") || value.startsWith("315");
+  public String getValue() {
+    return Long.toString(digits);
   }
 
-  public boolean isTigoNumber() {
-    return value.startsWith("320") || value.startsWith("321") ||
-        value.startsWith("322") || value.startsWith("323");
-  }
-
-  public boolean isWomNumber() {
-    return value.startsWith("330") || value.startsWith("331");
+  /**
+   * Three-digit carrier prefix, e.g. 310 for 3101234567
+   */
+  public int getPrefix() {
+    return (int) (digits / PREFIX_DIVISOR);
   }
 
   /**
    * Format for display purposes
    */
   public String toDisplayFormat() {
+    String value = getValue();
     return String.format("(%s) %s-%s",
         value.substring(0, 3),
         value.substring(3, 6),
@@ -103,16 +97,16 @@ public class PhoneNumber {
     if (!(o instanceof PhoneNumber))
       return false;
     PhoneNumber that = (PhoneNumber) o;
-    return Objects.equals(value, that.value);
+    return digits == that.digits;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(value);
+    return Long.hashCode(digits);
   }
 
   @Override
   public String toString() {
-    return value;
+    return getValue();
   }
 }
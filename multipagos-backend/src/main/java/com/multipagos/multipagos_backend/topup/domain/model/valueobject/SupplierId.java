@@ -71,15 +71,15 @@ public class SupplierId {
   /**
    * Check if this supplier supports a specific phone number
    */
-  public boolean supportsPhoneNumber(PhoneNumber phoneNumber) {
-    return type.supportsPhoneNumber(phoneNumber);
+  public boolean supportsPhoneNumber(PhoneNumber phoneNumber, CarrierPrefixTable carriers) {
+    return type.supportsPhoneNumber(phoneNumber, carriers);
   }
 
   /**
    * Business validation
    */
-  public boolean isCompatibleWith(PhoneNumber phoneNumber) {
-    return supportsPhoneNumber(phoneNumber);
+  public boolean isCompatibleWith(PhoneNumber phoneNumber, CarrierPrefixTable carriers) {
+    return supportsPhoneNumber(phoneNumber, carriers);
   }
 
   @Override
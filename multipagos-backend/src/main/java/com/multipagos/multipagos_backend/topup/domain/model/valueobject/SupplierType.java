@@ -1,5 +1,10 @@
 package com.multipagos.multipagos_backend.topup.domain.model.valueobject;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * SupplierType Enum
  * Centralizes all supplier business rules and mappings
@@ -12,6 +17,16 @@ public enum SupplierType {
   TIGO("3398", "Tigo"),
   WOM("4689", "WOM");
 
+  private static final SupplierType[] VALUES = values();
+  private static final Map<String, SupplierType> BY_ID = Arrays.stream(VALUES)
+      .collect(Collectors.toUnmodifiableMap(SupplierType::getId, Function.identity()));
+  private static final String[] VALID_IDS = Arrays.stream(VALUES)
+      .map(SupplierType::getId)
+      .toArray(String[]::new);
+  private static final String VALID_IDS_STRING = Arrays.stream(VALUES)
+      .map(type -> type.getId() + " (" + type.getName() + ")")
+      .collect(Collectors.joining(", "));
+
   private final String id;
   private final String name;
 
@@ -40,10 +55,9 @@ public enum SupplierType {
       throw new IllegalArgumentException("Supplier ID cannot be null");
     }
 
-    for (SupplierType type : values()) {
-      if (type.id.equals(id)) {
-        return type;
-      }
+    SupplierType type = BY_ID.get(id);
+    if (type != null) {
+      return type;
     }
 
     throw new IllegalArgumentException(
@@ -55,58 +69,38 @@ public enum SupplierType {
    * Check if supplier ID is valid
    */
   public static boolean isValidId(String id) {
-    if (id == null)
-      return false;
-
-    for (SupplierType type : values()) {
-      if (type.id.equals(id)) {
-        return true;
-      }
-    }
-    return false;
+    return id != null && BY_ID.containsKey(id);
   }
 
   /**
    * Get all valid supplier IDs as array
    */
   public static String[] getValidIds() {
-    return java.util.Arrays.stream(values())
-        .map(SupplierType::getId)
-        .toArray(String[]::new);
+    return VALID_IDS.clone();
   }
 
   /**
    * Get all valid supplier IDs as formatted string
    */
   public static String getValidIdsString() {
-    return java.util.Arrays.stream(values())
-        .map(type -> type.getId() + " (" + type.getName() + ")")
-        .collect(java.util.stream.Collectors.joining(", "));
+    return VALID_IDS_STRING;
   }
 
   /**
    * Business rule: Check if supplier supports specific phone number ranges
+   * @param carriers the configured prefix table
    */
-  public boolean supportsPhoneNumber(PhoneNumber phoneNumber) {
-    return switch (this) {
-      case CLARO -> phoneNumber.isClaroNumber();
-      case MOVISTAR -> phoneNumber.isMovistarNumber();
-      case TIGO -> phoneNumber.isTigoNumber();
-      case WOM -> phoneNumber.isWomNumber();
-    };
+  public boolean supportsPhoneNumber(PhoneNumber phoneNumber, CarrierPrefixTable carriers) {
+    return carriers.supports(this, phoneNumber);
   }
 
   /**
    * Business rule: Get recommended supplier for phone number
+   * @param carriers the configured prefix table
    */
-  public static SupplierType getRecommendedForPhone(PhoneNumber phoneNumber) {
-    for (SupplierType type : values()) {
-      if (type.supportsPhoneNumber(phoneNumber)) {
-        return type;
-      }
-    }
+  public static SupplierType getRecommendedForPhone(PhoneNumber phoneNumber, CarrierPrefixTable carriers) {
     // Default to first supplier if no specific match
-    return CLARO;
+    return carriers.detect(phoneNumber).orElse(CLARO);
   }
 
   @Override
@@ -0,0 +1,28 @@
+package com.multipagos.multipagos_backend.topup.domain.port.in;
+
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierId;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierType;
+import java.util.Optional;
+
+/**
+ * Carrier Detection Port (Inbound)
+ * Use case contract for resolving the carrier of a phone number from its prefix
+ */
+public interface CarrierDetectionServicePort {
+
+    /**
+     * Detect the carrier of a phone number
+     * @param phoneNumber the validated phone number
+     * @return Optional containing the carrier, empty when the prefix is not assigned
+     */
+    Optional<SupplierType> detectCarrier(PhoneNumber phoneNumber);
+
+    /**
+     * Reject a supplier that contradicts the carrier detected for the phone
+     * @param supplierId the requested supplier
+     * @param phoneNumber the phone number to top up
+     * @throws IllegalArgumentException if the detected carrier is a different supplier
+     */
+    void requireCompatible(SupplierId supplierId, PhoneNumber phoneNumber);
+}
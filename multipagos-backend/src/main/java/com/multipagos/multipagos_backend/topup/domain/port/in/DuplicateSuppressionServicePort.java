@@ -0,0 +1,52 @@
+package com.multipagos.multipagos_backend.topup.domain.port.in;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.DuplicateTopUpException;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpClaim;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+
+/**
+ * Duplicate Suppression Service Port (Inbound)
+ * Detects a top-up identical to one the same user sent within a short window,
+ * such as a double tap or a client retry without an idempotency key
+ */
+public interface DuplicateSuppressionServicePort {
+
+    /**
+     * Register the top-up, or find the identical one it duplicates
+     * @param request the top-up request
+     * @param userId the authenticated user ID
+     * @return owner claim to execute, or a non-owner claim to join
+     * @throws DuplicateTopUpException if it is a duplicate and duplicates are rejected
+     */
+    TopUpClaim claim(TopUpRequest request, Long userId);
+
+    /**
+     * Wait for the original top-up of a non-owner claim
+     * @param claim claim returned by claim
+     * @return the original transaction
+     * @throws DuplicateTopUpException if the original does not finish within the join timeout
+     */
+    TransactionDomain join(TopUpClaim claim);
+
+    /**
+     * Publish the owner's transaction to joined duplicates; the fingerprint stays
+     * registered until the window passes
+     * @param claim owner claim
+     * @param transaction the stored transaction
+     */
+    void complete(TopUpClaim claim, TransactionDomain transaction);
+
+    /**
+     * Publish the owner's error to joined duplicates and forget the fingerprint so
+     * a retry can go through
+     * @param claim owner claim
+     * @param error the failure
+     */
+    void fail(TopUpClaim claim, Throwable error);
+
+    /**
+     * Longest a duplicate waits for its original
+     */
+    long joinTimeoutMillis();
+}
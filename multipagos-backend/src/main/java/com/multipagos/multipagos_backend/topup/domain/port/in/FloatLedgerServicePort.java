@@ -0,0 +1,54 @@
+package com.multipagos.multipagos_backend.topup.domain.port.in;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.InsufficientFloatException;
+import com.multipagos.multipagos_backend.topup.domain.model.FloatBalance;
+import com.multipagos.multipagos_backend.topup.domain.model.FloatReservation;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+
+/**
+ * Float Ledger Service Port (Inbound)
+ * Tracks the prepaid float shared by every top-up sent to Puntored
+ */
+public interface FloatLedgerServicePort {
+
+    /**
+     * Hold the top-up value against the float before /buy is called
+     * @param amount the top-up value
+     * @return reservation to commit or release; a no-op one when the ledger is disabled
+     * @throws InsufficientFloatException if enforcement is on and the float cannot cover it
+     */
+    FloatReservation reserve(Amount amount);
+
+    /**
+     * Record the reserved value as spent by the transaction; never throws, since the
+     * provider has already been paid
+     * @param reservation reservation returned by reserve
+     * @param transaction the transaction Puntored accepted
+     */
+    void commit(FloatReservation reservation, TransactionDomain transaction);
+
+    /**
+     * Record a top-up Puntored charged with no reservation left to commit, e.g. a PENDING
+     * one confirmed later by settlement; recording the same transaction twice does nothing
+     * @param transaction the transaction Puntored accepted
+     * @return false if its debit was already recorded
+     */
+    boolean recordDebit(TransactionDomain transaction);
+
+    /**
+     * Return the reserved value to the float; does nothing once committed
+     */
+    void release(FloatReservation reservation);
+
+    /**
+     * Add float, e.g. a deposit made with the provider
+     * @param amountCents value in cents
+     * @param reference unique id of the deposit
+     * @param description free text kept with the entry
+     * @return false if a movement with the same reference was already recorded
+     */
+    boolean credit(long amountCents, String reference, String description);
+
+    FloatBalance getBalance();
+}
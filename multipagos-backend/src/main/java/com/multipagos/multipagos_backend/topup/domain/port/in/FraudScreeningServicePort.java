@@ -0,0 +1,29 @@
+package com.multipagos.multipagos_backend.topup.domain.port.in;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.TopUpRiskException;
+import com.multipagos.multipagos_backend.topup.domain.model.RiskAssessment;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatusChangedEvent;
+
+/**
+ * Fraud Screening Service Port (Inbound)
+ * Scores top-ups against per-window velocity and fan-out counters kept in
+ * fixed-size sketches; scoring never touches the database
+ */
+public interface FraudScreeningServicePort {
+
+    /**
+     * Score a top-up before it is executed
+     * @param request the top-up, including the caller IP when known
+     * @param userId the user paying the top-up
+     * @return assessment for an allowed or flagged top-up
+     * @throws TopUpRiskException if the top-up is blocked or held for review and enforcement is on
+     */
+    RiskAssessment screen(TopUpRequest request, Long userId);
+
+    /**
+     * Feed the counters: created transactions count as attempts, failed ones as failures
+     * @param event the status change
+     */
+    void onStatusChanged(TransactionStatusChangedEvent event);
+}
@@ -0,0 +1,21 @@
+package com.multipagos.multipagos_backend.topup.domain.port.in;
+
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive TopUp Service Port (Inbound)
+ * Non-blocking top-up use case, available when the WebClient Puntored client is selected
+ */
+public interface ReactiveTopUpServicePort {
+    
+    /**
+     * Execute a top-up transaction without holding the request thread
+     * @param request the top-up request
+     * @param userId the authenticated user ID
+     * @return Mono emitting the stored transaction; IllegalArgumentException for invalid
+     *         requests, RuntimeException when the provider call fails
+     */
+    Mono<TransactionDomain> executeTopUp(TopUpRequest request, Long userId);
+}
@@ -0,0 +1,54 @@
+package com.multipagos.multipagos_backend.topup.domain.port.in;
+
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduleRecurrence;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUp;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Scheduled TopUp Service Port (Inbound)
+ * Use case contract for top-ups a user schedules to run later, once or on a recurrence
+ */
+public interface ScheduledTopUpServicePort {
+
+    /**
+     * Schedule a top-up
+     * @param request the top-up to run
+     * @param userId the authenticated user ID
+     * @param recurrence how often it repeats
+     * @param firstRunAt when it runs for the first time
+     * @param label optional name shown to the user, e.g. who the phone belongs to
+     * @return the stored schedule
+     * @throws IllegalArgumentException if the request or the first run time is invalid,
+     *                                  or the user reached the schedule limit
+     */
+    ScheduledTopUp schedule(TopUpRequest request, Long userId, ScheduleRecurrence recurrence,
+                            LocalDateTime firstRunAt, String label);
+
+    /**
+     * Schedules of the user that are not cancelled, next run first
+     * @param userId the authenticated user ID
+     * @return the user's schedules
+     */
+    List<ScheduledTopUp> getUserSchedules(Long userId);
+
+    /**
+     * Stop running an active schedule until it is resumed
+     * @throws IllegalArgumentException if the schedule does not exist for the user or is not active
+     */
+    ScheduledTopUp pause(Long scheduleId, Long userId);
+
+    /**
+     * Resume a paused schedule; occurrences missed while paused are skipped
+     * @throws IllegalArgumentException if the schedule does not exist for the user or is not paused
+     */
+    ScheduledTopUp resume(Long scheduleId, Long userId);
+
+    /**
+     * Cancel a schedule for good; a run already in progress still completes
+     * @throws IllegalArgumentException if the schedule does not exist for the user or already finished
+     */
+    ScheduledTopUp cancel(Long scheduleId, Long userId);
+}
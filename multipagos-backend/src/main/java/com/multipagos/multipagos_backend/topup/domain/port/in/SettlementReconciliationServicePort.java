@@ -0,0 +1,25 @@
+package com.multipagos.multipagos_backend.topup.domain.port.in;
+
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementMismatch;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementRecord;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementSummary;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Settlement Reconciliation Service Port (Inbound)
+ * Matches a provider settlement file against our transactions
+ */
+public interface SettlementReconciliationServicePort {
+
+    /**
+     * Reconcile settlement lines as they are read, in chunks; besides the chunk only
+     * the external ids already read are kept, to report repeated ones
+     * @param source name of the file, for logs and metrics
+     * @param records the file's lines, in order
+     * @param report receives each mismatch and auto-fix as soon as it is found
+     * @return totals of the run
+     */
+    SettlementSummary reconcile(String source, Iterator<SettlementRecord> records, Consumer<SettlementMismatch> report);
+}
@@ -0,0 +1,37 @@
+package com.multipagos.multipagos_backend.topup.domain.port.in;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.SpendingLimitExceededException;
+import com.multipagos.multipagos_backend.topup.domain.model.SpendingReservation;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
+
+/**
+ * Spending limits Service Port (Inbound)
+ * Checks daily and monthly caps per user and per destination phone from in-memory
+ * counters; the database is read only the first time a user or phone is seen
+ */
+public interface SpendingLimitServicePort {
+
+    /**
+     * Check the caps and hold the amount against both windows in one step
+     * Call before the PENDING transaction is stored
+     * @param userId the user paying the top-up
+     * @param phoneNumber the destination phone
+     * @param amount the top-up value
+     * @return reservation to confirm or release once the outcome is known
+     * @throws SpendingLimitExceededException if any cap would be exceeded
+     */
+    SpendingReservation reserve(Long userId, PhoneNumber phoneNumber, Amount amount);
+
+    /**
+     * Keep the held amount: the transaction completed or stays PENDING
+     * @param reservation reservation returned by reserve
+     */
+    void confirm(SpendingReservation reservation);
+
+    /**
+     * Give the held amount back: the transaction failed or was never stored
+     * @param reservation reservation returned by reserve
+     */
+    void release(SpendingReservation reservation);
+}
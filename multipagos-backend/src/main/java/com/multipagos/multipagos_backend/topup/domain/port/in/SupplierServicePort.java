@@ -41,4 +41,10 @@ public interface SupplierServicePort {
      * @throws RuntimeException if refresh fails
      */
     void refreshSupplierData();
+    
+    /**
+     * Get the version of the current supplier catalog without loading it
+     * @return catalog version, empty when no fresh catalog is cached
+     */
+    Optional<String> getCatalogVersion();
 }
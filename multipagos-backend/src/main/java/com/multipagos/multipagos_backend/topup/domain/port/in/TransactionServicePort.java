@@ -4,6 +4,7 @@ import com.multipagos.multipagos_backend.shared.domain.value.PageRequest;
 import com.multipagos.multipagos_backend.shared.domain.value.PagedResult;
 import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
 import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -71,4 +72,28 @@ public interface TransactionServicePort {
      * @return Paged result of transaction history
      */
     PagedResult<TransactionDomain> getTransactionHistoryPaged(Long userId, PageRequest pageRequest);
+    
+    /**
+     * Get the version of a user's transaction history, changed on every transaction write
+     * Answered from memory, without touching the database
+     * @param userId the user identifier
+     * @return opaque history version
+     */
+    String getHistoryVersion(Long userId);
+    
+    /**
+     * Get transactions in any status by last update, oldest first, from every node
+     * @param afterUpdatedAt update time of the last transaction already read
+     * @param afterId id of the last transaction already read; 0 to start at afterUpdatedAt
+     * @param limit maximum number of transactions
+     * @return the next page
+     */
+    List<TransactionDomain> getTransactionsUpdatedAfter(LocalDateTime afterUpdatedAt, long afterId, int limit);
+    
+    /**
+     * Change the owner's history version for a transaction read back from the shared table
+     * Writes this node already counted are ignored
+     * @param transaction the transaction as read
+     */
+    void markHistoryChanged(TransactionDomain transaction);
 }
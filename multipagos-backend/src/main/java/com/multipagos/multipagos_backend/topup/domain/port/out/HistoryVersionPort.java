@@ -0,0 +1,28 @@
+package com.multipagos.multipagos_backend.topup.domain.port.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * History Version Port (Outbound)
+ * Tracks a version per user that changes whenever one of the user's transactions is written,
+ * on this node or, once the row is read back from the shared table, on any other
+ */
+public interface HistoryVersionPort {
+    
+    /**
+     * Get the current history version for a user
+     * @param userId the user identifier
+     * @return opaque version string
+     */
+    String getVersion(Long userId);
+    
+    /**
+     * Mark the user's history as changed by a write of the given transaction
+     * Within a transaction the version changes only after a successful commit. The same
+     * write reported again (by this node and then read back) changes it only once
+     * @param userId the user identifier
+     * @param transactionId the transaction written
+     * @param updatedAt the update time the write gave the transaction
+     */
+    void markChanged(Long userId, Long transactionId, LocalDateTime updatedAt);
+}
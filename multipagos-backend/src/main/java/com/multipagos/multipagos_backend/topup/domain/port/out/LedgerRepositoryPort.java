@@ -0,0 +1,46 @@
+package com.multipagos.multipagos_backend.topup.domain.port.out;
+
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerCheckpoint;
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerEntry;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Ledger Repository Port (Outbound)
+ * Entries are only ever inserted; checkpoints bound how many of them a balance read sums
+ */
+public interface LedgerRepositoryPort {
+
+    /**
+     * Insert an entry in its own transaction, so a failure here never rolls back the top-up
+     * @return false if an entry with the same reference already exists
+     */
+    boolean append(LedgerEntry entry);
+
+    /**
+     * @return the newest checkpoint, or LedgerCheckpoint.empty() when none was taken yet
+     */
+    LedgerCheckpoint findLatestCheckpoint();
+
+    /**
+     * Signed sum of entries with afterId < id <= upToId (credits positive, debits negative)
+     */
+    long sumBetween(long afterId, long upToId);
+
+    /**
+     * Highest entry id created before the cutoff, or 0 when there is none
+     */
+    long maxEntryIdBefore(LocalDateTime cutoff);
+
+    /**
+     * Ids of the entries with the given references; references with no entry are left out
+     */
+    Map<String, Long> findIdsByReference(Collection<String> references);
+
+    /**
+     * @return false if a checkpoint for the same entry was already stored by another node
+     */
+    boolean saveCheckpoint(LedgerCheckpoint checkpoint);
+}
@@ -0,0 +1,19 @@
+package com.multipagos.multipagos_backend.topup.domain.port.out;
+
+import com.multipagos.multipagos_backend.topup.domain.model.AuthToken;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Authentication Port (Outbound)
+ * Non-blocking counterpart of {@link AuthenticationPort}
+ */
+public interface ReactiveAuthenticationPort {
+    
+    /**
+     * Authenticate with external service without blocking the caller
+     * @param username the username for authentication, null for the configured one
+     * @param password the password for authentication, null for the configured one
+     * @return Mono emitting the bearer token, or an error if authentication fails
+     */
+    Mono<AuthToken> authenticateAsync(String username, String password);
+}
@@ -0,0 +1,26 @@
+package com.multipagos.multipagos_backend.topup.domain.port.out;
+
+import com.multipagos.multipagos_backend.topup.domain.model.Supplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reactive Supplier Port (Outbound)
+ * Non-blocking counterpart of {@link SupplierPort}
+ */
+public interface ReactiveSupplierPort {
+    
+    /**
+     * Get all available suppliers
+     * @return Mono emitting the supplier list, or an error if retrieval fails
+     */
+    Mono<List<Supplier>> getAllSuppliersAsync();
+    
+    /**
+     * Find supplier by ID
+     * @param id the supplier identifier
+     * @return Mono emitting the supplier, empty if it does not exist
+     */
+    Mono<Supplier> findByIdAsync(String id);
+}
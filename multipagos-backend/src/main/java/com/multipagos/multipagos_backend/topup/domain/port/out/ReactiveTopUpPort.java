@@ -0,0 +1,21 @@
+package com.multipagos.multipagos_backend.topup.domain.port.out;
+
+import com.multipagos.multipagos_backend.topup.domain.model.AuthToken;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive TopUp Port (Outbound)
+ * Non-blocking counterpart of {@link TopUpPort}; the token is obtained by the caller
+ * so it can be fetched concurrently with other pipeline stages
+ */
+public interface ReactiveTopUpPort {
+    
+    /**
+     * Execute top-up transaction with external provider
+     * @param request the top-up request containing all necessary data
+     * @param authToken token previously obtained from {@link ReactiveAuthenticationPort}
+     * @return Mono emitting the transaction ID from the external provider
+     */
+    Mono<String> executeTopUpAsync(TopUpRequest request, AuthToken authToken);
+}
@@ -0,0 +1,76 @@
+package com.multipagos.multipagos_backend.topup.domain.port.out;
+
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUp;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUpStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Scheduled TopUp Repository Port (Outbound)
+ * Runs are claimed with time-limited leases, so any number of nodes can share
+ * the schedule and a crashed node's claims expire on their own
+ */
+public interface ScheduledTopUpRepositoryPort {
+
+    ScheduledTopUp save(ScheduledTopUp scheduledTopUp);
+
+    Optional<ScheduledTopUp> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Schedules of the user that are not cancelled, next run first
+     */
+    List<ScheduledTopUp> findByUserId(Long userId);
+
+    long countOpenByUserId(Long userId);
+
+    /**
+     * Ids of active schedules due by the horizon whose lease is free or expired,
+     * earliest run first
+     */
+    List<Long> findDueIds(LocalDateTime horizon, LocalDateTime now, int limit);
+
+    /**
+     * Lease the given schedules to owner; ids leased by someone else in the meantime are skipped
+     * @return the schedules this call leased
+     */
+    List<ScheduledTopUp> claim(Collection<Long> ids, String owner, LocalDateTime leaseUntil, LocalDateTime now);
+
+    /**
+     * Push back the expiry of every live lease held by owner
+     * @return leases renewed
+     */
+    int renewLeases(String owner, LocalDateTime leaseUntil, LocalDateTime now);
+
+    /**
+     * Confirm right before sending that a leased run is still wanted: the schedule is
+     * active, still at the occurrence that was leased, and owner's lease is live
+     * Renews the lease to cover the run
+     * @return false if the user paused, cancelled or moved the schedule, or the lease was lost
+     */
+    boolean startRun(Long id, String owner, LocalDateTime nextRunAt, LocalDateTime leaseUntil, LocalDateTime now);
+
+    /**
+     * Record a run and release the lease, if owner still holds it or a user transition dropped it
+     * After a user transition only the result is recorded; the status and next run the user set are kept
+     * @return false if the lease was lost to another node
+     */
+    boolean completeRun(ScheduledTopUp run, String owner);
+
+    /**
+     * Release the lease without recording a run, so another node can claim it
+     */
+    boolean release(Long id, String owner);
+
+    int releaseAll(String owner);
+
+    /**
+     * Change status (and next run) only while the schedule is still in the expected status
+     * Drops any lease, so a run already leased is not sent and does not move the schedule
+     * @return false if the status changed concurrently
+     */
+    boolean updateStatus(Long id, Long userId, ScheduledTopUpStatus expected, ScheduledTopUpStatus status,
+                         LocalDateTime nextRunAt);
+}
@@ -42,4 +42,10 @@ public interface SupplierPort {
      * @throws RuntimeException if refresh fails
      */
     void refreshSuppliers();
+    
+    /**
+     * Content version of the cached supplier catalog
+     * @return version of a fresh cached catalog, empty when the catalog must be (re)loaded
+     */
+    Optional<String> getCatalogVersion();
 }
@@ -0,0 +1,16 @@
+package com.multipagos.multipagos_backend.topup.domain.port.out;
+
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatusChangedEvent;
+
+/**
+ * Transaction Event Publisher Port (Outbound)
+ * Announces transaction status changes to in-process listeners
+ */
+public interface TransactionEventPublisherPort {
+
+    /**
+     * Publish a status change; listeners run synchronously on the caller thread
+     * @param event the stored transaction and its new status
+     */
+    void publish(TransactionStatusChangedEvent event);
+}
@@ -2,11 +2,12 @@ package com.multipagos.multipagos_backend.topup.domain.port.out;
 
 import com.multipagos.multipagos_backend.shared.domain.value.PageRequest;
 import com.multipagos.multipagos_backend.shared.domain.value.PagedResult;
+import com.multipagos.multipagos_backend.topup.domain.model.HourlySpend;
 import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
 import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +37,52 @@ public interface TransactionRepositoryPort {
      * @return Optional containing transaction if found
      */
     Optional<TransactionDomain> findByExternalTransactionId(String externalId);
+
+    /**
+     * Find active transactions by external transaction ID in a single query
+     * @param externalIds the external identifiers; callers bound the size of the batch
+     * @return matching transactions, in no particular order
+     */
+    List<TransactionDomain> findByExternalTransactionIds(Collection<String> externalIds);
+
+    /**
+     * Find PENDING transactions to any of the phone numbers created in a range (active only)
+     * @param phoneNumbers the destination phone numbers
+     * @param from earliest creation time to include
+     * @param to latest creation time to include
+     * @return matching transactions, oldest first
+     */
+    List<TransactionDomain> findPendingByPhoneNumbers(Collection<String> phoneNumbers, LocalDateTime from,
+                                                      LocalDateTime to);
+
+    /**
+     * Page through COMPLETED transactions (active only) in (createdAt, id) order
+     * @param afterCreatedAt creation time of the last row of the previous page
+     * @param afterId id of the last row of the previous page; 0 to start at afterCreatedAt
+     * @param to latest creation time to include
+     * @param limit page size
+     * @return the next page
+     */
+    List<TransactionDomain> findCompletedAfter(LocalDateTime afterCreatedAt, long afterId, LocalDateTime to,
+                                               int limit);
+
+    /**
+     * Keyset page of transactions in any status by last update, oldest first
+     * @param afterUpdatedAt update time of the last row of the previous page
+     * @param afterId id of the last row of the previous page; 0 to start at afterUpdatedAt
+     * @param limit page size
+     * @return the next page
+     */
+    List<TransactionDomain> findUpdatedAfter(LocalDateTime afterUpdatedAt, long afterId, int limit);
+
+    /**
+     * Complete a transaction only while it is still PENDING
+     * @param id the transaction ID
+     * @param externalTransactionId the provider's transaction identifier
+     * @param message the response message to store
+     * @return true if this call completed it
+     */
+    boolean completeIfPending(Long id, String externalTransactionId, String message);
     
     /**
      * Find all transactions for a user (including inactive)
@@ -86,9 +133,37 @@ public interface TransactionRepositoryPort {
     /**
      * Get total transaction amount for user (completed transactions only)
      * @param userId the user identifier
-     * @return total amount
+     * @return total amount in cents
+     */
+    long getTotalAmountCentsByUser(Long userId);
+    
+    /**
+     * Hourly value of PENDING and COMPLETED transactions for user (active only)
+     * @param userId the user identifier
+     * @param since earliest creation time to include
+     * @return spend per hour in cents
      */
-    BigDecimal getTotalAmountByUser(Long userId);
+    List<HourlySpend> getHourlySpendByUser(Long userId, LocalDateTime since);
+
+    /**
+     * Hourly value of PENDING and COMPLETED transactions to a phone (active only)
+     * @param phoneNumber the destination phone number
+     * @param since earliest creation time to include
+     * @return spend per hour in cents
+     */
+    List<HourlySpend> getHourlySpendByPhone(String phoneNumber, LocalDateTime since);
+
+    /**
+     * Latest PENDING or COMPLETED transaction identical to a new top-up (active only)
+     * @param userId the user identifier
+     * @param phoneNumber the destination phone number
+     * @param amountCents the top-up value in cents
+     * @param supplierId the supplier identifier
+     * @param since earliest creation time to include
+     * @return the matching transaction if any
+     */
+    Optional<TransactionDomain> findRecentIdentical(Long userId, String phoneNumber, long amountCents,
+                                                    String supplierId, LocalDateTime since);
     
     /**
      * Count transactions by status (active only)
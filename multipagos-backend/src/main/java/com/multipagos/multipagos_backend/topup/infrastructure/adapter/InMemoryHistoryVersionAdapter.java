@@ -0,0 +1,83 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.port.out.HistoryVersionPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-node history versions kept in memory
+ * Versions carry a node epoch, so tags issued before a restart or by another
+ * node never match here. Writes made on other nodes reach this node through the
+ * /topup/stream relay, which reads every updated transaction back from the shared
+ * table, so a tag goes stale everywhere within one relay interval. The relay also
+ * reads back this node's own writes; those are recognised by transaction id and
+ * update time and do not change the version twice. A write whose update time is
+ * only known after the flush is not recognised and just changes it once more
+ */
+@Slf4j
+@Component
+public class InMemoryHistoryVersionAdapter implements HistoryVersionPort {
+
+  /** Longer than the relay overlap, so a write is still remembered when it is read back */
+  private static final long REMEMBER_WRITES_MS = 60_000L;
+
+  private final String nodeEpoch = Long.toString(System.currentTimeMillis(), 36)
+      + Integer.toString(ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE), 36);
+  private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+  /** Writes already counted, with their update time in millis */
+  private final Map<Write, Long> counted = new ConcurrentHashMap<>();
+
+  private record Write(Long transactionId, long updatedAt) {
+  }
+
+  @Override
+  public String getVersion(Long userId) {
+    AtomicLong version = versions.get(userId);
+    return nodeEpoch + ":" + userId + ":" + (version != null ? version.get() : 0L);
+  }
+
+  @Override
+  public void markChanged(Long userId, Long transactionId, LocalDateTime updatedAt) {
+    if (userId == null) {
+      return;
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          bumpOnce(userId, transactionId, updatedAt);
+        }
+      });
+    } else {
+      bumpOnce(userId, transactionId, updatedAt);
+    }
+  }
+
+  @Scheduled(fixedDelay = REMEMBER_WRITES_MS)
+  public void forgetOldWrites() {
+    long forgetBefore = System.currentTimeMillis() - REMEMBER_WRITES_MS;
+    counted.values().removeIf(updatedAt -> updatedAt < forgetBefore);
+  }
+
+  private void bumpOnce(Long userId, Long transactionId, LocalDateTime updatedAt) {
+    if (transactionId != null && updatedAt != null) {
+      long millis = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+      if (counted.putIfAbsent(new Write(transactionId, millis), millis) != null) {
+        return;
+      }
+    }
+    long version = versions.computeIfAbsent(userId, key -> new AtomicLong()).incrementAndGet();
+    log.debug("[HISTORY VERSION] History changed | userId: {} | version: {}", userId, version);
+  }
+}
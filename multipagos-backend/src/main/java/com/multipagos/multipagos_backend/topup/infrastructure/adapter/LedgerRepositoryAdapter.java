@@ -0,0 +1,91 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerCheckpoint;
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerEntry;
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerEntryType;
+import com.multipagos.multipagos_backend.topup.domain.port.out.LedgerRepositoryPort;
+import com.multipagos.multipagos_backend.topup.infrastructure.mapper.LedgerMapper;
+import com.multipagos.multipagos_backend.topup.infrastructure.repository.LedgerCheckpointEntityRepository;
+import com.multipagos.multipagos_backend.topup.infrastructure.repository.LedgerEntryEntityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Infrastructure adapter implementing the float ledger repository port
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerRepositoryAdapter implements LedgerRepositoryPort {
+
+  private final LedgerEntryEntityRepository entryRepository;
+  private final LedgerCheckpointEntityRepository checkpointRepository;
+  private final LedgerMapper mapper;
+
+  /**
+   * Runs in its own transaction so a duplicate insert cannot roll back the caller
+   */
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public boolean append(LedgerEntry entry) {
+    if (entryRepository.existsByReference(entry.getReference())) {
+      return false;
+    }
+    try {
+      entryRepository.save(mapper.toEntity(entry));
+      return true;
+    } catch (DataIntegrityViolationException e) {
+      log.debug("Ledger entry already recorded by a concurrent request | reference: {}", entry.getReference());
+      return false;
+    }
+  }
+
+  @Override
+  public LedgerCheckpoint findLatestCheckpoint() {
+    return checkpointRepository.findFirstByOrderByLastEntryIdDesc()
+        .map(mapper::toDomain)
+        .orElse(LedgerCheckpoint.empty());
+  }
+
+  @Override
+  public long sumBetween(long afterId, long upToId) {
+    return entryRepository.sumBetween(afterId, upToId, LedgerEntryType.DEBIT);
+  }
+
+  @Override
+  public long maxEntryIdBefore(LocalDateTime cutoff) {
+    return entryRepository.maxIdBefore(cutoff);
+  }
+
+  @Override
+  public Map<String, Long> findIdsByReference(Collection<String> references) {
+    Map<String, Long> ids = new HashMap<>();
+    if (references.isEmpty()) {
+      return ids;
+    }
+    for (Object[] row : entryRepository.findIdsByReference(references)) {
+      ids.put((String) row[0], (Long) row[1]);
+    }
+    return ids;
+  }
+
+  @Override
+  public boolean saveCheckpoint(LedgerCheckpoint checkpoint) {
+    try {
+      checkpointRepository.save(mapper.toEntity(checkpoint));
+      return true;
+    } catch (DataIntegrityViolationException e) {
+      log.debug("Ledger checkpoint already stored by another node | lastEntryId: {}", checkpoint.lastEntryId());
+      return false;
+    }
+  }
+}
@@ -5,8 +5,10 @@ import com.multipagos.multipagos_backend.topup.domain.port.out.AuthenticationPor
 import com.multipagos.multipagos_backend.topup.infrastructure.config.PuntoredApiProperties;
 import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredAuthRequest;
 import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredAuthResponse;
+import com.multipagos.multipagos_backend.topup.infrastructure.metrics.PortDelegate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
@@ -14,6 +16,8 @@ import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Component
+@PortDelegate
+@ConditionalOnProperty(prefix = "puntored.api", name = "client", havingValue = PuntoredApiProperties.CLIENT_REST_TEMPLATE, matchIfMissing = true)
 @RequiredArgsConstructor
 public class PuntoredAuthAdapter implements AuthenticationPort {
 
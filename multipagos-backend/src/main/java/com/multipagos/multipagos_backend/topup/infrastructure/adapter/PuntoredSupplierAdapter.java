@@ -5,20 +5,37 @@ import com.multipagos.multipagos_backend.topup.domain.port.out.AuthenticationPor
 import com.multipagos.multipagos_backend.topup.domain.port.out.SupplierPort;
 import com.multipagos.multipagos_backend.topup.infrastructure.config.PuntoredApiProperties;
 import com.multipagos.multipagos_backend.topup.infrastructure.dto.SupplierDto;
+import com.multipagos.multipagos_backend.topup.infrastructure.metrics.PortDelegate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
+/**
+ * Puntored supplier catalog with an in-memory, TTL-bound cache
+ * Each loaded catalog carries a content hash used as its version (ETag source);
+ * on fetch failures the last known catalog keeps being served and stays fresh for a
+ * backoff period. Only one caller refreshes at a time; while it does, others get the
+ * stale catalog instead of queueing behind the network call
+ */
 @Slf4j
 @Component
+@PortDelegate
+@ConditionalOnProperty(prefix = "puntored.api", name = "client", havingValue = PuntoredApiProperties.CLIENT_REST_TEMPLATE, matchIfMissing = true)
 @RequiredArgsConstructor
 public class PuntoredSupplierAdapter implements SupplierPort {
 
@@ -26,8 +43,87 @@ public class PuntoredSupplierAdapter implements SupplierPort {
   private final RestTemplate restTemplate;
   private final AuthenticationPort authPort;
 
+  private final ReentrantLock refreshLock = new ReentrantLock();
+  private volatile SupplierCatalog catalog;
+
   @Override
   public List<Supplier> getAllSuppliers() {
+    SupplierCatalog current = catalog;
+    if (isFresh(current)) {
+      return current.suppliers();
+    }
+
+    if (current == null) {
+      refreshLock.lock();
+    } else if (!refreshLock.tryLock()) {
+      return current.suppliers();
+    }
+    try {
+      return reload(false).suppliers();
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  @Override
+  public Optional<String> getCatalogVersion() {
+    SupplierCatalog current = catalog;
+    return isFresh(current) ? Optional.of(current.version()) : Optional.empty();
+  }
+
+  /**
+   * Must be called with refreshLock held
+   */
+  private SupplierCatalog reload(boolean force) {
+    SupplierCatalog current = catalog;
+    if (!force && isFresh(current)) {
+      return current;
+    }
+
+    try {
+      List<Supplier> suppliers = List.copyOf(fetchSuppliers());
+      SupplierCatalog loaded = new SupplierCatalog(suppliers, versionOf(suppliers),
+          freshUntil(apiProperties.getSupplierCacheTtlSeconds()));
+      if (current == null || !current.version().equals(loaded.version())) {
+        log.info("[PUNTORED SUPPLIERS] Supplier catalog loaded | suppliers: {} | version: {}",
+            suppliers.size(), loaded.version());
+      }
+      catalog = loaded;
+      return loaded;
+    } catch (RuntimeException e) {
+      if (current == null) {
+        throw e;
+      }
+      log.warn("[PUNTORED SUPPLIERS] Refresh failed, serving last known catalog | version: {} | retry in: {}s | error: {}",
+          current.version(), apiProperties.getSupplierRefreshBackoffSeconds(), e.getMessage());
+      SupplierCatalog extended = new SupplierCatalog(current.suppliers(), current.version(),
+          freshUntil(apiProperties.getSupplierRefreshBackoffSeconds()));
+      catalog = extended;
+      return extended;
+    }
+  }
+
+  private long freshUntil(long seconds) {
+    return System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+  }
+
+  private boolean isFresh(SupplierCatalog current) {
+    return current != null && System.nanoTime() - current.freshUntilNanos() < 0;
+  }
+
+  private String versionOf(List<Supplier> suppliers) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (Supplier supplier : suppliers) {
+        digest.update((supplier.getId() + '\u001F' + supplier.getName() + '\u001E').getBytes(StandardCharsets.UTF_8));
+      }
+      return HexFormat.of().formatHex(digest.digest(), 0, 12);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private List<Supplier> fetchSuppliers() {
     try {
       var token = authPort.authenticate(apiProperties.getUsername(), apiProperties.getPassword());
       String url = apiProperties.getBaseUrl() + "/getSuppliers";
@@ -80,7 +176,15 @@ public class PuntoredSupplierAdapter implements SupplierPort {
 
   @Override
   public void refreshSuppliers() {
-    // Puntored API fetches suppliers fresh on each call - no caching needed
-    log.info("[PUNTORED SUPPLIERS] Suppliers are refreshed on each getAllSuppliers() call");
+    log.info("[PUNTORED SUPPLIERS] Forcing supplier catalog refresh");
+    refreshLock.lock();
+    try {
+      reload(true);
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  private record SupplierCatalog(List<Supplier> suppliers, String version, long freshUntilNanos) {
   }
 }
@@ -6,13 +6,17 @@ import com.multipagos.multipagos_backend.topup.domain.port.out.AuthenticationPor
 import com.multipagos.multipagos_backend.topup.infrastructure.config.PuntoredApiProperties;
 import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredBuyRequest;
 import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredBuyResponse;
+import com.multipagos.multipagos_backend.topup.infrastructure.metrics.PortDelegate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
 @Component
+@PortDelegate
+@ConditionalOnProperty(prefix = "puntored.api", name = "client", havingValue = PuntoredApiProperties.CLIENT_REST_TEMPLATE, matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class PuntoredTopUpAdapter implements TopUpPort {
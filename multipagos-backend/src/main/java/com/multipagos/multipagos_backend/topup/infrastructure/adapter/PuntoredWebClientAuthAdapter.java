@@ -0,0 +1,86 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.AuthToken;
+import com.multipagos.multipagos_backend.topup.domain.port.out.AuthenticationPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ReactiveAuthenticationPort;
+import com.multipagos.multipagos_backend.topup.infrastructure.config.PuntoredApiProperties;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredAuthRequest;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredAuthResponse;
+import com.multipagos.multipagos_backend.topup.infrastructure.metrics.PortDelegate;
+import com.multipagos.multipagos_backend.topup.infrastructure.metrics.TopUpPipelineMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Puntored authentication on the pooled WebClient
+ * The blocking port is decorated with metrics like the RestTemplate adapter;
+ * the reactive port records the same "auth" stage itself
+ */
+@Slf4j
+@Component
+@PortDelegate
+@ConditionalOnProperty(prefix = "puntored.api", name = "client", havingValue = PuntoredApiProperties.CLIENT_WEB_CLIENT)
+@RequiredArgsConstructor
+public class PuntoredWebClientAuthAdapter implements AuthenticationPort, ReactiveAuthenticationPort {
+
+  private final PuntoredApiProperties apiProperties;
+  private final WebClient puntoredWebClient;
+  private final TopUpPipelineMetrics metrics;
+
+  @Override
+  public AuthToken authenticate(String username, String password) {
+    return requestToken(username, password).block();
+  }
+
+  @Override
+  public Mono<AuthToken> authenticateAsync(String username, String password) {
+    return metrics.recordPuntored("auth", TopUpPipelineMetrics.NO_SUPPLIER, requestToken(username, password));
+  }
+
+  private Mono<AuthToken> requestToken(String username, String password) {
+    PuntoredAuthRequest request = new PuntoredAuthRequest(
+        username != null ? username : apiProperties.getUsername(),
+        password != null ? password : apiProperties.getPassword());
+
+    return puntoredWebClient.post()
+        .uri("/auth")
+        .contentType(MediaType.APPLICATION_JSON)
+        .header("x-api-key", apiProperties.getKey())
+        .bodyValue(request)
+        .retrieve()
+        .bodyToMono(PuntoredAuthResponse.class)
+        .timeout(Duration.ofMillis(apiProperties.getWebclient().getResponseTimeoutMs()))
+        .retryWhen(PuntoredWebClientSupport.retryTransient(apiProperties.getWebclient()))
+        .switchIfEmpty(Mono.error(() -> new IllegalStateException("Empty authentication response")))
+        .map(response -> new AuthToken(response.getToken()))
+        .doOnSubscribe(subscription -> log.info(
+            "[PUNTORED AUTH] Authenticating with Puntored API | username: {}", apiProperties.getUsername()))
+        .doOnSuccess(token -> log.info("[PUNTORED AUTH] Authentication successful"))
+        .onErrorMap(e -> {
+          log.error("[PUNTORED AUTH] Error authenticating with Puntored API | error: {}", e.getMessage(), e);
+          return new RuntimeException("Error de autenticación", e);
+        });
+  }
+
+  @Override
+  public boolean isAuthenticationRequired() {
+    return true;
+  }
+
+  @Override
+  public boolean isAuthenticated() {
+    return false; // Puntored is stateless - each request needs authentication
+  }
+
+  @Override
+  public void clearAuthentication() {
+    log.debug("[PUNTORED AUTH] Clear authentication called (no-op for stateless service)");
+  }
+}
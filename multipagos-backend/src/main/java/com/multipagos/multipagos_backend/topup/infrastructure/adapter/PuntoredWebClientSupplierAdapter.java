@@ -0,0 +1,192 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.Supplier;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ReactiveAuthenticationPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ReactiveSupplierPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.SupplierPort;
+import com.multipagos.multipagos_backend.topup.infrastructure.config.PuntoredApiProperties;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.SupplierDto;
+import com.multipagos.multipagos_backend.topup.infrastructure.metrics.PortDelegate;
+import com.multipagos.multipagos_backend.topup.infrastructure.metrics.TopUpPipelineMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Puntored supplier catalog on the pooled WebClient
+ * Same TTL cache, failure backoff and content version as the RestTemplate adapter;
+ * concurrent reloads share a single in-flight fetch instead of serializing on a lock,
+ * and callers that already have a stale catalog are served it while the fetch runs
+ */
+@Slf4j
+@Component
+@PortDelegate
+@ConditionalOnProperty(prefix = "puntored.api", name = "client", havingValue = PuntoredApiProperties.CLIENT_WEB_CLIENT)
+@RequiredArgsConstructor
+public class PuntoredWebClientSupplierAdapter implements SupplierPort, ReactiveSupplierPort {
+
+  private final PuntoredApiProperties apiProperties;
+  private final WebClient puntoredWebClient;
+  private final ReactiveAuthenticationPort authPort;
+  private final TopUpPipelineMetrics metrics;
+
+  private final AtomicReference<Mono<SupplierCatalog>> inFlightLoad = new AtomicReference<>();
+  private volatile SupplierCatalog catalog;
+
+  @Override
+  public Mono<List<Supplier>> getAllSuppliersAsync() {
+    SupplierCatalog current = catalog;
+    if (isFresh(current) || (current != null && inFlightLoad.get() != null)) {
+      return Mono.just(current.suppliers());
+    }
+    return metrics.recordPuntored("getSuppliers", TopUpPipelineMetrics.NO_SUPPLIER, loadCatalog())
+        .map(SupplierCatalog::suppliers);
+  }
+
+  @Override
+  public Mono<Supplier> findByIdAsync(String id) {
+    return getAllSuppliersAsync()
+        .flatMap(suppliers -> Mono.justOrEmpty(findIn(suppliers, id)));
+  }
+
+  @Override
+  public List<Supplier> getAllSuppliers() {
+    SupplierCatalog current = catalog;
+    if (isFresh(current) || (current != null && inFlightLoad.get() != null)) {
+      return current.suppliers();
+    }
+    return loadCatalog().block().suppliers();
+  }
+
+  @Override
+  public Optional<Supplier> findById(String id) {
+    return findIn(getAllSuppliers(), id);
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return findById(id).isPresent();
+  }
+
+  @Override
+  public List<Supplier> getActiveSuppliers() {
+    return getAllSuppliers().stream()
+        .filter(Supplier::isActive)
+        .toList();
+  }
+
+  @Override
+  public void refreshSuppliers() {
+    log.info("[PUNTORED SUPPLIERS] Forcing supplier catalog refresh");
+    loadCatalog().block();
+  }
+
+  @Override
+  public Optional<String> getCatalogVersion() {
+    SupplierCatalog current = catalog;
+    return isFresh(current) ? Optional.of(current.version()) : Optional.empty();
+  }
+
+  /**
+   * Starts a catalog fetch, or joins the one already running
+   * On failure the last known catalog is served, as in the blocking adapter
+   */
+  private Mono<SupplierCatalog> loadCatalog() {
+    Mono<SupplierCatalog> running = inFlightLoad.get();
+    if (running != null) {
+      return running;
+    }
+
+    SupplierCatalog previous = catalog;
+    Mono<SupplierCatalog> load = fetchSuppliers()
+        .map(suppliers -> new SupplierCatalog(suppliers, versionOf(suppliers),
+            freshUntil(apiProperties.getSupplierCacheTtlSeconds())))
+        .doOnNext(loaded -> {
+          if (previous == null || !previous.version().equals(loaded.version())) {
+            log.info("[PUNTORED SUPPLIERS] Supplier catalog loaded | suppliers: {} | version: {}",
+                loaded.suppliers().size(), loaded.version());
+          }
+          catalog = loaded;
+        })
+        .onErrorResume(e -> {
+          if (previous == null) {
+            return Mono.error(e);
+          }
+          log.warn("[PUNTORED SUPPLIERS] Refresh failed, serving last known catalog | version: {} | retry in: {}s | error: {}",
+              previous.version(), apiProperties.getSupplierRefreshBackoffSeconds(), e.getMessage());
+          SupplierCatalog extended = new SupplierCatalog(previous.suppliers(), previous.version(),
+              freshUntil(apiProperties.getSupplierRefreshBackoffSeconds()));
+          catalog = extended;
+          return Mono.just(extended);
+        })
+        .doFinally(signal -> inFlightLoad.set(null))
+        .cache();
+
+    Mono<SupplierCatalog> winner = inFlightLoad.compareAndExchange(null, load);
+    return winner != null ? winner : load;
+  }
+
+  private Mono<List<Supplier>> fetchSuppliers() {
+    return authPort.authenticateAsync(apiProperties.getUsername(), apiProperties.getPassword())
+        .flatMap(token -> puntoredWebClient.get()
+            .uri("/getSuppliers")
+            .header(HttpHeaders.AUTHORIZATION, token.toAuthorizationHeader())
+            .retrieve()
+            .bodyToFlux(SupplierDto.class)
+            .map(dto -> new Supplier(dto.getId(), dto.getName()))
+            .collectList()
+            .timeout(Duration.ofMillis(apiProperties.getWebclient().getResponseTimeoutMs()))
+            .retryWhen(PuntoredWebClientSupport.retryTransient(apiProperties.getWebclient())))
+        .doOnSubscribe(subscription -> log.info("[PUNTORED SUPPLIERS] Calling Puntored API | path: /getSuppliers"))
+        .doOnNext(suppliers -> log.info("[PUNTORED SUPPLIERS] Successfully retrieved {} suppliers from API",
+            suppliers.size()))
+        .map(List::copyOf)
+        .onErrorMap(e -> {
+          log.error("[PUNTORED SUPPLIERS] Error getting suppliers from Puntored API | error: {}", e.getMessage(), e);
+          return new RuntimeException("Error al obtener proveedores", e);
+        });
+  }
+
+  private Optional<Supplier> findIn(List<Supplier> suppliers, String id) {
+    return suppliers.stream()
+        .filter(supplier -> supplier.getId().equals(id))
+        .findFirst();
+  }
+
+  private long freshUntil(long seconds) {
+    return System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+  }
+
+  private boolean isFresh(SupplierCatalog current) {
+    return current != null && System.nanoTime() - current.freshUntilNanos() < 0;
+  }
+
+  private String versionOf(List<Supplier> suppliers) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (Supplier supplier : suppliers) {
+        digest.update((supplier.getId() + '\u001F' + supplier.getName() + '\u001E').getBytes(StandardCharsets.UTF_8));
+      }
+      return HexFormat.of().formatHex(digest.digest(), 0, 12);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private record SupplierCatalog(List<Supplier> suppliers, String version, long freshUntilNanos) {
+  }
+}
@@ -0,0 +1,55 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.infrastructure.config.PuntoredApiProperties;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Retry policies shared by the WebClient Puntored adapters
+ * Idempotent calls (auth, getSuppliers) retry any transient failure; /buy only
+ * retries when the connection could not be opened, since the request was never sent
+ */
+final class PuntoredWebClientSupport {
+
+  private PuntoredWebClientSupport() {
+  }
+
+  static Retry retryTransient(PuntoredApiProperties.WebClientSettings settings) {
+    return backoff(settings).filter(PuntoredWebClientSupport::isTransient);
+  }
+
+  static Retry retryConnectFailures(PuntoredApiProperties.WebClientSettings settings) {
+    return backoff(settings).filter(PuntoredWebClientSupport::isConnectFailure);
+  }
+
+  static boolean isTransient(Throwable error) {
+    if (error instanceof WebClientResponseException responseError) {
+      int status = responseError.getStatusCode().value();
+      return status >= 500 || status == 429;
+    }
+    return error instanceof WebClientRequestException || error instanceof TimeoutException;
+  }
+
+  static boolean isConnectFailure(Throwable error) {
+    if (!(error instanceof WebClientRequestException)) {
+      return false;
+    }
+    for (Throwable cause = error.getCause(); cause != null; cause = cause.getCause()) {
+      if (cause instanceof ConnectException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static RetryBackoffSpec backoff(PuntoredApiProperties.WebClientSettings settings) {
+    return Retry.backoff(settings.getRetryMaxAttempts(), Duration.ofMillis(settings.getRetryBackoffMs()))
+        .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+  }
+}
@@ -0,0 +1,91 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.AuthToken;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.port.out.AuthenticationPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ReactiveTopUpPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TopUpPort;
+import com.multipagos.multipagos_backend.topup.infrastructure.config.PuntoredApiProperties;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredBuyRequest;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.PuntoredBuyResponse;
+import com.multipagos.multipagos_backend.topup.infrastructure.metrics.PortDelegate;
+import com.multipagos.multipagos_backend.topup.infrastructure.metrics.TopUpPipelineMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Puntored /buy on the pooled WebClient
+ * Buying is not idempotent: only connection failures are retried, never
+ * timeouts or error responses
+ */
+@Slf4j
+@Component
+@PortDelegate
+@ConditionalOnProperty(prefix = "puntored.api", name = "client", havingValue = PuntoredApiProperties.CLIENT_WEB_CLIENT)
+@RequiredArgsConstructor
+public class PuntoredWebClientTopUpAdapter implements TopUpPort, ReactiveTopUpPort {
+
+  private final PuntoredApiProperties apiProperties;
+  private final WebClient puntoredWebClient;
+  private final AuthenticationPort authenticationPort;
+  private final TopUpPipelineMetrics metrics;
+
+  @Override
+  public String executeTopUp(TopUpRequest request) {
+    AuthToken authToken = authenticationPort.authenticate(apiProperties.getUsername(), apiProperties.getPassword());
+    return buy(request, authToken).block();
+  }
+
+  @Override
+  public Mono<String> executeTopUpAsync(TopUpRequest request, AuthToken authToken) {
+    return metrics.recordPuntored("buy", request.getSupplierId(), buy(request, authToken));
+  }
+
+  private Mono<String> buy(TopUpRequest request, AuthToken authToken) {
+    PuntoredBuyRequest puntoredRequest = PuntoredBuyRequest.builder()
+        .cellPhone(request.getCellPhone())
+        .value(request.getValue())
+        .supplierId(request.getSupplierId())
+        .build();
+
+    return puntoredWebClient.post()
+        .uri("/buy")
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.AUTHORIZATION, authToken.toAuthorizationHeader())
+        .bodyValue(puntoredRequest)
+        .retrieve()
+        .bodyToMono(PuntoredBuyResponse.class)
+        .timeout(Duration.ofMillis(apiProperties.getWebclient().getResponseTimeoutMs()))
+        .retryWhen(PuntoredWebClientSupport.retryConnectFailures(apiProperties.getWebclient()))
+        .switchIfEmpty(Mono.error(() -> new IllegalStateException("Error en llamada a API externa")))
+        .doOnSubscribe(subscription -> log.info(
+            "[PUNTORED BUY] Calling Puntored API for top-up | cellPhone: {} | value: {} | supplierId: {}",
+            request.getCellPhone(), request.getValue(), request.getSupplierId()))
+        .doOnNext(response -> log.info("[PUNTORED BUY] API call successful | transactionId: {} | message: {}",
+            response.getTransactionalID(), response.getMessage()))
+        .map(PuntoredBuyResponse::getTransactionalID)
+        .onErrorMap(e -> {
+          log.error("[PUNTORED BUY] Error calling Puntored API | cellPhone: {} | error: {}",
+              request.getCellPhone(), e.getMessage(), e);
+          return new RuntimeException("Error del servicio externo: " + e.getMessage(), e);
+        });
+  }
+
+  @Override
+  public boolean isServiceAvailable() {
+    return true;
+  }
+
+  @Override
+  public String getProviderName() {
+    return "Puntored";
+  }
+}
@@ -0,0 +1,407 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.shared.application.util.TimingWheel;
+import com.multipagos.multipagos_backend.shared.domain.exception.BusinessException;
+import com.multipagos.multipagos_backend.shared.domain.exception.ServiceUnavailableException;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUp;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUpStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.domain.port.in.TopUpServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ScheduledTopUpRepositoryPort;
+import com.multipagos.multipagos_backend.topup.infrastructure.config.ScheduledTopUpProperties;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires scheduled top-ups through TopUpServicePort, so they get the same validation,
+ * spending limits and duplicate suppression as a top-up from the API.
+ * Every pass leases the runs due within the lookahead, earliest first, and places
+ * them in a hierarchical timing wheel; a ticker thread hands expired runs to a
+ * bounded executor. Leases are renewed every pass and released after each run, so
+ * nodes share the table and a crashed node's runs are picked up once its leases
+ * expire. Runs overdue after downtime are catch-up and drained through a token
+ * bucket instead of all hitting Puntored at once. Right before sending, a run is
+ * confirmed with a conditional update, so one paused, cancelled or moved by the
+ * user after it was leased is dropped. Only failures raised before
+ * /buy is sent are retried; any other failure may hide a purchase Puntored did
+ * make, so the run is recorded as failed and the schedule moves on.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledTopUpDispatcher {
+
+  private static final String EXECUTOR_NAME = "scheduled-topup";
+  private static final int MAX_MESSAGE_LENGTH = 255;
+
+  private final ScheduledTopUpRepositoryPort repository;
+  private final TopUpServicePort topUpService;
+  private final ScheduledTopUpProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreadsEnabled;
+
+  /** Lease expiry per run held by this node, waiting in the wheel or executing */
+  private final Map<Long, Long> leases = new ConcurrentHashMap<>();
+  private final Set<Long> running = ConcurrentHashMap.newKeySet();
+  private final Map<String, Counter> outcomes = new ConcurrentHashMap<>();
+
+  private String nodeId;
+  private TimingWheel<PendingRun> wheel;
+  private ThreadPoolExecutor executor;
+  private ScheduledExecutorService ticker;
+  private Bucket catchUp;
+  private Counter throttled;
+  private Timer lag;
+  private volatile boolean stopping;
+
+  /**
+   * One attempt at the current occurrence of a schedule
+   */
+  private record PendingRun(ScheduledTopUp schedule, int attempt) {
+  }
+
+  @PostConstruct
+  void init() {
+    if (!properties.isEnabled()) {
+      log.info("[SCHEDULED TOPUP] Dispatcher disabled");
+      return;
+    }
+    nodeId = properties.getNodeId().isBlank() ? defaultNodeId() : properties.getNodeId();
+    wheel = new TimingWheel<>(properties.getTickMs(), properties.getWheelSize(), System.currentTimeMillis());
+    catchUp = Bucket.builder()
+        .addLimit(Bandwidth.classic(properties.getCatchUpBurst(),
+            Refill.greedy(properties.getCatchUpPerSecond(), Duration.ofSeconds(1))))
+        .build();
+
+    ThreadFactory workers = virtualThreadsEnabled
+        ? Thread.ofVirtual().name(EXECUTOR_NAME + "-", 0).factory()
+        : Thread.ofPlatform().name(EXECUTOR_NAME + "-", 0).daemon(true).factory();
+    executor = new ThreadPoolExecutor(properties.getConcurrency(), properties.getConcurrency(), 0L,
+        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()), workers,
+        new ThreadPoolExecutor.AbortPolicy());
+    ticker = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name(EXECUTOR_NAME + "-ticker").daemon(true).factory());
+    ticker.scheduleAtFixedRate(this::tick, properties.getTickMs(), properties.getTickMs(), TimeUnit.MILLISECONDS);
+
+    new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    Gauge.builder("topup.schedule.pending", leases, Map::size)
+        .description("Scheduled runs leased by this node, waiting or executing")
+        .register(meterRegistry);
+    throttled = Counter.builder("topup.schedule.catchup.throttled")
+        .description("Overdue runs deferred by the catch-up rate limit")
+        .register(meterRegistry);
+    lag = Timer.builder("topup.schedule.lag")
+        .description("Delay between a run's scheduled time and its execution")
+        .register(meterRegistry);
+
+    log.info("[SCHEDULED TOPUP] Dispatcher started | node: {} | concurrency: {} | catch-up: {}/s",
+        nodeId, properties.getConcurrency(), properties.getCatchUpPerSecond());
+  }
+
+  /**
+   * Waits briefly for executing top-ups, then releases every other lease so
+   * another node can take the runs without waiting for them to expire
+   */
+  @PreDestroy
+  void shutdown() {
+    if (executor == null) {
+      return;
+    }
+    stopping = true;
+    ticker.shutdownNow();
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(properties.getShutdownTimeoutMs(), TimeUnit.MILLISECONDS)) {
+        log.warn("[SCHEDULED TOPUP] {} runs still executing at shutdown; their leases will expire", running.size());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    int released = 0;
+    for (Long id : leases.keySet()) {
+      if (!running.contains(id)) {
+        try {
+          released += repository.release(id, nodeId) ? 1 : 0;
+        } catch (DataAccessException e) {
+          log.warn("[SCHEDULED TOPUP] Could not release lease | id: {} | error: {}", id, e.getMessage());
+          break;
+        }
+      }
+    }
+    executor.shutdownNow();
+    log.info("[SCHEDULED TOPUP] Dispatcher stopped | released leases: {}", released);
+  }
+
+  /**
+   * Renews the leases this node holds, then leases due runs in time-ordered
+   * batches until nothing is left or the pending cap is reached
+   */
+  @Scheduled(fixedDelayString = "${topup.schedule.load-interval-ms:15000}",
+      initialDelayString = "${topup.schedule.load-interval-ms:15000}")
+  public void load() {
+    if (wheel == null || stopping) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime leaseUntil = now.plus(Duration.ofMillis(properties.getLeaseMs()));
+    try {
+      renew(now, leaseUntil);
+
+      LocalDateTime horizon = now.plus(Duration.ofMillis(properties.getLookaheadMs()));
+      int loaded = 0;
+      while (leases.size() < properties.getMaxPending()) {
+        int wanted = Math.min(properties.getBatchSize(), properties.getMaxPending() - leases.size());
+        List<Long> due = repository.findDueIds(horizon, now, wanted).stream()
+            .filter(id -> !leases.containsKey(id))
+            .toList();
+        List<ScheduledTopUp> claimed = repository.claim(due, nodeId, leaseUntil, now);
+        long leaseMillis = toMillis(leaseUntil);
+        for (ScheduledTopUp schedule : claimed) {
+          if (leases.putIfAbsent(schedule.getId(), leaseMillis) == null) {
+            enqueue(new PendingRun(schedule, 1), toMillis(schedule.getNextRunAt()));
+            loaded++;
+          }
+        }
+        if (due.size() < wanted || claimed.isEmpty()) {
+          break;
+        }
+      }
+      if (loaded > 0) {
+        log.info("[SCHEDULED TOPUP] Leased {} due runs | pending: {}", loaded, leases.size());
+      }
+    } catch (DataAccessException e) {
+      log.warn("[SCHEDULED TOPUP] Load pass failed, retrying next pass | error: {}", e.getMessage());
+    }
+  }
+
+  private void renew(LocalDateTime now, LocalDateTime leaseUntil) {
+    if (leases.isEmpty()) {
+      return;
+    }
+    repository.renewLeases(nodeId, leaseUntil, now);
+    long nowMillis = toMillis(now);
+    long renewedMillis = toMillis(leaseUntil);
+    // Only leases still live in the table were renewed; an expired one may already belong to another node
+    leases.replaceAll((id, expiry) -> expiry >= nowMillis ? renewedMillis : expiry);
+  }
+
+  private void tick() {
+    try {
+      long now = System.currentTimeMillis();
+      List<PendingRun> due;
+      synchronized (wheel) {
+        due = wheel.advance(now);
+      }
+      for (PendingRun run : due) {
+        dispatch(run, now);
+      }
+    } catch (RuntimeException e) {
+      log.error("[SCHEDULED TOPUP] Tick failed | error: {}", e.getMessage(), e);
+    }
+  }
+
+  private void dispatch(PendingRun run, long now) {
+    Long id = run.schedule().getId();
+    Long leaseExpiry = leases.get(id);
+    if (leaseExpiry == null || stopping) {
+      return;
+    }
+    if (leaseExpiry - properties.getLeaseSafetyMs() < now) {
+      leases.remove(id);
+      count("lease_expired");
+      log.warn("[SCHEDULED TOPUP] Lease about to expire, leaving run to the next claimer | id: {}", id);
+      return;
+    }
+
+    long lateMs = now - toMillis(run.schedule().getNextRunAt());
+    if (lateMs > properties.getCatchUpThresholdMs()) {
+      ConsumptionProbe probe = catchUp.tryConsumeAndReturnRemaining(1);
+      if (!probe.isConsumed()) {
+        throttled.increment();
+        enqueue(run, now + Math.max(properties.getTickMs(), TimeUnit.NANOSECONDS.toMillis(probe.getNanosToWaitForRefill())));
+        return;
+      }
+    }
+
+    try {
+      executor.execute(() -> execute(run));
+    } catch (RejectedExecutionException e) {
+      // Executor saturated; retried next tick and, once late enough, through the catch-up limit
+      enqueue(run, now + properties.getTickMs());
+    }
+  }
+
+  private void execute(PendingRun run) {
+    ScheduledTopUp schedule = run.schedule();
+    running.add(schedule.getId());
+    try {
+      LocalDateTime startedAt = LocalDateTime.now();
+      if (!start(schedule, startedAt)) {
+        return;
+      }
+      lag.record(Duration.ofMillis(Math.max(0L, toMillis(startedAt) - toMillis(schedule.getNextRunAt()))));
+      try {
+        TransactionDomain transaction = topUpService.executeTopUp(schedule.toTopUpRequest(), schedule.getUserId());
+        schedule.setLastTransactionId(transaction.getId());
+        schedule.setLastStatus(transaction.getStatus());
+        schedule.setLastMessage(truncate(transaction.getResponseMessage()));
+        schedule.setConsecutiveFailures(0);
+        count("completed");
+        log.info("[SCHEDULED TOPUP] Run completed | id: {} | userId: {} | transactionId: {}",
+            schedule.getId(), schedule.getUserId(), transaction.getId());
+      } catch (IllegalArgumentException | BusinessException e) {
+        recordFailure(schedule, e);
+        count("rejected");
+        log.info("[SCHEDULED TOPUP] Run rejected | id: {} | userId: {} | reason: {}",
+            schedule.getId(), schedule.getUserId(), e.getMessage());
+      } catch (ServiceUnavailableException e) {
+        // Shed by a bulkhead or short of float: nothing reached Puntored, so another attempt cannot double-buy
+        recordFailure(schedule, e);
+        if (run.attempt() < properties.getMaxAttempts() && !stopping) {
+          count("retried");
+          log.warn("[SCHEDULED TOPUP] Run not sent, retrying in {}ms | id: {} | attempt: {} | error: {}",
+              properties.getRetryDelayMs(), schedule.getId(), run.attempt(), e.getMessage());
+          // Lease is kept and renewed while the retry waits; the occurrence does not move
+          enqueue(new PendingRun(schedule, run.attempt() + 1), System.currentTimeMillis() + properties.getRetryDelayMs());
+          return;
+        }
+        count("failed");
+        log.warn("[SCHEDULED TOPUP] Run failed | id: {} | userId: {} | attempts: {} | error: {}",
+            schedule.getId(), schedule.getUserId(), run.attempt(), e.getMessage());
+      } catch (RuntimeException e) {
+        // May have reached Puntored, e.g. a read timeout on /buy; retrying could buy the occurrence twice
+        recordFailure(schedule, e);
+        count("failed");
+        log.warn("[SCHEDULED TOPUP] Run failed, not retried | id: {} | userId: {} | error: {}",
+            schedule.getId(), schedule.getUserId(), e.getMessage());
+      }
+      finish(schedule, startedAt);
+    } finally {
+      running.remove(schedule.getId());
+    }
+  }
+
+  /**
+   * Confirms the run is still wanted and renews its lease; otherwise forgets it
+   */
+  private boolean start(ScheduledTopUp schedule, LocalDateTime now) {
+    LocalDateTime leaseUntil = now.plus(Duration.ofMillis(properties.getLeaseMs()));
+    try {
+      if (repository.startRun(schedule.getId(), nodeId, schedule.getNextRunAt(), leaseUntil, now)) {
+        leases.replace(schedule.getId(), toMillis(leaseUntil));
+        return true;
+      }
+      count("dropped");
+      log.info("[SCHEDULED TOPUP] Run dropped, schedule changed by the user or lease lost | id: {}",
+          schedule.getId());
+    } catch (DataAccessException e) {
+      log.warn("[SCHEDULED TOPUP] Could not confirm run, leaving it to the next claimer | id: {} | error: {}",
+          schedule.getId(), e.getMessage());
+    }
+    leases.remove(schedule.getId());
+    return false;
+  }
+
+  /**
+   * Moves the schedule to its next occurrence, or completes it, and releases the lease
+   */
+  private void finish(ScheduledTopUp schedule, LocalDateTime startedAt) {
+    LocalDateTime next = schedule.nextOccurrenceAfter(startedAt);
+    schedule.setLastRunAt(startedAt);
+    if (next != null) {
+      schedule.setNextRunAt(next);
+    } else {
+      schedule.setStatus(ScheduledTopUpStatus.COMPLETED);
+    }
+    try {
+      if (!repository.completeRun(schedule, nodeId)) {
+        log.warn("[SCHEDULED TOPUP] Lease lost before the run was recorded | id: {}", schedule.getId());
+      }
+    } catch (DataAccessException e) {
+      log.error("[SCHEDULED TOPUP] Could not record run; it may run again once the lease expires | id: {} | error: {}",
+          schedule.getId(), e.getMessage());
+    } finally {
+      leases.remove(schedule.getId());
+    }
+  }
+
+  private void recordFailure(ScheduledTopUp schedule, RuntimeException e) {
+    schedule.setLastTransactionId(null);
+    schedule.setLastStatus(TransactionStatus.FAILED);
+    schedule.setLastMessage(truncate(e.getMessage()));
+    schedule.setConsecutiveFailures(schedule.getConsecutiveFailures() + 1);
+  }
+
+  private void enqueue(PendingRun run, long deadlineMillis) {
+    synchronized (wheel) {
+      wheel.schedule(run, deadlineMillis);
+    }
+  }
+
+  private void count(String outcome) {
+    outcomes.computeIfAbsent(outcome, key -> Counter.builder("topup.schedule.runs")
+        .tag("outcome", key)
+        .description("Scheduled top-up runs by outcome")
+        .register(meterRegistry))
+        .increment();
+  }
+
+  private static String truncate(String message) {
+    if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+      return message;
+    }
+    return message.substring(0, MAX_MESSAGE_LENGTH);
+  }
+
+  private static long toMillis(LocalDateTime time) {
+    return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  private static String defaultNodeId() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      host = "node";
+    }
+    String suffix = UUID.randomUUID().toString().substring(0, 8);
+    return (host.length() > 55 ? host.substring(0, 55) : host) + "-" + suffix;
+  }
+}
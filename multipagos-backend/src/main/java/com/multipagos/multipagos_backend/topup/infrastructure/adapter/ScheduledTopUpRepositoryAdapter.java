@@ -0,0 +1,108 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUp;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUpStatus;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ScheduledTopUpRepositoryPort;
+import com.multipagos.multipagos_backend.topup.infrastructure.mapper.ScheduledTopUpMapper;
+import com.multipagos.multipagos_backend.topup.infrastructure.repository.ScheduledTopUpEntityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Infrastructure adapter implementing the scheduled top-up repository port
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledTopUpRepositoryAdapter implements ScheduledTopUpRepositoryPort {
+
+  private final ScheduledTopUpEntityRepository jpaRepository;
+  private final ScheduledTopUpMapper mapper;
+
+  @Override
+  public ScheduledTopUp save(ScheduledTopUp scheduledTopUp) {
+    log.debug("Saving scheduled top-up for user ID: {}", scheduledTopUp.getUserId());
+    return mapper.toDomain(jpaRepository.save(mapper.toEntity(scheduledTopUp)));
+  }
+
+  @Override
+  public Optional<ScheduledTopUp> findByIdAndUserId(Long id, Long userId) {
+    return jpaRepository.findByIdAndUserId(id, userId)
+        .map(mapper::toDomain);
+  }
+
+  @Override
+  public List<ScheduledTopUp> findByUserId(Long userId) {
+    return jpaRepository.findByUserIdAndStatusNotOrderByNextRunAtAsc(userId, ScheduledTopUpStatus.CANCELLED).stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
+  @Override
+  public long countOpenByUserId(Long userId) {
+    return jpaRepository.countByUserIdAndStatusIn(userId,
+        EnumSet.of(ScheduledTopUpStatus.ACTIVE, ScheduledTopUpStatus.PAUSED));
+  }
+
+  @Override
+  public List<Long> findDueIds(LocalDateTime horizon, LocalDateTime now, int limit) {
+    return jpaRepository.findDueIds(ScheduledTopUpStatus.ACTIVE, horizon, now, Limit.of(limit));
+  }
+
+  @Override
+  public List<ScheduledTopUp> claim(Collection<Long> ids, String owner, LocalDateTime leaseUntil, LocalDateTime now) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    int claimed = jpaRepository.claim(ids, ScheduledTopUpStatus.ACTIVE, owner, leaseUntil, now);
+    if (claimed == 0) {
+      return List.of();
+    }
+    log.debug("Leased {} of {} due scheduled top-ups to {}", claimed, ids.size(), owner);
+    return jpaRepository.findLeased(ids, owner).stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
+  @Override
+  public int renewLeases(String owner, LocalDateTime leaseUntil, LocalDateTime now) {
+    return jpaRepository.renewLeases(owner, leaseUntil, now);
+  }
+
+  @Override
+  public boolean startRun(Long id, String owner, LocalDateTime nextRunAt, LocalDateTime leaseUntil,
+      LocalDateTime now) {
+    return jpaRepository.startRun(id, owner, ScheduledTopUpStatus.ACTIVE, nextRunAt, leaseUntil, now) == 1;
+  }
+
+  @Override
+  public boolean completeRun(ScheduledTopUp run, String owner) {
+    return jpaRepository.completeRun(run.getId(), owner, ScheduledTopUpStatus.ACTIVE, run.getStatus(),
+        run.getNextRunAt(), run.getLastRunAt(), run.getLastTransactionId(), run.getLastStatus(),
+        run.getLastMessage(), run.getConsecutiveFailures()) == 1;
+  }
+
+  @Override
+  public boolean release(Long id, String owner) {
+    return jpaRepository.release(id, owner) == 1;
+  }
+
+  @Override
+  public int releaseAll(String owner) {
+    return jpaRepository.releaseAll(owner);
+  }
+
+  @Override
+  public boolean updateStatus(Long id, Long userId, ScheduledTopUpStatus expected, ScheduledTopUpStatus status,
+      LocalDateTime nextRunAt) {
+    return jpaRepository.updateStatus(id, userId, expected, status, nextRunAt, LocalDateTime.now()) == 1;
+  }
+}
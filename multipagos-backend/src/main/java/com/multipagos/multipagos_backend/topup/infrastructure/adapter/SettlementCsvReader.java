@@ -0,0 +1,253 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementRecord;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a settlement CSV one line at a time, so a file of any size is never held in memory
+ * The header names the columns, in any order and with the provider's or our own names;
+ * the date column is optional. Quoted fields may contain the delimiter but not line breaks.
+ * A line that cannot be parsed is returned as an invalid record instead of stopping the file
+ */
+public class SettlementCsvReader implements Iterator<SettlementRecord>, Closeable {
+
+  private static final Map<String, String> COLUMN_ALIASES = Map.ofEntries(
+      Map.entry("transactionalid", "externalId"),
+      Map.entry("externaltransactionid", "externalId"),
+      Map.entry("transactionid", "externalId"),
+      Map.entry("cellphone", "phone"),
+      Map.entry("phonenumber", "phone"),
+      Map.entry("phone", "phone"),
+      Map.entry("value", "amount"),
+      Map.entry("amount", "amount"),
+      Map.entry("status", "status"),
+      Map.entry("date", "settledAt"),
+      Map.entry("settledat", "settledAt"),
+      Map.entry("createdat", "settledAt"));
+  private static final DateTimeFormatter SPACED_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+  private final BufferedReader reader;
+  private final char delimiter;
+  private int externalIdColumn = -1;
+  private int phoneColumn = -1;
+  private int amountColumn = -1;
+  private int statusColumn = -1;
+  private int settledAtColumn = -1;
+  private long lineNumber;
+  private SettlementRecord next;
+
+  /**
+   * @throws IllegalArgumentException if the header lacks a required column
+   */
+  public SettlementCsvReader(Path file, char delimiter) throws IOException {
+    this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+    this.delimiter = delimiter;
+    try {
+      readHeader();
+    } catch (IOException | RuntimeException e) {
+      reader.close();
+      throw e;
+    }
+  }
+
+  private void readHeader() throws IOException {
+    String header = reader.readLine();
+    lineNumber++;
+    if (header == null) {
+      throw new IllegalArgumentException("El archivo de liquidación está vacío");
+    }
+    if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+      header = header.substring(1);
+    }
+    List<String> columns = split(header);
+    for (int i = 0; i < columns.size(); i++) {
+      String normalized = columns.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "").replace("-", "");
+      String column = COLUMN_ALIASES.get(normalized);
+      if (column == null) {
+        continue;
+      }
+      switch (column) {
+        case "externalId" -> externalIdColumn = externalIdColumn < 0 ? i : externalIdColumn;
+        case "phone" -> phoneColumn = phoneColumn < 0 ? i : phoneColumn;
+        case "amount" -> amountColumn = amountColumn < 0 ? i : amountColumn;
+        case "status" -> statusColumn = statusColumn < 0 ? i : statusColumn;
+        default -> settledAtColumn = settledAtColumn < 0 ? i : settledAtColumn;
+      }
+    }
+    if (externalIdColumn < 0 || amountColumn < 0 || statusColumn < 0) {
+      throw new IllegalArgumentException(
+          "El encabezado debe incluir las columnas transactionalID, value y status: " + header);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next != null) {
+      return true;
+    }
+    try {
+      String line;
+      do {
+        line = reader.readLine();
+        lineNumber++;
+        if (line == null) {
+          return false;
+        }
+      } while (line.isBlank());
+      next = parse(line);
+      return true;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public SettlementRecord next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    SettlementRecord record = next;
+    next = null;
+    return record;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private SettlementRecord parse(String line) {
+    List<String> fields = split(line);
+    String externalId = field(fields, externalIdColumn);
+    if (externalId == null) {
+      return SettlementRecord.invalid(lineNumber, null, "Falta el transactionalID");
+    }
+    try {
+      long amountCents = new BigDecimal(required(field(fields, amountColumn), "value"))
+          .movePointRight(2).longValueExact();
+      if (amountCents <= 0) {
+        return SettlementRecord.invalid(lineNumber, externalId, "El valor debe ser positivo");
+      }
+      SettlementStatus status = SettlementStatus.parse(required(field(fields, statusColumn), "status"));
+      return new SettlementRecord(lineNumber, externalId, phoneNumber(field(fields, phoneColumn)), amountCents,
+          status, settledAt(field(fields, settledAtColumn)), null);
+    } catch (ArithmeticException e) {
+      return SettlementRecord.invalid(lineNumber, externalId, "El valor tiene más de dos decimales");
+    } catch (NumberFormatException e) {
+      return SettlementRecord.invalid(lineNumber, externalId, "Valor no numérico");
+    } catch (DateTimeParseException e) {
+      return SettlementRecord.invalid(lineNumber, externalId, "Fecha inválida: " + e.getParsedString());
+    } catch (IllegalArgumentException e) {
+      return SettlementRecord.invalid(lineNumber, externalId, e.getMessage());
+    }
+  }
+
+  private static String required(String value, String column) {
+    if (value == null) {
+      throw new IllegalArgumentException("Falta el campo " + column);
+    }
+    return value;
+  }
+
+  /**
+   * Normalized like our own numbers; a number we would not accept cannot match a
+   * transaction and is dropped instead of invalidating the line
+   */
+  private static String phoneNumber(String value) {
+    if (value == null) {
+      return null;
+    }
+    String digits = value.replaceAll("\\D", "");
+    if (digits.length() == 12 && digits.startsWith("57")) {
+      digits = digits.substring(2);
+    }
+    try {
+      return PhoneNumber.of(digits).getValue();
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * ISO local or offset date-times, "yyyy-MM-dd HH:mm:ss" or a bare date at midnight;
+   * offsets are converted to the server's zone, which is what created_at uses
+   */
+  private static LocalDateTime settledAt(String value) {
+    if (value == null) {
+      return null;
+    }
+    if (value.length() == 10) {
+      return LocalDate.parse(value).atStartOfDay();
+    }
+    if (value.length() > 10 && value.charAt(10) == ' ') {
+      return LocalDateTime.parse(value, SPACED_DATE_TIME);
+    }
+    try {
+      return LocalDateTime.parse(value);
+    } catch (DateTimeParseException e) {
+      return OffsetDateTime.parse(value).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+  }
+
+  private static String field(List<String> fields, int column) {
+    if (column < 0 || column >= fields.size()) {
+      return null;
+    }
+    String value = fields.get(column).trim();
+    return value.isEmpty() ? null : value;
+  }
+
+  /**
+   * Splits on the delimiter outside double quotes; a quote opens only at the start of a
+   * field, and "" inside quotes is a literal quote
+   */
+  private List<String> split(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder current = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          current.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          current.append(c);
+        }
+      } else if (c == '"' && current.length() == 0) {
+        quoted = true;
+      } else if (c == delimiter) {
+        fields.add(current.toString());
+        current.setLength(0);
+      } else {
+        current.append(c);
+      }
+    }
+    fields.add(current.toString());
+    return fields;
+  }
+}
@@ -0,0 +1,132 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementSummary;
+import com.multipagos.multipagos_backend.topup.domain.port.in.SettlementReconciliationServicePort;
+import com.multipagos.multipagos_backend.topup.infrastructure.config.SettlementProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Picks up settlement files dropped in the inbox directory and reconciles them
+ * A file is claimed by an atomic rename into processing, so with the directory on
+ * shared storage exactly one node handles it. The findings go to reports as
+ * "name.report.csv" and the file moves to processed, or to failed if it could not
+ * be read. A file left in processing by a crashed node is moved back by hand
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SettlementInboxPoller {
+
+  private final SettlementReconciliationServicePort reconciliationService;
+  private final SettlementProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  private Path inbox;
+  private Path processing;
+  private Path processed;
+  private Path failed;
+  private Path reports;
+
+  @PostConstruct
+  void init() throws IOException {
+    if (!properties.isEnabled()) {
+      log.info("[SETTLEMENT] Inbox disabled");
+      return;
+    }
+    Path root = Paths.get(properties.getDirectory()).toAbsolutePath();
+    inbox = Files.createDirectories(root.resolve("inbox"));
+    processing = Files.createDirectories(root.resolve("processing"));
+    processed = Files.createDirectories(root.resolve("processed"));
+    failed = Files.createDirectories(root.resolve("failed"));
+    reports = Files.createDirectories(root.resolve("reports"));
+    log.info("[SETTLEMENT] Watching inbox | directory: {}", inbox);
+  }
+
+  @Scheduled(fixedDelayString = "${topup.settlement.scan-interval-ms:60000}",
+      initialDelayString = "${topup.settlement.scan-interval-ms:60000}")
+  public void scan() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    for (Path file : readyFiles()) {
+      Path claimed = claim(file);
+      if (claimed != null) {
+        process(claimed);
+      }
+    }
+  }
+
+  private List<Path> readyFiles() {
+    List<Path> files = new ArrayList<>();
+    long settledBefore = System.currentTimeMillis() - properties.getMinFileAgeMs();
+    try (DirectoryStream<Path> entries = Files.newDirectoryStream(inbox, "*.{csv,CSV}")) {
+      for (Path file : entries) {
+        if (Files.isRegularFile(file) && Files.getLastModifiedTime(file).toMillis() <= settledBefore) {
+          files.add(file);
+        }
+      }
+    } catch (IOException e) {
+      log.warn("[SETTLEMENT] Could not list inbox | error: {}", e.getMessage());
+    }
+    files.sort(null);
+    return files;
+  }
+
+  /**
+   * @return the file's path in processing, or null if another node took it first
+   */
+  private Path claim(Path file) {
+    Path target = processing.resolve(file.getFileName());
+    try {
+      return Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (NoSuchFileException | FileAlreadyExistsException e) {
+      return null;
+    } catch (AtomicMoveNotSupportedException e) {
+      log.error("[SETTLEMENT] Inbox and processing must be on the same file system | file: {}", file);
+      return null;
+    } catch (IOException e) {
+      log.warn("[SETTLEMENT] Could not claim file | file: {} | error: {}", file, e.getMessage());
+      return null;
+    }
+  }
+
+  private void process(Path file) {
+    String name = file.getFileName().toString();
+    Path report = reports.resolve(name.replaceFirst("(?i)\\.csv$", "") + ".report.csv");
+    boolean succeeded;
+    try (SettlementCsvReader reader = new SettlementCsvReader(file, properties.getDelimiter());
+         SettlementReportWriter writer = new SettlementReportWriter(report)) {
+      SettlementSummary summary = reconciliationService.reconcile(name, reader, writer);
+      succeeded = true;
+      log.info("[SETTLEMENT] File reconciled | file: {} | lines: {} | matched: {} | findings: {} | report: {}",
+          name, summary.lines(), summary.matched(), summary.findings(), report);
+    } catch (IOException | RuntimeException e) {
+      succeeded = false;
+      log.error("[SETTLEMENT] File could not be reconciled | file: {} | error: {}", name, e.getMessage());
+    }
+
+    meterRegistry.counter("topup.settlement.files", "outcome", succeeded ? "processed" : "failed").increment();
+    try {
+      Files.move(file, (succeeded ? processed : failed).resolve(name), StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      log.error("[SETTLEMENT] Could not move file out of processing | file: {} | error: {}", name, e.getMessage());
+    }
+  }
+}
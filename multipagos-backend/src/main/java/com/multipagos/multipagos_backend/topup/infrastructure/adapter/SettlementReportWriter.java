@@ -0,0 +1,65 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementMismatch;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Writes reconciliation findings to a CSV as they are found, one line each
+ */
+public class SettlementReportWriter implements Consumer<SettlementMismatch>, Closeable {
+
+  private static final String HEADER =
+      "type,line,externalTransactionId,transactionId,cellPhone,settledValue,ourValue,settledStatus,ourStatus,detail";
+
+  private final BufferedWriter writer;
+
+  public SettlementReportWriter(Path file) throws IOException {
+    this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+    writer.write(HEADER);
+    writer.newLine();
+  }
+
+  @Override
+  public void accept(SettlementMismatch mismatch) {
+    try {
+      writer.write(String.join(",",
+          mismatch.type().name(),
+          mismatch.lineNumber() > 0 ? Long.toString(mismatch.lineNumber()) : "",
+          quote(mismatch.externalTransactionId()),
+          mismatch.transactionId() != null ? mismatch.transactionId().toString() : "",
+          quote(mismatch.phoneNumber()),
+          mismatch.settledAmountCents() != null ? Amount.toDecimal(mismatch.settledAmountCents()).toPlainString() : "",
+          mismatch.ourAmountCents() != null ? Amount.toDecimal(mismatch.ourAmountCents()).toPlainString() : "",
+          mismatch.settledStatus() != null ? mismatch.settledStatus().name() : "",
+          mismatch.ourStatus() != null ? mismatch.ourStatus().name() : "",
+          quote(mismatch.detail())));
+      writer.newLine();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+
+  private static String quote(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
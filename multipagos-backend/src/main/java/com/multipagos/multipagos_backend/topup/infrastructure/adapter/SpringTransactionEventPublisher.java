@@ -0,0 +1,23 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatusChangedEvent;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionEventPublisherPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Infrastructure adapter implementing TransactionEventPublisherPort
+ * Delivers events through the Spring application context to @EventListener methods
+ */
+@Component
+@RequiredArgsConstructor
+public class SpringTransactionEventPublisher implements TransactionEventPublisherPort {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  @Override
+  public void publish(TransactionStatusChangedEvent event) {
+    applicationEventPublisher.publishEvent(event);
+  }
+}
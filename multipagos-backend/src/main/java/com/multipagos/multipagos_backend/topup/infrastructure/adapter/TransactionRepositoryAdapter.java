@@ -3,20 +3,26 @@ package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
 import com.multipagos.multipagos_backend.shared.domain.port.PaginationPort;
 import com.multipagos.multipagos_backend.shared.domain.value.PageRequest;
 import com.multipagos.multipagos_backend.shared.domain.value.PagedResult;
+import com.multipagos.multipagos_backend.topup.domain.model.HourlySpend;
 import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
 import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.domain.port.out.HistoryVersionPort;
 import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionRepositoryPort;
 import com.multipagos.multipagos_backend.topup.infrastructure.entity.TransactionEntity;
 import com.multipagos.multipagos_backend.topup.infrastructure.repository.TransactionEntityRepository;
 import com.multipagos.multipagos_backend.topup.infrastructure.mapper.TransactionMapper;
+import com.multipagos.multipagos_backend.topup.infrastructure.metrics.PortDelegate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,6 +31,7 @@ import java.util.stream.Collectors;
  * Infrastructure adapter that bridges domain TransactionRepositoryPort with JPA repository
  */
 @Component
+@PortDelegate
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
@@ -32,6 +39,7 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
   private final TransactionEntityRepository jpaRepository;
   private final TransactionMapper mapper;
   private final PaginationPort paginationPort;
+  private final HistoryVersionPort historyVersionPort;
 
   @Override
   public TransactionDomain save(TransactionDomain transaction) {
@@ -39,6 +47,7 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
     TransactionEntity entity = mapper.toEntity(transaction);
     TransactionEntity savedEntity = jpaRepository.save(entity);
     TransactionDomain savedDomain = mapper.toDomain(savedEntity);
+    historyVersionPort.markChanged(savedDomain.getUserId(), savedDomain.getId(), savedDomain.getUpdatedAt());
     log.debug("[TRANSACTION ADAPTER] Transaction saved with ID: {}", savedDomain.getId());
     return savedDomain;
   }
@@ -93,6 +102,61 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
         .map(mapper::toDomain);
   }
 
+  @Override
+  public List<TransactionDomain> findByExternalTransactionIds(Collection<String> externalIds) {
+    if (externalIds.isEmpty()) {
+      return List.of();
+    }
+    log.debug("[TRANSACTION ADAPTER] Finding transactions by {} external IDs", externalIds.size());
+    return jpaRepository.findByExternalTransactionIdInAndActiveTrue(externalIds).stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
+  @Override
+  public List<TransactionDomain> findPendingByPhoneNumbers(Collection<String> phoneNumbers, LocalDateTime from,
+      LocalDateTime to) {
+    if (phoneNumbers.isEmpty()) {
+      return List.of();
+    }
+    log.debug("[TRANSACTION ADAPTER] Finding PENDING transactions for {} phones between {} and {}",
+        phoneNumbers.size(), from, to);
+    return jpaRepository.findByPhoneNumbersAndStatusBetween(phoneNumbers, TransactionStatus.PENDING, from, to)
+        .stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
+  @Override
+  public List<TransactionDomain> findCompletedAfter(LocalDateTime afterCreatedAt, long afterId, LocalDateTime to,
+      int limit) {
+    return jpaRepository.findByStatusAfter(TransactionStatus.COMPLETED, afterCreatedAt, afterId, to, Limit.of(limit))
+        .stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
+  @Override
+  public List<TransactionDomain> findUpdatedAfter(LocalDateTime afterUpdatedAt, long afterId, int limit) {
+    return jpaRepository.findUpdatedAfter(afterUpdatedAt, afterId, Limit.of(limit))
+        .stream()
+        .map(mapper::toDomain)
+        .toList();
+  }
+
+  @Override
+  public boolean completeIfPending(Long id, String externalTransactionId, String message) {
+    log.debug("[TRANSACTION ADAPTER] Completing transaction {} if still PENDING", id);
+    LocalDateTime now = LocalDateTime.now();
+    boolean completed = jpaRepository.completeIfPending(id, externalTransactionId, message, now,
+        TransactionStatus.PENDING, TransactionStatus.COMPLETED) > 0;
+    if (completed) {
+      jpaRepository.findById(id)
+          .ifPresent(entity -> historyVersionPort.markChanged(entity.getUser().getId(), id, now));
+    }
+    return completed;
+  }
+
   @Override
   public List<TransactionDomain> findByUserAndDateRange(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
     log.debug("[TRANSACTION ADAPTER] Finding transactions for user: {} between {} and {}", userId, startDate,
@@ -104,9 +168,34 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
   }
 
   @Override
-  public BigDecimal getTotalAmountByUser(Long userId) {
+  public long getTotalAmountCentsByUser(Long userId) {
     log.debug("[TRANSACTION ADAPTER] Calculating total amount for user: {}", userId);
-    return jpaRepository.getTotalAmountByUser(userId);
+    Long cents = jpaRepository.getTotalAmountCentsByUser(userId);
+    return cents != null ? cents : 0L;
+  }
+
+  @Override
+  public List<HourlySpend> getHourlySpendByUser(Long userId, LocalDateTime since) {
+    log.debug("[TRANSACTION ADAPTER] Loading hourly spend for user: {} since {}", userId, since);
+    return toHourlySpend(jpaRepository.getHourlySpendCentsByUser(userId, since));
+  }
+
+  @Override
+  public List<HourlySpend> getHourlySpendByPhone(String phoneNumber, LocalDateTime since) {
+    log.debug("[TRANSACTION ADAPTER] Loading hourly spend for phone: {} since {}", phoneNumber, since);
+    return toHourlySpend(jpaRepository.getHourlySpendCentsByPhone(phoneNumber, since));
+  }
+
+  @Override
+  public Optional<TransactionDomain> findRecentIdentical(Long userId, String phoneNumber, long amountCents,
+      String supplierId, LocalDateTime since) {
+    log.debug("[TRANSACTION ADAPTER] Looking for identical transaction | user: {} | phone: {} | since {}",
+        userId, phoneNumber, since);
+    return jpaRepository.findRecentIdentical(userId, phoneNumber, amountCents, supplierId,
+            List.of(TransactionStatus.PENDING, TransactionStatus.COMPLETED), since, Limit.of(1))
+        .stream()
+        .findFirst()
+        .map(mapper::toDomain);
   }
 
   @Override
@@ -142,7 +231,7 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
     log.debug("[TRANSACTION ADAPTER] Soft deleting transaction with ID: {}", id);
     jpaRepository.findById(id).ifPresent(entity -> {
       entity.setActive(false);
-      jpaRepository.save(entity);
+      markHistoryChanged(jpaRepository.save(entity));
     });
   }
 
@@ -172,7 +261,26 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
           entity.setStatus(status);
           entity.setUpdatedAt(LocalDateTime.now());
           TransactionEntity saved = jpaRepository.save(entity);
+          markHistoryChanged(saved);
           return mapper.toDomain(saved);
         });
   }
+
+  private void markHistoryChanged(TransactionEntity entity) {
+    historyVersionPort.markChanged(entity.getUser().getId(), entity.getId(), entity.getUpdatedAt());
+  }
+
+  /**
+   * Native rows carry the first timestamp of each hour; the driver may return it as
+   * Timestamp or LocalDateTime
+   */
+  private List<HourlySpend> toHourlySpend(List<Object[]> rows) {
+    return rows.stream()
+        .map(row -> new HourlySpend(toLocalDateTime(row[0]).truncatedTo(ChronoUnit.HOURS), ((Number) row[1]).longValue()))
+        .toList();
+  }
+
+  private static LocalDateTime toLocalDateTime(Object value) {
+    return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+  }
 }
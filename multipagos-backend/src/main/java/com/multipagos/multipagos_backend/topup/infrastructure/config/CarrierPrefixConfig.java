@@ -0,0 +1,24 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.config;
+
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.CarrierPrefixTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Builds the carrier prefix table once at startup; an invalid table fails the boot
+ */
+@Slf4j
+@Configuration
+public class CarrierPrefixConfig {
+
+  @Bean
+  public CarrierPrefixTable carrierPrefixTable(CarrierPrefixProperties properties) {
+    if (properties.getPrefixes().isEmpty()) {
+      log.info("[CARRIER PREFIXES] Using built-in prefix ranges");
+      return CarrierPrefixTable.defaults();
+    }
+    log.info("[CARRIER PREFIXES] Using configured prefix ranges: {}", properties.getPrefixes());
+    return CarrierPrefixTable.of(properties.getPrefixes());
+  }
+}
@@ -0,0 +1,21 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.config;
+
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mobile prefix ranges per carrier, e.g. topup.carrier.prefixes.claro=300-305,350
+ * An empty map keeps the built-in Colombian ranges
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "topup.carrier")
+public class CarrierPrefixProperties {
+  private Map<SupplierType, List<String>> prefixes = new EnumMap<>(SupplierType.class);
+}
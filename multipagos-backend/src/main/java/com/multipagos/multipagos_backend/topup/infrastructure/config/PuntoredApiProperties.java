@@ -8,8 +8,30 @@ import org.springframework.stereotype.Component;
 @Component
 @ConfigurationProperties(prefix = "puntored.api")
 public class PuntoredApiProperties {
+  public static final String CLIENT_REST_TEMPLATE = "resttemplate";
+  public static final String CLIENT_WEB_CLIENT = "webclient";
+
   private String baseUrl;
   private String key;
   private String username;
   private String password;
+  private long supplierCacheTtlSeconds = 300;
+  private long supplierRefreshBackoffSeconds = 30;
+  private String client = CLIENT_REST_TEMPLATE;
+  private WebClientSettings webclient = new WebClientSettings();
+
+  /**
+   * Reactor Netty pool, timeouts and retry policy used when client=webclient
+   */
+  @Data
+  public static class WebClientSettings {
+    private int maxConnections = 200;
+    private int pendingAcquireMaxCount = 1000;
+    private long pendingAcquireTimeoutMs = 5000;
+    private long maxIdleTimeMs = 30000;
+    private long connectTimeoutMs = 10000;
+    private long responseTimeoutMs = 30000;
+    private int retryMaxAttempts = 2;
+    private long retryBackoffMs = 200;
+  }
 }
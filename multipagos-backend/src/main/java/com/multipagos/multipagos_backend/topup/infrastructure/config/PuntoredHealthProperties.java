@@ -0,0 +1,20 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Thresholds for the passive, traffic-derived Puntored health
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "puntored.health")
+public class PuntoredHealthProperties {
+  private long windowSeconds = 120;
+  private int maxSamples = 200;
+  private int minSamples = 5;
+  private double degradedSuccessRate = 0.9;
+  private double downSuccessRate = 0.5;
+  private long p95ThresholdMs = 5000;
+}
@@ -0,0 +1,57 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Pooled Reactor Netty client for the WebClient Puntored adapters
+ * Only created when puntored.api.client=webclient
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "puntored.api", name = "client", havingValue = PuntoredApiProperties.CLIENT_WEB_CLIENT)
+public class PuntoredWebClientConfig {
+
+  public static final String POOL_NAME = "puntored";
+
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider puntoredConnectionProvider(PuntoredApiProperties apiProperties) {
+    PuntoredApiProperties.WebClientSettings settings = apiProperties.getWebclient();
+    log.info("[PUNTORED WEBCLIENT] Connection pool configured | maxConnections: {} | pendingAcquireMax: {}",
+        settings.getMaxConnections(), settings.getPendingAcquireMaxCount());
+
+    return ConnectionProvider.builder(POOL_NAME)
+        .maxConnections(settings.getMaxConnections())
+        .pendingAcquireMaxCount(settings.getPendingAcquireMaxCount())
+        .pendingAcquireTimeout(Duration.ofMillis(settings.getPendingAcquireTimeoutMs()))
+        .maxIdleTime(Duration.ofMillis(settings.getMaxIdleTimeMs()))
+        .evictInBackground(Duration.ofMillis(settings.getMaxIdleTimeMs()))
+        .metrics(true)
+        .build();
+  }
+
+  @Bean
+  public WebClient puntoredWebClient(WebClient.Builder webClientBuilder,
+      ConnectionProvider puntoredConnectionProvider,
+      PuntoredApiProperties apiProperties) {
+    PuntoredApiProperties.WebClientSettings settings = apiProperties.getWebclient();
+
+    HttpClient httpClient = HttpClient.create(puntoredConnectionProvider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.getConnectTimeoutMs())
+        .responseTimeout(Duration.ofMillis(settings.getResponseTimeoutMs()));
+
+    return webClientBuilder
+        .baseUrl(apiProperties.getBaseUrl())
+        .clientConnector(new ReactorClientHttpConnector(httpClient))
+        .build();
+  }
+}
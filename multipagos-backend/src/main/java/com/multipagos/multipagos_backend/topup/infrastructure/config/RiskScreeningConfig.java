@@ -0,0 +1,38 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.config;
+
+import com.multipagos.multipagos_backend.topup.domain.model.RiskPolicy;
+import com.multipagos.multipagos_backend.topup.domain.model.RiskSignal;
+import com.multipagos.multipagos_backend.topup.domain.model.RiskSketchSizing;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Builds the risk policy once at startup; invalid ratios or sizing fail the boot
+ */
+@Configuration
+public class RiskScreeningConfig {
+
+  @Bean
+  public RiskPolicy riskPolicy(RiskScreeningProperties properties) {
+    RiskScreeningProperties.Limits limits = properties.getLimits();
+    Map<RiskSignal, Long> bySignal = new EnumMap<>(RiskSignal.class);
+    bySignal.put(RiskSignal.USER_ATTEMPTS, limits.getUserAttempts());
+    bySignal.put(RiskSignal.PHONE_ATTEMPTS, limits.getPhoneAttempts());
+    bySignal.put(RiskSignal.IP_ATTEMPTS, limits.getIpAttempts());
+    bySignal.put(RiskSignal.SUPPLIER_ATTEMPTS, limits.getSupplierAttempts());
+    bySignal.put(RiskSignal.PHONES_PER_USER, limits.getPhonesPerUser());
+    bySignal.put(RiskSignal.USERS_PER_PHONE, limits.getUsersPerPhone());
+    bySignal.put(RiskSignal.USERS_PER_IP, limits.getUsersPerIp());
+    bySignal.put(RiskSignal.USER_FAILURES, limits.getUserFailures());
+
+    RiskScreeningProperties.Sketch sketch = properties.getSketch();
+    RiskSketchSizing sizing = new RiskSketchSizing(sketch.getWidth(), sketch.getDepth(),
+        sketch.getExpectedPairs(), sketch.getPairFalsePositiveRate(), sketch.getHllPrecision());
+
+    return new RiskPolicy(properties.getWindowSeconds() * 1000, sizing, bySignal,
+        properties.getReviewRatio(), properties.getBlockRatio(), properties.isEnforce());
+  }
+}
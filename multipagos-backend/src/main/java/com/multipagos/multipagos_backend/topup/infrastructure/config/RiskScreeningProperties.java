@@ -0,0 +1,47 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Risk stage limits per window and sketch sizing
+ * e.g. topup.risk.limits.phones-per-user=8 and topup.risk.sketch.width=4096
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "topup.risk")
+public class RiskScreeningProperties {
+  private boolean enabled = true;
+  /** When false decisions are only logged and counted */
+  private boolean enforce = true;
+  private long windowSeconds = 600;
+  /** Multiples of a limit at which a top-up is held for review or blocked */
+  private double reviewRatio = 2.0;
+  private double blockRatio = 3.0;
+  private Limits limits = new Limits();
+  private Sketch sketch = new Sketch();
+
+  /** Maximum per window before a top-up is flagged; 0 disables a signal */
+  @Data
+  public static class Limits {
+    private long userAttempts = 20;
+    private long phoneAttempts = 10;
+    private long ipAttempts = 60;
+    private long supplierAttempts = 0;
+    private long phonesPerUser = 8;
+    private long usersPerPhone = 3;
+    private long usersPerIp = 10;
+    private long userFailures = 10;
+  }
+
+  /** Fixed memory per window: width * depth * 8 bytes plus the pair filter and 3 * 2^hll-precision * 4 bytes */
+  @Data
+  public static class Sketch {
+    private int width = 4096;
+    private int depth = 4;
+    private long expectedPairs = 100000;
+    private double pairFalsePositiveRate = 0.01;
+    private int hllPrecision = 12;
+  }
+}
@@ -0,0 +1,43 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dispatcher for scheduled top-ups: how far ahead runs are leased into the timing
+ * wheel, how many execute at once and how fast overdue runs are caught up
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "topup.schedule")
+public class ScheduledTopUpProperties {
+  private boolean enabled = true;
+  /** Lease owner written to the table; blank uses the host name plus a random suffix */
+  private String nodeId = "";
+  /** Delay between passes that renew leases and load due runs */
+  private long loadIntervalMs = 15000;
+  /** Runs due within this window are leased and placed in the wheel */
+  private long lookaheadMs = 60000;
+  private int batchSize = 200;
+  /** Runs held by this node, waiting or executing; loading stops above it */
+  private int maxPending = 2000;
+  /** Lease length; renewed every pass, so it only has to outlive a crashed node's last pass */
+  private long leaseMs = 300000;
+  /** A run whose lease expires within this margin is dropped instead of executed */
+  private long leaseSafetyMs = 10000;
+  private long tickMs = 1000;
+  private int wheelSize = 64;
+  /** Top-ups executing at once on this node */
+  private int concurrency = 4;
+  private int queueCapacity = 32;
+  /** Runs later than this are catch-up after downtime and go through the catch-up rate limit */
+  private long catchUpThresholdMs = 60000;
+  private long catchUpPerSecond = 5;
+  private long catchUpBurst = 10;
+  /** Attempts per occurrence when a run was shed or short of float before anything reached Puntored */
+  private int maxAttempts = 2;
+  private long retryDelayMs = 300000;
+  /** How long shutdown waits for executing top-ups before releasing leases */
+  private long shutdownTimeoutMs = 10000;
+}
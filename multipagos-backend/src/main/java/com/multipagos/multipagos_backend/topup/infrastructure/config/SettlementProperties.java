@@ -0,0 +1,22 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settlement file inbox: where provider files are dropped and how they are picked up.
+ * Join and auto-fix settings are read by SettlementReconciliationService
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "topup.settlement")
+public class SettlementProperties {
+  private boolean enabled = false;
+  /** Holds inbox, processing, processed, failed and reports; shared by all nodes */
+  private String directory = "./settlements";
+  private char delimiter = ',';
+  private long scanIntervalMs = 60000;
+  /** Files modified more recently may still be uploading and are left for the next scan */
+  private long minFileAgeMs = 60000;
+}
@@ -0,0 +1,34 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.config;
+
+import com.multipagos.multipagos_backend.topup.domain.model.SpendingLimitPolicy;
+import com.multipagos.multipagos_backend.topup.domain.model.SpendingLimits;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the spending limit policy once at startup; an unknown default tier fails the boot
+ */
+@Slf4j
+@Configuration
+public class SpendingLimitConfig {
+
+  private static final long CENTS_PER_PESO = 100L;
+
+  @Bean
+  public SpendingLimitPolicy spendingLimitPolicy(SpendingLimitProperties properties) {
+    Map<String, SpendingLimits> tiers = new HashMap<>();
+    properties.getTiers().forEach((name, tier) -> tiers.put(name, new SpendingLimits(
+        tier.getUserDaily() * CENTS_PER_PESO,
+        tier.getUserMonthly() * CENTS_PER_PESO,
+        tier.getPhoneDaily() * CENTS_PER_PESO,
+        tier.getPhoneMonthly() * CENTS_PER_PESO)));
+
+    log.info("[SPENDING LIMITS] Enabled: {} | tiers: {} | default: {} | assigned users: {}",
+        properties.isEnabled(), tiers.keySet(), properties.getDefaultTier(), properties.getUserTiers().size());
+    return new SpendingLimitPolicy(tiers, properties.getUserTiers(), properties.getDefaultTier());
+  }
+}
@@ -0,0 +1,37 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Daily (last 24h) and monthly (last 30 days) top-up caps per user tier, in pesos
+ * e.g. topup.limits.tiers.premium.user-daily=2000000 and topup.limits.user-tiers.42=premium
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "topup.limits")
+public class SpendingLimitProperties {
+  private boolean enabled = true;
+  private String defaultTier = "standard";
+  private Map<String, Tier> tiers = new LinkedHashMap<>(Map.of("standard", new Tier()));
+  /** User id to tier name; unlisted users get the default tier */
+  private Map<Long, String> userTiers = new HashMap<>();
+  /** Delay between reloads of recently used counters from the database */
+  private long reconcileIntervalMs = 300000;
+  /** Counters untouched for this long are dropped and hydrated again on next use */
+  private long idleEvictionMs = 3600000;
+
+  /** Caps in pesos; 0 disables a cap */
+  @Data
+  public static class Tier {
+    private long userDaily = 500000;
+    private long userMonthly = 3000000;
+    private long phoneDaily = 300000;
+    private long phoneMonthly = 1500000;
+  }
+}
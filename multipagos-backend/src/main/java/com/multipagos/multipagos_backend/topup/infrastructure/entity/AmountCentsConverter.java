@@ -0,0 +1,26 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.entity;
+
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Keeps the existing DECIMAL(10,2) amount column while entities carry integer cents
+ * The decimal only exists at the JDBC boundary, so mapping and aggregation stay in long arithmetic
+ */
+@Converter
+public class AmountCentsConverter implements AttributeConverter<Long, BigDecimal> {
+
+  @Override
+  public BigDecimal convertToDatabaseColumn(Long cents) {
+    return cents != null ? Amount.toDecimal(cents) : null;
+  }
+
+  @Override
+  public Long convertToEntityAttribute(BigDecimal amount) {
+    return amount != null ? amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue() : null;
+  }
+}
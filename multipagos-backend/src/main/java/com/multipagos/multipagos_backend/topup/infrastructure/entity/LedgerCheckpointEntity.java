@@ -0,0 +1,28 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.entity;
+
+import com.multipagos.multipagos_backend.shared.infrastructure.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA Entity for compacted float balances: the balance after every ledger entry up to last_entry_id
+ */
+@Entity
+@Table(name = "ledger_checkpoints", indexes = {
+    @Index(name = "idx_ledger_checkpoint_entry", columnList = "last_entry_id", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class LedgerCheckpointEntity extends BaseEntity {
+
+  @Column(name = "last_entry_id", nullable = false)
+  private Long lastEntryId;
+
+  @Column(name = "balance_cents", nullable = false)
+  private Long balanceCents;
+}
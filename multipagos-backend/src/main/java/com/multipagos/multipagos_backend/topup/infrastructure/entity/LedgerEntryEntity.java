@@ -0,0 +1,47 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.entity;
+
+import com.multipagos.multipagos_backend.shared.infrastructure.entity.BaseEntity;
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerEntryType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * JPA Entity for provider float movements; rows are inserted and never updated
+ * The transaction link has no database foreign key: entries are written in their own
+ * transaction while the top-up's row may still be uncommitted
+ */
+@Entity
+@Table(name = "ledger_entries", indexes = {
+    @Index(name = "idx_ledger_reference", columnList = "reference", unique = true),
+    @Index(name = "idx_ledger_transaction", columnList = "transaction_id"),
+    @Index(name = "idx_ledger_created", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(exclude = "transaction")
+public class LedgerEntryEntity extends BaseEntity {
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "entry_type", nullable = false, length = 10)
+  private LedgerEntryType type;
+
+  /** Integer cents, always positive; the type gives the direction */
+  @Column(name = "amount_cents", nullable = false)
+  private Long amountCents;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "transaction_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+  private TransactionEntity transaction;
+
+  @Column(name = "reference", nullable = false, length = 100)
+  private String reference;
+
+  @Column(name = "description", length = 255)
+  private String description;
+}
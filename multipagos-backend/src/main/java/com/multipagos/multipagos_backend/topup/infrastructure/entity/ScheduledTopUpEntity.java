@@ -0,0 +1,84 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.entity;
+
+import com.multipagos.multipagos_backend.shared.infrastructure.entity.BaseEntity;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduleRecurrence;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUpStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for scheduled top-ups
+ * lease_owner/lease_until mark the node that claimed the next run; the due index
+ * serves the dispatcher's time-ordered scan
+ */
+@Entity
+@Table(name = "scheduled_topups", indexes = {
+    @Index(name = "idx_scheduled_topup_due", columnList = "status, next_run_at"),
+    @Index(name = "idx_scheduled_topup_user", columnList = "user_id"),
+    @Index(name = "idx_scheduled_topup_lease", columnList = "lease_owner")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class ScheduledTopUpEntity extends BaseEntity {
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Column(name = "phone_number", nullable = false, length = 10)
+  private String phoneNumber;
+
+  /** Integer cents; stored as DECIMAL(10,2) through AmountCentsConverter */
+  @Convert(converter = AmountCentsConverter.class)
+  @Column(name = "amount", nullable = false, precision = 10, scale = 2)
+  private Long amount;
+
+  @Column(name = "supplier_id", nullable = false, length = 10)
+  private String supplierId;
+
+  @Column(name = "label", length = 50)
+  private String label;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "recurrence", nullable = false, length = 10)
+  private ScheduleRecurrence recurrence;
+
+  @Column(name = "anchor_day", nullable = false)
+  private int anchorDay;
+
+  @Column(name = "next_run_at", nullable = false)
+  private LocalDateTime nextRunAt;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 10)
+  private ScheduledTopUpStatus status = ScheduledTopUpStatus.ACTIVE;
+
+  @Column(name = "lease_owner", length = 64)
+  private String leaseOwner;
+
+  @Column(name = "lease_until")
+  private LocalDateTime leaseUntil;
+
+  @Column(name = "last_run_at")
+  private LocalDateTime lastRunAt;
+
+  @Column(name = "last_transaction_id")
+  private Long lastTransactionId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "last_status", length = 10)
+  private TransactionStatus lastStatus;
+
+  @Column(name = "last_message", length = 255)
+  private String lastMessage;
+
+  @Column(name = "consecutive_failures", nullable = false)
+  private int consecutiveFailures;
+}
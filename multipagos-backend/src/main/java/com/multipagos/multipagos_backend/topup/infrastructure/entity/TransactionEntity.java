@@ -10,8 +10,6 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 /**
  * JPA Entity for Transaction - contains only infrastructure concerns
  * Separate from TransactionDomain to maintain clean domain layer
@@ -20,7 +18,11 @@ import java.math.BigDecimal;
 @Table(name = "transactions", indexes = {
     @Index(name = "idx_transaction_user", columnList = "user_id"),
     @Index(name = "idx_transaction_phone", columnList = "phone_number"),
-    @Index(name = "idx_transaction_date", columnList = "created_at")
+    @Index(name = "idx_transaction_date", columnList = "created_at"),
+    @Index(name = "idx_transaction_user_date", columnList = "user_id, created_at"),
+    @Index(name = "idx_transaction_phone_date", columnList = "phone_number, created_at"),
+    @Index(name = "idx_transaction_external", columnList = "external_transaction_id"),
+    @Index(name = "idx_transaction_updated", columnList = "updated_at")
 })
 @Data
 @NoArgsConstructor
@@ -38,11 +40,13 @@ public class TransactionEntity extends BaseEntity {
   @Column(name = "phone_number", nullable = false, length = 10)
   private String phoneNumber;
 
+  /** Integer cents; stored as DECIMAL(10,2) through AmountCentsConverter */
   @NotNull(message = "Valor requerido")
-  @DecimalMin(value = "1000", message = "Valor mínimo: $1.000")
-  @DecimalMax(value = "100000", message = "Valor máximo: $100.000")
+  @Min(value = 100000, message = "Valor mínimo: $1.000")
+  @Max(value = 10000000, message = "Valor máximo: $100.000")
+  @Convert(converter = AmountCentsConverter.class)
   @Column(name = "amount", nullable = false, precision = 10, scale = 2)
-  private BigDecimal amount;
+  private Long amount;
 
   @NotBlank(message = "Proveedor requerido")
   @Column(name = "supplier_id", nullable = false, length = 10)
@@ -0,0 +1,37 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.health;
+
+import com.multipagos.multipagos_backend.shared.domain.value.HealthCheckConstants;
+import com.multipagos.multipagos_backend.topup.domain.model.FloatBalance;
+import com.multipagos.multipagos_backend.topup.domain.port.in.FloatLedgerServicePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the provider float as the {@code float} contributor; a low balance is
+ * reported as degraded rather than down, since top-ups keep working until it runs out
+ */
+@Component("float")
+@RequiredArgsConstructor
+public class FloatHealthIndicator implements HealthIndicator {
+
+  private static final Status DEGRADED = new Status(HealthCheckConstants.STATUS_DEGRADED);
+
+  private final FloatLedgerServicePort floatLedger;
+
+  @Override
+  public Health health() {
+    FloatBalance balance = floatLedger.getBalance();
+    Health.Builder builder = balance.isLow() || balance.isExhausted() ? Health.status(DEGRADED) : Health.up();
+    builder.withDetail("availableCents", balance.availableCents())
+        .withDetail("reservedCents", balance.reservedCents())
+        .withDetail("lowBalanceCents", balance.lowBalanceCents())
+        .withDetail("lastDriftCents", balance.lastDriftCents());
+    if (balance.lastReconciledAt() != null) {
+      builder.withDetail("lastReconciledAt", balance.lastReconciledAt().toString());
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,45 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.health;
+
+import com.multipagos.multipagos_backend.shared.domain.value.HealthCheckConstants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Exposes the passive Puntored health to actuator as the {@code puntored} contributor:
+ * DOWN while Puntored is unreachable, DEGRADED while it is slow or failing often
+ * It is in the readiness group only when HEALTH_READINESS_INCLUDE adds it, and never
+ * in liveness, which is what the container health check probes, so a provider
+ * outage can drain nodes if asked to but never restarts them
+ */
+@Component("puntored")
+@RequiredArgsConstructor
+public class PuntoredHealthIndicator implements HealthIndicator {
+
+  private static final Status DEGRADED = new Status(HealthCheckConstants.STATUS_DEGRADED);
+
+  private final PuntoredHealthTracker tracker;
+
+  @Override
+  public Health health() {
+    Map<String, Object> health = tracker.getHealth();
+    Object status = health.get(HealthCheckConstants.FIELD_STATUS);
+
+    Health.Builder builder;
+    if (HealthCheckConstants.STATUS_DOWN.equals(status)) {
+      builder = Health.down();
+    } else if (HealthCheckConstants.STATUS_DEGRADED.equals(status)) {
+      builder = Health.status(DEGRADED);
+    } else {
+      builder = Health.up();
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> details = (Map<String, Object>) health.get(HealthCheckConstants.FIELD_DETAILS);
+    return builder.withDetails(details).withDetail("providerStatus", status).build();
+  }
+}
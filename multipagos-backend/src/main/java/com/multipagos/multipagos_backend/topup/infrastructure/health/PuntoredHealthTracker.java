@@ -0,0 +1,172 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.health;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.BusinessException;
+import com.multipagos.multipagos_backend.shared.domain.port.DependencyHealthPort;
+import com.multipagos.multipagos_backend.shared.domain.value.HealthCheckConstants;
+import com.multipagos.multipagos_backend.topup.infrastructure.config.PuntoredHealthProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passive Puntored health derived from live outbound calls
+ * Keeps a bounded, time-limited sliding window of outcomes per operation and
+ * reports success rate and p95 latency; no probe traffic is ever sent
+ * Business rejections (the provider answered with a 4xx) count as successful
+ * responses: only transport errors, timeouts and 5xx/429 are held against it
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PuntoredHealthTracker implements DependencyHealthPort {
+
+  public static final String COMPONENT_NAME = "puntored";
+
+  private final PuntoredHealthProperties properties;
+  private final Map<String, OperationWindow> windows = new ConcurrentHashMap<>();
+
+  public void record(String operation, long durationNanos, boolean success) {
+    windows.computeIfAbsent(operation, key -> new OperationWindow(properties.getMaxSamples()))
+        .add(System.nanoTime(), durationNanos, success);
+  }
+
+  public void record(String operation, long durationNanos, Throwable error) {
+    record(operation, durationNanos, error == null || isBusinessRejection(error));
+  }
+
+  static boolean isBusinessRejection(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof BusinessException) {
+        return true;
+      }
+      HttpStatusCode status = null;
+      if (cause instanceof RestClientResponseException responseError) {
+        status = responseError.getStatusCode();
+      } else if (cause instanceof WebClientResponseException responseError) {
+        status = responseError.getStatusCode();
+      }
+      if (status != null) {
+        return status.is4xxClientError() && status.value() != 408 && status.value() != 429;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String getComponentName() {
+    return COMPONENT_NAME;
+  }
+
+  @Override
+  public Map<String, Object> getHealth() {
+    long now = System.nanoTime();
+    long windowNanos = TimeUnit.SECONDS.toNanos(properties.getWindowSeconds());
+    Map<String, Object> operations = new TreeMap<>();
+    String overall = HealthCheckConstants.STATUS_UP;
+
+    for (Map.Entry<String, OperationWindow> entry : windows.entrySet()) {
+      WindowStats stats = entry.getValue().stats(now, windowNanos);
+      String status = statusOf(stats);
+      overall = worst(overall, status);
+
+      operations.put(entry.getKey(), Map.of(
+          HealthCheckConstants.FIELD_STATUS, status,
+          "samples", stats.samples(),
+          "successRate", stats.samples() == 0 ? 1.0 : stats.successRate(),
+          "p95Ms", stats.p95Ms()));
+    }
+
+    return Map.of(
+        HealthCheckConstants.FIELD_STATUS, overall,
+        HealthCheckConstants.FIELD_DETAILS, Map.of(
+            "source", "passive",
+            "windowSeconds", properties.getWindowSeconds(),
+            "operations", operations));
+  }
+
+  private String statusOf(WindowStats stats) {
+    if (stats.samples() < properties.getMinSamples()) {
+      return HealthCheckConstants.STATUS_UP;
+    }
+    if (stats.successRate() < properties.getDownSuccessRate()) {
+      return HealthCheckConstants.STATUS_DOWN;
+    }
+    if (stats.successRate() < properties.getDegradedSuccessRate()
+        || stats.p95Ms() > properties.getP95ThresholdMs()) {
+      return HealthCheckConstants.STATUS_DEGRADED;
+    }
+    return HealthCheckConstants.STATUS_UP;
+  }
+
+  private String worst(String current, String candidate) {
+    if (HealthCheckConstants.STATUS_DOWN.equals(current) || HealthCheckConstants.STATUS_DOWN.equals(candidate)) {
+      return HealthCheckConstants.STATUS_DOWN;
+    }
+    if (HealthCheckConstants.STATUS_DEGRADED.equals(current) || HealthCheckConstants.STATUS_DEGRADED.equals(candidate)) {
+      return HealthCheckConstants.STATUS_DEGRADED;
+    }
+    return HealthCheckConstants.STATUS_UP;
+  }
+
+  private record WindowStats(int samples, double successRate, long p95Ms) {
+  }
+
+  /**
+   * Fixed-size ring of the most recent calls for one operation
+   */
+  private static final class OperationWindow {
+
+    private final long[] timestamps;
+    private final long[] latencies;
+    private final boolean[] successes;
+    private int next;
+    private int size;
+
+    OperationWindow(int capacity) {
+      this.timestamps = new long[capacity];
+      this.latencies = new long[capacity];
+      this.successes = new boolean[capacity];
+    }
+
+    synchronized void add(long timestamp, long latencyNanos, boolean success) {
+      timestamps[next] = timestamp;
+      latencies[next] = latencyNanos;
+      successes[next] = success;
+      next = (next + 1) % timestamps.length;
+      size = Math.min(size + 1, timestamps.length);
+    }
+
+    synchronized WindowStats stats(long now, long windowNanos) {
+      long[] recent = new long[size];
+      int samples = 0;
+      int succeeded = 0;
+
+      for (int i = 0; i < size; i++) {
+        if (now - timestamps[i] <= windowNanos) {
+          recent[samples++] = latencies[i];
+          if (successes[i]) {
+            succeeded++;
+          }
+        }
+      }
+
+      if (samples == 0) {
+        return new WindowStats(0, 0.0, 0L);
+      }
+
+      Arrays.sort(recent, 0, samples);
+      int p95Index = (int) Math.ceil(samples * 0.95) - 1;
+      long p95Ms = TimeUnit.NANOSECONDS.toMillis(recent[Math.max(p95Index, 0)]);
+      return new WindowStats(samples, (double) succeeded / samples, p95Ms);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.mapper;
+
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerCheckpoint;
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerEntry;
+import com.multipagos.multipagos_backend.topup.infrastructure.entity.LedgerCheckpointEntity;
+import com.multipagos.multipagos_backend.topup.infrastructure.entity.LedgerEntryEntity;
+import com.multipagos.multipagos_backend.topup.infrastructure.entity.TransactionEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps ledger entries and checkpoints between domain and entity models
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerMapper {
+
+  private final EntityManager entityManager;
+
+  public LedgerEntryEntity toEntity(LedgerEntry domain) {
+    LedgerEntryEntity entity = new LedgerEntryEntity();
+    entity.setId(domain.getId());
+    entity.setType(domain.getType());
+    entity.setAmountCents(domain.getAmountCents());
+    entity.setReference(domain.getReference());
+    entity.setDescription(domain.getDescription());
+    if (domain.getTransactionId() != null) {
+      entity.setTransaction(entityManager.getReference(TransactionEntity.class, domain.getTransactionId()));
+    }
+    return entity;
+  }
+
+  public LedgerCheckpointEntity toEntity(LedgerCheckpoint checkpoint) {
+    LedgerCheckpointEntity entity = new LedgerCheckpointEntity();
+    entity.setLastEntryId(checkpoint.lastEntryId());
+    entity.setBalanceCents(checkpoint.balanceCents());
+    return entity;
+  }
+
+  public LedgerCheckpoint toDomain(LedgerCheckpointEntity entity) {
+    return new LedgerCheckpoint(entity.getLastEntryId(), entity.getBalanceCents(), entity.getCreatedAt());
+  }
+}
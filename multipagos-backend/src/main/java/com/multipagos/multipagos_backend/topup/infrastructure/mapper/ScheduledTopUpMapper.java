@@ -0,0 +1,63 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.mapper;
+
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUp;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierId;
+import com.multipagos.multipagos_backend.topup.infrastructure.entity.ScheduledTopUpEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps between ScheduledTopUp and ScheduledTopUpEntity, handling value object conversions
+ */
+@Component
+public class ScheduledTopUpMapper {
+
+  public ScheduledTopUpEntity toEntity(ScheduledTopUp domain) {
+    ScheduledTopUpEntity entity = new ScheduledTopUpEntity();
+    entity.setId(domain.getId());
+    entity.setUserId(domain.getUserId());
+    entity.setPhoneNumber(domain.getPhoneNumber().getValue());
+    entity.setAmount(domain.getAmount().getCents());
+    entity.setSupplierId(domain.getSupplierId().getValue());
+    entity.setLabel(domain.getLabel());
+    entity.setRecurrence(domain.getRecurrence());
+    entity.setAnchorDay(domain.getAnchorDay());
+    entity.setNextRunAt(domain.getNextRunAt());
+    entity.setStatus(domain.getStatus());
+    entity.setLeaseOwner(domain.getLeaseOwner());
+    entity.setLeaseUntil(domain.getLeaseUntil());
+    entity.setLastRunAt(domain.getLastRunAt());
+    entity.setLastTransactionId(domain.getLastTransactionId());
+    entity.setLastStatus(domain.getLastStatus());
+    entity.setLastMessage(domain.getLastMessage());
+    entity.setConsecutiveFailures(domain.getConsecutiveFailures());
+    entity.setCreatedAt(domain.getCreatedAt());
+    entity.setUpdatedAt(domain.getUpdatedAt());
+    return entity;
+  }
+
+  public ScheduledTopUp toDomain(ScheduledTopUpEntity entity) {
+    return ScheduledTopUp.builder()
+        .id(entity.getId())
+        .userId(entity.getUserId())
+        .phoneNumber(PhoneNumber.of(entity.getPhoneNumber()))
+        .amount(Amount.of(entity.getAmount()))
+        .supplierId(SupplierId.of(entity.getSupplierId()))
+        .label(entity.getLabel())
+        .recurrence(entity.getRecurrence())
+        .anchorDay(entity.getAnchorDay())
+        .nextRunAt(entity.getNextRunAt())
+        .status(entity.getStatus())
+        .leaseOwner(entity.getLeaseOwner())
+        .leaseUntil(entity.getLeaseUntil())
+        .lastRunAt(entity.getLastRunAt())
+        .lastTransactionId(entity.getLastTransactionId())
+        .lastStatus(entity.getLastStatus())
+        .lastMessage(entity.getLastMessage())
+        .consecutiveFailures(entity.getConsecutiveFailures())
+        .createdAt(entity.getCreatedAt())
+        .updatedAt(entity.getUpdatedAt())
+        .build();
+  }
+}
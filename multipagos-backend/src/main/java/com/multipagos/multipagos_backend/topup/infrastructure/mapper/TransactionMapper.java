@@ -27,7 +27,7 @@ public class TransactionMapper {
     TransactionEntity entity = new TransactionEntity();
     entity.setId(domain.getId());
     entity.setPhoneNumber(domain.getPhoneNumber() != null ? domain.getPhoneNumber().getValue() : null);
-    entity.setAmount(domain.getAmount() != null ? domain.getAmount().getValue() : null);
+    entity.setAmount(domain.getAmount() != null ? domain.getAmount().getCents() : null);
     entity.setSupplierId(domain.getSupplierId() != null ? domain.getSupplierId().getValue() : null);
     entity.setSupplierName(domain.getSupplierName());
     entity.setStatus(domain.getStatus());
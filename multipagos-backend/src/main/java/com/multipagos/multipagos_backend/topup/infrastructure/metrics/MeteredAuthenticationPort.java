@@ -0,0 +1,43 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.metrics;
+
+import com.multipagos.multipagos_backend.topup.domain.model.AuthToken;
+import com.multipagos.multipagos_backend.topup.domain.port.out.AuthenticationPort;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times Puntored authentication calls
+ */
+@Primary
+@Component
+public class MeteredAuthenticationPort implements AuthenticationPort {
+
+  private final AuthenticationPort delegate;
+  private final TopUpPipelineMetrics metrics;
+
+  public MeteredAuthenticationPort(@PortDelegate AuthenticationPort delegate, TopUpPipelineMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public AuthToken authenticate(String username, String password) {
+    return metrics.recordPuntored("auth", TopUpPipelineMetrics.NO_SUPPLIER,
+        () -> delegate.authenticate(username, password));
+  }
+
+  @Override
+  public boolean isAuthenticationRequired() {
+    return delegate.isAuthenticationRequired();
+  }
+
+  @Override
+  public boolean isAuthenticated() {
+    return delegate.isAuthenticated();
+  }
+
+  @Override
+  public void clearAuthentication() {
+    delegate.clearAuthentication();
+  }
+}
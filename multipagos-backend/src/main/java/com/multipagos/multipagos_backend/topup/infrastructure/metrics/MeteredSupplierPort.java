@@ -0,0 +1,76 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.metrics;
+
+import com.multipagos.multipagos_backend.topup.domain.model.Supplier;
+import com.multipagos.multipagos_backend.topup.domain.port.out.SupplierPort;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Times supplier catalog lookups against Puntored
+ * Lookups answered from a fresh cached catalog are not recorded, so timers and
+ * passive health only reflect real outbound calls
+ */
+@Primary
+@Component
+public class MeteredSupplierPort implements SupplierPort {
+
+  private final SupplierPort delegate;
+  private final TopUpPipelineMetrics metrics;
+
+  public MeteredSupplierPort(@PortDelegate SupplierPort delegate, TopUpPipelineMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public List<Supplier> getAllSuppliers() {
+    if (isCached()) {
+      return delegate.getAllSuppliers();
+    }
+    return metrics.recordPuntored("getSuppliers", TopUpPipelineMetrics.NO_SUPPLIER, delegate::getAllSuppliers);
+  }
+
+  @Override
+  public Optional<Supplier> findById(String id) {
+    if (isCached()) {
+      return delegate.findById(id);
+    }
+    return metrics.recordPuntored("findSupplier", id, () -> delegate.findById(id));
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    if (isCached()) {
+      return delegate.existsById(id);
+    }
+    return metrics.recordPuntored("existsSupplier", id, () -> delegate.existsById(id));
+  }
+
+  @Override
+  public List<Supplier> getActiveSuppliers() {
+    if (isCached()) {
+      return delegate.getActiveSuppliers();
+    }
+    return metrics.recordPuntored("getActiveSuppliers", TopUpPipelineMetrics.NO_SUPPLIER, delegate::getActiveSuppliers);
+  }
+
+  @Override
+  public void refreshSuppliers() {
+    metrics.recordPuntored("refreshSuppliers", TopUpPipelineMetrics.NO_SUPPLIER, () -> {
+      delegate.refreshSuppliers();
+      return null;
+    });
+  }
+
+  @Override
+  public Optional<String> getCatalogVersion() {
+    return delegate.getCatalogVersion();
+  }
+
+  private boolean isCached() {
+    return delegate.getCatalogVersion().isPresent();
+  }
+}
@@ -0,0 +1,38 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.metrics;
+
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TopUpPort;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times Puntored buy calls per supplier
+ * Includes the nested authentication call, which is also timed on its own
+ */
+@Primary
+@Component
+public class MeteredTopUpPort implements TopUpPort {
+
+  private final TopUpPort delegate;
+  private final TopUpPipelineMetrics metrics;
+
+  public MeteredTopUpPort(@PortDelegate TopUpPort delegate, TopUpPipelineMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public String executeTopUp(TopUpRequest request) {
+    return metrics.recordPuntored("buy", request.getSupplierId(), () -> delegate.executeTopUp(request));
+  }
+
+  @Override
+  public boolean isServiceAvailable() {
+    return delegate.isServiceAvailable();
+  }
+
+  @Override
+  public String getProviderName() {
+    return delegate.getProviderName();
+  }
+}
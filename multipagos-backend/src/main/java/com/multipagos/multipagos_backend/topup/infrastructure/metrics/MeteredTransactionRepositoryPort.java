@@ -0,0 +1,163 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.metrics;
+
+import com.multipagos.multipagos_backend.shared.domain.value.PageRequest;
+import com.multipagos.multipagos_backend.shared.domain.value.PagedResult;
+import com.multipagos.multipagos_backend.topup.domain.model.HourlySpend;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionRepositoryPort;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Times MySQL access for transactions
+ * {@code save} is reported as insert or update depending on whether the row already has an id
+ */
+@Primary
+@Component
+public class MeteredTransactionRepositoryPort implements TransactionRepositoryPort {
+
+  private final TransactionRepositoryPort delegate;
+  private final TopUpPipelineMetrics metrics;
+
+  public MeteredTransactionRepositoryPort(@PortDelegate TransactionRepositoryPort delegate,
+                                          TopUpPipelineMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public TransactionDomain save(TransactionDomain transaction) {
+    String operation = transaction.getId() == null ? "insert" : "update";
+    return metrics.recordDatabase(operation, transaction.getSupplierIdValue(), () -> delegate.save(transaction));
+  }
+
+  @Override
+  public Optional<TransactionDomain> findById(Long id) {
+    return database("findById", () -> delegate.findById(id));
+  }
+
+  @Override
+  public Optional<TransactionDomain> findByExternalTransactionId(String externalId) {
+    return database("findByExternalTransactionId", () -> delegate.findByExternalTransactionId(externalId));
+  }
+
+  @Override
+  public List<TransactionDomain> findByExternalTransactionIds(Collection<String> externalIds) {
+    return database("findByExternalTransactionIds", () -> delegate.findByExternalTransactionIds(externalIds));
+  }
+
+  @Override
+  public List<TransactionDomain> findPendingByPhoneNumbers(Collection<String> phoneNumbers, LocalDateTime from,
+                                                           LocalDateTime to) {
+    return database("findPendingByPhoneNumbers", () -> delegate.findPendingByPhoneNumbers(phoneNumbers, from, to));
+  }
+
+  @Override
+  public List<TransactionDomain> findCompletedAfter(LocalDateTime afterCreatedAt, long afterId, LocalDateTime to,
+                                                    int limit) {
+    return database("findCompletedAfter", () -> delegate.findCompletedAfter(afterCreatedAt, afterId, to, limit));
+  }
+
+  @Override
+  public List<TransactionDomain> findUpdatedAfter(LocalDateTime afterUpdatedAt, long afterId, int limit) {
+    return database("findUpdatedAfter", () -> delegate.findUpdatedAfter(afterUpdatedAt, afterId, limit));
+  }
+
+  @Override
+  public boolean completeIfPending(Long id, String externalTransactionId, String message) {
+    return database("completeIfPending", () -> delegate.completeIfPending(id, externalTransactionId, message));
+  }
+
+  @Override
+  public List<TransactionDomain> findByUserId(Long userId) {
+    return database("findByUserId", () -> delegate.findByUserId(userId));
+  }
+
+  @Override
+  public List<TransactionDomain> findByUserIdAndActiveTrue(Long userId) {
+    return database("findActiveByUserId", () -> delegate.findByUserIdAndActiveTrue(userId));
+  }
+
+  @Override
+  public PagedResult<TransactionDomain> findByUserIdAndActiveTrue(Long userId, PageRequest pageRequest) {
+    return database("findHistoryPage", () -> delegate.findByUserIdAndActiveTrue(userId, pageRequest));
+  }
+
+  @Override
+  public List<TransactionDomain> findByUserIdAndStatus(Long userId, TransactionStatus status) {
+    return database("findByUserIdAndStatus", () -> delegate.findByUserIdAndStatus(userId, status));
+  }
+
+  @Override
+  public List<TransactionDomain> findByPhoneNumberAndActiveTrue(String phoneNumber) {
+    return database("findByPhoneNumber", () -> delegate.findByPhoneNumberAndActiveTrue(phoneNumber));
+  }
+
+  @Override
+  public List<TransactionDomain> findByUserAndDateRange(Long userId, LocalDateTime startDate, LocalDateTime endDate) {
+    return database("findByUserAndDateRange", () -> delegate.findByUserAndDateRange(userId, startDate, endDate));
+  }
+
+  @Override
+  public long getTotalAmountCentsByUser(Long userId) {
+    return database("getTotalAmountCentsByUser", () -> delegate.getTotalAmountCentsByUser(userId));
+  }
+
+  @Override
+  public List<HourlySpend> getHourlySpendByUser(Long userId, LocalDateTime since) {
+    return database("getHourlySpendByUser", () -> delegate.getHourlySpendByUser(userId, since));
+  }
+
+  @Override
+  public List<HourlySpend> getHourlySpendByPhone(String phoneNumber, LocalDateTime since) {
+    return database("getHourlySpendByPhone", () -> delegate.getHourlySpendByPhone(phoneNumber, since));
+  }
+
+  @Override
+  public Optional<TransactionDomain> findRecentIdentical(Long userId, String phoneNumber, long amountCents,
+                                                         String supplierId, LocalDateTime since) {
+    return database("findRecentIdentical",
+        () -> delegate.findRecentIdentical(userId, phoneNumber, amountCents, supplierId, since));
+  }
+
+  @Override
+  public Long countByStatus(TransactionStatus status) {
+    return database("countByStatus", () -> delegate.countByStatus(status));
+  }
+
+  @Override
+  public Long countByUserId(Long userId) {
+    return database("countByUserId", () -> delegate.countByUserId(userId));
+  }
+
+  @Override
+  public List<TransactionDomain> findLatestByUserId(Long userId, int limit) {
+    return database("findLatestByUserId", () -> delegate.findLatestByUserId(userId, limit));
+  }
+
+  @Override
+  public boolean existsById(Long id) {
+    return database("existsById", () -> delegate.existsById(id));
+  }
+
+  @Override
+  public void deleteById(Long id) {
+    metrics.recordDatabase("softDelete", () -> delegate.deleteById(id));
+  }
+
+  @Override
+  public Optional<TransactionDomain> updateStatus(Long id, TransactionStatus status) {
+    return database("updateStatus", () -> delegate.updateStatus(id, status));
+  }
+
+  private <T> T database(String operation, Supplier<T> call) {
+    return metrics.recordDatabase(operation, TopUpPipelineMetrics.NO_SUPPLIER, call);
+  }
+}
@@ -0,0 +1,19 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.metrics;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the concrete adapter behind an outbound port
+ * The {@code @Primary} metered decorators inject the port through this qualifier,
+ * every other consumer receives the decorator
+ */
+@Qualifier
+@Target({ElementType.TYPE, ElementType.PARAMETER, ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PortDelegate {
+}
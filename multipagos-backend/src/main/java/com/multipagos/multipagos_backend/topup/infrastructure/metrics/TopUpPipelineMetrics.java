@@ -0,0 +1,163 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.metrics;
+
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierType;
+import com.multipagos.multipagos_backend.topup.infrastructure.health.PuntoredHealthTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Stage-level meters for the top-up pipeline
+ * Every stage gets a timer with percentile histogram (operation, supplier, outcome),
+ * an in-flight gauge (operation) and an error counter (operation, supplier, exception)
+ * Supplier ids come from callers, so any id that is not a known supplier is tagged
+ * "other" to keep the number of series bounded
+ * Puntored outcomes also feed the passive dependency health tracker
+ */
+@Component
+@RequiredArgsConstructor
+public class TopUpPipelineMetrics {
+
+  public static final String PUNTORED_METRIC = "multipagos.puntored.requests";
+  public static final String DATABASE_METRIC = "multipagos.db.operations";
+  public static final String NO_SUPPLIER = "none";
+  public static final String OTHER_SUPPLIER = "other";
+
+  private static final String OUTCOME_SUCCESS = "success";
+  private static final String OUTCOME_ERROR = "error";
+  private static final String OUTCOME_CANCELLED = "cancelled";
+
+  private final MeterRegistry meterRegistry;
+  private final PuntoredHealthTracker puntoredHealthTracker;
+
+  private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+  private final Map<MeterKey, Counter> errorCounters = new ConcurrentHashMap<>();
+  private final Map<MeterKey, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+  public <T> T recordPuntored(String operation, String supplier, Supplier<T> call) {
+    long start = System.nanoTime();
+    Throwable failure = null;
+
+    try {
+      return record(PUNTORED_METRIC, operation, supplier, call);
+    } catch (RuntimeException e) {
+      failure = e;
+      throw e;
+    } finally {
+      puntoredHealthTracker.record(operation, System.nanoTime() - start, failure);
+    }
+  }
+
+  /**
+   * Reactive variant: the stage is timed from subscription to termination
+   * Cancellations are tagged separately and not reported to the health tracker
+   */
+  public <T> Mono<T> recordPuntored(String operation, String supplier, Mono<T> call) {
+    String supplierTag = supplierTag(supplier);
+
+    return Mono.defer(() -> {
+      AtomicInteger running = inFlightGauge(PUNTORED_METRIC, operation);
+      running.incrementAndGet();
+      long start = System.nanoTime();
+      AtomicReference<Throwable> failure = new AtomicReference<>();
+
+      return call
+          .doOnError(e -> {
+            failure.set(e);
+            errorCounter(PUNTORED_METRIC, operation, supplierTag, e.getClass().getSimpleName()).increment();
+          })
+          .doFinally(signal -> {
+            running.decrementAndGet();
+            long elapsed = System.nanoTime() - start;
+            String outcome = signal == SignalType.ON_ERROR ? OUTCOME_ERROR
+                : signal == SignalType.CANCEL ? OUTCOME_CANCELLED : OUTCOME_SUCCESS;
+            timer(PUNTORED_METRIC, operation, supplierTag, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+            if (signal != SignalType.CANCEL) {
+              puntoredHealthTracker.record(operation, elapsed, failure.get());
+            }
+          });
+    });
+  }
+
+  public <T> T recordDatabase(String operation, String supplier, Supplier<T> call) {
+    return record(DATABASE_METRIC, operation, supplier, call);
+  }
+
+  public void recordDatabase(String operation, Runnable call) {
+    record(DATABASE_METRIC, operation, NO_SUPPLIER, () -> {
+      call.run();
+      return null;
+    });
+  }
+
+  public <T> T record(String metric, String operation, String supplier, Supplier<T> call) {
+    String supplierTag = supplierTag(supplier);
+    AtomicInteger running = inFlightGauge(metric, operation);
+    running.incrementAndGet();
+    long start = System.nanoTime();
+    String outcome = OUTCOME_SUCCESS;
+
+    try {
+      return call.get();
+    } catch (RuntimeException e) {
+      outcome = OUTCOME_ERROR;
+      errorCounter(metric, operation, supplierTag, e.getClass().getSimpleName()).increment();
+      throw e;
+    } finally {
+      running.decrementAndGet();
+      timer(metric, operation, supplierTag, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  static String supplierTag(String supplier) {
+    if (supplier == null || NO_SUPPLIER.equals(supplier)) {
+      return NO_SUPPLIER;
+    }
+    return SupplierType.isValidId(supplier) ? supplier : OTHER_SUPPLIER;
+  }
+
+  private Timer timer(String metric, String operation, String supplier, String outcome) {
+    return timers.computeIfAbsent(new MeterKey(metric, operation, supplier, outcome), key -> Timer.builder(metric)
+        .description("Latency of top-up pipeline stages")
+        .tag("operation", operation)
+        .tag("supplier", supplier)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry));
+  }
+
+  private Counter errorCounter(String metric, String operation, String supplier, String exception) {
+    return errorCounters.computeIfAbsent(new MeterKey(metric, operation, supplier, exception), key -> Counter.builder(metric + ".errors")
+        .description("Failed top-up pipeline stage calls")
+        .tag("operation", operation)
+        .tag("supplier", supplier)
+        .tag("exception", exception)
+        .register(meterRegistry));
+  }
+
+  private AtomicInteger inFlightGauge(String metric, String operation) {
+    return inFlight.computeIfAbsent(new MeterKey(metric, operation, null, null), key -> {
+      AtomicInteger counter = new AtomicInteger();
+      Gauge.builder(metric + ".inflight", counter, AtomicInteger::get)
+          .description("Top-up pipeline stage calls currently in progress")
+          .tag("operation", operation)
+          .register(meterRegistry);
+      return counter;
+    });
+  }
+
+  private record MeterKey(String metric, String operation, String supplier, String detail) {
+  }
+}
@@ -0,0 +1,16 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.repository;
+
+import com.multipagos.multipagos_backend.topup.infrastructure.entity.LedgerCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * JPA Repository for LedgerCheckpointEntity
+ */
+@Repository
+public interface LedgerCheckpointEntityRepository extends JpaRepository<LedgerCheckpointEntity, Long> {
+
+  Optional<LedgerCheckpointEntity> findFirstByOrderByLastEntryIdDesc();
+}
@@ -0,0 +1,34 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.repository;
+
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerEntryType;
+import com.multipagos.multipagos_backend.topup.infrastructure.entity.LedgerEntryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA Repository for LedgerEntryEntity
+ * Balance reads sum only the id range after the latest checkpoint
+ */
+@Repository
+public interface LedgerEntryEntityRepository extends JpaRepository<LedgerEntryEntity, Long> {
+
+  boolean existsByReference(String reference);
+
+  @Query("SELECT COALESCE(SUM(CASE WHEN e.type = :debit THEN -e.amountCents ELSE e.amountCents END), 0) " +
+         "FROM LedgerEntryEntity e WHERE e.id > :afterId AND e.id <= :upToId")
+  Long sumBetween(@Param("afterId") Long afterId,
+                  @Param("upToId") Long upToId,
+                  @Param("debit") LedgerEntryType debit);
+
+  @Query("SELECT COALESCE(MAX(e.id), 0) FROM LedgerEntryEntity e WHERE e.createdAt < :cutoff")
+  Long maxIdBefore(@Param("cutoff") LocalDateTime cutoff);
+
+  @Query("SELECT e.reference, e.id FROM LedgerEntryEntity e WHERE e.reference IN :references")
+  List<Object[]> findIdsByReference(@Param("references") Collection<String> references);
+}
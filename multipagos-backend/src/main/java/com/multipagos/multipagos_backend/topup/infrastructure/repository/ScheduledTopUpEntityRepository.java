@@ -0,0 +1,123 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.repository;
+
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUpStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.infrastructure.entity.ScheduledTopUpEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA Repository for ScheduledTopUpEntity
+ * Leases are taken, renewed and released with conditional updates, so two nodes
+ * racing for the same row cannot both hold it
+ */
+@Repository
+public interface ScheduledTopUpEntityRepository extends JpaRepository<ScheduledTopUpEntity, Long> {
+
+  Optional<ScheduledTopUpEntity> findByIdAndUserId(Long id, Long userId);
+
+  List<ScheduledTopUpEntity> findByUserIdAndStatusNotOrderByNextRunAtAsc(Long userId, ScheduledTopUpStatus status);
+
+  long countByUserIdAndStatusIn(Long userId, Collection<ScheduledTopUpStatus> statuses);
+
+  @Query("SELECT s.id FROM ScheduledTopUpEntity s " +
+         "WHERE s.status = :status AND s.nextRunAt <= :horizon " +
+         "AND (s.leaseUntil IS NULL OR s.leaseUntil < :now) " +
+         "ORDER BY s.nextRunAt ASC, s.id ASC")
+  List<Long> findDueIds(@Param("status") ScheduledTopUpStatus status,
+                        @Param("horizon") LocalDateTime horizon,
+                        @Param("now") LocalDateTime now,
+                        Limit limit);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE ScheduledTopUpEntity s SET s.leaseOwner = :owner, s.leaseUntil = :leaseUntil " +
+         "WHERE s.id IN :ids AND s.status = :status AND (s.leaseUntil IS NULL OR s.leaseUntil < :now)")
+  int claim(@Param("ids") Collection<Long> ids,
+            @Param("status") ScheduledTopUpStatus status,
+            @Param("owner") String owner,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("now") LocalDateTime now);
+
+  @Query("SELECT s FROM ScheduledTopUpEntity s WHERE s.id IN :ids AND s.leaseOwner = :owner " +
+         "ORDER BY s.nextRunAt ASC, s.id ASC")
+  List<ScheduledTopUpEntity> findLeased(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE ScheduledTopUpEntity s SET s.leaseUntil = :leaseUntil " +
+         "WHERE s.leaseOwner = :owner AND s.leaseUntil >= :now")
+  int renewLeases(@Param("owner") String owner,
+                  @Param("leaseUntil") LocalDateTime leaseUntil,
+                  @Param("now") LocalDateTime now);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE ScheduledTopUpEntity s SET s.leaseUntil = :leaseUntil " +
+         "WHERE s.id = :id AND s.leaseOwner = :owner AND s.leaseUntil >= :now " +
+         "AND s.status = :active AND s.nextRunAt = :nextRunAt")
+  int startRun(@Param("id") Long id,
+               @Param("owner") String owner,
+               @Param("active") ScheduledTopUpStatus active,
+               @Param("nextRunAt") LocalDateTime nextRunAt,
+               @Param("leaseUntil") LocalDateTime leaseUntil,
+               @Param("now") LocalDateTime now);
+
+  /**
+   * A user transition during the run clears the lease; the run's result is still
+   * recorded, but the status and next run the user set are kept. Lease columns are
+   * assigned last because MySQL applies assignments left to right
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE ScheduledTopUpEntity s SET " +
+         "s.status = CASE WHEN s.leaseOwner = :owner AND s.status = :active THEN :status ELSE s.status END, " +
+         "s.nextRunAt = CASE WHEN s.leaseOwner = :owner THEN :nextRunAt ELSE s.nextRunAt END, s.lastRunAt = :lastRunAt, s.lastTransactionId = :lastTransactionId, " +
+         "s.lastStatus = :lastStatus, s.lastMessage = :lastMessage, " +
+         "s.consecutiveFailures = :consecutiveFailures, " +
+         "s.updatedAt = :lastRunAt, s.leaseOwner = NULL, s.leaseUntil = NULL " +
+         "WHERE s.id = :id AND (s.leaseOwner = :owner OR s.leaseOwner IS NULL)")
+  int completeRun(@Param("id") Long id,
+                  @Param("owner") String owner,
+                  @Param("active") ScheduledTopUpStatus active,
+                  @Param("status") ScheduledTopUpStatus status,
+                  @Param("nextRunAt") LocalDateTime nextRunAt,
+                  @Param("lastRunAt") LocalDateTime lastRunAt,
+                  @Param("lastTransactionId") Long lastTransactionId,
+                  @Param("lastStatus") TransactionStatus lastStatus,
+                  @Param("lastMessage") String lastMessage,
+                  @Param("consecutiveFailures") int consecutiveFailures);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE ScheduledTopUpEntity s SET s.leaseOwner = NULL, s.leaseUntil = NULL " +
+         "WHERE s.id = :id AND s.leaseOwner = :owner")
+  int release(@Param("id") Long id, @Param("owner") String owner);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE ScheduledTopUpEntity s SET s.leaseOwner = NULL, s.leaseUntil = NULL WHERE s.leaseOwner = :owner")
+  int releaseAll(@Param("owner") String owner);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE ScheduledTopUpEntity s SET s.status = :status, s.nextRunAt = :nextRunAt, s.updatedAt = :now, " +
+         "s.leaseOwner = NULL, s.leaseUntil = NULL " +
+         "WHERE s.id = :id AND s.userId = :userId AND s.status = :expected")
+  int updateStatus(@Param("id") Long id,
+                   @Param("userId") Long userId,
+                   @Param("expected") ScheduledTopUpStatus expected,
+                   @Param("status") ScheduledTopUpStatus status,
+                   @Param("nextRunAt") LocalDateTime nextRunAt,
+                   @Param("now") LocalDateTime now);
+}
@@ -2,15 +2,18 @@ package com.multipagos.multipagos_backend.topup.infrastructure.repository;
 
 import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
 import com.multipagos.multipagos_backend.topup.infrastructure.entity.TransactionEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +32,51 @@ public interface TransactionEntityRepository extends JpaRepository<TransactionEn
 
   Optional<TransactionEntity> findByExternalTransactionIdAndActiveTrue(String externalTransactionId);
 
+  /**
+   * Served by idx_transaction_external; callers bound the IN list
+   */
+  List<TransactionEntity> findByExternalTransactionIdInAndActiveTrue(Collection<String> externalTransactionIds);
+
+  @Query("SELECT t FROM TransactionEntity t WHERE t.phoneNumber IN :phoneNumbers AND t.status = :status " +
+      "AND t.createdAt BETWEEN :from AND :to AND t.active = true ORDER BY t.createdAt")
+  List<TransactionEntity> findByPhoneNumbersAndStatusBetween(@Param("phoneNumbers") Collection<String> phoneNumbers,
+      @Param("status") TransactionStatus status,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  /**
+   * Keyset page in (createdAt, id) order, which is the order of idx_transaction_date
+   */
+  @Query("SELECT t FROM TransactionEntity t WHERE t.status = :status AND t.active = true AND t.createdAt <= :to " +
+      "AND (t.createdAt > :afterCreatedAt OR (t.createdAt = :afterCreatedAt AND t.id > :afterId)) " +
+      "ORDER BY t.createdAt, t.id")
+  List<TransactionEntity> findByStatusAfter(@Param("status") TransactionStatus status,
+      @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+      @Param("afterId") Long afterId,
+      @Param("to") LocalDateTime to,
+      Limit limit);
+
+  /**
+   * Keyset page in (updatedAt, id) order, which is the order of idx_transaction_updated
+   */
+  @Query("SELECT t FROM TransactionEntity t " +
+      "WHERE t.updatedAt > :afterUpdatedAt OR (t.updatedAt = :afterUpdatedAt AND t.id > :afterId) " +
+      "ORDER BY t.updatedAt, t.id")
+  List<TransactionEntity> findUpdatedAfter(@Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+      @Param("afterId") Long afterId,
+      Limit limit);
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE TransactionEntity t SET t.status = :completed, t.externalTransactionId = :externalTransactionId, " +
+      "t.responseMessage = :message, t.updatedAt = :now WHERE t.id = :id AND t.status = :pending")
+  int completeIfPending(@Param("id") Long id,
+      @Param("externalTransactionId") String externalTransactionId,
+      @Param("message") String message,
+      @Param("now") LocalDateTime now,
+      @Param("pending") TransactionStatus pending,
+      @Param("completed") TransactionStatus completed);
+
   @Query("SELECT t FROM TransactionEntity t WHERE t.active = true AND " +
       "t.user.id = :userId AND " +
       "t.createdAt BETWEEN :startDate AND :endDate " +
@@ -37,9 +85,44 @@ public interface TransactionEntityRepository extends JpaRepository<TransactionEn
       @Param("startDate") LocalDateTime startDate,
       @Param("endDate") LocalDateTime endDate);
 
-  @Query("SELECT COALESCE(SUM(t.amount), 0) FROM TransactionEntity t WHERE " +
-      "t.user.id = :userId AND t.status = 'COMPLETED' AND t.active = true")
-  BigDecimal getTotalAmountByUser(@Param("userId") Long userId);
+  /**
+   * Sums in the database and returns integer cents, so no BigDecimal crosses the port
+   */
+  @Query(value = "SELECT CAST(COALESCE(SUM(t.amount), 0) * 100 AS SIGNED) FROM transactions t WHERE " +
+      "t.user_id = :userId AND t.status = 'COMPLETED' AND t.active = true", nativeQuery = true)
+  Long getTotalAmountCentsByUser(@Param("userId") Long userId);
+
+  /**
+   * PENDING and COMPLETED value per hour since a point in time, as [hour start, cents] rows
+   * Served by idx_transaction_user_date; at most one row per hour of the range
+   */
+  @Query(value = "SELECT MIN(t.created_at), CAST(SUM(t.amount) * 100 AS SIGNED) FROM transactions t WHERE " +
+      "t.user_id = :userId AND t.created_at >= :since AND t.status IN ('PENDING', 'COMPLETED') AND t.active = true " +
+      "GROUP BY DATE_FORMAT(t.created_at, '%Y-%m-%d %H')", nativeQuery = true)
+  List<Object[]> getHourlySpendCentsByUser(@Param("userId") Long userId, @Param("since") LocalDateTime since);
+
+  /**
+   * Same as getHourlySpendCentsByUser for a destination phone, served by idx_transaction_phone_date
+   */
+  @Query(value = "SELECT MIN(t.created_at), CAST(SUM(t.amount) * 100 AS SIGNED) FROM transactions t WHERE " +
+      "t.phone_number = :phoneNumber AND t.created_at >= :since AND t.status IN ('PENDING', 'COMPLETED') " +
+      "AND t.active = true GROUP BY DATE_FORMAT(t.created_at, '%Y-%m-%d %H')", nativeQuery = true)
+  List<Object[]> getHourlySpendCentsByPhone(@Param("phoneNumber") String phoneNumber,
+      @Param("since") LocalDateTime since);
+
+  /**
+   * Identical transactions newest first, served by idx_transaction_user_date
+   */
+  @Query("SELECT t FROM TransactionEntity t WHERE t.user.id = :userId AND t.createdAt >= :since " +
+      "AND t.phoneNumber = :phoneNumber AND t.amount = :amountCents AND t.supplierId = :supplierId " +
+      "AND t.status IN :statuses AND t.active = true ORDER BY t.createdAt DESC")
+  List<TransactionEntity> findRecentIdentical(@Param("userId") Long userId,
+      @Param("phoneNumber") String phoneNumber,
+      @Param("amountCents") Long amountCents,
+      @Param("supplierId") String supplierId,
+      @Param("statuses") List<TransactionStatus> statuses,
+      @Param("since") LocalDateTime since,
+      Limit limit);
 
   Long countByStatusAndActiveTrue(TransactionStatus status);
 
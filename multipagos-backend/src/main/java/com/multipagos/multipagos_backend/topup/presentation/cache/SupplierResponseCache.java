@@ -0,0 +1,116 @@
+package com.multipagos.multipagos_backend.topup.presentation.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.multipagos.multipagos_backend.shared.application.util.EntityTags;
+import com.multipagos.multipagos_backend.shared.application.util.ResponseFactory;
+import com.multipagos.multipagos_backend.shared.domain.response.ApiResponse;
+import com.multipagos.multipagos_backend.topup.domain.model.Supplier;
+import com.multipagos.multipagos_backend.topup.presentation.dto.SupplierResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-serialized GET /suppliers response bodies
+ * The complete ApiResponse JSON (and an optional gzip variant) is built once per
+ * catalog version and reused as an immutable byte array until the catalog changes
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SupplierResponseCache {
+
+  public static final String SUCCESS_MESSAGE = "Proveedores obtenidos exitosamente";
+
+  private static final String CATALOG_TAG = "suppliers-v1";
+  private static final String GZIP_TAG = "gzip";
+
+  private final ObjectMapper objectMapper;
+
+  @Value("${app.suppliers.response-gzip-enabled:true}")
+  private boolean gzipEnabled;
+
+  private volatile SupplierResponseBody current;
+
+  /**
+   * Cached body for the given catalog version, or null when it has to be built
+   */
+  public SupplierResponseBody get(String catalogVersion) {
+    SupplierResponseBody body = current;
+    return body != null && body.version().equals(catalogVersion) ? body : null;
+  }
+
+  /**
+   * Builds the response body; it is cached only when it belongs to a known catalog version
+   */
+  public SupplierResponseBody build(List<Supplier> suppliers, String catalogVersion) {
+    List<SupplierResponseDto> data = suppliers.stream()
+        .map(supplier -> new SupplierResponseDto(supplier.getId(), supplier.getName()))
+        .toList();
+    ApiResponse<List<SupplierResponseDto>> response = ResponseFactory.success(data, SUCCESS_MESSAGE).getBody();
+
+    byte[] json = serialize(response);
+    byte[] gzip = gzipEnabled ? compress(json) : null;
+    if (gzip != null && gzip.length >= json.length) {
+      gzip = null;
+    }
+
+    SupplierResponseBody body = new SupplierResponseBody(
+        catalogVersion,
+        json,
+        gzip,
+        catalogVersion != null ? identityTag(catalogVersion) : null,
+        catalogVersion != null && gzip != null ? gzipTag(catalogVersion) : null);
+
+    if (catalogVersion != null) {
+      current = body;
+      log.info("[SUPPLIER RESPONSE CACHE] Response body rebuilt | version: {} | bytes: {} | gzipBytes: {}",
+          catalogVersion, json.length, gzip != null ? gzip.length : 0);
+    }
+    return body;
+  }
+
+  public static String identityTag(String catalogVersion) {
+    return EntityTags.strong(CATALOG_TAG, catalogVersion);
+  }
+
+  public static String gzipTag(String catalogVersion) {
+    return EntityTags.strong(CATALOG_TAG, catalogVersion, GZIP_TAG);
+  }
+
+  private byte[] serialize(Object response) {
+    try {
+      return objectMapper.writeValueAsBytes(response);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("No se pudo serializar la respuesta de proveedores", e);
+    }
+  }
+
+  private byte[] compress(byte[] json) {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+      gzip.write(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return buffer.toByteArray();
+  }
+
+  /**
+   * Immutable, ready-to-write response body; arrays must not be modified by callers
+   */
+  public record SupplierResponseBody(String version, byte[] json, byte[] gzip, String etag, String gzipEtag) {
+
+    public boolean hasGzip() {
+      return gzip != null;
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.multipagos.multipagos_backend.topup.presentation.controller;
+
+import com.multipagos.multipagos_backend.shared.application.util.ResponseFactory;
+import com.multipagos.multipagos_backend.shared.domain.exception.AuthenticationException;
+import com.multipagos.multipagos_backend.shared.domain.port.TokenGeneratorPort;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUp;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierId;
+import com.multipagos.multipagos_backend.topup.domain.port.in.ScheduledTopUpServicePort;
+import com.multipagos.multipagos_backend.topup.presentation.dto.ScheduledTopUpRequestDto;
+import com.multipagos.multipagos_backend.topup.presentation.dto.ScheduledTopUpResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * REST controller for scheduled and recurring top-ups
+ * Only stores and manages schedules; runs are fired by the scheduled top-up dispatcher
+ */
+@Slf4j
+@RestController
+@RequestMapping("/topup/scheduled")
+@RequiredArgsConstructor
+@Validated
+public class ScheduledTopUpController {
+
+  private final ScheduledTopUpServicePort scheduledTopUpService;
+  private final TokenGeneratorPort tokenGenerator;
+
+  @PostMapping
+  public ResponseEntity<?> schedule(@Valid @RequestBody ScheduledTopUpRequestDto requestDto,
+      HttpServletRequest request) {
+    try {
+      Long userId = extractUserIdFromRequest(request);
+      log.info("[SCHEDULED TOPUP] Schedule requested | userId: {} | cellPhone: {} | recurrence: {} | firstRun: {}",
+          userId, requestDto.getCellPhone(), requestDto.getRecurrence(), requestDto.getFirstRunAt());
+
+      TopUpRequest topUpRequest = TopUpRequest.builder()
+          .phoneNumber(PhoneNumber.of(requestDto.getCellPhone()))
+          .amount(Amount.of(requestDto.getValue()))
+          .supplierId(SupplierId.of(requestDto.getSupplierId()))
+          .build();
+      ScheduledTopUp scheduled = scheduledTopUpService.schedule(topUpRequest, userId,
+          requestDto.getRecurrence(), requestDto.getFirstRunAt(), requestDto.getLabel());
+
+      return ResponseFactory.success(toResponse(scheduled), "Recarga programada exitosamente");
+    } catch (AuthenticationException e) {
+      return handleAuthenticationError(e, request);
+    } catch (IllegalArgumentException e) {
+      return handleValidationError(e, request);
+    } catch (Exception e) {
+      return handleUnexpectedError(e, request);
+    }
+  }
+
+  @GetMapping
+  public ResponseEntity<?> list(HttpServletRequest request) {
+    try {
+      Long userId = extractUserIdFromRequest(request);
+      List<ScheduledTopUpResponse> schedules = scheduledTopUpService.getUserSchedules(userId).stream()
+          .map(this::toResponse)
+          .toList();
+      return ResponseFactory.success(schedules, "Recargas programadas obtenidas exitosamente");
+    } catch (AuthenticationException e) {
+      return handleAuthenticationError(e, request);
+    } catch (IllegalArgumentException e) {
+      return handleValidationError(e, request);
+    } catch (Exception e) {
+      return handleUnexpectedError(e, request);
+    }
+  }
+
+  @PostMapping("/{id}/pause")
+  public ResponseEntity<?> pause(@PathVariable Long id, HttpServletRequest request) {
+    return changeStatus(id, request, scheduledTopUpService::pause, "Recarga programada pausada");
+  }
+
+  @PostMapping("/{id}/resume")
+  public ResponseEntity<?> resume(@PathVariable Long id, HttpServletRequest request) {
+    return changeStatus(id, request, scheduledTopUpService::resume, "Recarga programada reanudada");
+  }
+
+  @DeleteMapping("/{id}")
+  public ResponseEntity<?> cancel(@PathVariable Long id, HttpServletRequest request) {
+    return changeStatus(id, request, scheduledTopUpService::cancel, "Recarga programada cancelada");
+  }
+
+  private ResponseEntity<?> changeStatus(Long id, HttpServletRequest request,
+      BiFunction<Long, Long, ScheduledTopUp> change, String message) {
+    try {
+      Long userId = extractUserIdFromRequest(request);
+      return ResponseFactory.success(toResponse(change.apply(id, userId)), message);
+    } catch (AuthenticationException e) {
+      return handleAuthenticationError(e, request);
+    } catch (IllegalArgumentException e) {
+      return handleValidationError(e, request);
+    } catch (Exception e) {
+      return handleUnexpectedError(e, request);
+    }
+  }
+
+  private Long extractUserIdFromRequest(HttpServletRequest request) {
+    String authHeader = request.getHeader("Authorization");
+    if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+      throw new IllegalArgumentException("Token de autorización requerido");
+    }
+    Long userId = tokenGenerator.extractUserId(authHeader.substring(7));
+    if (userId == null || userId <= 0) {
+      throw new IllegalArgumentException("Token de autorización inválido");
+    }
+    return userId;
+  }
+
+  private ScheduledTopUpResponse toResponse(ScheduledTopUp scheduled) {
+    return ScheduledTopUpResponse.builder()
+        .id(scheduled.getId().toString())
+        .cellPhone(scheduled.getPhoneNumber().getValue())
+        .valueCents(scheduled.getAmount().getCents())
+        .supplierId(scheduled.getSupplierId().getValue())
+        .supplierName(scheduled.getSupplierId().getSupplierName())
+        .label(scheduled.getLabel())
+        .recurrence(scheduled.getRecurrence().name())
+        .status(scheduled.getStatus().name())
+        .nextRunAt(scheduled.isFinished() ? null : scheduled.getNextRunAt())
+        .lastRunAt(scheduled.getLastRunAt())
+        .lastStatus(scheduled.getLastStatus() != null ? scheduled.getLastStatus().name() : null)
+        .lastMessage(scheduled.getLastMessage())
+        .lastTransactionId(scheduled.getLastTransactionId() != null ? scheduled.getLastTransactionId().toString() : null)
+        .createdAt(scheduled.getCreatedAt())
+        .build();
+  }
+
+  private ResponseEntity<?> handleValidationError(IllegalArgumentException e, HttpServletRequest request) {
+    log.warn("[SCHEDULED TOPUP] Request rejected | path: {} | error: {}", request.getRequestURI(), e.getMessage());
+    return ResponseFactory.badRequest(e.getMessage(), request.getRequestURI());
+  }
+
+  private ResponseEntity<?> handleAuthenticationError(AuthenticationException e, HttpServletRequest request) {
+    log.warn("[SCHEDULED TOPUP] Authentication rejected | error: {}", e.getMessage());
+    return ResponseFactory.unauthorized(e.getMessage(), request.getRequestURI());
+  }
+
+  private ResponseEntity<?> handleUnexpectedError(Exception e, HttpServletRequest request) {
+    log.error("[SCHEDULED TOPUP] Unexpected error | path: {} | error: {}", request.getRequestURI(), e.getMessage(), e);
+    return ResponseFactory.internalServerError(request.getRequestURI());
+  }
+}
@@ -1,17 +1,25 @@
 package com.multipagos.multipagos_backend.topup.presentation.controller;
 
+import com.multipagos.multipagos_backend.shared.application.util.EntityTags;
 import com.multipagos.multipagos_backend.shared.application.util.ResponseFactory;
+import com.multipagos.multipagos_backend.topup.domain.port.in.CarrierDetectionServicePort;
 import com.multipagos.multipagos_backend.topup.domain.port.in.SupplierServicePort;
 import com.multipagos.multipagos_backend.topup.domain.model.Supplier;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierType;
+import com.multipagos.multipagos_backend.topup.presentation.cache.SupplierResponseCache;
+import com.multipagos.multipagos_backend.topup.presentation.cache.SupplierResponseCache.SupplierResponseBody;
 import com.multipagos.multipagos_backend.topup.presentation.dto.SupplierResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * Supplier REST Controller following Hexagonal Architecture
@@ -21,6 +29,10 @@ import java.util.stream.Collectors;
  * 
  * Maintains the standard ApiResponse wrapper but returns simple supplier data
  * matching Puntored API specification in the data field
+ * 
+ * Responses carry a strong ETag derived from the supplier catalog version;
+ * a matching If-None-Match is answered with 304 before any service work.
+ * The serialized body is cached per catalog version and written as raw bytes
  */
 @Slf4j
 @RestController
@@ -29,6 +41,8 @@ import java.util.stream.Collectors;
 public class SupplierController {
 
   private final SupplierServicePort supplierService;
+  private final SupplierResponseCache responseCache;
+  private final CarrierDetectionServicePort carrierDetection;
 
   /**
    * Get all available suppliers for mobile recharges
@@ -41,19 +55,40 @@ public class SupplierController {
   @GetMapping
   public ResponseEntity<?> getAllSuppliers(HttpServletRequest request) {
     try {
+      boolean acceptsGzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+      Optional<String> versionBefore = supplierService.getCatalogVersion();
+
+      if (versionBefore.isPresent()) {
+        String version = versionBefore.get();
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (EntityTags.matches(ifNoneMatch, SupplierResponseCache.identityTag(version))
+            || EntityTags.matches(ifNoneMatch, SupplierResponseCache.gzipTag(version))) {
+          log.debug("[SUPPLIER CONTROLLER] Supplier catalog not modified | version: {}", version);
+          SupplierResponseBody cached = responseCache.get(version);
+          boolean gzip = acceptsGzip && cached != null && cached.hasGzip();
+          return EntityTags.notModified(gzip ? cached.gzipEtag() : SupplierResponseCache.identityTag(version));
+        }
+
+        SupplierResponseBody cached = responseCache.get(version);
+        if (cached != null) {
+          return writeBody(cached, acceptsGzip);
+        }
+      }
+
       log.info("[SUPPLIER CONTROLLER] Getting all suppliers");
 
       List<Supplier> suppliers = supplierService.getAllSuppliers();
 
-      // Convert to simple DTOs containing only id and name as required by Puntored
-      // API
-      List<SupplierResponseDto> suppliersData = suppliers.stream()
-          .map(supplier -> new SupplierResponseDto(supplier.getId(), supplier.getName()))
-          .collect(Collectors.toList());
+      // Only cache and tag the body when the catalog did not change while it was being built
+      Optional<String> versionAfter = supplierService.getCatalogVersion();
+      String version = versionAfter.isPresent() && (versionBefore.isEmpty() || versionBefore.equals(versionAfter))
+          ? versionAfter.get()
+          : null;
+      SupplierResponseBody body = responseCache.build(suppliers, version);
 
-      log.info("[SUPPLIER CONTROLLER] Successfully retrieved {} suppliers", suppliersData.size());
+      log.info("[SUPPLIER CONTROLLER] Successfully retrieved {} suppliers", suppliers.size());
 
-      return ResponseFactory.success(suppliersData, "Proveedores obtenidos exitosamente");
+      return writeBody(body, acceptsGzip);
 
     } catch (Exception e) {
       log.error("[SUPPLIER CONTROLLER] Error getting suppliers: {}", e.getMessage(), e);
@@ -61,4 +96,73 @@ public class SupplierController {
     }
   }
 
+  /**
+   * Detect the carrier of a phone number so the client can preselect the supplier
+   * Resolved from the prefix table only; no catalog or Puntored call is made
+   *
+   * @param phone   10-digit mobile number
+   * @param request HTTP request for error context
+   * @return ResponseEntity with the detected supplier (id and name)
+   */
+  @GetMapping("/detect")
+  public ResponseEntity<?> detectSupplier(@RequestParam("phone") String phone, HttpServletRequest request) {
+    try {
+      Optional<SupplierType> carrier = carrierDetection.detectCarrier(PhoneNumber.of(phone));
+      if (carrier.isEmpty()) {
+        log.debug("[SUPPLIER CONTROLLER] No carrier for phone prefix");
+        return ResponseFactory.notFound("No se pudo identificar el operador del número", request.getRequestURI());
+      }
+
+      SupplierType type = carrier.get();
+      return ResponseFactory.success(new SupplierResponseDto(type.getId(), type.getName()), "Operador detectado");
+
+    } catch (IllegalArgumentException e) {
+      return ResponseFactory.badRequest(e.getMessage(), request.getRequestURI());
+    } catch (Exception e) {
+      log.error("[SUPPLIER CONTROLLER] Error detecting supplier: {}", e.getMessage(), e);
+      return ResponseFactory.internalServerError(request.getRequestURI());
+    }
+  }
+
+  private ResponseEntity<byte[]> writeBody(SupplierResponseBody body, boolean acceptsGzip) {
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+    if (acceptsGzip && body.hasGzip()) {
+      if (body.gzipEtag() != null) {
+        builder.eTag(body.gzipEtag());
+      }
+      return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+          .contentLength(body.gzip().length)
+          .body(body.gzip());
+    }
+
+    if (body.etag() != null) {
+      builder.eTag(body.etag());
+    }
+    return builder.contentLength(body.json().length).body(body.json());
+  }
+
+  private boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+        continue;
+      }
+      for (int i = 1; i < parts.length; i++) {
+        String parameter = parts[i].trim().replace(" ", "");
+        if (parameter.equals("q=0") || parameter.matches("q=0\\.0{0,3}")) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
 }
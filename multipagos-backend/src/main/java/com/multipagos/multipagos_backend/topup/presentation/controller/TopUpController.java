@@ -1,9 +1,17 @@
 package com.multipagos.multipagos_backend.topup.presentation.controller;
 
+import com.multipagos.multipagos_backend.shared.domain.exception.AuthenticationException;
+import com.multipagos.multipagos_backend.shared.domain.exception.DuplicateTopUpException;
+import com.multipagos.multipagos_backend.shared.domain.exception.ServiceUnavailableException;
+import com.multipagos.multipagos_backend.shared.domain.exception.SpendingLimitExceededException;
+import com.multipagos.multipagos_backend.shared.domain.exception.TopUpRiskException;
 import com.multipagos.multipagos_backend.shared.domain.port.TokenGeneratorPort;
+import com.multipagos.multipagos_backend.shared.application.util.EntityTags;
 import com.multipagos.multipagos_backend.shared.application.util.ResponseFactory;
 import com.multipagos.multipagos_backend.shared.domain.value.PageRequest;
 import com.multipagos.multipagos_backend.shared.domain.value.PagedResult;
+import com.multipagos.multipagos_backend.topup.domain.port.in.FraudScreeningServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.ReactiveTopUpServicePort;
 import com.multipagos.multipagos_backend.topup.domain.port.in.TopUpServicePort;
 import com.multipagos.multipagos_backend.topup.domain.port.in.TransactionServicePort;
 import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
@@ -13,13 +21,17 @@ import com.multipagos.multipagos_backend.topup.presentation.dto.TopUpRequestDto;
 import com.multipagos.multipagos_backend.topup.presentation.dto.TopUpTransactionResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * TopUp REST Controller implementing Clean Code and SOLID principles
@@ -38,6 +50,11 @@ public class TopUpController {
   private final TopUpServicePort topUpService;
   private final TransactionServicePort transactionService;
   private final TokenGeneratorPort tokenGenerator;
+  private final FraudScreeningServicePort fraudScreening;
+  private final Optional<ReactiveTopUpServicePort> reactiveTopUpService;
+
+  @Value("${app.http.etag.history-enabled:true}")
+  private boolean historyETagEnabled;
 
   /**
    * Processes a mobile top-up transaction
@@ -47,10 +64,12 @@ public class TopUpController {
    * @param requestDto The top-up request containing cellphone, amount, and
    *                   supplier
    * @param request    HTTP request for extracting authentication token
-   * @return ResponseEntity with transaction result
+   * @return ResponseEntity with transaction result, or a Mono of it when the
+   *         reactive pipeline is enabled (puntored.api.client=webclient) so the
+   *         request completes asynchronously
    */
   @PostMapping
-  public ResponseEntity<?> processTopUp(
+  public Object processTopUp(
       @Valid @RequestBody TopUpRequestDto requestDto,
       HttpServletRequest request) {
 
@@ -62,7 +81,12 @@ public class TopUpController {
       Long userId = extractUserIdFromRequest(request);
       logUserAuthentication(userId, operationId);
 
-      TopUpRequest domainRequest = buildTopUpRequest(requestDto);
+      TopUpRequest domainRequest = buildTopUpRequest(requestDto, request);
+      fraudScreening.screen(domainRequest, userId);
+      if (reactiveTopUpService.isPresent()) {
+        return processTopUpReactive(reactiveTopUpService.get(), domainRequest, userId, requestDto, operationId, request);
+      }
+
       TransactionDomain transaction = topUpService.executeTopUp(domainRequest, userId);
       TopUpTransactionResponse response = buildTransactionResponse(transaction);
 
@@ -70,6 +94,16 @@ public class TopUpController {
 
       return ResponseFactory.success(response, "Recarga procesada exitosamente");
 
+    } catch (AuthenticationException e) {
+      return handleAuthenticationError(e, operationId, request);
+    } catch (TopUpRiskException e) {
+      return handleRiskError(e, requestDto.getCellPhone(), operationId, request);
+    } catch (DuplicateTopUpException e) {
+      return handleDuplicateError(e, requestDto.getCellPhone(), operationId, request);
+    } catch (SpendingLimitExceededException e) {
+      return handleSpendingLimitError(e, requestDto.getCellPhone(), operationId, request);
+    } catch (ServiceUnavailableException e) {
+      return handleUnavailableError(e, requestDto.getCellPhone(), operationId, request);
     } catch (IllegalArgumentException e) {
       return handleValidationError(e, requestDto.getCellPhone(), operationId, request);
     } catch (Exception e) {
@@ -80,6 +114,8 @@ public class TopUpController {
   /**
    * Retrieves paginated transaction history for authenticated user
    * Implements proper pagination and sorting
+   * Answers a matching If-None-Match with 304 using only the in-memory history
+   * version, before any service or database work
    * 
    * @param page          Request parameter for page number (default: 0)
    * @param size          Request parameter for page size (default: 20)
@@ -105,6 +141,15 @@ public class TopUpController {
       Long userId = extractUserIdFromRequest(request);
       logUserAuthentication(userId, operationId);
 
+      String etag = historyETagEnabled
+          ? EntityTags.strong("history-v1", transactionService.getHistoryVersion(userId),
+              page, size, sortField, sortDirection)
+          : null;
+      if (etag != null && EntityTags.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+        log.debug("[{}] Transaction history not modified | userId: {}", operationId, userId);
+        return EntityTags.notModified(etag);
+      }
+
       PagedResult<TransactionDomain> pagedTransactions = transactionService.getTransactionHistoryPaged(userId,
           pageRequest);
       
@@ -128,8 +173,11 @@ public class TopUpController {
 
       logHistorySuccess(responseContent.size(), userId, operationId);
 
-      return ResponseFactory.success(pagedResponse, "Historial de transacciones obtenido exitosamente");
+      var response = ResponseFactory.success(pagedResponse, "Historial de transacciones obtenido exitosamente");
+      return etag != null ? EntityTags.withETag(response, etag) : response;
 
+    } catch (AuthenticationException e) {
+      return handleAuthenticationError(e, operationId, request);
     } catch (IllegalArgumentException e) {
       return handleValidationError(e, null, operationId, request);
     } catch (Exception e) {
@@ -139,6 +187,29 @@ public class TopUpController {
 
   // Private helper methods following Single Responsibility Principle
 
+  /**
+   * Same flow as the blocking path, with errors mapped to the same responses
+   */
+  private Mono<ResponseEntity<?>> processTopUpReactive(ReactiveTopUpServicePort service,
+      TopUpRequest domainRequest, Long userId, TopUpRequestDto requestDto,
+      String operationId, HttpServletRequest request) {
+    return service.executeTopUp(domainRequest, userId)
+        .<ResponseEntity<?>>map(transaction -> {
+          logTopUpSuccess(requestDto, transaction, operationId);
+          return ResponseFactory.success(buildTransactionResponse(transaction), "Recarga procesada exitosamente");
+        })
+        .onErrorResume(DuplicateTopUpException.class,
+            e -> Mono.just(handleDuplicateError(e, requestDto.getCellPhone(), operationId, request)))
+        .onErrorResume(SpendingLimitExceededException.class,
+            e -> Mono.just(handleSpendingLimitError(e, requestDto.getCellPhone(), operationId, request)))
+        .onErrorResume(ServiceUnavailableException.class,
+            e -> Mono.just(handleUnavailableError(e, requestDto.getCellPhone(), operationId, request)))
+        .onErrorResume(IllegalArgumentException.class,
+            e -> Mono.just(handleValidationError(e, requestDto.getCellPhone(), operationId, request)))
+        .onErrorResume(Exception.class,
+            e -> Mono.just(handleUnexpectedError(e, requestDto.getCellPhone(), operationId, request)));
+  }
+
   /**
    * Extracts user ID from JWT token with proper validation
    */
@@ -169,11 +240,12 @@ public class TopUpController {
   /**
    * Builds domain request from DTO using builder pattern
    */
-  private TopUpRequest buildTopUpRequest(TopUpRequestDto requestDto) {
+  private TopUpRequest buildTopUpRequest(TopUpRequestDto requestDto, HttpServletRequest request) {
     return TopUpRequest.builder()
         .phoneNumber(PhoneNumber.of(requestDto.getCellPhone()))
         .amount(Amount.of(requestDto.getValue()))
         .supplierId(SupplierId.of(requestDto.getSupplierId()))
+        .clientIp(request.getRemoteAddr())
         .build();
   }
 
@@ -181,17 +253,7 @@ public class TopUpController {
    * Maps transaction domain object to response DTO
    */
   private TopUpTransactionResponse buildTransactionResponse(TransactionDomain transaction) {
-    return TopUpTransactionResponse.builder()
-        .id(transaction.getId().toString())
-        .cellPhone(transaction.getPhoneNumber() != null ? transaction.getPhoneNumber().getValue() : null)
-        .value(transaction.getAmount() != null ? transaction.getAmount().getValue() : null)
-        .supplierName(transaction.getSupplierName())
-        .status(transaction.getStatus().name())
-        .transactionalID(transaction.getExternalTransactionId())
-        .createdAt(transaction.getCreatedAt())
-        .updatedAt(transaction.getUpdatedAt()) // Always include updatedAt for consistency
-        .message(transaction.getResponseMessage())
-        .build();
+    return TopUpTransactionResponse.of(transaction);
   }
 
   private String generateOperationId(String operation, String identifier) {
@@ -231,6 +293,36 @@ public class TopUpController {
     return ResponseFactory.badRequest(e.getMessage(), request.getRequestURI());
   }
 
+  private ResponseEntity<?> handleRiskError(TopUpRiskException e, String identifier,
+      String operationId, HttpServletRequest request) {
+    log.warn("[{}] Top-up stopped by risk screening | identifier: {} | error: {}", operationId, identifier, e.getMessage());
+    return ResponseFactory.forbidden(e.getMessage(), request.getRequestURI());
+  }
+
+  private ResponseEntity<?> handleDuplicateError(DuplicateTopUpException e, String identifier,
+      String operationId, HttpServletRequest request) {
+    log.warn("[{}] Duplicate top-up | identifier: {} | error: {}", operationId, identifier, e.getMessage());
+    return ResponseFactory.conflict(e.getMessage(), request.getRequestURI());
+  }
+
+  private ResponseEntity<?> handleSpendingLimitError(SpendingLimitExceededException e, String identifier,
+      String operationId, HttpServletRequest request) {
+    log.warn("[{}] Spending limit exceeded | identifier: {} | error: {}", operationId, identifier, e.getMessage());
+    return ResponseFactory.unprocessableEntity(e.getMessage(), request.getRequestURI());
+  }
+
+  private ResponseEntity<?> handleUnavailableError(ServiceUnavailableException e, String identifier,
+      String operationId, HttpServletRequest request) {
+    log.warn("[{}] Top-up temporarily unavailable | identifier: {} | error: {}", operationId, identifier, e.getMessage());
+    return ResponseFactory.serviceUnavailable(e.getMessage(), request.getRequestURI(), e.getRetryAfterSeconds());
+  }
+
+  private ResponseEntity<?> handleAuthenticationError(AuthenticationException e, String operationId,
+      HttpServletRequest request) {
+    log.warn("[{}] Authentication rejected | error: {}", operationId, e.getMessage());
+    return ResponseFactory.unauthorized(e.getMessage(), request.getRequestURI());
+  }
+
   private ResponseEntity<?> handleUnexpectedError(Exception e, String identifier,
       String operationId, HttpServletRequest request) {
     log.error("[{}] Unexpected error | identifier: {} | error: {}", operationId, identifier, e.getMessage(), e);
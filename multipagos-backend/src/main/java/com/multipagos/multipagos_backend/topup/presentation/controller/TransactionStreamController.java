@@ -0,0 +1,79 @@
+package com.multipagos.multipagos_backend.topup.presentation.controller;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.AuthenticationException;
+import com.multipagos.multipagos_backend.shared.domain.exception.ServiceUnavailableException;
+import com.multipagos.multipagos_backend.shared.domain.port.TokenGeneratorPort;
+import com.multipagos.multipagos_backend.topup.presentation.stream.TransactionStreamHub;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Date;
+
+/**
+ * Server-Sent Events stream of the caller's finished top-ups
+ * Errors are returned as bare status codes: a JSON body cannot be negotiated for a
+ * client that only accepts text/event-stream
+ */
+@Slf4j
+@RestController
+@RequestMapping("/topup")
+@RequiredArgsConstructor
+public class TransactionStreamController {
+
+  private final TransactionStreamHub streamHub;
+  private final TokenGeneratorPort tokenGenerator;
+
+  /**
+   * The stream ends when the access token expires; the client reconnects with a fresh
+   * token and Last-Event-ID. lastEventId is accepted as a query parameter for clients
+   * that cannot set the header
+   */
+  @GetMapping("/stream")
+  public ResponseEntity<SseEmitter> stream(
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+      @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+      HttpServletRequest request) {
+    String authHeader = request.getHeader("Authorization");
+    if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    try {
+      String token = authHeader.substring(7);
+      Long userId = tokenGenerator.extractUserId(token);
+      if (userId == null || userId <= 0) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+      }
+      Date expiration = tokenGenerator.extractExpiration(token);
+      long lifetimeMs = expiration != null ? expiration.getTime() - System.currentTimeMillis() : Long.MAX_VALUE;
+      if (lifetimeMs <= 0) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+      }
+
+      String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+      SseEmitter emitter = streamHub.open(userId, lastEventId, lifetimeMs);
+      return ResponseEntity.ok()
+          .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+          // Stops nginx-style proxies from buffering the stream
+          .header("X-Accel-Buffering", "no")
+          .body(emitter);
+    } catch (AuthenticationException e) {
+      log.warn("[TOPUP STREAM] Authentication rejected | error: {}", e.getMessage());
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    } catch (ServiceUnavailableException e) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+          .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+          .build();
+    }
+  }
+}
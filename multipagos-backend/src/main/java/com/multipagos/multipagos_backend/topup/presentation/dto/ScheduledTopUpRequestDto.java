@@ -0,0 +1,43 @@
+package com.multipagos.multipagos_backend.topup.presentation.dto;
+
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduleRecurrence;
+import com.multipagos.multipagos_backend.topup.presentation.validation.ValidSupplier;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledTopUpRequestDto {
+
+  @NotBlank(message = "El número de celular es requerido")
+  @Pattern(regexp = "^3\\d{9}$", message = "El número de celular debe empezar con 3 y tener exactamente 10 dígitos")
+  private String cellPhone;
+
+  @NotNull(message = "El valor es requerido")
+  @DecimalMin(value = "1000", message = "El valor debe ser mayor o igual a 1000")
+  @DecimalMax(value = "100000", message = "El valor debe ser menor o igual a 100000")
+  private BigDecimal value;
+
+  @NotBlank(message = "El ID del proveedor es requerido")
+  @ValidSupplier(message = "El ID del proveedor debe ser válido y estar activo")
+  private String supplierId;
+
+  @NotNull(message = "La frecuencia es requerida (ONCE, WEEKLY o MONTHLY)")
+  private ScheduleRecurrence recurrence;
+
+  /** Local server time, e.g. 2025-09-01T08:00:00 */
+  @NotNull(message = "La fecha de la primera recarga es requerida")
+  @Future(message = "La fecha de la primera recarga debe ser futura")
+  private LocalDateTime firstRunAt;
+
+  @Size(max = 50, message = "La etiqueta debe tener máximo 50 caracteres")
+  private String label;
+}
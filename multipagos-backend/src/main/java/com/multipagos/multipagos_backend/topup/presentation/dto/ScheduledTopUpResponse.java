@@ -0,0 +1,44 @@
+package com.multipagos.multipagos_backend.topup.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledTopUpResponse {
+  private String id;
+  private String cellPhone;
+  /** Carried as cents; serialized as the decimal "value" field */
+  @JsonIgnore
+  private Long valueCents;
+  private String supplierId;
+  private String supplierName;
+  private String label;
+  private String recurrence;
+  private String status;
+  @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+  private LocalDateTime nextRunAt;
+  @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+  private LocalDateTime lastRunAt;
+  private String lastStatus;
+  private String lastMessage;
+  private String lastTransactionId;
+  @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
+  private LocalDateTime createdAt;
+
+  @JsonProperty("value")
+  public BigDecimal getValue() {
+    return valueCents != null ? Amount.toDecimal(valueCents) : null;
+  }
+}
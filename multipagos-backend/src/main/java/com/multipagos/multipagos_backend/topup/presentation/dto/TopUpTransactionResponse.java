@@ -1,6 +1,10 @@
 package com.multipagos.multipagos_backend.topup.presentation.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,7 +20,9 @@ import java.time.LocalDateTime;
 public class TopUpTransactionResponse {
   private String id;
   private String cellPhone;
-  private BigDecimal value;
+  /** Carried as cents; serialized as the decimal "value" field */
+  @JsonIgnore
+  private Long valueCents;
   private String supplierName;
   private String status;
   private String transactionalID;
@@ -25,4 +31,23 @@ public class TopUpTransactionResponse {
   @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS")
   private LocalDateTime updatedAt;
   private String message;
+
+  public static TopUpTransactionResponse of(TransactionDomain transaction) {
+    return TopUpTransactionResponse.builder()
+        .id(transaction.getId().toString())
+        .cellPhone(transaction.getPhoneNumber() != null ? transaction.getPhoneNumber().getValue() : null)
+        .valueCents(transaction.getAmount() != null ? transaction.getAmount().getCents() : null)
+        .supplierName(transaction.getSupplierName())
+        .status(transaction.getStatus().name())
+        .transactionalID(transaction.getExternalTransactionId())
+        .createdAt(transaction.getCreatedAt())
+        .updatedAt(transaction.getUpdatedAt()) // Always include updatedAt for consistency
+        .message(transaction.getResponseMessage())
+        .build();
+  }
+
+  @JsonProperty("value")
+  public BigDecimal getValue() {
+    return valueCents != null ? Amount.toDecimal(valueCents) : null;
+  }
 }
@@ -0,0 +1,452 @@
+package com.multipagos.multipagos_backend.topup.presentation.stream;
+
+import com.multipagos.multipagos_backend.shared.application.util.ReplayLog;
+import com.multipagos.multipagos_backend.shared.domain.exception.ServiceUnavailableException;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatusChangedEvent;
+import com.multipagos.multipagos_backend.topup.domain.port.in.TransactionServicePort;
+import com.multipagos.multipagos_backend.topup.presentation.dto.TopUpTransactionResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes finished top-ups to the owner's open /topup/stream connections
+ * Each connection has a small bounded buffer drained by a shared sender pool, so a
+ * slow client never blocks the thread that completed the top-up; a connection whose
+ * buffer fills is closed and the client resumes with Last-Event-ID. Recent updates
+ * are kept in a replay log for that resume. Event ids carry a node epoch: an id from
+ * before a restart or from another node is answered with a reset, telling the
+ * client to reload its history instead.
+ * Top-ups finished on other nodes are picked up by polling the transactions table by
+ * updated_at. The stack has no message broker to fan events out, and the table is
+ * already the shared source of truth; the poll is one indexed range read per node
+ * per interval, cheaper than every client re-reading its history on a timer. Each
+ * poll re-reads an overlap window, for transactions that committed after a later
+ * one was seen and for clock skew between nodes; updates already delivered, by
+ * this node or an earlier poll, are recognised by transaction id and status.
+ * The same poll feeds the history versions behind the /topup/history ETags, so it
+ * reads transactions in every status and keeps running with the stream disabled
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionStreamHub {
+
+  public static final String EVENT_TRANSACTION = "transaction";
+  public static final String EVENT_READY = "ready";
+  public static final String EVENT_RESET = "reset";
+  private static final String EXECUTOR_NAME = "topup-stream";
+
+  private final MeterRegistry meterRegistry;
+  private final TransactionServicePort transactionService;
+
+  @Value("${topup.stream.enabled:true}")
+  private boolean enabled;
+
+  /** Events waiting per connection; replays larger than this are answered with a reset */
+  @Value("${topup.stream.buffer-size:32}")
+  private int bufferSize;
+
+  @Value("${topup.stream.replay-size:2048}")
+  private int replaySize;
+
+  @Value("${topup.stream.replay-max-age-ms:300000}")
+  private long replayMaxAgeMs;
+
+  @Value("${topup.stream.timeout-ms:1800000}")
+  private long timeoutMs;
+
+  /** Sent as the SSE retry field: how long the browser waits before reconnecting */
+  @Value("${topup.stream.reconnect-ms:3000}")
+  private long reconnectMs;
+
+  @Value("${topup.stream.max-connections:2000}")
+  private int maxConnections;
+
+  /** Opening one more closes the user's oldest connection */
+  @Value("${topup.stream.max-connections-per-user:5}")
+  private int maxConnectionsPerUser;
+
+  @Value("${topup.stream.send-threads:4}")
+  private int sendThreads;
+
+  @Value("${topup.stream.retry-after-seconds:30}")
+  private long retryAfterSeconds;
+
+  /** Poll the database for top-ups written on other nodes */
+  @Value("${topup.stream.relay-enabled:true}")
+  private boolean relayEnabled;
+
+  /** Each poll goes back this far before the newest update seen; covers commit delay and clock skew */
+  @Value("${topup.stream.relay-overlap-ms:5000}")
+  private long relayOverlapMs;
+
+  @Value("${topup.stream.relay-batch-size:500}")
+  private int relayBatchSize;
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreadsEnabled;
+
+  private final String nodeEpoch = Long.toString(System.currentTimeMillis(), 36)
+      + Integer.toString(ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE), 36);
+  private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+  private final AtomicInteger connectionCount = new AtomicInteger();
+  /** Guards the replay log and registration, so a resume sees every update exactly once */
+  private final Object lock = new Object();
+  /** Updates already published, with their update time, so each is sent once */
+  private final Map<Finished, Long> published = new ConcurrentHashMap<>();
+  private LocalDateTime relayCursor = LocalDateTime.now();
+
+  private ReplayLog<Update> replayLog;
+  private ThreadPoolExecutor senders;
+  private Counter overflows;
+  private Counter replayed;
+  private Counter resets;
+
+  private record Update(Long userId, TopUpTransactionResponse transaction) {
+  }
+
+  private record Finished(Long id, TransactionStatus status) {
+  }
+
+  private final class Connection {
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private Connection(Long userId, SseEmitter emitter) {
+      this.userId = userId;
+      this.emitter = emitter;
+      this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+  }
+
+  @PostConstruct
+  void init() {
+    if (!enabled) {
+      log.info("[TOPUP STREAM] Disabled");
+      return;
+    }
+    replayLog = new ReplayLog<>(replaySize);
+    ThreadFactory workers = virtualThreadsEnabled
+        ? Thread.ofVirtual().name(EXECUTOR_NAME + "-", 0).factory()
+        : Thread.ofPlatform().name(EXECUTOR_NAME + "-", 0).daemon(true).factory();
+    // A connection has at most one drain queued, so the queue never holds more than the connections
+    senders = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(maxConnections), workers, new ThreadPoolExecutor.AbortPolicy());
+
+    new ExecutorServiceMetrics(senders, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+    Gauge.builder("topup.stream.connections", connectionCount, AtomicInteger::get)
+        .description("Open transaction stream connections on this node")
+        .register(meterRegistry);
+    overflows = Counter.builder("topup.stream.overflows")
+        .description("Connections closed because the client did not keep up")
+        .register(meterRegistry);
+    replayed = Counter.builder("topup.stream.resumes")
+        .tag("outcome", "replayed")
+        .description("Reconnections resumed from Last-Event-ID")
+        .register(meterRegistry);
+    resets = Counter.builder("topup.stream.resumes")
+        .tag("outcome", "reset")
+        .description("Reconnections resumed from Last-Event-ID")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    if (senders == null) {
+      return;
+    }
+    connections.values().forEach(userConnections -> userConnections.forEach(this::close));
+    senders.shutdown();
+  }
+
+  /**
+   * Opens a stream for the user, replaying what followed lastEventId when given
+   * @param maxLifetimeMs the stream is closed after this long, e.g. when the access token expires
+   * @throws ServiceUnavailableException if the stream is disabled or the node is at its connection limit
+   */
+  public SseEmitter open(Long userId, String lastEventId, long maxLifetimeMs) {
+    if (!enabled) {
+      throw new ServiceUnavailableException("Las actualizaciones en vivo no están disponibles", retryAfterSeconds);
+    }
+    if (connectionCount.incrementAndGet() > maxConnections) {
+      connectionCount.decrementAndGet();
+      log.warn("[TOPUP STREAM] Connection limit reached | userId: {} | max: {}", userId, maxConnections);
+      throw new ServiceUnavailableException("Demasiadas conexiones abiertas, intente más tarde", retryAfterSeconds);
+    }
+
+    Connection connection = new Connection(userId, new SseEmitter(Math.max(1L, Math.min(timeoutMs, maxLifetimeMs))));
+    connection.emitter.onCompletion(() -> close(connection));
+    connection.emitter.onTimeout(() -> close(connection));
+    connection.emitter.onError(e -> close(connection));
+
+    Connection[] evicted = new Connection[1];
+    synchronized (lock) {
+      // compute, not computeIfAbsent, so a close emptying the list cannot drop it under us
+      connections.compute(userId, (key, userConnections) -> {
+        List<Connection> registered = userConnections != null ? userConnections : new CopyOnWriteArrayList<>();
+        if (registered.size() >= maxConnectionsPerUser) {
+          evicted[0] = registered.get(0);
+        }
+        registered.add(connection);
+        return registered;
+      });
+      resume(connection, lastEventId);
+    }
+    Connection oldest = evicted[0];
+    if (oldest != null) {
+      log.debug("[TOPUP STREAM] Closing oldest connection over the per-user limit | userId: {}", userId);
+      close(oldest);
+    }
+    log.debug("[TOPUP STREAM] Connection opened | userId: {} | lastEventId: {}", userId, lastEventId);
+    return connection.emitter;
+  }
+
+  /**
+   * Reads the transaction on the publishing thread and delivers after commit, so a
+   * client never sees a status that was rolled back
+   */
+  @EventListener
+  public void onStatusChanged(TransactionStatusChangedEvent event) {
+    if (!enabled || event.userId() == null || event.transaction() == null
+        || event.status() == TransactionStatus.PENDING) {
+      return;
+    }
+    TransactionDomain transaction = event.transaction();
+    Update update = new Update(event.userId(), TopUpTransactionResponse.of(transaction));
+    LocalDateTime updatedAt = transaction.getUpdatedAt() != null ? transaction.getUpdatedAt() : LocalDateTime.now();
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          publishOnce(event.transactionId(), event.status(), updatedAt, update);
+        }
+      });
+    } else {
+      publishOnce(event.transactionId(), event.status(), updatedAt, update);
+    }
+  }
+
+  /**
+   * Publishes top-ups finished since the last poll, on this node or any other; the
+   * ones this node already published are skipped. Runs with no connections open too,
+   * so the replay log stays complete for clients that reconnect. Every transaction
+   * read, pending ones included, also changes its owner's history version
+   */
+  @Scheduled(fixedDelayString = "${topup.stream.relay-interval-ms:2000}")
+  public void relay() {
+    if (!relayEnabled) {
+      return;
+    }
+    LocalDateTime afterUpdatedAt = relayCursor.minusNanos(relayOverlapMs * 1_000_000L);
+    long afterId = 0L;
+    LocalDateTime newest = relayCursor;
+    try {
+      List<TransactionDomain> page;
+      do {
+        page = transactionService.getTransactionsUpdatedAfter(afterUpdatedAt, afterId, relayBatchSize);
+        for (TransactionDomain transaction : page) {
+          transactionService.markHistoryChanged(transaction);
+          if (enabled && transaction.getUserId() != null && transaction.getStatus() != TransactionStatus.PENDING) {
+            publishOnce(transaction.getId(), transaction.getStatus(), transaction.getUpdatedAt(),
+                new Update(transaction.getUserId(), TopUpTransactionResponse.of(transaction)));
+          }
+          afterUpdatedAt = transaction.getUpdatedAt();
+          afterId = transaction.getId();
+        }
+        if (afterUpdatedAt.isAfter(newest)) {
+          newest = afterUpdatedAt;
+        }
+      } while (page.size() == relayBatchSize);
+    } catch (RuntimeException e) {
+      log.warn("[TOPUP STREAM] Relay poll failed, retrying on the next interval | error: {}", e.getMessage());
+    }
+    relayCursor = newest;
+
+    // Nothing older than the next poll's window can be read again
+    long forgetBefore = toMillis(newest) - relayOverlapMs;
+    published.values().removeIf(updatedAt -> updatedAt < forgetBefore);
+  }
+
+  /**
+   * Comment lines keep proxies from closing idle streams and reveal dead connections
+   */
+  @Scheduled(fixedDelayString = "${topup.stream.heartbeat-interval-ms:15000}")
+  public void heartbeat() {
+    if (!enabled) {
+      return;
+    }
+    connections.values().forEach(userConnections -> userConnections.forEach(connection -> {
+      // A full buffer already has writes pending; no heartbeat needed
+      if (connection.buffer.offer(SseEmitter.event().comment("ping"))) {
+        schedule(connection);
+      }
+    }));
+  }
+
+  private void publishOnce(Long transactionId, TransactionStatus status, LocalDateTime updatedAt, Update update) {
+    if (transactionId != null
+        && published.putIfAbsent(new Finished(transactionId, status), toMillis(updatedAt)) != null) {
+      return;
+    }
+    publish(update);
+  }
+
+  private void publish(Update update) {
+    synchronized (lock) {
+      long seq = replayLog.append(update, System.currentTimeMillis());
+      List<Connection> userConnections = connections.get(update.userId());
+      if (userConnections != null) {
+        userConnections.forEach(connection -> enqueue(connection, transactionEvent(seq, update)));
+      }
+    }
+  }
+
+  /**
+   * Runs under the lock, right after registration: replays missed updates or sends a
+   * reset, then a ready event carrying the current position so the next resume starts there
+   */
+  private void resume(Connection connection, String lastEventId) {
+    enqueue(connection, SseEmitter.event().reconnectTime(reconnectMs).comment("connected"));
+    long head = replayLog.lastSeq();
+
+    if (lastEventId != null && !lastEventId.isBlank()) {
+      List<ReplayLog.Entry<Update>> missed = replayLog.since(parseSeq(lastEventId),
+          update -> update.userId().equals(connection.userId), System.currentTimeMillis(), replayMaxAgeMs);
+      if (missed == null || missed.size() > bufferSize - 2) {
+        resets.increment();
+        enqueue(connection, SseEmitter.event().id(eventId(head)).name(EVENT_RESET).data("reload"));
+        return;
+      }
+      replayed.increment();
+      missed.forEach(entry -> enqueue(connection, transactionEvent(entry.seq(), entry.value())));
+    }
+    enqueue(connection, SseEmitter.event().id(eventId(head)).name(EVENT_READY).data("ok"));
+  }
+
+  private SseEmitter.SseEventBuilder transactionEvent(long seq, Update update) {
+    return SseEmitter.event()
+        .id(eventId(seq))
+        .name(EVENT_TRANSACTION)
+        .data(update.transaction(), MediaType.APPLICATION_JSON);
+  }
+
+  private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+    if (connection.closed.get()) {
+      return;
+    }
+    if (!connection.buffer.offer(event)) {
+      overflows.increment();
+      log.debug("[TOPUP STREAM] Buffer full, closing connection | userId: {}", connection.userId);
+      close(connection);
+      return;
+    }
+    schedule(connection);
+  }
+
+  private void schedule(Connection connection) {
+    if (!connection.draining.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      senders.execute(() -> drain(connection));
+    } catch (RejectedExecutionException e) {
+      connection.draining.set(false);
+      close(connection);
+    }
+  }
+
+  private void drain(Connection connection) {
+    try {
+      SseEmitter.SseEventBuilder event;
+      while (!connection.closed.get() && (event = connection.buffer.poll()) != null) {
+        connection.emitter.send(event);
+      }
+    } catch (Exception e) {
+      log.debug("[TOPUP STREAM] Send failed, closing connection | userId: {} | error: {}",
+          connection.userId, e.getMessage());
+      close(connection);
+    } finally {
+      connection.draining.set(false);
+    }
+    if (!connection.closed.get() && !connection.buffer.isEmpty()) {
+      schedule(connection);
+    }
+  }
+
+  private void close(Connection connection) {
+    if (!connection.closed.compareAndSet(false, true)) {
+      return;
+    }
+    connectionCount.decrementAndGet();
+    connections.computeIfPresent(connection.userId, (userId, userConnections) -> {
+      userConnections.remove(connection);
+      return userConnections.isEmpty() ? null : userConnections;
+    });
+    connection.buffer.clear();
+    try {
+      connection.emitter.complete();
+    } catch (Exception e) {
+      log.debug("[TOPUP STREAM] Connection already closed | userId: {}", connection.userId);
+    }
+  }
+
+  private static long toMillis(LocalDateTime time) {
+    return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  private String eventId(long seq) {
+    return nodeEpoch + "-" + seq;
+  }
+
+  /**
+   * @return -1 for ids from another epoch or malformed ids, which the replay log rejects
+   */
+  private long parseSeq(String lastEventId) {
+    String prefix = nodeEpoch + "-";
+    if (!lastEventId.startsWith(prefix)) {
+      return -1L;
+    }
+    try {
+      return Long.parseLong(lastEventId.substring(prefix.length()));
+    } catch (NumberFormatException e) {
+      return -1L;
+    }
+  }
+}
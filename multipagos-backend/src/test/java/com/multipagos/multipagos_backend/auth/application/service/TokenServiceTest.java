@@ -0,0 +1,103 @@
+package com.multipagos.multipagos_backend.auth.application.service;
+
+import com.multipagos.multipagos_backend.auth.domain.model.IssuedTokens;
+import com.multipagos.multipagos_backend.auth.domain.model.RefreshTokenDomain;
+import com.multipagos.multipagos_backend.auth.domain.model.UserDomain;
+import com.multipagos.multipagos_backend.auth.domain.port.out.RefreshTokenRepositoryPort;
+import com.multipagos.multipagos_backend.auth.domain.port.out.UserRepositoryPort;
+import com.multipagos.multipagos_backend.shared.domain.exception.AuthenticationException;
+import com.multipagos.multipagos_backend.shared.domain.port.TokenGeneratorPort;
+import com.multipagos.multipagos_backend.shared.domain.port.TokenRevocationPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenServiceTest {
+
+  private static final String FAMILY = "family-1";
+
+  private final TokenGeneratorPort tokenGenerator = mock(TokenGeneratorPort.class);
+  private final TokenRevocationPort tokenRevocation = mock(TokenRevocationPort.class);
+  private final RefreshTokenRepositoryPort refreshTokenRepository = mock(RefreshTokenRepositoryPort.class);
+  private final UserRepositoryPort userRepository = mock(UserRepositoryPort.class);
+  private final TokenService service = new TokenService(tokenGenerator, tokenRevocation, refreshTokenRepository,
+      userRepository);
+  private final LocalDateTime now = LocalDateTime.now();
+
+  TokenServiceTest() {
+    ReflectionTestUtils.setField(service, "refreshExpirationMs", 1_209_600_000L);
+    ReflectionTestUtils.setField(service, "refreshReuseGraceMs", 10_000L);
+    when(tokenGenerator.generateToken(any(), any(), any())).thenReturn("access");
+    when(tokenGenerator.extractTokenId("access")).thenReturn("jti");
+    when(tokenGenerator.extractExpiration("access")).thenReturn(new Date(System.currentTimeMillis() + 900_000L));
+    when(userRepository.findById(7L)).thenReturn(Optional.of(UserDomain.builder()
+        .id(7L).email("ana@multipagos.test").name("Ana").active(true).build()));
+    when(refreshTokenRepository.hasActiveToken(eq(FAMILY), any())).thenReturn(true);
+  }
+
+  @Test
+  void tokenRotatedMomentsAgoGetsANewPairInTheSameFamily() {
+    presented(now.minusSeconds(2));
+
+    IssuedTokens tokens = service.refresh("refresh");
+
+    assertThat(tokens.getRefreshToken()).isNotBlank();
+    verify(refreshTokenRepository).save(any(RefreshTokenDomain.class));
+    verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+  }
+
+  @Test
+  void tokenThatLostARotationRaceGetsANewPair() {
+    presented(null);
+    when(refreshTokenRepository.revokeIfActive(eq(1L), any())).thenReturn(false);
+
+    service.refresh("refresh");
+
+    verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+  }
+
+  @Test
+  void reuseAfterTheGracePeriodRevokesTheFamily() {
+    presented(now.minusMinutes(1));
+
+    assertThatThrownBy(() -> service.refresh("refresh")).isInstanceOf(AuthenticationException.class);
+
+    verify(refreshTokenRepository).revokeFamily(eq(FAMILY), any());
+    verify(refreshTokenRepository, never()).save(any());
+  }
+
+  @Test
+  void reuseWithinTheGracePeriodOfARevokedSessionIsRejected() {
+    presented(now.minusSeconds(2));
+    when(refreshTokenRepository.hasActiveToken(eq(FAMILY), any())).thenReturn(false);
+
+    assertThatThrownBy(() -> service.refresh("refresh")).isInstanceOf(AuthenticationException.class);
+
+    verify(refreshTokenRepository, never()).save(any());
+  }
+
+  private void presented(LocalDateTime revokedAt) {
+    when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(RefreshTokenDomain.builder()
+        .id(1L)
+        .userId(7L)
+        .familyId(FAMILY)
+        .expiresAt(now.plusDays(1))
+        .revokedAt(revokedAt)
+        .build()));
+    when(refreshTokenRepository.findWithLiveAccessToken(anyString(), any())).thenReturn(List.of());
+  }
+}
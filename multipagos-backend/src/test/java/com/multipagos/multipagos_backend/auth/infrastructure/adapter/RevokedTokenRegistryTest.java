@@ -0,0 +1,70 @@
+package com.multipagos.multipagos_backend.auth.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.auth.infrastructure.config.TokenRevocationProperties;
+import com.multipagos.multipagos_backend.auth.infrastructure.entity.RevokedTokenEntity;
+import com.multipagos.multipagos_backend.auth.infrastructure.repository.RevokedTokenEntityRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RevokedTokenRegistryTest {
+
+  private final List<RevokedTokenEntity> committed = new CopyOnWriteArrayList<>();
+  private final TokenRevocationProperties properties = new TokenRevocationProperties();
+  private final RevokedTokenEntityRepository repository = mock(RevokedTokenEntityRepository.class);
+  private final RevokedTokenRegistry registry = new RevokedTokenRegistry(repository, properties, new SimpleMeterRegistry());
+
+  RevokedTokenRegistryTest() {
+    properties.setExpectedRevocations(1000);
+    properties.setSyncOverlapIds(10);
+    when(repository.findLiveAfter(anyLong(), any(), any())).thenAnswer(invocation -> {
+      long afterId = invocation.getArgument(0);
+      return committed.stream()
+          .filter(row -> row.getId() > afterId)
+          .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+          .toList();
+    });
+    registry.init();
+  }
+
+  @Test
+  void syncPicksUpRowsThatCommitBehindTheLastSeenId() {
+    commit(1L, "jti-1");
+    commit(3L, "jti-3");
+    registry.sync();
+    assertThat(registry.isRevoked("jti-3")).isTrue();
+
+    commit(2L, "jti-2");
+    registry.sync();
+
+    assertThat(registry.isRevoked("jti-2")).isTrue();
+  }
+
+  @Test
+  void rowsBelowTheOverlapWindowAreLeftToTheNextRebuild() {
+    commit(50L, "jti-50");
+    registry.sync();
+
+    commit(5L, "jti-5");
+    registry.sync();
+    assertThat(registry.isRevoked("jti-5")).isFalse();
+
+    registry.rebuild();
+    assertThat(registry.isRevoked("jti-5")).isTrue();
+  }
+
+  private void commit(long id, String tokenId) {
+    RevokedTokenEntity row = new RevokedTokenEntity(tokenId, 7L, LocalDateTime.now().plusMinutes(15));
+    row.setId(id);
+    committed.add(row);
+  }
+}
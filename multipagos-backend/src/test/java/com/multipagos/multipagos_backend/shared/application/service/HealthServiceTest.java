@@ -0,0 +1,51 @@
+package com.multipagos.multipagos_backend.shared.application.service;
+
+import com.multipagos.multipagos_backend.shared.application.service.health.DatabaseHealthChecker;
+import com.multipagos.multipagos_backend.shared.application.service.health.SystemHealthChecker;
+import com.multipagos.multipagos_backend.shared.domain.value.HealthCheckConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HealthServiceTest {
+
+  private final DatabaseHealthChecker database = mock(DatabaseHealthChecker.class);
+  private final SystemHealthChecker system = mock(SystemHealthChecker.class);
+  private final HealthService service = new HealthService(database, system, List.of());
+
+  HealthServiceTest() {
+    Map<String, Object> up = Map.of(HealthCheckConstants.FIELD_STATUS, HealthCheckConstants.STATUS_UP);
+    when(database.checkDatabaseHealth()).thenReturn(up);
+    when(system.checkSystemResources()).thenReturn(up);
+    ReflectionTestUtils.setField(service, "staleAfterIntervals", 3);
+  }
+
+  @Test
+  void servesFreshSnapshotAsIs() {
+    ReflectionTestUtils.setField(service, "refreshIntervalMs", 60_000L);
+    service.refreshSnapshot();
+
+    Map<String, Object> health = service.checkHealth();
+    assertThat(health.get(HealthCheckConstants.FIELD_STATUS)).isEqualTo(HealthCheckConstants.STATUS_UP);
+    assertThat(health).doesNotContainKey(HealthCheckConstants.FIELD_SNAPSHOT_AGE);
+  }
+
+  @Test
+  void reportsDownWhenRefresherStalls() throws InterruptedException {
+    ReflectionTestUtils.setField(service, "refreshIntervalMs", 1L);
+    service.refreshSnapshot();
+    Thread.sleep(20);
+
+    Map<String, Object> health = service.checkHealth();
+    assertThat(health.get(HealthCheckConstants.FIELD_STATUS)).isEqualTo(HealthCheckConstants.STATUS_DOWN);
+    assertThat(health.get(HealthCheckConstants.FIELD_ERROR)).isEqualTo("Health snapshot is stale");
+    assertThat((Long) health.get(HealthCheckConstants.FIELD_SNAPSHOT_AGE)).isGreaterThan(3L);
+    assertThat(health).containsKey(HealthCheckConstants.FIELD_COMPONENTS);
+  }
+}
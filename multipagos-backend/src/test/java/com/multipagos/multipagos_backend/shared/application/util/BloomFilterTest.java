@@ -0,0 +1,52 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BloomFilterTest {
+
+  @Test
+  void addedKeysAreAlwaysReported() {
+    BloomFilter filter = BloomFilter.create(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put(new UUID(i, i * 31L).toString());
+    }
+
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(filter.mightContain(new UUID(i, i * 31L).toString())).isTrue();
+    }
+  }
+
+  @Test
+  void falsePositiveRateStaysNearTheConfiguredOneAtCapacity() {
+    BloomFilter filter = BloomFilter.create(20_000, 0.01);
+    for (int i = 0; i < 20_000; i++) {
+      filter.put("jti-" + i);
+    }
+
+    int falsePositives = 0;
+    int probes = 100_000;
+    for (int i = 0; i < probes; i++) {
+      if (filter.mightContain("other-" + i)) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives / (double) probes).isLessThan(0.02);
+  }
+
+  @Test
+  void sizingFollowsTheStandardFormulas() {
+    BloomFilter filter = BloomFilter.create(1_000, 0.001);
+
+    // m = -n ln p / (ln 2)^2, k = m / n ln 2
+    assertThat(filter.bitSize()).isEqualTo(14_378L);
+    assertThat(filter.hashFunctions()).isEqualTo(10);
+    assertThat(filter.byteSize()).isEqualTo(225L * Long.BYTES);
+    assertThatThrownBy(() -> BloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> BloomFilter.create(10, 1.0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
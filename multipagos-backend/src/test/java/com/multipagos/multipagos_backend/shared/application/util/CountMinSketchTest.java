@@ -0,0 +1,63 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CountMinSketchTest {
+
+  @Test
+  void estimatesNeverUndercountAndStayWithinTheErrorBound() {
+    CountMinSketch sketch = CountMinSketch.create(1024, 4);
+    Map<String, Long> exact = new HashMap<>();
+    Random random = new Random(20260301L);
+    long total = 0;
+    for (int i = 0; i < 50_000; i++) {
+      // Skewed keys, like client ids in front of the rate limiter
+      String key = "client-" + (int) Math.abs(random.nextGaussian() * 300);
+      sketch.add(key, 1);
+      exact.merge(key, 1L, Long::sum);
+      total++;
+    }
+
+    long bound = (long) Math.ceil(Math.E / 1024 * total);
+    for (Map.Entry<String, Long> entry : exact.entrySet()) {
+      long estimate = sketch.estimate(entry.getKey());
+      assertThat(estimate).isGreaterThanOrEqualTo(entry.getValue());
+      assertThat(estimate - entry.getValue()).isLessThanOrEqualTo(bound);
+    }
+    assertThat(sketch.estimate("never-added")).isLessThanOrEqualTo(bound);
+  }
+
+  @Test
+  void concurrentAddsForTheSameKeyAreNotLost() throws InterruptedException {
+    CountMinSketch sketch = CountMinSketch.create(256, 3);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int t = 0; t < 8; t++) {
+      executor.execute(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          sketch.add("hot", 1);
+        }
+      });
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(sketch.estimate("hot")).isEqualTo(80_000L);
+  }
+
+  @Test
+  void widthIsRoundedUpToAPowerOfTwo() {
+    assertThat(CountMinSketch.create(1000, 2).byteSize()).isEqualTo(1024L * 2 * Long.BYTES);
+    assertThatThrownBy(() -> CountMinSketch.create(0, 2)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> CountMinSketch.create(1 << 30, 4)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,40 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HyperLogLogTest {
+
+  @Test
+  void smallCardinalitiesAreCountedAlmostExactly() {
+    HyperLogLog hll = HyperLogLog.create(14);
+    for (int i = 0; i < 500; i++) {
+      hll.add("user-" + i);
+      hll.add("user-" + i);
+    }
+
+    assertThat(hll.estimate()).isBetween(490L, 510L);
+  }
+
+  @Test
+  void largeCardinalitiesStayWithinFourStandardErrors() {
+    HyperLogLog hll = HyperLogLog.create(12);
+    int distinct = 200_000;
+    for (int i = 0; i < distinct; i++) {
+      hll.add("3" + (100_000_000L + i * 7919L));
+    }
+
+    double standardError = 1.04 / Math.sqrt(1 << 12);
+    assertThat(Math.abs(hll.estimate() - distinct) / (double) distinct).isLessThan(4 * standardError);
+  }
+
+  @Test
+  void emptyEstimateIsZero() {
+    assertThat(HyperLogLog.create(4).estimate()).isZero();
+    assertThat(HyperLogLog.create(10).byteSize()).isEqualTo(1024L * Integer.BYTES);
+    assertThatThrownBy(() -> HyperLogLog.create(3)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> HyperLogLog.create(19)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
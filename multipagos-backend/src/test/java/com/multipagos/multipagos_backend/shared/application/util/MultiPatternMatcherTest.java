@@ -0,0 +1,132 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pins the automaton against the per-pattern lowercase + contains checks that
+ * SecurityMonitoringFilter used before it, on the filter's own keyword lists
+ */
+class MultiPatternMatcherTest {
+
+  private static final String[] SUSPICIOUS = {
+      "admin", "root", "test", "debug", "config", "backup", ".env", "wp-admin", "phpMyAdmin", "console"
+  };
+  private static final String[] SQL_INJECTION = {
+      "union", "select", "insert", "delete", "update", "drop", "'", "--", ";"
+  };
+  private static final String[] XSS = {
+      "<script", "javascript:", "onload=", "onerror=", "onclick=", "eval("
+  };
+  private static final String[] QUERY_THREATS = concat(SQL_INJECTION, XSS);
+
+  private static final String[] FRAGMENTS = {
+      "adm", "in", "ROOT", "te", "st", "deBUG", "conf", "ig", "back", "up", ".", "env", "wp-", "php", "My",
+      "Admin", "con", "sole", "uni", "on", "SEL", "ect", "ins", "ert", "del", "ete", "upd", "ate", "dr", "op",
+      "'", "-", ";", "<", "script", "java", "script:", "onload", "onerror", "onclick", "=", "eval", "(",
+      "/api/topup", "?page=", "&size=", "%27", " ", "\t", "ñ", "é", "x", "Z", "9"
+  };
+
+  @Test
+  void scanMatchesPerPatternContainsOnRandomInputs() {
+    MultiPatternMatcher suspicious = MultiPatternMatcher.caseInsensitive(SUSPICIOUS);
+    MultiPatternMatcher queryThreats = MultiPatternMatcher.caseInsensitive(QUERY_THREATS);
+    Random random = new Random(20260101L);
+
+    for (int run = 0; run < 20_000; run++) {
+      String input = randomInput(random);
+      assertThat(suspicious.scan(input)).as(input).isEqualTo(containsMask(SUSPICIOUS, input));
+      assertThat(queryThreats.scan(input)).as(input).isEqualTo(containsMask(QUERY_THREATS, input));
+      assertThat(suspicious.containsAny(input)).as(input).isEqualTo(containsMask(SUSPICIOUS, input) != 0L);
+    }
+  }
+
+  @Test
+  void firstMatchIsTheFirstPatternInListOrder() {
+    MultiPatternMatcher suspicious = MultiPatternMatcher.caseInsensitive(SUSPICIOUS);
+
+    // The old loop broke on the first list entry contained in the URI, not the earliest position
+    assertThat(suspicious.pattern(suspicious.firstMatch("/api/config/admin"))).isEqualTo("admin");
+    assertThat(suspicious.pattern(suspicious.firstMatch("/wp-admin/"))).isEqualTo("admin");
+    assertThat(suspicious.firstMatch("/api/topup/history")).isEqualTo(-1);
+  }
+
+  @Test
+  void queryMasksSeparateSqlInjectionFromXss() {
+    MultiPatternMatcher queryThreats = MultiPatternMatcher.caseInsensitive(QUERY_THREATS);
+    long sql = queryThreats.maskOf(SQL_INJECTION);
+    long xss = queryThreats.maskOf(XSS);
+
+    long found = queryThreats.scan("q=1 UNION SELECT x");
+    assertThat(found & sql).isNotZero();
+    assertThat(found & xss).isZero();
+
+    found = queryThreats.scan("q=%3C&x=<ScRiPt>");
+    assertThat(found & sql).isZero();
+    assertThat(found & xss).isNotZero();
+
+    assertThat(queryThreats.scan(null)).isZero();
+  }
+
+  @Test
+  void mixedCasePatternsMatchInsteadOfNever() {
+    // Lowercasing only the input meant "phpMyAdmin" could never match before; it does now
+    String uri = "/phpmyadmin/index.php";
+    assertThat(uri.toLowerCase(Locale.ROOT).contains("phpMyAdmin")).isFalse();
+
+    MultiPatternMatcher suspicious = MultiPatternMatcher.caseInsensitive(SUSPICIOUS);
+    assertThat(suspicious.scan(uri) & suspicious.maskOf("phpMyAdmin")).isNotZero();
+  }
+
+  @Test
+  void nonAsciiCharactersBreakAMatch() {
+    MultiPatternMatcher matcher = MultiPatternMatcher.caseInsensitive("admin");
+
+    assertThat(matcher.containsAny("adñmin")).isFalse();
+    assertThat(matcher.containsAny("ñadminñ")).isTrue();
+  }
+
+  @Test
+  void rejectsInvalidPatternSets() {
+    assertThatThrownBy(MultiPatternMatcher::caseInsensitive).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> MultiPatternMatcher.caseInsensitive("ok", "")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> MultiPatternMatcher.caseInsensitive("café")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> MultiPatternMatcher.caseInsensitive("x").maskOf("y")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static long containsMask(String[] patterns, String input) {
+    String lower = input.toLowerCase(Locale.ROOT);
+    long mask = 0L;
+    for (int i = 0; i < patterns.length; i++) {
+      if (lower.contains(patterns[i].toLowerCase(Locale.ROOT))) {
+        mask |= 1L << i;
+      }
+    }
+    return mask;
+  }
+
+  private static String randomInput(Random random) {
+    StringBuilder input = new StringBuilder();
+    int parts = random.nextInt(12);
+    for (int i = 0; i < parts; i++) {
+      if (random.nextInt(4) == 0) {
+        input.append((char) (32 + random.nextInt(95)));
+      } else {
+        input.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+      }
+    }
+    return input.toString();
+  }
+
+  private static String[] concat(String[] first, String[] second) {
+    String[] all = new String[first.length + second.length];
+    System.arraycopy(first, 0, all, 0, first.length);
+    System.arraycopy(second, 0, all, first.length, second.length);
+    return all;
+  }
+}
@@ -0,0 +1,85 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReplayLogTest {
+
+  private static final long NOW = 1_760_000_000_000L;
+  private static final long MAX_AGE = 60_000L;
+
+  private final ReplayLog<String> log = new ReplayLog<>(4);
+
+  @Test
+  void sequencesStartAtOneAndIncrease() {
+    assertThat(log.lastSeq()).isZero();
+
+    assertThat(log.append("a", NOW)).isEqualTo(1L);
+    assertThat(log.append("b", NOW)).isEqualTo(2L);
+    assertThat(log.lastSeq()).isEqualTo(2L);
+  }
+
+  @Test
+  void returnsWhatFollowedTheGivenSequenceOldestFirst() {
+    log.append("a", NOW);
+    log.append("b", NOW);
+    log.append("c", NOW);
+
+    assertThat(log.since(1L, value -> true, NOW, MAX_AGE))
+        .containsExactly(new ReplayLog.Entry<>(2L, "b"), new ReplayLog.Entry<>(3L, "c"));
+    assertThat(log.since(3L, value -> true, NOW, MAX_AGE)).isEmpty();
+    assertThat(log.since(0L, value -> true, NOW, MAX_AGE)).hasSize(3);
+  }
+
+  @Test
+  void filterSkipsEntriesButKeepsTheirSequences() {
+    log.append("user-1", NOW);
+    log.append("user-2", NOW);
+    log.append("user-1", NOW);
+
+    List<ReplayLog.Entry<String>> entries = log.since(0L, "user-1"::equals, NOW, MAX_AGE);
+
+    assertThat(entries).extracting(ReplayLog.Entry::seq).containsExactly(1L, 3L);
+  }
+
+  @Test
+  void overwrittenEntriesCannotBeReplayed() {
+    for (int i = 1; i <= 6; i++) {
+      log.append("v" + i, NOW);
+    }
+
+    assertThat(log.since(1L, value -> true, NOW, MAX_AGE)).isNull();
+    assertThat(log.since(2L, value -> true, NOW, MAX_AGE))
+        .extracting(ReplayLog.Entry::value)
+        .containsExactly("v3", "v4", "v5", "v6");
+  }
+
+  @Test
+  void expiredEntriesCannotBeReplayed() {
+    log.append("old", NOW);
+    log.append("new", NOW + MAX_AGE);
+
+    long later = NOW + MAX_AGE + 1;
+    assertThat(log.since(0L, value -> true, later, MAX_AGE)).isNull();
+    assertThat(log.since(1L, value -> true, later, MAX_AGE))
+        .extracting(ReplayLog.Entry::value)
+        .containsExactly("new");
+  }
+
+  @Test
+  void unknownSequencesAreRejected() {
+    log.append("a", NOW);
+
+    assertThat(log.since(-1L, value -> true, NOW, MAX_AGE)).isNull();
+    assertThat(log.since(2L, value -> true, NOW, MAX_AGE)).isNull();
+  }
+
+  @Test
+  void rejectsNonPositiveCapacity() {
+    assertThatThrownBy(() -> new ReplayLog<String>(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,138 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import com.multipagos.multipagos_backend.shared.application.util.SecurityValidator.SecurityValidationResult;
+import org.junit.jupiter.api.Test;
+import org.owasp.encoder.Encode;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Differential suite: validateSecurityThreats must give the same verdict, message and
+ * sanitized value as the regex version it replaced, kept here as the oracle
+ */
+class SecurityValidatorTest {
+
+  private static final Pattern OLD_SQL_INJECTION = Pattern.compile(
+      "(?i).*(union|select|insert|delete|update|drop|create|alter|exec|execute|script|javascript|vbscript|onload|onerror).*");
+  private static final Pattern OLD_XSS = Pattern.compile(
+      "(?i).*(<script|</script|javascript:|vbscript:|onload=|onerror=|onclick=|onmouseover=).*");
+  private static final Pattern OLD_PATH_TRAVERSAL = Pattern.compile(
+      ".*(\\.\\.[\\\\/]|[\\\\/]\\.\\.[\\\\/]|\\.\\.\\\\|\\.\\./).*");
+
+  /** Keyword pieces, case variants, separators, line terminators and non-ASCII look-alikes */
+  private static final String[] FRAGMENTS = {
+      "uni", "on", "SEL", "ect", "ins", "ert", "del", "ete", "upd", "ate", "dr", "op", "cre", "alt", "er",
+      "ex", "ec", "ute", "scr", "ipt", "java", "vb", "script", "onl", "oad", "oner", "ror", "oncl", "ick",
+      "onmouse", "over", "=", ":", "<", "</", "/", ">", "..", ".", "\\", "/", "&", "\"", "'", " ", "\t",
+      "\n", "\r", "\r\n", "\u0085", "\u2028", "\u2029", "\u0000", "ñ", "José", "\u212A", "\u0131", "\u017F",
+      "@", "gmail.com", "Pérez", "3101234567", "x", "Q"
+  };
+
+  private final SecurityValidator validator = new SecurityValidator();
+
+  @Test
+  void matchesTheRegexOracleOnRandomInputs() {
+    Random random = new Random(20260127L);
+    for (int run = 0; run < 50_000; run++) {
+      assertSameAsOracle(randomInput(random));
+    }
+  }
+
+  @Test
+  void matchesTheRegexOracleOnEdgeCases() {
+    List<String> inputs = List.of(
+        "", " ", "  padded  ", "plain name", "juan.perez@gmail.com", "José Pérez", "O'Brien", "Tom & Jerry",
+        "UNION", "UnIoN all", "selectively", "re-creation", "alternate", "executive", "description",
+        "<ScRiPt>alert(1)</sCrIpT>", "JAVASCRIPT:void(0)", "img onerror=x", "x onmouseover=y",
+        "../etc/passwd", "..\\windows", "a/../b", "...", "..", "./", ".\\.", "..\u2028/",
+        "union\nselect", "\nunion", "union\n", "safe\rtext", "ok\u0085ok", "sel\u0000ect",
+        "\u212Aelvin", "\u017Fcript", "scr\u0131pt", "ñunionñ", "  union  ", "\tunion\t");
+    inputs.forEach(this::assertSameAsOracle);
+    assertSameAsOracle(null);
+  }
+
+  @Test
+  void adversarialLongInputsStayLinear() {
+    List<String> inputs = List.of(
+        "a".repeat(200_000),
+        "unio".repeat(50_000),
+        ".".repeat(200_000),
+        "<scrip".repeat(40_000),
+        "onload".repeat(30_000) + "\nend",
+        "x".repeat(199_999) + "union",
+        "é".repeat(200_000));
+
+    for (String input : inputs) {
+      assertTimeoutPreemptively(Duration.ofSeconds(1), () -> validator.validateSecurityThreats(input, "campo"));
+    }
+    assertThat(validator.validateSecurityThreats("x".repeat(199_999) + "union", "campo").isValid()).isFalse();
+    assertThat(validator.validateSecurityThreats("onload".repeat(30_000) + "\nend", "campo").isValid()).isTrue();
+  }
+
+  @Test
+  void sanitizesOnlyWhenEncodingChangesTheValue() {
+    assertThat(validator.sanitizeForXSS("  Juan Perez  ")).isEqualTo("Juan Perez");
+    assertThat(validator.sanitizeForXSS("Tom & Jerry")).isEqualTo("Tom &amp; Jerry");
+    assertThat(validator.sanitizeForXSS("José")).isEqualTo(Encode.forHtml("José"));
+    assertThat(validator.sanitizeForXSS("")).isEmpty();
+    assertThat(validator.sanitizeForXSS(null)).isNull();
+  }
+
+  private void assertSameAsOracle(String input) {
+    SecurityValidationResult actual = validator.validateSecurityThreats(input, "campo");
+    SecurityValidationResult expected = oracle(input, "campo");
+
+    assertThat(actual.isValid()).as("valid: %s", printable(input)).isEqualTo(expected.isValid());
+    assertThat(actual.getErrorMessage()).as("message: %s", printable(input)).isEqualTo(expected.getErrorMessage());
+    assertThat(actual.getSanitizedValue()).as("sanitized: %s", printable(input))
+        .isEqualTo(expected.getSanitizedValue());
+  }
+
+  /**
+   * validateSecurityThreats and sanitizeForXSS as they were before the linear scanner
+   */
+  private static SecurityValidationResult oracle(String input, String fieldName) {
+    if (input == null) {
+      return SecurityValidationResult.valid(null);
+    }
+    String trimmed = input.trim();
+    if (OLD_SQL_INJECTION.matcher(trimmed).matches()) {
+      return SecurityValidationResult.invalid(String.format("Campo '%s' contiene caracteres no permitidos", fieldName));
+    }
+    if (OLD_XSS.matcher(trimmed).matches()) {
+      return SecurityValidationResult.invalid(
+          String.format("Campo '%s' contiene código potencialmente peligroso", fieldName));
+    }
+    if (OLD_PATH_TRAVERSAL.matcher(trimmed).matches()) {
+      return SecurityValidationResult.invalid(String.format("Campo '%s' contiene una ruta no válida", fieldName));
+    }
+    String sanitized = trimmed.trim().isEmpty() ? trimmed : Encode.forHtml(trimmed.trim());
+    return SecurityValidationResult.valid(sanitized);
+  }
+
+  private static String randomInput(Random random) {
+    StringBuilder input = new StringBuilder();
+    int parts = random.nextInt(10);
+    for (int i = 0; i < parts; i++) {
+      if (random.nextInt(5) == 0) {
+        input.append((char) random.nextInt(0x80));
+      } else {
+        input.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+      }
+    }
+    return input.toString();
+  }
+
+  private static String printable(String input) {
+    return Objects.toString(input)
+        .replace("\n", "\\n").replace("\r", "\\r").replace("\u0085", "\\u0085")
+        .replace("\u2028", "\\u2028").replace("\u2029", "\\u2029");
+  }
+}
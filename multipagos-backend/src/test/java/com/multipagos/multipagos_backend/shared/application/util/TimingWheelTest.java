@@ -0,0 +1,93 @@
+package com.multipagos.multipagos_backend.shared.application.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimingWheelTest {
+
+  private static final long START = 1_760_000_000_000L;
+  private static final long TICK = 100L;
+
+  private final TimingWheel<String> wheel = new TimingWheel<>(TICK, 8, START);
+
+  @Test
+  void taskFiresOnTheFirstAdvancePastItsSlot() {
+    wheel.schedule("run", START + 250);
+
+    assertThat(wheel.advance(START + 250)).isEmpty();
+    assertThat(wheel.advance(START + 299)).isEmpty();
+    assertThat(wheel.advance(START + 300)).containsExactly("run");
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void dueTasksComeOutEarliestSlotFirst() {
+    wheel.schedule("third", START + 700);
+    wheel.schedule("first", START + 120);
+    wheel.schedule("second", START + 430);
+
+    assertThat(wheel.advance(START + 10_000)).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  void pastDeadlinesFireOnTheNextAdvance() {
+    wheel.advance(START + 1_000);
+    wheel.schedule("late", START);
+
+    assertThat(wheel.advance(START + 1_000)).containsExactly("late");
+  }
+
+  @Test
+  void farDeadlinesCascadeThroughUpperLevels() {
+    wheel.schedule("hour", START + 3_600_000);
+
+    assertThat(wheel.levels()).isGreaterThan(1);
+    assertThat(wheel.advance(START + 3_600_000 - 1)).isEmpty();
+    assertThat(wheel.advance(START + 3_600_000 + TICK)).containsExactly("hour");
+  }
+
+  @Test
+  void randomScheduleNeverFiresEarlyOrMoreThanATickLate() {
+    Random random = new Random(20260401L);
+    Map<String, Long> deadlines = new HashMap<>();
+    long now = START;
+    for (int i = 0; i < 2_000; i++) {
+      long deadline = now + random.nextInt(200_000);
+      deadlines.put("task-" + i, deadline);
+      wheel.schedule("task-" + i, deadline);
+      if (i % 50 == 0) {
+        now += random.nextInt(5_000);
+        assertFiredInWindow(wheel.advance(now), deadlines, now);
+      }
+    }
+    while (!deadlines.isEmpty() && now < START + 1_000_000) {
+      now += TICK;
+      assertFiredInWindow(wheel.advance(now), deadlines, now);
+    }
+
+    assertThat(deadlines).isEmpty();
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void rejectsInvalidGeometry() {
+    assertThatThrownBy(() -> new TimingWheel<>(0, 8, START)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new TimingWheel<>(TICK, 1, START)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void assertFiredInWindow(List<String> due, Map<String, Long> deadlines, long now) {
+    for (String task : due) {
+      long deadline = deadlines.remove(task);
+      assertThat(Math.floorDiv(now, TICK)).isGreaterThan(Math.floorDiv(deadline, TICK));
+    }
+    deadlines.forEach((task, deadline) ->
+        assertThat(Math.floorDiv(now, TICK)).isLessThanOrEqualTo(Math.floorDiv(deadline, TICK)));
+  }
+}
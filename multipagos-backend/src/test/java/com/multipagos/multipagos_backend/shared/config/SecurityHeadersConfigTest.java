@@ -0,0 +1,33 @@
+package com.multipagos.multipagos_backend.shared.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecurityHeadersConfigTest {
+
+  @Test
+  void historyIsRevalidatedWhenItCarriesAnETag() throws Exception {
+    MockHttpServletResponse response = filter(true, "/api/v1/topup/history");
+
+    assertThat(response.getHeader("Cache-Control")).isEqualTo("private, no-cache");
+    assertThat(response.getHeader("Vary")).isEqualTo("Authorization");
+  }
+
+  @Test
+  void historyIsNeverStoredWithoutAnETag() throws Exception {
+    MockHttpServletResponse response = filter(false, "/api/v1/topup/history");
+
+    assertThat(response.getHeader("Cache-Control")).startsWith("no-store");
+  }
+
+  private static MockHttpServletResponse filter(boolean historyETagEnabled, String uri) throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    new SecurityHeadersConfig.SecurityHeadersFilter(historyETagEnabled)
+        .doFilter(new MockHttpServletRequest("GET", uri), response, new MockFilterChain());
+    return response;
+  }
+}
@@ -0,0 +1,73 @@
+package com.multipagos.multipagos_backend.shared.infrastructure.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLogSamplingFilterTest {
+
+  private static final String CHATTY = "com.example.adapter.ChattyAdapter";
+
+  private final LoggerContext context = new LoggerContext();
+  private final RequestLogSamplingFilter filter = new RequestLogSamplingFilter();
+
+  RequestLogSamplingFilterTest() {
+    filter.setSampleRate(10);
+    filter.setLoggers(CHATTY + ", com.example.security.Filter");
+  }
+
+  @AfterEach
+  void clearMdc() {
+    MDC.clear();
+  }
+
+  @Test
+  void samplesListedLoggersPerRequest() {
+    Logger chatty = context.getLogger(CHATTY);
+    int kept = 0;
+    for (int i = 0; i < 10_000; i++) {
+      MDC.put(RequestLogSamplingFilter.REQUEST_ID_MDC_KEY, "req-" + i);
+      FilterReply first = decide(chatty, Level.INFO);
+      assertThat(decide(chatty, Level.DEBUG)).as("same request, same decision").isEqualTo(first);
+      if (first == FilterReply.NEUTRAL) {
+        kept++;
+      }
+    }
+    assertThat(kept).isBetween(700, 1300);
+  }
+
+  @Test
+  void neverSamplesWarningsOrUnlistedLoggers() {
+    for (int i = 0; i < 100; i++) {
+      MDC.put(RequestLogSamplingFilter.REQUEST_ID_MDC_KEY, "req-" + i);
+      assertThat(decide(context.getLogger(CHATTY), Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+      assertThat(decide(context.getLogger(CHATTY), Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+      assertThat(decide(context.getLogger("com.example.service.TopUpService"), Level.INFO))
+          .isEqualTo(FilterReply.NEUTRAL);
+    }
+  }
+
+  @Test
+  void neverSamplesOutsideARequest() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(decide(context.getLogger(CHATTY), Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+  }
+
+  @Test
+  void rateOfOneKeepsEverything() {
+    filter.setSampleRate(1);
+    MDC.put(RequestLogSamplingFilter.REQUEST_ID_MDC_KEY, "req-1");
+    assertThat(decide(context.getLogger(CHATTY), Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+  }
+
+  private FilterReply decide(Logger logger, Level level) {
+    return filter.decide(null, logger, level, "message", null, null);
+  }
+}
@@ -0,0 +1,52 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpClaim;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpFingerprint;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.port.in.DuplicateSuppressionServicePort;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeduplicatingReactiveTopUpServiceTest {
+
+  private final ReactiveTopUpService delegate = mock(ReactiveTopUpService.class);
+  private final DuplicateSuppressionServicePort duplicates = mock(DuplicateSuppressionServicePort.class);
+  private final DeduplicatingReactiveTopUpService service = new DeduplicatingReactiveTopUpService(delegate, duplicates);
+
+  private final TopUpRequest request = new TopUpRequest("3001234567", new BigDecimal("5000"), "8753");
+  private final TopUpClaim claim = TopUpClaim.owner(TopUpFingerprint.of(request, 7L), 0L);
+  private final Sinks.One<TransactionDomain> outcome = Sinks.one();
+
+  DeduplicatingReactiveTopUpServiceTest() {
+    when(duplicates.claim(any(), any())).thenReturn(claim);
+    when(delegate.executeTopUp(any(), any())).thenReturn(outcome.asMono());
+  }
+
+  @Test
+  void clientDisconnectKeepsTheClaimUntilThePurchaseSettles() {
+    Disposable client = service.executeTopUp(request, 7L).subscribe(transaction -> { }, error -> { });
+    verify(delegate, timeout(5_000)).executeTopUp(any(), any());
+
+    client.dispose();
+
+    verify(duplicates, after(200).never()).fail(any(), any());
+
+    TransactionDomain completed = mock(TransactionDomain.class);
+    outcome.tryEmitValue(completed);
+
+    verify(duplicates, timeout(5_000)).complete(claim, completed);
+    verify(duplicates, never()).fail(any(), any());
+  }
+}
@@ -0,0 +1,147 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.InsufficientFloatException;
+import com.multipagos.multipagos_backend.topup.domain.model.FloatReservation;
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerCheckpoint;
+import com.multipagos.multipagos_backend.topup.domain.model.LedgerEntry;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.port.out.LedgerRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FloatLedgerServiceTest {
+
+  private final InMemoryLedger ledger = new InMemoryLedger();
+  private final FloatLedgerService service = new FloatLedgerService(ledger, new SimpleMeterRegistry());
+
+  FloatLedgerServiceTest() {
+    ReflectionTestUtils.setField(service, "enabled", true);
+    ReflectionTestUtils.setField(service, "enforce", true);
+    ReflectionTestUtils.setField(service, "stripes", 4);
+    ReflectionTestUtils.setField(service, "openingBalancePesos", 100_000L);
+    ReflectionTestUtils.setField(service, "retryAfterSeconds", 300L);
+    service.init();
+  }
+
+  @Test
+  void ownMovementsAreNotCountedTwiceWhenFolded() {
+    FloatReservation reservation = service.reserve(Amount.of("20000"));
+    service.commit(reservation, transaction(1L, "20000"));
+    service.credit(500_000L, "deposit-1", "Consignación");
+
+    service.scheduledReconcile();
+
+    assertThat(service.getBalance().availableCents()).isEqualTo(ledger.total());
+    assertThat(service.getBalance().availableCents()).isEqualTo(10_000_000L - 2_000_000L + 500_000L);
+  }
+
+  @Test
+  void otherWritersEntriesAreFoldedWhileReservationsAreHeld() {
+    FloatReservation held = service.reserve(Amount.of("30000"));
+    ledger.append(LedgerEntry.debit(transaction(99L, "10000")));
+
+    service.scheduledReconcile();
+
+    assertThat(service.getBalance().availableCents()).isEqualTo(10_000_000L - 1_000_000L - 3_000_000L);
+    assertThat(service.getBalance().lastDriftCents()).isEqualTo(-1_000_000L);
+
+    service.release(held);
+    assertThat(service.getBalance().availableCents()).isEqualTo(ledger.total());
+  }
+
+  @Test
+  void debitWrittenElsewhereFirstIsAppliedOnce() {
+    TransactionDomain settled = transaction(7L, "20000");
+    ledger.append(LedgerEntry.debit(settled));
+    FloatReservation reservation = service.reserve(Amount.of("20000"));
+
+    service.commit(reservation, settled);
+    service.scheduledReconcile();
+
+    assertThat(service.getBalance().availableCents()).isEqualTo(ledger.total());
+    assertThat(service.recordDebit(settled)).isFalse();
+    assertThat(service.getBalance().availableCents()).isEqualTo(ledger.total());
+  }
+
+  @Test
+  void enforcementRejectsWhatTheFloatCannotCover() {
+    service.reserve(Amount.of("90000"));
+
+    assertThatThrownBy(() -> service.reserve(Amount.of("20000"))).isInstanceOf(InsufficientFloatException.class);
+  }
+
+  private static TransactionDomain transaction(long id, String value) {
+    return new TransactionDomain(id, 1L, "3001234567", new BigDecimal(value), "8753", "Claro",
+        TransactionStatus.COMPLETED);
+  }
+
+  /**
+   * Every entry is visible and older than any lag, so each pass folds up to the newest id
+   */
+  private static final class InMemoryLedger implements LedgerRepositoryPort {
+
+    private final List<LedgerEntry> entries = new ArrayList<>();
+    private LedgerCheckpoint checkpoint = LedgerCheckpoint.empty();
+
+    @Override
+    public synchronized boolean append(LedgerEntry entry) {
+      if (entries.stream().anyMatch(existing -> existing.getReference().equals(entry.getReference()))) {
+        return false;
+      }
+      entry.setId((long) entries.size() + 1);
+      entries.add(entry);
+      return true;
+    }
+
+    @Override
+    public synchronized LedgerCheckpoint findLatestCheckpoint() {
+      return checkpoint;
+    }
+
+    @Override
+    public synchronized long sumBetween(long afterId, long upToId) {
+      return entries.stream()
+          .filter(entry -> entry.getId() > afterId && entry.getId() <= upToId)
+          .mapToLong(LedgerEntry::signedCents)
+          .sum();
+    }
+
+    @Override
+    public synchronized long maxEntryIdBefore(LocalDateTime cutoff) {
+      return entries.size();
+    }
+
+    @Override
+    public synchronized Map<String, Long> findIdsByReference(Collection<String> references) {
+      Map<String, Long> ids = new HashMap<>();
+      entries.stream()
+          .filter(entry -> references.contains(entry.getReference()))
+          .forEach(entry -> ids.put(entry.getReference(), entry.getId()));
+      return ids;
+    }
+
+    @Override
+    public synchronized boolean saveCheckpoint(LedgerCheckpoint next) {
+      checkpoint = next;
+      return true;
+    }
+
+    synchronized long total() {
+      return sumBetween(0L, Long.MAX_VALUE);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.topup.domain.model.AuthToken;
+import com.multipagos.multipagos_backend.topup.domain.model.FloatReservation;
+import com.multipagos.multipagos_backend.topup.domain.model.SpendingReservation;
+import com.multipagos.multipagos_backend.topup.domain.model.Supplier;
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.domain.port.in.CarrierDetectionServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.FloatLedgerServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.in.SpendingLimitServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ReactiveAuthenticationPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ReactiveSupplierPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ReactiveTopUpPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionEventPublisherPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionRepositoryPort;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveTopUpServiceTest {
+
+  private final ReactiveAuthenticationPort authenticationPort = mock(ReactiveAuthenticationPort.class);
+  private final ReactiveSupplierPort supplierPort = mock(ReactiveSupplierPort.class);
+  private final ReactiveTopUpPort topUpPort = mock(ReactiveTopUpPort.class);
+  private final TransactionRepositoryPort repository = mock(TransactionRepositoryPort.class);
+  private final SpendingLimitServicePort spendingLimits = mock(SpendingLimitServicePort.class);
+  private final FloatLedgerServicePort floatLedger = mock(FloatLedgerServicePort.class);
+
+  private final ReactiveTopUpService service = new ReactiveTopUpService(authenticationPort, supplierPort, topUpPort,
+      repository, mock(CarrierDetectionServicePort.class), spendingLimits,
+      mock(TransactionEventPublisherPort.class), floatLedger);
+
+  private final SpendingReservation spendingHeld = new SpendingReservation(7L, 3001234567L, 500_000L, 0L);
+  private final FloatReservation floatHeld = new FloatReservation(500_000L);
+  private final Sinks.One<String> provider = Sinks.one();
+
+  ReactiveTopUpServiceTest() {
+    when(supplierPort.findByIdAsync("8753")).thenReturn(Mono.just(new Supplier("8753", "Claro")));
+    when(authenticationPort.authenticateAsync(any(), any())).thenReturn(Mono.just(new AuthToken("token")));
+    when(spendingLimits.reserve(any(), any(), any())).thenReturn(spendingHeld);
+    when(floatLedger.reserve(any())).thenReturn(floatHeld);
+    when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(topUpPort.executeTopUpAsync(any(), any())).thenReturn(provider.asMono());
+  }
+
+  @Test
+  void clientDisconnectDoesNotReleaseReservationsOfAnInFlightPurchase() {
+    Disposable client = service.executeTopUp(new TopUpRequest("3001234567", new BigDecimal("5000"), "8753"), 7L)
+        .subscribe(transaction -> { }, error -> { });
+    verify(topUpPort, timeout(5_000)).executeTopUpAsync(any(), any());
+
+    client.dispose();
+
+    verify(spendingLimits, after(200).never()).release(any());
+    verify(floatLedger, never()).release(any());
+
+    provider.tryEmitValue("PR-123");
+
+    verify(floatLedger, timeout(5_000)).commit(any(), any());
+    verify(spendingLimits, timeout(5_000)).confirm(spendingHeld);
+    verify(repository, timeout(5_000).atLeastOnce()).save(argThat(
+        (TransactionDomain saved) -> saved.getStatus() == TransactionStatus.COMPLETED));
+    verify(spendingLimits, never()).release(any());
+  }
+}
@@ -0,0 +1,196 @@
+package com.multipagos.multipagos_backend.topup.application.service;
+
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementMismatch;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementMismatchType;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementRecord;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementSummary;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatusChangedEvent;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
+import com.multipagos.multipagos_backend.topup.domain.port.in.FloatLedgerServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionEventPublisherPort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.TransactionRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SettlementReconciliationServiceTest {
+
+  private static final String PHONE = "3001234567";
+
+  private final TransactionRepositoryPort transactionRepository = mock(TransactionRepositoryPort.class);
+  private final TransactionEventPublisherPort transactionEvents = mock(TransactionEventPublisherPort.class);
+  private final FloatLedgerServicePort floatLedger = mock(FloatLedgerServicePort.class);
+  private final SettlementReconciliationService service = new SettlementReconciliationService(
+      transactionRepository, transactionEvents, floatLedger, new SimpleMeterRegistry());
+  private final List<SettlementMismatch> report = new ArrayList<>();
+  private final LocalDateTime now = LocalDateTime.now();
+
+  SettlementReconciliationServiceTest() {
+    ReflectionTestUtils.setField(service, "chunkSize", 2);
+    ReflectionTestUtils.setField(service, "autoFix", true);
+    ReflectionTestUtils.setField(service, "matchWindowMs", 600_000L);
+    ReflectionTestUtils.setField(service, "pendingMinAgeMs", 600_000L);
+    ReflectionTestUtils.setField(service, "checkUnsettled", false);
+    ReflectionTestUtils.setField(service, "expectedLines", 1_000L);
+    ReflectionTestUtils.setField(service, "falsePositiveRate", 0.001);
+    ReflectionTestUtils.setField(service, "periodMarginMs", 0L);
+  }
+
+  @Test
+  void matchingLinesAreCountedAndDifferencesReported() {
+    stored(transaction(1L, "TX-1", 500_000L, TransactionStatus.COMPLETED, now),
+        transaction(2L, "TX-2", 500_000L, TransactionStatus.COMPLETED, now),
+        transaction(3L, "TX-3", 500_000L, TransactionStatus.FAILED, now));
+
+    SettlementSummary summary = reconcile(
+        settled(2, "TX-1", null, 500_000L, null),
+        settled(3, "TX-2", null, 600_000L, null),
+        settled(4, "TX-3", null, 500_000L, null),
+        settled(5, "TX-4", null, 500_000L, null),
+        SettlementRecord.invalid(6, "TX-5", "Valor no numérico"));
+
+    assertThat(summary.lines()).isEqualTo(5);
+    assertThat(summary.matched()).isEqualTo(1);
+    assertThat(report).extracting(SettlementMismatch::type, SettlementMismatch::lineNumber).containsExactly(
+        tuple(SettlementMismatchType.AMOUNT_MISMATCH, 3L),
+        tuple(SettlementMismatchType.STATUS_MISMATCH, 4L),
+        tuple(SettlementMismatchType.MISSING, 5L),
+        tuple(SettlementMismatchType.INVALID_LINE, 6L));
+  }
+
+  @Test
+  void idRepeatedInALaterChunkIsReportedOnceAndNotMatchedTwice() {
+    stored(transaction(1L, "TX-1", 500_000L, TransactionStatus.COMPLETED, now),
+        transaction(2L, "TX-2", 500_000L, TransactionStatus.COMPLETED, now));
+
+    SettlementSummary summary = reconcile(
+        settled(2, "TX-1", null, 500_000L, null),
+        settled(3, "TX-2", null, 500_000L, null),
+        settled(4, "TX-1", null, 500_000L, null));
+
+    assertThat(summary.matched()).isEqualTo(2);
+    assertThat(summary.count(SettlementMismatchType.DUPLICATE)).isEqualTo(1);
+    assertThat(report).singleElement().satisfies(mismatch -> {
+      assertThat(mismatch.lineNumber()).isEqualTo(4L);
+      assertThat(mismatch.detail()).contains("línea 2");
+    });
+  }
+
+  @Test
+  void completedTransactionAbsentFromTheFileIsReported() {
+    ReflectionTestUtils.setField(service, "checkUnsettled", true);
+    ReflectionTestUtils.setField(service, "chunkSize", 10);
+    stored(transaction(1L, "TX-1", 500_000L, TransactionStatus.COMPLETED, now.minusHours(2)));
+    when(transactionRepository.findCompletedAfter(any(), anyLong(), any(), anyInt())).thenReturn(List.of(
+        transaction(1L, "TX-1", 500_000L, TransactionStatus.COMPLETED, now.minusHours(2)),
+        transaction(9L, "TX-9", 500_000L, TransactionStatus.COMPLETED, now.minusHours(2))));
+
+    SettlementSummary summary = reconcile(
+        settled(2, "TX-1", null, 500_000L, now.minusHours(3)),
+        settled(3, "TX-8", null, 500_000L, now.minusHours(1)));
+
+    assertThat(summary.count(SettlementMismatchType.NOT_IN_SETTLEMENT)).isEqualTo(1);
+    assertThat(report).filteredOn(mismatch -> mismatch.type() == SettlementMismatchType.NOT_IN_SETTLEMENT)
+        .singleElement()
+        .satisfies(mismatch -> assertThat(mismatch.transactionId()).isEqualTo(9L));
+  }
+
+  @Test
+  void singleOldPendingCandidateIsCompleted() {
+    TransactionDomain pending = transaction(5L, null, 500_000L, TransactionStatus.PENDING, now.minusMinutes(30));
+    when(transactionRepository.findPendingByPhoneNumbers(anyCollection(), any(), any())).thenReturn(List.of(pending));
+    when(transactionRepository.completeIfPending(eq(5L), eq("TX-1"), anyString())).thenReturn(true);
+
+    SettlementSummary summary = reconcile(settled(2, "TX-1", PHONE, 500_000L, now.minusMinutes(29)));
+
+    assertThat(summary.count(SettlementMismatchType.AUTO_FIXED)).isEqualTo(1);
+    assertThat(pending.getStatus()).isEqualTo(TransactionStatus.COMPLETED);
+    assertThat(pending.getExternalTransactionId()).isEqualTo("TX-1");
+    verify(floatLedger).recordDebit(pending);
+    verify(transactionEvents).publish(any(TransactionStatusChangedEvent.class));
+  }
+
+  @Test
+  void pendingCandidatesThatMayStillBeInFlightOrAreAmbiguousAreLeftForReview() {
+    TransactionDomain young = transaction(5L, null, 500_000L, TransactionStatus.PENDING, now.minusMinutes(1));
+    TransactionDomain first = transaction(6L, null, 700_000L, TransactionStatus.PENDING, now.minusMinutes(30));
+    TransactionDomain second = transaction(7L, null, 700_000L, TransactionStatus.PENDING, now.minusMinutes(29));
+    when(transactionRepository.findPendingByPhoneNumbers(anyCollection(), any(), any()))
+        .thenReturn(List.of(young, first, second));
+
+    SettlementSummary summary = reconcile(
+        settled(2, "TX-1", PHONE, 500_000L, now),
+        settled(3, "TX-2", PHONE, 700_000L, now.minusMinutes(29)));
+
+    assertThat(summary.count(SettlementMismatchType.MISSING)).isEqualTo(2);
+    assertThat(report).extracting(SettlementMismatch::detail).containsExactly(
+        "Transacción pendiente coincidente no confirmada automáticamente",
+        "2 transacciones pendientes coinciden; requiere revisión manual");
+    verify(transactionRepository, never()).completeIfPending(any(), any(), any());
+    verify(floatLedger, never()).recordDebit(any());
+  }
+
+  @Test
+  void rejectedLineWithoutATransactionNeedsNoAction() {
+    SettlementSummary summary = reconcile(new SettlementRecord(2, "TX-1", PHONE, 500_000L,
+        SettlementStatus.REJECTED, now, null));
+
+    assertThat(summary.findings()).isEmpty();
+    verify(transactionRepository, never()).findPendingByPhoneNumbers(any(), any(), any());
+  }
+
+  private SettlementSummary reconcile(SettlementRecord... records) {
+    return service.reconcile("test.csv", List.of(records).iterator(), report::add);
+  }
+
+  private void stored(TransactionDomain... transactions) {
+    when(transactionRepository.findByExternalTransactionIds(anyCollection())).thenAnswer(invocation -> {
+      Collection<String> ids = invocation.getArgument(0);
+      return List.of(transactions).stream()
+          .filter(transaction -> ids.contains(transaction.getExternalTransactionId()))
+          .toList();
+    });
+  }
+
+  private static SettlementRecord settled(long line, String externalId, String phone, long cents,
+      LocalDateTime settledAt) {
+    return new SettlementRecord(line, externalId, phone, cents, SettlementStatus.SETTLED, settledAt, null);
+  }
+
+  private static TransactionDomain transaction(Long id, String externalId, long cents, TransactionStatus status,
+      LocalDateTime createdAt) {
+    return TransactionDomain.builder()
+        .id(id)
+        .userId(1L)
+        .phoneNumber(PhoneNumber.of(PHONE))
+        .amount(Amount.of(cents))
+        .status(status)
+        .externalTransactionId(externalId)
+        .createdAt(createdAt)
+        .updatedAt(createdAt)
+        .active(true)
+        .build();
+  }
+}
@@ -0,0 +1,82 @@
+package com.multipagos.multipagos_backend.topup.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpendingWindowTest {
+
+  private static final long HOUR = 3_600_000L;
+  private static final long DAY = 24 * HOUR;
+  private static final long NOW = 1_760_000_000_000L;
+
+  private final SpendingWindow window = new SpendingWindow();
+
+  @Test
+  void dailyWindowDropsHoursOlderThanADay() {
+    window.add(NOW - 25 * HOUR, 700L);
+    window.add(NOW - 2 * HOUR, 300L);
+    window.add(NOW, 100L);
+
+    assertThat(window.lastDayCents(NOW)).isEqualTo(400L);
+    assertThat(window.lastMonthCents(NOW)).isEqualTo(1_100L);
+    assertThat(window.lastDayCents(NOW + DAY)).isZero();
+  }
+
+  @Test
+  void rotatedBucketsAreReusedForTheNewPeriod() {
+    window.add(NOW - 30 * DAY, 5_000L);
+    window.add(NOW, 200L);
+
+    assertThat(window.lastMonthCents(NOW)).isEqualTo(200L);
+  }
+
+  @Test
+  void releaseOnlySubtractsReservationsStillInFlight() {
+    SpendingReservation first = new SpendingReservation(1L, 3001234567L, 1_000L, NOW);
+    SpendingReservation second = new SpendingReservation(1L, 3001234567L, 2_000L, NOW);
+    window.hold(first);
+    window.hold(second);
+
+    window.confirm(first);
+    window.release(first);
+    window.release(second);
+    window.release(second);
+
+    assertThat(window.lastDayCents(NOW)).isEqualTo(1_000L);
+    assertThat(window.hasInFlight()).isFalse();
+  }
+
+  @Test
+  void reloadKeepsReservationsInFlight() {
+    window.hold(new SpendingReservation(1L, 3001234567L, 1_500L, NOW));
+
+    window.reload(List.of(new HourlySpend(hourOf(NOW - HOUR), 4_000L)), ZoneOffset.UTC);
+
+    assertThat(window.isHydrated()).isTrue();
+    assertThat(window.isDirty()).isFalse();
+    assertThat(window.lastDayCents(NOW)).isEqualTo(5_500L);
+  }
+
+  @Test
+  void loadThatRacedWithAConfirmationIsDiscarded() {
+    SpendingReservation reservation = new SpendingReservation(1L, 3001234567L, 1_500L, NOW);
+    window.hold(reservation);
+    long generation = window.getSettledGeneration();
+
+    window.confirm(reservation);
+
+    assertThat(window.reloadIfUnchanged(List.of(), ZoneOffset.UTC, generation)).isFalse();
+    assertThat(window.isDirty()).isTrue();
+    assertThat(window.lastDayCents(NOW)).isEqualTo(1_500L);
+    assertThat(window.reloadIfUnchanged(List.of(), ZoneOffset.UTC, window.getSettledGeneration())).isTrue();
+  }
+
+  private static LocalDateTime hourOf(long millis) {
+    return LocalDateTime.ofEpochSecond(millis / 1000, 0, ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,76 @@
+package com.multipagos.multipagos_backend.topup.domain.model.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AmountTest {
+
+  @Test
+  void matchesTheBigDecimalRulesItReplaced() {
+    Random random = new Random(40);
+    for (int i = 0; i < 20_000; i++) {
+      BigDecimal value = BigDecimal.valueOf(random.nextLong(50_000, 10_500_000), 2 + random.nextInt(3));
+      BigDecimal scaled = value.setScale(2, RoundingMode.HALF_UP);
+      boolean inRange = scaled.compareTo(new BigDecimal("1000")) >= 0 && scaled.compareTo(new BigDecimal("100000")) <= 0;
+
+      if (inRange) {
+        Amount amount = Amount.of(value);
+        assertThat(amount.getValue()).as("value of %s", value).isEqualTo(scaled);
+        assertThat(amount.getCents()).isEqualTo(scaled.unscaledValue().longValueExact());
+        assertThat(amount.toString()).isEqualTo(legacyFormat(scaled));
+      } else {
+        assertThatThrownBy(() -> Amount.of(value)).as("value %s", value).isInstanceOf(IllegalArgumentException.class);
+      }
+    }
+  }
+
+  @Test
+  void boundariesRoundHalfUpBeforeTheRangeCheck() {
+    assertThat(Amount.of("1000").getCents()).isEqualTo(100_000L);
+    assertThat(Amount.of("100000").isMaximumAmount()).isTrue();
+    assertThat(Amount.of("999.995").getCents()).isEqualTo(100_000L);
+    assertThat(Amount.of("100000.004").getCents()).isEqualTo(10_000_000L);
+
+    assertThatThrownBy(() -> Amount.of("999.994"))
+        .hasMessage("El valor debe ser mayor o igual a " + legacyFormat(new BigDecimal("1000")));
+    assertThatThrownBy(() -> Amount.of("100000.005"))
+        .hasMessage("El valor debe ser menor o igual a " + legacyFormat(new BigDecimal("100000")));
+    assertThatThrownBy(() -> Amount.of((BigDecimal) null)).hasMessage("El valor es requerido");
+  }
+
+  @Test
+  void valuesBeyondLongCentsAreRejectedNotWrapped() {
+    assertThatThrownBy(() -> Amount.of(new BigDecimal("1e30")))
+        .hasMessageStartingWith("El valor debe ser menor o igual a");
+    assertThatThrownBy(() -> Amount.of(new BigDecimal("-1e30")))
+        .hasMessageStartingWith("El valor debe ser mayor o igual a");
+    // 2^64 + 1500000 cents would wrap to a valid amount without the precision guard
+    assertThatThrownBy(() -> Amount.of(new BigDecimal("184467440737110516.16")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void decimalViewRoundTripsThroughCents() {
+    for (long cents = 100_000L; cents <= 10_000_000L; cents += 9_973L) {
+      BigDecimal decimal = Amount.toDecimal(cents);
+      assertThat(decimal.scale()).isEqualTo(2);
+      assertThat(Amount.of(decimal).getCents()).isEqualTo(cents);
+      assertThat(Amount.of(cents)).isEqualTo(Amount.of(decimal)).hasSameHashCodeAs(Amount.of(decimal));
+    }
+  }
+
+  private static String legacyFormat(BigDecimal value) {
+    NumberFormat formatter = NumberFormat.getCurrencyInstance(Locale.of("es", "CO"));
+    formatter.setCurrency(Currency.getInstance("COP"));
+    return formatter.format(value);
+  }
+}
@@ -0,0 +1,75 @@
+package com.multipagos.multipagos_backend.topup.domain.model.valueobject;
+
+import com.multipagos.multipagos_backend.topup.domain.model.TopUpRequest;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CarrierPrefixTableTest {
+
+  @Test
+  void defaultsMatchTheOriginalStartsWithRanges() {
+    CarrierPrefixTable table = CarrierPrefixTable.defaults();
+    for (int prefix = 300; prefix <= 399; prefix++) {
+      PhoneNumber phone = PhoneNumber.of(prefix + "1234567");
+      String value = phone.getValue();
+      SupplierType expected = value.matches("30[0-5].*") ? SupplierType.CLARO
+          : value.matches("31[0-5].*") ? SupplierType.MOVISTAR
+          : value.matches("32[0-3].*") ? SupplierType.TIGO
+          : value.matches("33[01].*") ? SupplierType.WOM
+          : null;
+
+      assertThat(table.lookup(phone.getPrefix())).as("prefix %d", prefix).isEqualTo(expected);
+      assertThat(table.detect(phone)).isEqualTo(Optional.ofNullable(expected));
+    }
+  }
+
+  @Test
+  void unassignedPrefixesNeverConflict() {
+    CarrierPrefixTable table = CarrierPrefixTable.defaults();
+    PhoneNumber unassigned = PhoneNumber.of("3501234567");
+    PhoneNumber claro = PhoneNumber.of("3001234567");
+
+    assertThat(table.conflicts(SupplierType.TIGO, unassigned)).isFalse();
+    assertThat(table.supports(SupplierType.TIGO, unassigned)).isFalse();
+    assertThat(table.conflicts(SupplierType.TIGO, claro)).isTrue();
+    assertThat(table.conflicts(SupplierType.CLARO, claro)).isFalse();
+    assertThat(table.lookup(299)).isNull();
+    assertThat(table.lookup(400)).isNull();
+  }
+
+  @Test
+  void rejectsMalformedAndOverlappingRanges() {
+    assertThatThrownBy(() -> CarrierPrefixTable.of(Map.of(
+        SupplierType.CLARO, List.of("300-305"),
+        SupplierType.WOM, List.of("305"))))
+        .hasMessageContaining("Prefix 305 assigned to both");
+    assertThatThrownBy(() -> CarrierPrefixTable.of(Map.of(SupplierType.CLARO, List.of("299-301"))))
+        .hasMessageContaining("300-399");
+    assertThatThrownBy(() -> CarrierPrefixTable.of(Map.of(SupplierType.CLARO, List.of("305-300"))))
+        .hasMessageContaining("300-399");
+    assertThatThrownBy(() -> CarrierPrefixTable.of(Map.of(SupplierType.CLARO, List.of("30a"))))
+        .hasMessageContaining("Invalid prefix range");
+    assertThatThrownBy(() -> CarrierPrefixTable.of(Map.of(SupplierType.CLARO, List.of("300-301-302"))))
+        .hasMessageContaining("Invalid prefix range");
+    assertThatThrownBy(() -> CarrierPrefixTable.of(Map.of(SupplierType.CLARO, List.of(" "))))
+        .hasMessageContaining("Empty prefix range");
+  }
+
+  @Test
+  void domainCompatibilityFollowsTheTableItIsGiven() {
+    CarrierPrefixTable configured = CarrierPrefixTable.of(Map.of(
+        SupplierType.WOM, List.of(" 330 - 333 ", "350")));
+    TopUpRequest request = new TopUpRequest("3501234567", new BigDecimal("5000"), SupplierType.WOM.getId());
+
+    assertThat(request.isSupplierCompatible(configured)).isTrue();
+    assertThat(request.isSupplierCompatible(CarrierPrefixTable.defaults())).isFalse();
+    assertThat(SupplierType.getRecommendedForPhone(PhoneNumber.of("3321234567"), configured)).isEqualTo(SupplierType.WOM);
+  }
+}
@@ -0,0 +1,44 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryHistoryVersionAdapterTest {
+
+  private final InMemoryHistoryVersionAdapter adapter = new InMemoryHistoryVersionAdapter();
+  private final LocalDateTime now = LocalDateTime.now();
+
+  @Test
+  void writeReadBackByTheRelayChangesTheVersionOnce() {
+    String before = adapter.getVersion(7L);
+
+    adapter.markChanged(7L, 1L, now);
+    String afterWrite = adapter.getVersion(7L);
+    adapter.markChanged(7L, 1L, now);
+
+    assertThat(afterWrite).isNotEqualTo(before);
+    assertThat(adapter.getVersion(7L)).isEqualTo(afterWrite);
+  }
+
+  @Test
+  void laterWriteOfTheSameTransactionChangesTheVersionAgain() {
+    adapter.markChanged(7L, 1L, now);
+    String completedLater = adapter.getVersion(7L);
+
+    adapter.markChanged(7L, 1L, now.plusSeconds(1));
+
+    assertThat(adapter.getVersion(7L)).isNotEqualTo(completedLater);
+  }
+
+  @Test
+  void versionsArePerUser() {
+    String other = adapter.getVersion(8L);
+
+    adapter.markChanged(7L, 1L, now);
+
+    assertThat(adapter.getVersion(8L)).isEqualTo(other);
+  }
+}
@@ -0,0 +1,88 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.AuthToken;
+import com.multipagos.multipagos_backend.topup.domain.model.Supplier;
+import com.multipagos.multipagos_backend.topup.domain.port.out.AuthenticationPort;
+import com.multipagos.multipagos_backend.topup.infrastructure.config.PuntoredApiProperties;
+import com.multipagos.multipagos_backend.topup.infrastructure.dto.SupplierDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PuntoredSupplierAdapterTest {
+
+  private static final ResponseEntity<List<SupplierDto>> CATALOG = ResponseEntity.ok(List.of(new SupplierDto("8753", "Claro")));
+
+  private final PuntoredApiProperties properties = new PuntoredApiProperties();
+  private final RestTemplate restTemplate = mock(RestTemplate.class);
+  private final AuthenticationPort authPort = mock(AuthenticationPort.class);
+  private final PuntoredSupplierAdapter adapter = new PuntoredSupplierAdapter(properties, restTemplate, authPort);
+
+  PuntoredSupplierAdapterTest() {
+    properties.setBaseUrl("http://puntored.test");
+    properties.setSupplierCacheTtlSeconds(0);
+    properties.setSupplierRefreshBackoffSeconds(60);
+    when(authPort.authenticate(any(), any())).thenReturn(new AuthToken("token"));
+  }
+
+  @Test
+  void failedRefreshBacksOffOnTheLastKnownCatalog() {
+    when(exchange())
+        .thenReturn(CATALOG)
+        .thenThrow(new ResourceAccessException("Read timed out"));
+
+    List<Supplier> loaded = adapter.getAllSuppliers();
+    assertThat(adapter.getAllSuppliers()).isEqualTo(loaded);
+    assertThat(adapter.getAllSuppliers()).isEqualTo(loaded);
+    assertThat(adapter.getCatalogVersion()).isPresent();
+
+    verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+        any(ParameterizedTypeReference.class));
+  }
+
+  @Test
+  void staleCatalogIsServedWhileAnotherCallerRefreshes() throws Exception {
+    CountDownLatch fetching = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(exchange())
+        .thenReturn(CATALOG)
+        .thenAnswer(invocation -> {
+          fetching.countDown();
+          release.await();
+          return CATALOG;
+        });
+
+    List<Supplier> loaded = adapter.getAllSuppliers();
+    CompletableFuture<List<Supplier>> refresher = CompletableFuture.supplyAsync(adapter::getAllSuppliers);
+    assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(adapter.getAllSuppliers()).isEqualTo(loaded);
+
+    release.countDown();
+    assertThat(refresher.get(5, TimeUnit.SECONDS)).isEqualTo(loaded);
+  }
+
+  @SuppressWarnings("unchecked")
+  private ResponseEntity<List<SupplierDto>> exchange() {
+    return restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+        any(ParameterizedTypeReference.class));
+  }
+}
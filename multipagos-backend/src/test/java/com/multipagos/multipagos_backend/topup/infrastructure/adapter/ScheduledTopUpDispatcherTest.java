@@ -0,0 +1,119 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.shared.domain.exception.InsufficientFloatException;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduleRecurrence;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUp;
+import com.multipagos.multipagos_backend.topup.domain.model.ScheduledTopUpStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.Amount;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.PhoneNumber;
+import com.multipagos.multipagos_backend.topup.domain.model.valueobject.SupplierId;
+import com.multipagos.multipagos_backend.topup.domain.port.in.TopUpServicePort;
+import com.multipagos.multipagos_backend.topup.domain.port.out.ScheduledTopUpRepositoryPort;
+import com.multipagos.multipagos_backend.topup.infrastructure.config.ScheduledTopUpProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduledTopUpDispatcherTest {
+
+  private final ScheduledTopUpRepositoryPort repository = mock(ScheduledTopUpRepositoryPort.class);
+  private final TopUpServicePort topUpService = mock(TopUpServicePort.class);
+  private final ScheduledTopUpProperties properties = new ScheduledTopUpProperties();
+  private final ScheduledTopUpDispatcher dispatcher = new ScheduledTopUpDispatcher(repository, topUpService,
+      properties, new SimpleMeterRegistry());
+
+  private final LocalDateTime dueAt = LocalDateTime.now();
+  private final ScheduledTopUp schedule = ScheduledTopUp.builder()
+      .id(1L)
+      .userId(7L)
+      .phoneNumber(PhoneNumber.of("3001234567"))
+      .amount(Amount.of("5000"))
+      .supplierId(SupplierId.of("8753"))
+      .recurrence(ScheduleRecurrence.WEEKLY)
+      .anchorDay(dueAt.getDayOfMonth())
+      .nextRunAt(dueAt)
+      .status(ScheduledTopUpStatus.ACTIVE)
+      .build();
+
+  ScheduledTopUpDispatcherTest() {
+    properties.setNodeId("test-node");
+    properties.setTickMs(10);
+    properties.setRetryDelayMs(50);
+    properties.setMaxAttempts(2);
+    when(repository.findDueIds(any(), any(), anyInt())).thenReturn(List.of(1L)).thenReturn(List.of());
+    when(repository.claim(any(), anyString(), any(), any())).thenReturn(List.of(schedule));
+    when(repository.startRun(any(), anyString(), any(), any(), any())).thenReturn(true);
+    when(repository.completeRun(any(), anyString())).thenReturn(true);
+    dispatcher.init();
+  }
+
+  @AfterEach
+  void stop() {
+    dispatcher.shutdown();
+  }
+
+  @Test
+  void failureAfterTheCallMayHaveBeenSentIsNotRetried() {
+    when(topUpService.executeTopUp(any(), eq(7L)))
+        .thenThrow(new RuntimeException("Error procesando la recarga: Read timed out"));
+
+    dispatcher.load();
+
+    verify(repository, timeout(5_000)).completeRun(schedule, "test-node");
+    verify(topUpService, after(200).times(1)).executeTopUp(any(), eq(7L));
+    assertThat(schedule.getNextRunAt()).isAfter(dueAt);
+    assertThat(schedule.getConsecutiveFailures()).isEqualTo(1);
+  }
+
+  @Test
+  void failureBeforeTheCallIsRetried() {
+    when(topUpService.executeTopUp(any(), eq(7L)))
+        .thenThrow(new InsufficientFloatException("Saldo insuficiente", 60));
+
+    dispatcher.load();
+
+    verify(repository, timeout(5_000)).completeRun(schedule, "test-node");
+    verify(topUpService, times(2)).executeTopUp(any(), eq(7L));
+    assertThat(schedule.getConsecutiveFailures()).isEqualTo(2);
+  }
+
+  @Test
+  void runChangedByTheUserAfterItWasLeasedIsDropped() {
+    when(repository.startRun(eq(1L), eq("test-node"), eq(dueAt), any(), any())).thenReturn(false);
+
+    dispatcher.load();
+
+    verify(repository, timeout(5_000)).startRun(eq(1L), eq("test-node"), eq(dueAt), any(), any());
+    verify(topUpService, after(200).never()).executeTopUp(any(), any());
+    verify(repository, never()).completeRun(any(), anyString());
+  }
+
+  @Test
+  void retryIsConfirmedAgainBeforeSending() {
+    when(topUpService.executeTopUp(any(), eq(7L)))
+        .thenThrow(new InsufficientFloatException("Saldo insuficiente", 60));
+    when(repository.startRun(any(), anyString(), any(), any(), any())).thenReturn(true).thenReturn(false);
+
+    dispatcher.load();
+
+    verify(repository, timeout(5_000).times(2)).startRun(eq(1L), eq("test-node"), eq(dueAt), any(), any());
+    verify(topUpService, after(200).times(1)).executeTopUp(any(), eq(7L));
+    verify(repository, never()).completeRun(any(), anyString());
+  }
+}
@@ -0,0 +1,114 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementRecord;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SettlementCsvReaderTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void readsColumnsByHeaderNameInAnyOrder() throws IOException {
+    List<SettlementRecord> records = read(',',
+        "\uFEFFstatus,value,cellPhone,transactionalID,date",
+        "APROBADA,5000.00,+57 300 123 4567,TX-1,2026-10-01 10:00:00",
+        "",
+        "RECHAZADA,12000,3001234567,TX-2,2026-10-01");
+
+    assertThat(records).hasSize(2);
+    SettlementRecord first = records.get(0);
+    assertThat(first.lineNumber()).isEqualTo(2L);
+    assertThat(first.externalTransactionId()).isEqualTo("TX-1");
+    assertThat(first.phoneNumber()).isEqualTo("3001234567");
+    assertThat(first.amountCents()).isEqualTo(500_000L);
+    assertThat(first.status()).isEqualTo(SettlementStatus.SETTLED);
+    assertThat(first.settledAt()).isEqualTo(LocalDateTime.of(2026, 10, 1, 10, 0));
+
+    SettlementRecord second = records.get(1);
+    assertThat(second.lineNumber()).isEqualTo(4L);
+    assertThat(second.status()).isEqualTo(SettlementStatus.REJECTED);
+    assertThat(second.settledAt()).isEqualTo(LocalDateTime.of(2026, 10, 1, 0, 0));
+  }
+
+  @Test
+  void quotedFieldsMayHoldTheDelimiterAndEscapedQuotes() throws IOException {
+    List<SettlementRecord> records = read(';',
+        "external_transaction_id;amount;status;note",
+        "\"TX;1\";\"5000,50\";OK;\"dice \"\"hola\"\"\"",
+        "\"TX-\"\"2\"\"\";7000;OK;x");
+
+    assertThat(records.get(0).externalTransactionId()).isEqualTo("TX;1");
+    assertThat(records.get(0).isValid()).isFalse();
+    assertThat(records.get(0).invalidReason()).isEqualTo("Valor no numérico");
+    assertThat(records.get(1).externalTransactionId()).isEqualTo("TX-\"2\"");
+    assertThat(records.get(1).amountCents()).isEqualTo(700_000L);
+  }
+
+  @Test
+  void malformedLinesBecomeInvalidRecordsWithoutStoppingTheFile() throws IOException {
+    List<SettlementRecord> records = read(',',
+        "transactionalID,value,status,date",
+        ",5000,OK,",
+        "TX-2,abc,OK,",
+        "TX-3,10.123,OK,",
+        "TX-4,-5,OK,",
+        "TX-5,5000,PERDIDA,",
+        "TX-6,5000,OK,ayer",
+        "TX-7,5000",
+        "TX-8,5000,OK,2026-10-01T10:00:00");
+
+    assertThat(records).extracting(SettlementRecord::invalidReason).containsExactly(
+        "Falta el transactionalID",
+        "Valor no numérico",
+        "El valor tiene más de dos decimales",
+        "El valor debe ser positivo",
+        "Estado de liquidación desconocido: PERDIDA",
+        "Fecha inválida: ayer",
+        "Falta el campo status",
+        null);
+    assertThat(records.get(1).externalTransactionId()).isEqualTo("TX-2");
+  }
+
+  @Test
+  void phoneNumbersWeWouldNotAcceptAreDropped() throws IOException {
+    List<SettlementRecord> records = read(',', "transactionalID,value,status,phone", "TX-1,5000,OK,12345");
+
+    assertThat(records.get(0).isValid()).isTrue();
+    assertThat(records.get(0).phoneNumber()).isNull();
+  }
+
+  @Test
+  void headerWithoutRequiredColumnsIsRejected() throws IOException {
+    Path file = write("cellPhone,value", "3001234567,5000");
+
+    assertThatThrownBy(() -> new SettlementCsvReader(file, ','))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("transactionalID, value y status");
+  }
+
+  private List<SettlementRecord> read(char delimiter, String... lines) throws IOException {
+    List<SettlementRecord> records = new ArrayList<>();
+    try (SettlementCsvReader reader = new SettlementCsvReader(write(lines), delimiter)) {
+      reader.forEachRemaining(records::add);
+    }
+    return records;
+  }
+
+  private Path write(String... lines) throws IOException {
+    return Files.writeString(directory.resolve("settlement.csv"), String.join("\n", lines), StandardCharsets.UTF_8);
+  }
+}
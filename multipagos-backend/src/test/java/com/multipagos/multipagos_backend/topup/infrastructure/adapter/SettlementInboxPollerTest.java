@@ -0,0 +1,100 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementMismatch;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementMismatchType;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementRecord;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementSummary;
+import com.multipagos.multipagos_backend.topup.domain.port.in.SettlementReconciliationServicePort;
+import com.multipagos.multipagos_backend.topup.infrastructure.config.SettlementProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SettlementInboxPollerTest {
+
+  @TempDir
+  Path directory;
+
+  private final SettlementReconciliationServicePort reconciliationService =
+      mock(SettlementReconciliationServicePort.class);
+  private final SettlementProperties properties = new SettlementProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SettlementInboxPoller poller = new SettlementInboxPoller(reconciliationService, properties,
+      meterRegistry);
+
+  SettlementInboxPollerTest() {
+    properties.setEnabled(true);
+    properties.setMinFileAgeMs(0L);
+  }
+
+  @Test
+  void reconciledFileMovesToProcessedWithItsReport() throws IOException {
+    start();
+    Files.writeString(directory.resolve("inbox/day-1.csv"),
+        "transactionalID,value,status\nTX-1,5000,OK\nTX-1,5000,OK\n");
+    when(reconciliationService.reconcile(eq("day-1.csv"), any(), any())).thenAnswer(invocation -> {
+      Iterator<SettlementRecord> records = invocation.getArgument(1);
+      Consumer<SettlementMismatch> report = invocation.getArgument(2);
+      SettlementRecord first = records.next();
+      SettlementRecord second = records.next();
+      report.accept(SettlementMismatch.of(SettlementMismatchType.DUPLICATE, second, null,
+          "Repetida en el archivo (línea " + first.lineNumber() + ")"));
+      return new SettlementSummary("day-1.csv", 2, 1, Map.of(SettlementMismatchType.DUPLICATE, 1L),
+          LocalDateTime.now(), LocalDateTime.now());
+    });
+
+    poller.scan();
+
+    assertThat(directory.resolve("inbox/day-1.csv")).doesNotExist();
+    assertThat(directory.resolve("processed/day-1.csv")).exists();
+    assertThat(Files.readAllLines(directory.resolve("reports/day-1.report.csv"))).containsExactly(
+        "type,line,externalTransactionId,transactionId,cellPhone,settledValue,ourValue,settledStatus,ourStatus,detail",
+        "DUPLICATE,3,TX-1,,,5000.00,,SETTLED,,Repetida en el archivo (línea 2)");
+    assertThat(meterRegistry.counter("topup.settlement.files", "outcome", "processed").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void unreadableFileMovesToFailed() throws IOException {
+    start();
+    Files.writeString(directory.resolve("inbox/day-2.csv"), "cellPhone,value\n3001234567,5000\n");
+
+    poller.scan();
+
+    verify(reconciliationService, never()).reconcile(any(), any(), any());
+    assertThat(directory.resolve("failed/day-2.csv")).exists();
+    assertThat(meterRegistry.counter("topup.settlement.files", "outcome", "failed").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void filesStillBeingCopiedAreLeftInTheInbox() throws IOException {
+    properties.setMinFileAgeMs(60_000L);
+    start();
+    Files.writeString(directory.resolve("inbox/day-3.csv"), "transactionalID,value,status\n");
+
+    poller.scan();
+
+    assertThat(directory.resolve("inbox/day-3.csv")).exists();
+    verify(reconciliationService, never()).reconcile(any(), any(), any());
+  }
+
+  private void start() throws IOException {
+    properties.setDirectory(directory.toString());
+    poller.init();
+  }
+}
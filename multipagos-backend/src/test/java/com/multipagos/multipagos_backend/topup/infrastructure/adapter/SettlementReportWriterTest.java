@@ -0,0 +1,38 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.adapter;
+
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementMismatch;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementMismatchType;
+import com.multipagos.multipagos_backend.topup.domain.model.SettlementStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SettlementReportWriterTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void fieldsWithCommasOrQuotesAreQuoted() throws IOException {
+    Path file = directory.resolve("day.report.csv");
+    try (SettlementReportWriter writer = new SettlementReportWriter(file)) {
+      writer.accept(new SettlementMismatch(SettlementMismatchType.AMOUNT_MISMATCH, 7L, "TX,\"7\"", 42L,
+          "3001234567", 600_000L, 500_000L, SettlementStatus.SETTLED, TransactionStatus.COMPLETED,
+          "Liquidado $6000.00, registrado $5000.00"));
+      writer.accept(new SettlementMismatch(SettlementMismatchType.NOT_IN_SETTLEMENT, 0L, "TX-9", 9L,
+          null, null, 500_000L, null, TransactionStatus.COMPLETED, "Completada aquí, ausente en la liquidación"));
+    }
+
+    assertThat(Files.readAllLines(file)).containsExactly(
+        "type,line,externalTransactionId,transactionId,cellPhone,settledValue,ourValue,settledStatus,ourStatus,detail",
+        "AMOUNT_MISMATCH,7,\"TX,\"\"7\"\"\",42,3001234567,6000.00,5000.00,SETTLED,COMPLETED,"
+            + "\"Liquidado $6000.00, registrado $5000.00\"",
+        "NOT_IN_SETTLEMENT,,TX-9,9,,,5000.00,,COMPLETED,\"Completada aquí, ausente en la liquidación\"");
+  }
+}
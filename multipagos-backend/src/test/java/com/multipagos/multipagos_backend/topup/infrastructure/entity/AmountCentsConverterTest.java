@@ -0,0 +1,35 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AmountCentsConverterTest {
+
+  private final AmountCentsConverter converter = new AmountCentsConverter();
+
+  @Test
+  void writesTwoDecimalColumnValues() {
+    assertThat(converter.convertToDatabaseColumn(1_500_000L)).isEqualTo(new BigDecimal("15000.00"));
+    assertThat(converter.convertToDatabaseColumn(1_500_050L)).isEqualTo(new BigDecimal("15000.50"));
+    assertThat(converter.convertToDatabaseColumn(null)).isNull();
+  }
+
+  @Test
+  void readsColumnValuesOfAnyScaleAsCents() {
+    assertThat(converter.convertToEntityAttribute(new BigDecimal("15000.00"))).isEqualTo(1_500_000L);
+    assertThat(converter.convertToEntityAttribute(new BigDecimal("15000"))).isEqualTo(1_500_000L);
+    assertThat(converter.convertToEntityAttribute(new BigDecimal("15000.5"))).isEqualTo(1_500_050L);
+    assertThat(converter.convertToEntityAttribute(new BigDecimal("15000.005"))).isEqualTo(1_500_001L);
+    assertThat(converter.convertToEntityAttribute(null)).isNull();
+  }
+
+  @Test
+  void roundTripsEveryCentValue() {
+    for (long cents = 0; cents <= 10_000_000L; cents += 997L) {
+      assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(cents))).isEqualTo(cents);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.health;
+
+import com.multipagos.multipagos_backend.shared.domain.value.HealthCheckConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PuntoredHealthIndicatorTest {
+
+  private final PuntoredHealthTracker tracker = mock(PuntoredHealthTracker.class);
+  private final PuntoredHealthIndicator indicator = new PuntoredHealthIndicator(tracker);
+
+  @Test
+  void unreachableProviderIsReportedDown() {
+    tracked(HealthCheckConstants.STATUS_DOWN);
+
+    assertThat(indicator.health().getStatus()).isEqualTo(Status.DOWN);
+  }
+
+  @Test
+  void slowProviderIsReportedDegraded() {
+    tracked(HealthCheckConstants.STATUS_DEGRADED);
+
+    assertThat(indicator.health().getStatus().getCode()).isEqualTo(HealthCheckConstants.STATUS_DEGRADED);
+  }
+
+  @Test
+  void healthyProviderIsReportedUpWithItsDetails() {
+    tracked(HealthCheckConstants.STATUS_UP);
+
+    assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+    assertThat(indicator.health().getDetails()).containsEntry("buy", "ok");
+  }
+
+  private void tracked(String status) {
+    when(tracker.getHealth()).thenReturn(Map.of(
+        HealthCheckConstants.FIELD_STATUS, status,
+        HealthCheckConstants.FIELD_DETAILS, Map.of("buy", "ok")));
+  }
+}
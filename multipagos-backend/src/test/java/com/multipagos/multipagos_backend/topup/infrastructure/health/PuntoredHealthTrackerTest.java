@@ -0,0 +1,49 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.health;
+
+import com.multipagos.multipagos_backend.shared.domain.value.HealthCheckConstants;
+import com.multipagos.multipagos_backend.topup.infrastructure.config.PuntoredHealthProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PuntoredHealthTrackerTest {
+
+  private final PuntoredHealthTracker tracker = new PuntoredHealthTracker(new PuntoredHealthProperties());
+
+  @Test
+  void providerRejectionsDoNotCountAsFailures() {
+    RuntimeException invalidNumber = new RuntimeException("Error del servicio externo",
+        new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+    RuntimeException reactiveRejection = new RuntimeException("Error del servicio externo",
+        WebClientResponseException.create(422, "Unprocessable", null, null, null));
+
+    for (int i = 0; i < 10; i++) {
+      tracker.record("buy", 1_000_000L, i % 2 == 0 ? invalidNumber : reactiveRejection);
+    }
+
+    assertThat(tracker.getHealth().get(HealthCheckConstants.FIELD_STATUS)).isEqualTo(HealthCheckConstants.STATUS_UP);
+  }
+
+  @Test
+  void transportErrorsAndServerErrorsCountAsFailures() {
+    assertThat(PuntoredHealthTracker.isBusinessRejection(new RuntimeException("wrapped",
+        new ResourceAccessException("Read timed out")))).isFalse();
+    assertThat(PuntoredHealthTracker.isBusinessRejection(new TimeoutException())).isFalse();
+    assertThat(PuntoredHealthTracker.isBusinessRejection(
+        WebClientResponseException.create(503, "Unavailable", null, null, null))).isFalse();
+    assertThat(PuntoredHealthTracker.isBusinessRejection(
+        new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS))).isFalse();
+
+    for (int i = 0; i < 10; i++) {
+      tracker.record("buy", 1_000_000L, new RuntimeException("Error del servicio externo: Read timed out"));
+    }
+
+    assertThat(tracker.getHealth().get(HealthCheckConstants.FIELD_STATUS)).isEqualTo(HealthCheckConstants.STATUS_DOWN);
+  }
+}
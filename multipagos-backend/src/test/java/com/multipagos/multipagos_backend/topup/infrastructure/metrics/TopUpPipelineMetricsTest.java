@@ -0,0 +1,30 @@
+package com.multipagos.multipagos_backend.topup.infrastructure.metrics;
+
+import com.multipagos.multipagos_backend.topup.infrastructure.health.PuntoredHealthTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TopUpPipelineMetricsTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final TopUpPipelineMetrics metrics = new TopUpPipelineMetrics(registry, mock(PuntoredHealthTracker.class));
+
+  @Test
+  void unknownSupplierIdsShareOneSeries() {
+    for (int i = 0; i < 500; i++) {
+      String id = "attacker-" + i;
+      metrics.recordPuntored("findSupplier", id, () -> false);
+    }
+    metrics.recordPuntored("findSupplier", "8753", () -> true);
+    metrics.recordPuntored("findSupplier", null, () -> true);
+
+    assertThat(registry.find(TopUpPipelineMetrics.PUNTORED_METRIC).timers())
+        .extracting(timer -> timer.getId().getTag("supplier"))
+        .containsExactlyInAnyOrder(TopUpPipelineMetrics.OTHER_SUPPLIER, "8753", TopUpPipelineMetrics.NO_SUPPLIER);
+    assertThat(registry.get(TopUpPipelineMetrics.PUNTORED_METRIC).tag("supplier", "other").timer().count())
+        .isEqualTo(500);
+  }
+}
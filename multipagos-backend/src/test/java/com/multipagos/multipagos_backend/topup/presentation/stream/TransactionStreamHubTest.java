@@ -0,0 +1,120 @@
+package com.multipagos.multipagos_backend.topup.presentation.stream;
+
+import com.multipagos.multipagos_backend.shared.application.util.ReplayLog;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionDomain;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatus;
+import com.multipagos.multipagos_backend.topup.domain.model.TransactionStatusChangedEvent;
+import com.multipagos.multipagos_backend.topup.domain.port.in.TransactionServicePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransactionStreamHubTest {
+
+  private static final long OVERLAP_MS = 5_000L;
+
+  private final TransactionServicePort transactionService = mock(TransactionServicePort.class);
+  private final TransactionStreamHub hub = new TransactionStreamHub(new SimpleMeterRegistry(), transactionService);
+  private final LocalDateTime now = LocalDateTime.now();
+
+  TransactionStreamHubTest() {
+    ReflectionTestUtils.setField(hub, "enabled", true);
+    ReflectionTestUtils.setField(hub, "bufferSize", 32);
+    ReflectionTestUtils.setField(hub, "replaySize", 64);
+    ReflectionTestUtils.setField(hub, "maxConnections", 10);
+    ReflectionTestUtils.setField(hub, "sendThreads", 1);
+    ReflectionTestUtils.setField(hub, "relayEnabled", true);
+    ReflectionTestUtils.setField(hub, "relayOverlapMs", OVERLAP_MS);
+    ReflectionTestUtils.setField(hub, "relayBatchSize", 500);
+    hub.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    hub.shutdown();
+  }
+
+  @Test
+  void relayPublishesEachRemoteUpdateOnceAcrossOverlappingPolls() {
+    TransactionDomain remote = transaction(1L, TransactionStatus.COMPLETED, now.plusSeconds(1));
+    when(transactionService.getTransactionsUpdatedAfter(any(), anyLong(), anyInt())).thenReturn(List.of(remote));
+
+    hub.relay();
+    hub.relay();
+
+    assertThat(replayLog().lastSeq()).isEqualTo(1L);
+    verify(transactionService).getTransactionsUpdatedAfter(
+        eq(remote.getUpdatedAt().minusNanos(OVERLAP_MS * 1_000_000L)), eq(0L), anyInt());
+  }
+
+  @Test
+  void relaySkipsUpdatesThisNodeAlreadyPublished() {
+    TransactionDomain local = transaction(1L, TransactionStatus.COMPLETED, now);
+    hub.onStatusChanged(TransactionStatusChangedEvent.of(local, null));
+
+    TransactionDomain settled = transaction(2L, TransactionStatus.FAILED, now);
+    when(transactionService.getTransactionsUpdatedAfter(any(), anyLong(), anyInt()))
+        .thenReturn(List.of(local, settled));
+    hub.relay();
+
+    assertThat(replayLog().since(0L, update -> true, System.currentTimeMillis(), 60_000L)).hasSize(2);
+  }
+
+  @Test
+  void relayReadsPagesUntilAShortOne() {
+    ReflectionTestUtils.setField(hub, "relayBatchSize", 2);
+    TransactionDomain first = transaction(1L, TransactionStatus.COMPLETED, now.plusSeconds(1));
+    TransactionDomain second = transaction(2L, TransactionStatus.COMPLETED, now.plusSeconds(2));
+    TransactionDomain third = transaction(3L, TransactionStatus.FAILED, now.plusSeconds(2));
+    when(transactionService.getTransactionsUpdatedAfter(any(), anyLong(), anyInt()))
+        .thenReturn(List.of(first, second))
+        .thenReturn(List.of(third));
+
+    hub.relay();
+
+    assertThat(replayLog().lastSeq()).isEqualTo(3L);
+    verify(transactionService).getTransactionsUpdatedAfter(second.getUpdatedAt(), 2L, 2);
+  }
+
+  @Test
+  void relayChangesHistoryVersionsForEveryRowButPublishesOnlyFinishedOnes() {
+    TransactionDomain pending = transaction(1L, TransactionStatus.PENDING, now);
+    TransactionDomain completed = transaction(2L, TransactionStatus.COMPLETED, now);
+    when(transactionService.getTransactionsUpdatedAfter(any(), anyLong(), anyInt()))
+        .thenReturn(List.of(pending, completed));
+
+    hub.relay();
+
+    verify(transactionService).markHistoryChanged(pending);
+    verify(transactionService).markHistoryChanged(completed);
+    assertThat(replayLog().lastSeq()).isEqualTo(1L);
+  }
+
+  @SuppressWarnings("unchecked")
+  private ReplayLog<Object> replayLog() {
+    return (ReplayLog<Object>) ReflectionTestUtils.getField(hub, "replayLog");
+  }
+
+  private static TransactionDomain transaction(Long id, TransactionStatus status, LocalDateTime updatedAt) {
+    return TransactionDomain.builder()
+        .id(id)
+        .userId(7L)
+        .status(status)
+        .createdAt(updatedAt)
+        .updatedAt(updatedAt)
+        .build();
+  }
+}
@@ -17,7 +17,7 @@ import {
   ChevronsLeft,
   ChevronsRight,
 } from 'lucide-react';
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import { topupService } from '@/services/topup';
 import { toast } from 'sonner';
 import {
@@ -64,6 +64,35 @@ export function HistoryModule() {
     return () => window.removeEventListener('historyRefresh', handleRefresh);
   }, []);
 
+  // Live status changes replace polling; rows already on screen are updated in place
+  const latest = useRef({ page, transactions, loadTransactionHistory: () => {} });
+  latest.current = { page, transactions, loadTransactionHistory: () => loadTransactionHistory() };
+
+  useEffect(() => {
+    return topupService.subscribeToTransactionUpdates({
+      onTransaction: (update) => {
+        const { page: currentPage, transactions: shown } = latest.current;
+        if (shown.some((transaction) => transaction.id === update.id)) {
+          setTransactions((current) =>
+            current.map((transaction) =>
+              transaction.id === update.id
+                ? {
+                    ...transaction,
+                    status: update.status,
+                    transactionalID: update.transactionalID,
+                    message: update.message,
+                  }
+                : transaction
+            )
+          );
+        } else if (currentPage === 0) {
+          latest.current.loadTransactionHistory();
+        }
+      },
+      onReset: () => latest.current.loadTransactionHistory(),
+    });
+  }, []);
+
   const loadTransactionHistory = async () => {
     try {
       setIsLoading(true);
@@ -28,7 +28,8 @@ export function AuthProvider({ children }: AuthProviderProps) {
         const storedUser = authService.getUser();
         const token = authService.getToken();
 
-        if (storedUser && token && !authService.isTokenLikelyExpired()) {
+        // An expired access token is renewed on the first request while a refresh token is stored
+        if (storedUser && token && (!authService.isTokenLikelyExpired() || authService.getRefreshToken())) {
           setUser(storedUser);
         } else {
           authService.logout();
@@ -85,7 +86,7 @@ export function AuthProvider({ children }: AuthProviderProps) {
   };
 
   const logout = (): void => {
-    authService.logout();
+    authService.signOut();
     setUser(null);
   };
 
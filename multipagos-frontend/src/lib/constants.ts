@@ -6,6 +6,7 @@ export const API_CONFIG = {
 
 export const STORAGE_KEYS = {
   AUTH_TOKEN: 'auth_token',
+  AUTH_REFRESH_TOKEN: 'auth_refresh_token',
   AUTH_USER: 'auth_user',
 } as const;
 
@@ -1,5 +1,5 @@
 import axios from 'axios';
-import type { AxiosInstance, AxiosRequestConfig, AxiosResponse } from 'axios';
+import type { AxiosInstance, AxiosRequestConfig, AxiosResponse, InternalAxiosRequestConfig } from 'axios';
 import type { ApiResponse, ApiError } from '@/types';
 
 /**
@@ -9,6 +9,7 @@ class ApiService {
   private readonly client: AxiosInstance;
   private readonly baseURL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080/api/v1';
   private readonly timeout = Number(import.meta.env.VITE_API_TIMEOUT) || 10000;
+  private refreshInFlight: Promise<string | null> | null = null;
 
   constructor() {
     this.client = axios.create({
@@ -56,7 +57,19 @@ class ApiService {
         }
         return response;
       },
-      (error) => {
+      async (error) => {
+        const original = error.config as (InternalAxiosRequestConfig & { _retry?: boolean }) | undefined;
+
+        // Access tokens are short-lived: renew once with the refresh token and replay the request
+        if (error.response?.status === 401 && original && !original._retry && !this.isAuthEndpoint(original.url)) {
+          original._retry = true;
+          const token = await this.refreshAccessToken();
+          if (token) {
+            original.headers.Authorization = `Bearer ${token}`;
+            return this.client(original);
+          }
+        }
+
         if (error.response?.status === 401) {
           this.handleUnauthorized();
         }
@@ -75,11 +88,47 @@ class ApiService {
     );
   }
 
+  /**
+   * Exchange the stored refresh token for a new token pair
+   * Concurrent 401s share a single refresh call, since each refresh token is single-use
+   */
+  private refreshAccessToken(): Promise<string | null> {
+    const refreshToken = localStorage.getItem('auth_refresh_token');
+    if (!refreshToken) {
+      return Promise.resolve(null);
+    }
+
+    if (!this.refreshInFlight) {
+      this.refreshInFlight = this.client
+        .post<ApiResponse<{ token: string; refreshToken: string }>>('/auth/refresh', { refreshToken })
+        .then((response) => {
+          const data = response.data.data;
+          if (!data?.token || !data.refreshToken) {
+            return null;
+          }
+          localStorage.setItem('auth_token', data.token);
+          localStorage.setItem('auth_refresh_token', data.refreshToken);
+          return data.token;
+        })
+        .catch(() => null)
+        .finally(() => {
+          this.refreshInFlight = null;
+        });
+    }
+
+    return this.refreshInFlight;
+  }
+
+  private isAuthEndpoint(url?: string): boolean {
+    return Boolean(url && url.startsWith('/auth/'));
+  }
+
   /**
    * Handle unauthorized access
    */
   private handleUnauthorized(): void {
     localStorage.removeItem('auth_token');
+    localStorage.removeItem('auth_refresh_token');
     localStorage.removeItem('auth_user');
 
     const currentPath = window.location.pathname;
@@ -220,6 +269,20 @@ class ApiService {
     }
   }
 
+  /**
+   * Current access token, for requests made outside axios (e.g. the transaction stream)
+   */
+  getAccessToken(): string | null {
+    return this.getStoredToken();
+  }
+
+  /**
+   * Renew the access token with the refresh token; null when the session is over
+   */
+  renewAccessToken(): Promise<string | null> {
+    return this.refreshAccessToken();
+  }
+
   /**
    * Get the base URL being used
    */
@@ -1,12 +1,13 @@
 import { apiService } from './api';
 import { STORAGE_KEYS } from '@/lib/constants';
-import type { LoginRequest, RegisterRequest, AuthResponse, RegisterResponse, User } from '@/types/auth';
+import type { LoginRequest, LoginResponse, RegisterRequest, AuthResponse, RegisterResponse, User } from '@/types/auth';
 
 /**
  * Authentication service
  */
 class AuthService {
   private readonly TOKEN_KEY = STORAGE_KEYS.AUTH_TOKEN;
+  private readonly REFRESH_TOKEN_KEY = STORAGE_KEYS.AUTH_REFRESH_TOKEN;
   private readonly USER_KEY = STORAGE_KEYS.AUTH_USER;
 
   /**
@@ -38,11 +39,12 @@ class AuthService {
    */
   async login(data: LoginRequest): Promise<AuthResponse> {
     try {
-      const response = await apiService.post<{ token: string; type: string; user: User }>('/auth/login', data);
+      const response = await apiService.post<LoginResponse>('/auth/login', data);
 
       if (response.status === 'success' && response.data) {
         // Store authentication data securely
         this.setToken(response.data.token);
+        this.setRefreshToken(response.data.refreshToken);
         this.setUser(response.data.user);
       }
 
@@ -52,6 +54,9 @@ class AuthService {
         data: {
           token: response.data?.token || '',
           type: response.data?.type || 'Bearer',
+          expiresIn: response.data?.expiresIn,
+          refreshToken: response.data?.refreshToken,
+          refreshExpiresIn: response.data?.refreshExpiresIn,
           user: response.data?.user || ({} as User),
         },
         timestamp: response.timestamp,
@@ -71,6 +76,54 @@ class AuthService {
     this.clearAuthData();
   }
 
+  /**
+   * Revoke the session on the server, then clear local data
+   * Local data is cleared right away even if the server cannot be reached
+   */
+  signOut(): void {
+    const token = this.getToken();
+    const refreshToken = this.getRefreshToken();
+    this.clearAuthData();
+
+    if (!token && !refreshToken) {
+      return;
+    }
+
+    apiService
+      .post<string>('/auth/logout', refreshToken ? { refreshToken } : undefined, {
+        headers: token ? { Authorization: `Bearer ${token}` } : undefined,
+      })
+      .catch((error) => console.warn('Error revoking session on logout:', error));
+  }
+
+  /**
+   * Get stored refresh token
+   */
+  getRefreshToken(): string | null {
+    try {
+      return localStorage.getItem(this.REFRESH_TOKEN_KEY);
+    } catch (error) {
+      console.warn('Error accessing refresh token from localStorage:', error);
+      return null;
+    }
+  }
+
+  /**
+   * Set refresh token in storage
+   * @param refreshToken - Opaque refresh token, rotated on every use
+   */
+  setRefreshToken(refreshToken?: string): void {
+    try {
+      if (!refreshToken) {
+        localStorage.removeItem(this.REFRESH_TOKEN_KEY);
+        return;
+      }
+      localStorage.setItem(this.REFRESH_TOKEN_KEY, refreshToken);
+    } catch (error) {
+      console.error('Error storing refresh token in localStorage:', error);
+    }
+  }
+
   /**
    * Get stored authentication token
    */
@@ -172,6 +225,7 @@ class AuthService {
    */
   private clearAuthData(): void {
     this.clearToken();
+    this.setRefreshToken(undefined);
     this.clearUser();
   }
 
@@ -5,7 +5,9 @@ import type {
   TopupResponse,
   SuppliersResponse,
   TransactionHistoryResponse,
-  PaginationParams
+  PaginationParams,
+  TopUpTransactionResponse,
+  TransactionStreamHandlers
 } from '@/types';
 
 /**
@@ -111,6 +113,126 @@ class TopupService {
     }
   }
 
+  /**
+   * Subscribe to live updates of the user's top-ups (GET /topup/stream, Server-Sent Events)
+   * Uses fetch instead of EventSource so the access token travels in the Authorization header.
+   * Reconnects on its own, resuming with Last-Event-ID; the server sends "reset" when the
+   * missed updates are no longer available and the history must be reloaded
+   * @returns function that closes the stream
+   */
+  subscribeToTransactionUpdates(handlers: TransactionStreamHandlers): () => void {
+    const controller = new AbortController();
+    let lastEventId: string | null = null;
+    let reconnectMs = 3000;
+    let retryAfterMs: number | null = null;
+
+    const dispatch = (event: string, data: string) => {
+      if (event === 'transaction') {
+        handlers.onTransaction(JSON.parse(data) as TopUpTransactionResponse);
+      } else if (event === 'reset') {
+        handlers.onReset();
+      }
+    };
+
+    const connect = async (): Promise<void> => {
+      let token = apiService.getAccessToken();
+      if (!token) {
+        return;
+      }
+
+      let response = await this.openStream(token, lastEventId, controller.signal);
+      if (response.status === 401) {
+        token = await apiService.renewAccessToken();
+        if (!token) {
+          return;
+        }
+        response = await this.openStream(token, lastEventId, controller.signal);
+      }
+      if (!response.ok || !response.body) {
+        const retryAfter = Number(response.headers.get('Retry-After'));
+        retryAfterMs = retryAfter > 0 ? retryAfter * 1000 : null;
+        throw new Error(`Stream unavailable (${response.status})`);
+      }
+
+      const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+      let pending = '';
+      let event = 'message';
+      let data: string[] = [];
+      let id: string | null = null;
+
+      for (;;) {
+        const { value, done } = await reader.read();
+        if (done) {
+          return;
+        }
+        pending += value;
+        const lines = pending.split(/\r\n|\r|\n/);
+        pending = lines.pop() ?? '';
+
+        for (const line of lines) {
+          if (line === '') {
+            if (id !== null) {
+              lastEventId = id;
+            }
+            if (data.length > 0) {
+              dispatch(event, data.join('\n'));
+            }
+            event = 'message';
+            data = [];
+            id = null;
+            continue;
+          }
+          if (line.startsWith(':')) {
+            continue;
+          }
+          const separator = line.indexOf(':');
+          const field = separator === -1 ? line : line.slice(0, separator);
+          const fieldValue = separator === -1 ? '' : line.slice(separator + 1).replace(/^ /, '');
+          if (field === 'event') {
+            event = fieldValue;
+          } else if (field === 'data') {
+            data.push(fieldValue);
+          } else if (field === 'id') {
+            id = fieldValue;
+          } else if (field === 'retry' && /^\d+$/.test(fieldValue)) {
+            reconnectMs = Number(fieldValue);
+          }
+        }
+      }
+    };
+
+    const run = async () => {
+      while (!controller.signal.aborted) {
+        retryAfterMs = null;
+        try {
+          await connect();
+          if (!apiService.getAccessToken()) {
+            return;
+          }
+        } catch {
+          if (controller.signal.aborted) {
+            return;
+          }
+        }
+        await new Promise((resolve) => setTimeout(resolve, retryAfterMs ?? reconnectMs));
+      }
+    };
+
+    run();
+    return () => controller.abort();
+  }
+
+  private openStream(token: string, lastEventId: string | null, signal: AbortSignal): Promise<Response> {
+    const headers: Record<string, string> = {
+      Accept: 'text/event-stream',
+      Authorization: `Bearer ${token}`,
+    };
+    if (lastEventId) {
+      headers['Last-Event-ID'] = lastEventId;
+    }
+    return fetch(`${apiService.getBaseUrl()}/topup/stream`, { headers, signal, cache: 'no-store' });
+  }
+
   /**
    * Clear suppliers cache
    */
@@ -18,6 +18,9 @@ export interface RegisterRequest {
 export interface LoginResponse {
   token: string;
   type: string;
+  expiresIn?: number;
+  refreshToken?: string;
+  refreshExpiresIn?: number;
   user: User;
 }
 
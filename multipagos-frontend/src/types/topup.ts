@@ -21,6 +21,11 @@ export interface TopUpTransactionResponse {
   message: string;
 }
 
+export interface TransactionStreamHandlers {
+  onTransaction: (transaction: TopUpTransactionResponse) => void;
+  onReset: () => void;
+}
+
 export interface TopupResponse {
   status: string;
   message: string;